@@ -0,0 +1,256 @@
+package com.ausganslage.ausgangslageBackend.benchmark;
+
+import com.ausganslage.ausgangslageBackend.AusgangslageBackendApplication;
+import com.ausganslage.ausgangslageBackend.enums.*;
+import com.ausganslage.ausgangslageBackend.model.*;
+import com.ausganslage.ausgangslageBackend.repository.*;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Boots the application against a private in-memory H2 database and seeds games with a realistic history:
+ * earlier days of votes and night actions plus a busy chat.
+ */
+class BenchmarkFixture implements AutoCloseable {
+
+    private static final int HISTORY_DAYS = 3;
+    private static final int CHAT_MESSAGES_PER_PLAYER_PER_DAY = 5;
+
+    private final ConfigurableApplicationContext context;
+    private final GameService gameService;
+    private final UserRepository userRepository;
+    private final LobbyRepository lobbyRepository;
+    private final LobbyMemberRepository lobbyMemberRepository;
+    private final GameRepository gameRepository;
+    private final GamePlayerRepository gamePlayerRepository;
+    private final GameActionRepository gameActionRepository;
+    private final RoleTemplateRepository roleTemplateRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final SessionRepository sessionRepository;
+
+    private final List<User> users;
+    private int lobbyCounter = 0;
+
+    BenchmarkFixture(int userCount) {
+        this(userCount, WebApplicationType.NONE);
+    }
+
+    /**
+     * @param webApplicationType {@code SERVLET} starts Tomcat on a random port, see {@link #baseUrl()}
+     * @param extraProperties    additional {@code key=value} application properties
+     */
+    BenchmarkFixture(int userCount, WebApplicationType webApplicationType, String... extraProperties) {
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:jmh_" + System.nanoTime(),
+            "--server.port=0",
+            "--logging.level.root=WARN",
+            "--logging.level.com.ausganslage.ausgangslageBackend=WARN",
+            "--logging.level.AUDIT=WARN"));
+        for (String property : extraProperties) {
+            args.add("--" + property);
+        }
+        // Passed as command line arguments so they take precedence over application.properties.
+        context = new SpringApplicationBuilder(AusgangslageBackendApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(new String[0]));
+        gameService = context.getBean(GameService.class);
+        userRepository = context.getBean(UserRepository.class);
+        lobbyRepository = context.getBean(LobbyRepository.class);
+        lobbyMemberRepository = context.getBean(LobbyMemberRepository.class);
+        gameRepository = context.getBean(GameRepository.class);
+        gamePlayerRepository = context.getBean(GamePlayerRepository.class);
+        gameActionRepository = context.getBean(GameActionRepository.class);
+        roleTemplateRepository = context.getBean(RoleTemplateRepository.class);
+        chatMessageRepository = context.getBean(ChatMessageRepository.class);
+        sessionRepository = context.getBean(SessionRepository.class);
+        users = createUsers(userCount);
+    }
+
+    GameService gameService() {
+        return gameService;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * Opens a session for {@code user} and returns its bearer token.
+     */
+    String sessionToken(User user) {
+        Session session = new Session();
+        session.setUserId(user.getId());
+        session.setToken("jmh-" + user.getId() + "-" + System.nanoTime());
+        session.setExpiresAt(Instant.now().plusSeconds(24 * 3600));
+        return sessionRepository.save(session).getToken();
+    }
+
+    List<User> users(int count) {
+        return users.subList(0, count);
+    }
+
+    /**
+     * Creates an open lobby whose members are all ready, so {@code startGame} can be called on it.
+     */
+    String createReadyLobby(List<User> players) {
+        Lobby lobby = new Lobby();
+        lobby.setLobbyCode("J" + (lobbyCounter++));
+        lobby.setHostUserId(players.get(0).getId());
+        lobby.setMaxPlayers(players.size());
+        lobby.setStatus(LobbyStatus.OPEN);
+        lobby.setCreatedAt(Instant.now());
+        lobby = lobbyRepository.save(lobby);
+
+        List<LobbyMember> members = new ArrayList<>();
+        for (User player : players) {
+            LobbyMember member = new LobbyMember();
+            member.setLobbyId(lobby.getId());
+            member.setUserId(player.getId());
+            member.setIsHost(player == players.get(0));
+            member.setIsReady(true);
+            members.add(member);
+        }
+        lobbyMemberRepository.saveAll(members);
+        return lobby.getLobbyCode();
+    }
+
+    /**
+     * Starts a game for {@code players} and fills in {@link #HISTORY_DAYS} days of history before moving it to
+     * {@code phase} on the following day.
+     */
+    Game createGameWithHistory(List<User> players, GamePhase phase) {
+        Game game = gameService.startGame(createReadyLobby(players), players.get(0));
+        List<GamePlayer> gamePlayers = gamePlayerRepository.findByGameId(game.getId());
+        Map<Long, RoleName> roles = rolesById();
+
+        List<GamePlayer> wolves = gamePlayers.stream()
+                .filter(p -> roles.get(p.getRoleId()) == RoleName.WEREWOLF)
+                .collect(Collectors.toList());
+        List<GamePlayer> villagers = gamePlayers.stream()
+                .filter(p -> roles.get(p.getRoleId()) != RoleName.WEREWOLF)
+                .collect(Collectors.toList());
+
+        List<GameAction> actions = new ArrayList<>();
+        List<ChatMessage> messages = new ArrayList<>();
+        Instant time = Instant.now().minusSeconds(3600);
+        for (int day = 1; day <= HISTORY_DAYS; day++) {
+            GamePlayer wolfTarget = villagers.get(day % villagers.size());
+            for (GamePlayer wolf : wolves) {
+                actions.add(action(game, day, GamePhase.NIGHT_WOLVES, wolf, wolfTarget, ActionType.VOTE_WOLF_KILL, time));
+            }
+            for (GamePlayer voter : gamePlayers) {
+                GamePlayer target = gamePlayers.get((voter.getSeatNumber() + day) % gamePlayers.size());
+                actions.add(action(game, day, GamePhase.DAY_VOTING, voter, target, ActionType.VOTE_LYNCH, time));
+            }
+            for (int i = 0; i < CHAT_MESSAGES_PER_PLAYER_PER_DAY; i++) {
+                for (GamePlayer player : gamePlayers) {
+                    time = time.plusMillis(50);
+                    messages.add(message(game, player.getUserId(), ChatChannel.DAY, "Day " + day + " message " + i, time));
+                }
+                for (GamePlayer wolf : wolves) {
+                    time = time.plusMillis(50);
+                    messages.add(message(game, wolf.getUserId(), ChatChannel.NIGHT_WOLVES, "Wolf chat " + i, time));
+                }
+            }
+            messages.add(message(game, 0L, ChatChannel.SYSTEM, "Day " + day + " is over.", time));
+        }
+        gameActionRepository.saveAll(actions);
+        chatMessageRepository.saveAll(messages);
+
+        game.setDayNumber(HISTORY_DAYS + 1);
+        game.setCurrentPhase(phase);
+        return gameRepository.save(game);
+    }
+
+    /**
+     * Records one wolf vote per werewolf against the same villager, ready for {@code resolveNightActions}.
+     */
+    void submitWolfVotes(Game game) {
+        List<GamePlayer> gamePlayers = gamePlayerRepository.findByGameId(game.getId());
+        Map<Long, RoleName> roles = rolesById();
+        GamePlayer victim = gamePlayers.stream()
+                .filter(p -> roles.get(p.getRoleId()) == RoleName.VILLAGER)
+                .findFirst()
+                .orElseGet(() -> gamePlayers.stream()
+                        .filter(p -> roles.get(p.getRoleId()) != RoleName.WEREWOLF)
+                        .findFirst()
+                        .orElseThrow());
+
+        List<GameAction> votes = gamePlayers.stream()
+                .filter(p -> roles.get(p.getRoleId()) == RoleName.WEREWOLF)
+                .map(wolf -> action(game, game.getDayNumber(), GamePhase.NIGHT_WOLVES, wolf, victim,
+                    ActionType.VOTE_WOLF_KILL, Instant.now()))
+                .collect(Collectors.toList());
+        gameActionRepository.saveAll(votes);
+    }
+
+    GamePlayer player(Game game, User user) {
+        return gamePlayerRepository.findByGameIdAndUserId(game.getId(), user.getId()).orElseThrow();
+    }
+
+    User userWithRole(Game game, RoleName role) {
+        Map<Long, RoleName> roles = rolesById();
+        Long userId = gamePlayerRepository.findByGameId(game.getId()).stream()
+                .filter(p -> roles.get(p.getRoleId()) == role)
+                .findFirst()
+                .orElseThrow()
+                .getUserId();
+        return users.stream().filter(u -> u.getId().equals(userId)).findFirst().orElseThrow();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private Map<Long, RoleName> rolesById() {
+        return roleTemplateRepository.findAll().stream()
+                .collect(Collectors.toMap(RoleTemplate::getId, RoleTemplate::getName));
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUsername("jmh" + i);
+            user.setEmail("jmh" + i + "@bench.local");
+            user.setPasswordHash("x");
+            user.setAvatarConfig("default");
+            created.add(user);
+        }
+        return userRepository.saveAll(created);
+    }
+
+    private static GameAction action(Game game, int day, GamePhase phase, GamePlayer actor, GamePlayer target,
+                                     ActionType type, Instant createdAt) {
+        GameAction action = new GameAction();
+        action.setGameId(game.getId());
+        action.setDayNumber(day);
+        action.setPhase(phase);
+        action.setActorPlayerId(actor.getId());
+        action.setTargetPlayerId(target.getId());
+        action.setActionType(type);
+        action.setCreatedAt(createdAt);
+        return action;
+    }
+
+    private static ChatMessage message(Game game, Long senderUserId, ChatChannel channel, String content,
+                                       Instant createdAt) {
+        ChatMessage message = new ChatMessage();
+        message.setGameId(game.getId());
+        message.setSenderUserId(senderUserId);
+        message.setChannel(channel);
+        message.setContent(content);
+        message.setCreatedAt(createdAt);
+        return message;
+    }
+}
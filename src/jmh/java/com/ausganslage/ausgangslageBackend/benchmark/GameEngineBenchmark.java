@@ -0,0 +1,78 @@
+package com.ausganslage.ausgangslageBackend.benchmark;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.rules.GameEngine;
+import com.ausganslage.ausgangslageBackend.rules.GameRules;
+import com.ausganslage.ausgangslageBackend.rules.GameState;
+import com.ausganslage.ausgangslageBackend.rules.PlayerState;
+import com.ausganslage.ausgangslageBackend.rules.RuleCommand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rules engine without Spring or a database: a whole first night and a whole first day of a fresh game,
+ * command by command. The starting state is immutable, so every invocation replays from the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Param({"4", "8", "16", "32", "64", "100"})
+    private int playerCount;
+
+    private GameState firstNight;
+    private GameState firstDay;
+    private long[] wolves;
+    private long seer;
+    private long witch;
+    private long victim;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<RoleName> roles = GameRules.roleComposition(playerCount);
+        List<PlayerState> players = new ArrayList<>(playerCount);
+        List<Long> wolfIds = new ArrayList<>();
+        for (int seat = 0; seat < playerCount; seat++) {
+            long id = seat + 1;
+            RoleName role = roles.get(seat);
+            players.add(PlayerState.starting(id, id, role,
+                role == RoleName.WEREWOLF ? Faction.WOLVES : Faction.VILLAGE));
+            switch (role) {
+                case WEREWOLF -> wolfIds.add(id);
+                case SEER -> seer = id;
+                case WITCH -> witch = id;
+                default -> victim = id;
+            }
+        }
+        wolves = wolfIds.stream().mapToLong(Long::longValue).toArray();
+        firstNight = GameState.starting(players);
+        firstDay = GameEngine.apply(night(), RuleCommand.transitionToVoting()).getState();
+    }
+
+    @Benchmark
+    public GameState night() {
+        GameState state = firstNight;
+        for (long wolf : wolves) {
+            state = GameEngine.apply(state, RuleCommand.vote(wolf, victim)).getState();
+        }
+        state = GameEngine.apply(state, RuleCommand.inspect(seer, wolves[0])).getState();
+        return GameEngine.apply(state, RuleCommand.heal(witch, victim)).getState();
+    }
+
+    @Benchmark
+    public GameState dayVoting() {
+        GameState state = firstDay;
+        for (int i = 0; i < state.playerCount(); i++) {
+            state = GameEngine.apply(state, RuleCommand.vote(state.playerAt(i).getId(), victim)).getState();
+        }
+        return state;
+    }
+}
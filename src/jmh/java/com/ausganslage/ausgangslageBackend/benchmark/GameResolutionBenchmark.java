@@ -0,0 +1,62 @@
+package com.ausganslage.ausgangslageBackend.benchmark;
+
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameService} calls that change the game irreversibly, so every measurement gets a fresh game or lobby
+ * prepared outside the timed section. Role distribution is private and measured through {@code startGame}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 30)
+@Measurement(iterations = 50)
+@Fork(1)
+public class GameResolutionBenchmark {
+
+    @Param({"4", "8", "16", "32", "64", "100"})
+    private int playerCount;
+
+    private BenchmarkFixture fixture;
+    private GameService gameService;
+    private List<User> players;
+
+    private Game nightGame;
+    private String readyLobbyCode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BenchmarkFixture(playerCount);
+        gameService = fixture.gameService();
+        players = fixture.users(playerCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareIteration() {
+        nightGame = fixture.createGameWithHistory(players, GamePhase.NIGHT_WITCH);
+        fixture.submitWolfVotes(nightGame);
+        readyLobbyCode = fixture.createReadyLobby(players);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void resolveNightActions() {
+        gameService.resolveNightActions(nightGame);
+    }
+
+    @Benchmark
+    public Game distributeRoles() {
+        return gameService.startGame(readyLobbyCode, players.get(0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.ausganslage.ausgangslageBackend.benchmark;
+
+import com.ausganslage.ausgangslageBackend.dto.ChatMessageDto;
+import com.ausganslage.ausgangslageBackend.dto.GameStateDto;
+import com.ausganslage.ausgangslageBackend.dto.VoteActionRequest;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state {@link GameService} calls made while a game is running. The read game sits in the day voting
+ * phase with three days of history and nobody has voted yet, so {@code checkAndAdvancePhase} never advances it.
+ * Votes go to a second game and only ever replace the same player's vote.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameServiceBenchmark {
+
+    @Param({"4", "8", "16", "32", "64", "100"})
+    private int playerCount;
+
+    private BenchmarkFixture fixture;
+    private GameService gameService;
+
+    private Game readGame;
+    private User wolfViewer;
+
+    private Game voteGame;
+    private User voter;
+    private VoteActionRequest vote;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BenchmarkFixture(playerCount);
+        gameService = fixture.gameService();
+        List<User> players = fixture.users(playerCount);
+
+        readGame = fixture.createGameWithHistory(players, GamePhase.DAY_VOTING);
+        wolfViewer = fixture.userWithRole(readGame, RoleName.WEREWOLF);
+
+        voteGame = fixture.createGameWithHistory(players, GamePhase.DAY_VOTING);
+        voter = players.get(0);
+        vote = new VoteActionRequest();
+        vote.setTargetPlayerId(fixture.player(voteGame, players.get(1)).getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public GameStateDto getGameState() {
+        return gameService.getGameState(readGame.getId(), wolfViewer);
+    }
+
+    @Benchmark
+    public List<ChatMessageDto> getChatMessages() {
+        return gameService.getChatMessages(readGame.getId(), wolfViewer, null);
+    }
+
+    @Benchmark
+    public void checkAndAdvancePhase() {
+        gameService.checkAndAdvancePhase(readGame);
+    }
+
+    @Benchmark
+    public void submitVote() {
+        gameService.submitVote(voteGame.getId(), voter, vote);
+    }
+}
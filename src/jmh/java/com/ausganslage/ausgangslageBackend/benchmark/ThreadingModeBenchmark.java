@@ -0,0 +1,161 @@
+package com.ausganslage.ausgangslageBackend.benchmark;
+
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Tomcat on a bounded platform thread pool with the virtual-thread mode under many concurrent clients.
+ * Every invocation lets {@code clients} clients issue {@value #REQUESTS_PER_CLIENT} requests each:
+ * {@code statePolling} polls {@code /state} like the frontend does, {@code chat} posts a message and then
+ * fetches new messages. {@code readPath=blocking} answers reads from the database on the request thread,
+ * {@code snapshot} from the in-memory snapshots on async handlers.
+ * <p>
+ * {@code threading=virtual} needs Java 21; on older runtimes run with {@code -p threading=platform}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final int GAMES = 16;
+    private static final int PLAYERS_PER_GAME = 8;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final int PLATFORM_WORKER_THREADS = 50;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"128", "1024"})
+    private int clients;
+
+    @Param({"snapshot", "blocking"})
+    private String readPath;
+
+    private BenchmarkFixture fixture;
+    private HttpClient httpClient;
+    private ExecutorService clientExecutor;
+    private String baseUrl;
+    private final List<Long> clientGames = new ArrayList<>();
+    private final List<String> clientTokens = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = threading.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("threading=virtual needs Java 21, running on " + Runtime.version());
+        }
+
+        fixture = new BenchmarkFixture(GAMES * PLAYERS_PER_GAME, WebApplicationType.SERVLET,
+            "spring.threads.virtual.enabled=" + virtual,
+            "server.tomcat.threads.max=" + PLATFORM_WORKER_THREADS,
+            "server.tomcat.max-connections=" + (clients * 2),
+            "app.virtual-threads.pinning-check.enabled=false",
+            "app.snapshots.enabled=" + readPath.equals("snapshot"));
+        baseUrl = fixture.baseUrl();
+
+        List<User> users = fixture.users(GAMES * PLAYERS_PER_GAME);
+        List<Long> gameIds = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int g = 0; g < GAMES; g++) {
+            List<User> players = users.subList(g * PLAYERS_PER_GAME, (g + 1) * PLAYERS_PER_GAME);
+            Game game = fixture.createGameWithHistory(players, GamePhase.DAY_DISCUSSION);
+            for (User player : players) {
+                gameIds.add(game.getId());
+                tokens.add(fixture.sessionToken(player));
+            }
+        }
+        for (int c = 0; c < clients; c++) {
+            clientGames.add(gameIds.get(c % gameIds.size()));
+            clientTokens.add(tokens.get(c % tokens.size()));
+        }
+
+        clientExecutor = Executors.newCachedThreadPool();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        fixture.close();
+    }
+
+    @Benchmark
+    public int statePolling() throws Exception {
+        return runClients(client -> {
+            for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                get(client, "/api/games/" + clientGames.get(client) + "/state");
+            }
+        });
+    }
+
+    @Benchmark
+    public int chat() throws Exception {
+        return runClients(client -> {
+            long since = System.currentTimeMillis();
+            for (int i = 0; i < REQUESTS_PER_CLIENT / 2; i++) {
+                post(client, "/api/games/" + clientGames.get(client) + "/chat", "{\"content\":\"benchmark\"}");
+                get(client, "/api/games/" + clientGames.get(client) + "/chat?since=" + since);
+            }
+        });
+    }
+
+    private int runClients(ClientWorkload workload) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            futures.add(clientExecutor.submit(() -> {
+                workload.run(client);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private void get(int client, String path) throws IOException, InterruptedException {
+        send(client, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private void post(int client, String path, String json) throws IOException, InterruptedException {
+        send(client, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private void send(int client, HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(
+            request.header("Authorization", "Bearer " + clientTokens.get(client)).build(),
+            HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(request.build().uri() + " returned HTTP " + response.statusCode());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClientWorkload {
+        void run(int client) throws Exception;
+    }
+}
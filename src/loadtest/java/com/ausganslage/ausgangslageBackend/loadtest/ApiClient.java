@@ -0,0 +1,145 @@
+package com.ausganslage.ausgangslageBackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin blocking client for the REST API. Every call is timed and recorded under its path template.
+ */
+class ApiClient {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final EndpointStats stats;
+
+    ApiClient(HttpClient httpClient, String baseUrl, EndpointStats stats) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    Account register(String username) throws IOException, InterruptedException {
+        JsonNode response = post("/api/auth/register", null, Map.of(
+            "username", username,
+            "email", username + "@load.test",
+            "password", "password123"));
+        return new Account(response.path("token").asText(), response.path("user").path("id").asLong());
+    }
+
+    String createLobby(String token, int maxPlayers) throws IOException, InterruptedException {
+        return post("/api/lobbies", token, Map.of("maxPlayers", maxPlayers, "settingsJson", "{}"))
+                .path("lobbyCode").asText();
+    }
+
+    void joinLobby(String token, String lobbyCode) throws IOException, InterruptedException {
+        post("/api/lobbies/" + lobbyCode + "/join", "POST /api/lobbies/{code}/join", token, null);
+    }
+
+    void setReady(String token, String lobbyCode) throws IOException, InterruptedException {
+        post("/api/lobbies/" + lobbyCode + "/ready", "POST /api/lobbies/{code}/ready", token, null);
+    }
+
+    long startGame(String token, String lobbyCode) throws IOException, InterruptedException {
+        return post("/api/lobbies/" + lobbyCode + "/start", "POST /api/lobbies/{code}/start", token, null)
+                .path("id").asLong();
+    }
+
+    JsonNode getState(String token, long gameId) throws IOException, InterruptedException {
+        return get("/api/games/" + gameId + "/state", "GET /api/games/{id}/state", token);
+    }
+
+    JsonNode getChat(String token, long gameId, long since) throws IOException, InterruptedException {
+        return get("/api/games/" + gameId + "/chat?since=" + since, "GET /api/games/{id}/chat", token);
+    }
+
+    void sendChat(String token, long gameId, String content) throws IOException, InterruptedException {
+        post("/api/games/" + gameId + "/chat", "POST /api/games/{id}/chat", token, Map.of("content", content));
+    }
+
+    void vote(String token, long gameId, long targetPlayerId) throws IOException, InterruptedException {
+        post("/api/games/" + gameId + "/actions/vote", "POST /api/games/{id}/actions/vote", token,
+            Map.of("targetPlayerId", targetPlayerId));
+    }
+
+    void power(String token, long gameId, String actionType, long targetPlayerId) throws IOException, InterruptedException {
+        post("/api/games/" + gameId + "/actions/power", "POST /api/games/{id}/actions/power", token,
+            Map.of("actionType", actionType, "targetPlayerId", targetPlayerId));
+    }
+
+    void skip(String token, long gameId) throws IOException, InterruptedException {
+        post("/api/games/" + gameId + "/actions/skip", "POST /api/games/{id}/actions/skip", token, null);
+    }
+
+    void transitionToVoting(String token, long gameId) throws IOException, InterruptedException {
+        post("/api/games/" + gameId + "/transition-to-voting", "POST /api/games/{id}/transition-to-voting", token, null);
+    }
+
+    private JsonNode get(String path, String endpoint, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        return send(request, endpoint, token);
+    }
+
+    private JsonNode post(String path, String token, Object body) throws IOException, InterruptedException {
+        return post(path, "POST " + path, token, body);
+    }
+
+    private JsonNode post(String path, String endpoint, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        return send(request, endpoint, token);
+    }
+
+    private JsonNode send(HttpRequest.Builder request, String endpoint, String token)
+            throws IOException, InterruptedException {
+        request.timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        stats.record(endpoint, System.nanoTime() - start, success);
+
+        if (!success) {
+            throw new ApiException(endpoint, response.statusCode());
+        }
+        String body = response.body();
+        return body == null || body.isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(body);
+    }
+
+    static class Account {
+        final String token;
+        final long userId;
+
+        Account(String token, long userId) {
+            this.token = token;
+            this.userId = userId;
+        }
+    }
+
+    static class ApiException extends IOException {
+        ApiException(String endpoint, int statusCode) {
+            super(endpoint + " returned HTTP " + statusCode);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ausganslage.ausgangslageBackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per endpoint, keyed by method and path template.
+ */
+class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Histogram> latencies = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+                .recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    long totalRequests() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    void print(PrintStream out, long elapsedMillis) {
+        double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+        out.printf("%-42s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        latencies.forEach((endpoint, histogram) -> {
+            Histogram snapshot = histogram.copy();
+            long errorCount = errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0;
+            out.printf("%-42s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                snapshot.getTotalCount(),
+                errorCount,
+                snapshot.getTotalCount() / seconds,
+                millis(snapshot.getValueAtPercentile(50)),
+                millis(snapshot.getValueAtPercentile(90)),
+                millis(snapshot.getValueAtPercentile(99)),
+                millis(snapshot.getValueAtPercentile(99.9)),
+                millis(snapshot.getMaxValue()));
+        });
+        out.printf("total: %d requests in %.1f s (%.1f req/s)%n", totalRequests(), seconds, totalRequests() / seconds);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ausganslage.ausgangslageBackend.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how the simulated games ended. Each game is reported once, by its host bot.
+ */
+class GameOutcomes {
+
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger failedToStart = new AtomicInteger();
+    private final AtomicInteger timedOut = new AtomicInteger();
+    private final Map<String, LongAdder> winners = new ConcurrentHashMap<>();
+
+    void started() {
+        started.incrementAndGet();
+    }
+
+    void failedToStart() {
+        failedToStart.incrementAndGet();
+    }
+
+    void finished(String winnerFaction) {
+        winners.computeIfAbsent(winnerFaction, key -> new LongAdder()).increment();
+    }
+
+    void timedOut() {
+        timedOut.incrementAndGet();
+    }
+
+    int startedCount() {
+        return started.get();
+    }
+
+    @Override
+    public String toString() {
+        long finished = winners.values().stream().mapToLong(LongAdder::sum).sum();
+        return String.format("games started=%d, failed to start=%d, finished=%d %s, timed out=%d",
+            started.get(), failedToStart.get(), finished, winners, timedOut.get());
+    }
+}
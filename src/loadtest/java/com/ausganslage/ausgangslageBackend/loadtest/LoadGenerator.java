@@ -0,0 +1,164 @@
+package com.ausganslage.ausgangslageBackend.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays complete games against a running application through the public REST API: registers users, fills and
+ * readies lobbies, starts games and lets one {@link PlayerBot} per player poll {@code /state} and {@code /chat}
+ * and act until the game is over. Prints throughput and latency percentiles per endpoint.
+ * <p>
+ * Every client runs on its own thread. On Java 21+ these are virtual threads, which makes tens of thousands of
+ * clients cheap; on older runtimes the generator falls back to platform threads.
+ * <p>
+ * Options: {@code --base-url} (http://localhost:8080), {@code --games} (100), {@code --players} (8),
+ * {@code --poll-interval-ms} (1000), {@code --max-game-seconds} (300), {@code --setup-concurrency} (64),
+ * {@code --report-interval-seconds} (10).
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int games = Integer.parseInt(options.getOrDefault("games", "100"));
+        int players = Integer.parseInt(options.getOrDefault("players", "8"));
+        long pollIntervalMillis = Long.parseLong(options.getOrDefault("poll-interval-ms", "1000"));
+        long maxGameMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("max-game-seconds", "300")));
+        int setupConcurrency = Integer.parseInt(options.getOrDefault("setup-concurrency", "64"));
+        long reportIntervalMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("report-interval-seconds", "10")));
+
+        if (players < 4) {
+            throw new IllegalArgumentException("A game needs at least 4 players");
+        }
+
+        EndpointStats stats = new EndpointStats();
+        GameOutcomes outcomes = new GameOutcomes();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ApiClient api = new ApiClient(httpClient, baseUrl, stats);
+        ExecutorService executor = newClientExecutor();
+        Semaphore setupPermits = new Semaphore(setupConcurrency);
+        AtomicInteger activeTasks = new AtomicInteger();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        System.out.printf("Simulating %d games x %d players (%d clients) against %s%n",
+            games, players, games * players, baseUrl);
+        long start = System.currentTimeMillis();
+
+        for (int g = 0; g < games; g++) {
+            String gamePrefix = "lt" + runId + "g" + g + "p";
+            submit(executor, activeTasks, () -> {
+                List<ApiClient.Account> accounts;
+                long gameId;
+                setupPermits.acquire();
+                try {
+                    accounts = new ArrayList<>();
+                    for (int p = 0; p < players; p++) {
+                        accounts.add(api.register(gamePrefix + p));
+                    }
+                    gameId = setUpGame(api, accounts);
+                    outcomes.started();
+                } catch (Exception e) {
+                    outcomes.failedToStart();
+                    return;
+                } finally {
+                    setupPermits.release();
+                }
+
+                long deadline = System.currentTimeMillis() + maxGameMillis;
+                for (int p = 0; p < accounts.size(); p++) {
+                    PlayerBot bot = new PlayerBot(api, accounts.get(p), gameId, p == 0, pollIntervalMillis,
+                        deadline, outcomes);
+                    submit(executor, activeTasks, bot::run);
+                }
+            });
+        }
+
+        while (activeTasks.get() > 0) {
+            Thread.sleep(reportIntervalMillis);
+            System.out.printf("[%4ds] active clients=%d, requests=%d, %s%n",
+                (System.currentTimeMillis() - start) / 1000, activeTasks.get(), stats.totalRequests(), outcomes);
+        }
+        executor.shutdown();
+
+        System.out.println();
+        stats.print(System.out, System.currentTimeMillis() - start);
+        System.out.println(outcomes);
+    }
+
+    private static long setUpGame(ApiClient api, List<ApiClient.Account> accounts) throws Exception {
+        String hostToken = accounts.get(0).token;
+        String lobbyCode = api.createLobby(hostToken, accounts.size());
+        for (int p = 1; p < accounts.size(); p++) {
+            api.joinLobby(accounts.get(p).token, lobbyCode);
+        }
+        for (ApiClient.Account account : accounts) {
+            api.setReady(account.token, lobbyCode);
+        }
+        return api.startGame(hostToken, lobbyCode);
+    }
+
+    private static void submit(ExecutorService executor, AtomicInteger activeTasks, ClientTask task) {
+        activeTasks.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                System.err.println("Client failed: " + e.getMessage());
+            } finally {
+                activeTasks.decrementAndGet();
+            }
+        });
+    }
+
+    private static ExecutorService newClientExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            System.out.println("Using virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            System.out.println("Virtual threads need Java 21+, running on Java " + Runtime.version().feature()
+                + " with platform threads");
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String key = args[i].substring(2);
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                options.put(key.substring(0, eq), key.substring(eq + 1));
+            } else if (i + 1 < args.length) {
+                options.put(key, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + key);
+            }
+        }
+        return options;
+    }
+
+    @FunctionalInterface
+    private interface ClientTask {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,184 @@
+package com.ausganslage.ausgangslageBackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated client. Polls the game state and chat like the web frontend and plays the actions the state
+ * offers until the game is finished or the deadline passes.
+ * <p>
+ * All bots of a game aim at the alive player with the lowest seat, so wolf and lynch votes always reach a
+ * majority and games end after a few days.
+ */
+class PlayerBot implements Runnable {
+
+    private final ApiClient api;
+    private final String token;
+    private final long userId;
+    private final long gameId;
+    private final boolean host;
+    private final long pollIntervalMillis;
+    private final long deadlineMillis;
+    private final GameOutcomes outcomes;
+
+    private String lastActedPhase;
+    private long chatSince = 0;
+    private long polls = 0;
+
+    PlayerBot(ApiClient api, ApiClient.Account account, long gameId, boolean host, long pollIntervalMillis,
+              long deadlineMillis, GameOutcomes outcomes) {
+        this.api = api;
+        this.token = account.token;
+        this.userId = account.userId;
+        this.gameId = gameId;
+        this.host = host;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.deadlineMillis = deadlineMillis;
+        this.outcomes = outcomes;
+    }
+
+    @Override
+    public void run() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(pollIntervalMillis + 1));
+            while (System.currentTimeMillis() < deadlineMillis) {
+                JsonNode state = pollState();
+                if (state != null && "FINISHED".equals(state.path("status").asText())) {
+                    if (host) {
+                        outcomes.finished(state.path("winnerFaction").asText());
+                    }
+                    return;
+                }
+                if (state != null) {
+                    act(state);
+                }
+                if (polls++ % 2 == 0) {
+                    pollChat();
+                }
+                Thread.sleep(pollIntervalMillis / 2 + ThreadLocalRandom.current().nextLong(pollIntervalMillis + 1));
+            }
+            if (host) {
+                outcomes.timedOut();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JsonNode pollState() throws InterruptedException {
+        try {
+            return api.getState(token, gameId);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void pollChat() throws InterruptedException {
+        try {
+            JsonNode messages = api.getChat(token, gameId, chatSince);
+            for (JsonNode message : messages) {
+                long createdAt = Instant.parse(message.path("createdAt").asText()).toEpochMilli();
+                chatSince = Math.max(chatSince, createdAt);
+            }
+        } catch (IOException | RuntimeException e) {
+            // A failed poll is already counted in the endpoint stats.
+        }
+    }
+
+    private void act(JsonNode state) throws InterruptedException {
+        Set<String> actions = new HashSet<>();
+        state.path("availableActions").forEach(action -> actions.add(action.asText()));
+        String phase = state.path("currentPhase").asText();
+        String phaseKey = state.path("dayNumber").asInt() + ":" + phase;
+        long ownPlayerId = ownPlayerId(state);
+
+        try {
+            if (actions.contains("HUNTER_SHOOT")) {
+                Long target = lowestSeatAlive(state, ownPlayerId, false);
+                if (target != null) {
+                    api.power(token, gameId, "HUNTER_SHOOT", target);
+                }
+                return;
+            }
+            if (phaseKey.equals(lastActedPhase)) {
+                return;
+            }
+
+            switch (phase) {
+                case "NIGHT_WOLVES" -> {
+                    if (actions.contains("VOTE_WOLF_KILL")) {
+                        Long target = lowestSeatAlive(state, ownPlayerId, true);
+                        if (target != null) {
+                            api.vote(token, gameId, target);
+                        }
+                    }
+                }
+                case "NIGHT_SEER" -> {
+                    if (actions.contains("SEER_INSPECT")) {
+                        Long target = lowestSeatAlive(state, ownPlayerId, false);
+                        if (target != null) {
+                            api.power(token, gameId, "SEER_INSPECT", target);
+                        } else {
+                            api.skip(token, gameId);
+                        }
+                    }
+                }
+                case "NIGHT_WITCH" -> {
+                    if (actions.contains("WITCH_HEAL") || actions.contains("WITCH_POISON")) {
+                        api.skip(token, gameId);
+                    }
+                }
+                case "DAY_DISCUSSION" -> {
+                    if (state.path("isAlive").asBoolean()) {
+                        api.sendChat(token, gameId, "I suspect seat " + ThreadLocalRandom.current().nextInt(10));
+                    }
+                    if (host) {
+                        api.transitionToVoting(token, gameId);
+                    }
+                }
+                case "DAY_VOTING" -> {
+                    if (actions.contains("VOTE_LYNCH")) {
+                        Long target = lowestSeatAlive(state, ownPlayerId, false);
+                        if (target != null) {
+                            api.vote(token, gameId, target);
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+            lastActedPhase = phaseKey;
+        } catch (IOException e) {
+            // Another player may have advanced the phase in the meantime; the next poll catches up.
+        }
+    }
+
+    private long ownPlayerId(JsonNode state) {
+        for (JsonNode player : state.path("players")) {
+            if (player.path("userId").asLong() == userId) {
+                return player.path("playerId").asLong();
+            }
+        }
+        return -1;
+    }
+
+    private static Long lowestSeatAlive(JsonNode state, long ownPlayerId, boolean skipWolves) {
+        List<JsonNode> players = new ArrayList<>();
+        state.path("players").forEach(players::add);
+        return players.stream()
+                .filter(p -> p.path("isAlive").asBoolean())
+                .filter(p -> p.path("playerId").asLong() != ownPlayerId)
+                .filter(p -> !skipWolves || !"WEREWOLF".equals(p.path("role").asText()))
+                .min(Comparator.comparingInt(p -> p.path("seatNumber").asInt()))
+                .map(p -> p.path("playerId").asLong())
+                .orElse(null);
+    }
+}
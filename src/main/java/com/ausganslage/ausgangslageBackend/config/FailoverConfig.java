@@ -0,0 +1,66 @@
+package com.ausganslage.ausgangslageBackend.config;
+
+import com.ausganslage.ausgangslageBackend.failover.GameFailoverService;
+import com.ausganslage.ausgangslageBackend.failover.GameJournal;
+import com.ausganslage.ausgangslageBackend.failover.GameSnapshotStore;
+import com.ausganslage.ausgangslageBackend.failover.GameSnapshotWriter;
+import com.ausganslage.ausgangslageBackend.failover.GameStateRestorer;
+import com.ausganslage.ausgangslageBackend.repository.GameActionRepository;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+/**
+ * Snapshots running games to {@code app.failover.dir} when {@code app.failover.enabled=true}, so another node
+ * pointed at the same directory can take them over. Without it, games are not journaled at all.
+ */
+@Configuration
+public class FailoverConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.failover", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public GameJournal disabledGameJournal() {
+        return GameJournal.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.failover", name = "enabled", havingValue = "true")
+    public GameSnapshotStore gameSnapshotStore(@Value("${app.failover.dir:./data/failover}") String directory) {
+        return new GameSnapshotStore(Path.of(directory));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.failover", name = "enabled", havingValue = "true")
+    public GameSnapshotWriter gameSnapshotWriter(GameSnapshotStore store, GameRepository gameRepository,
+                                                 GamePlayerRepository gamePlayerRepository,
+                                                 GameActionRepository gameActionRepository,
+                                                 RoleTemplateRepository roleTemplateRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 @Value("${app.failover.node-id:${app.sharding.self-url:http://localhost:${server.port}}}") String node,
+                                                 @Value("${app.failover.snapshot-interval-ms:1000}") long intervalMillis) {
+        return new GameSnapshotWriter(store, gameRepository, gamePlayerRepository, gameActionRepository,
+            roleTemplateRepository, transactionManager, node, intervalMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.failover", name = "enabled", havingValue = "true")
+    public GameFailoverService gameFailoverService(GameSnapshotStore store, GameSnapshotWriter writer,
+                                                   DataSource dataSource, RoleTemplateRepository roleTemplateRepository,
+                                                   GameRepository gameRepository, GameService gameService,
+                                                   ReadSnapshots readSnapshots,
+                                                   PlatformTransactionManager transactionManager) {
+        return new GameFailoverService(store, writer, new GameStateRestorer(new JdbcTemplate(dataSource), roleTemplateRepository),
+            gameRepository, gameService, readSnapshots, transactionManager);
+    }
+}
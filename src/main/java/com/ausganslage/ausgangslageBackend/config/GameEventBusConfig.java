@@ -0,0 +1,56 @@
+package com.ausganslage.ausgangslageBackend.config;
+
+import com.ausganslage.ausgangslageBackend.event.GameEventBus;
+import com.ausganslage.ausgangslageBackend.event.LocalGameEventBus;
+import com.ausganslage.ausgangslageBackend.event.UdpGameEventBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Picks the {@link GameEventBus} transport: {@code app.events.transport=local} (default) keeps events inside this
+ * JVM, {@code udp} also exchanges them with the peers in {@code app.events.udp.peers} ({@code host:port}, may
+ * include this node). See {@code application-cluster.properties}.
+ */
+@Configuration
+public class GameEventBusConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.events", name = "transport", havingValue = "local", matchIfMissing = true)
+    public GameEventBus localGameEventBus(@Value("${app.events.batch-window-ms:25}") long batchWindowMillis) {
+        return new LocalGameEventBus(batchWindowMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.events", name = "transport", havingValue = "udp")
+    public GameEventBus udpGameEventBus(@Value("${app.events.batch-window-ms:25}") long batchWindowMillis,
+                                        @Value("${app.events.udp.bind-address:127.0.0.1}") String bindAddress,
+                                        @Value("${app.events.udp.port}") int port,
+                                        @Value("${app.events.udp.peers:}") List<String> peers) throws SocketException {
+        return new UdpGameEventBus(batchWindowMillis, UUID.randomUUID().toString(),
+            new InetSocketAddress(bindAddress, port),
+            peers.stream().map(GameEventBusConfig::parsePeer).collect(Collectors.toList()));
+    }
+
+    private static InetSocketAddress parsePeer(String peer) {
+        int separator = peer.lastIndexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Expected host:port for app.events.udp.peers, got " + peer);
+        }
+        try {
+            return new InetSocketAddress(InetAddress.getByName(peer.substring(0, separator).trim()),
+                Integer.parseInt(peer.substring(separator + 1).trim()));
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Unknown host in app.events.udp.peers: " + peer, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ausganslage.ausgangslageBackend.config;
+
+import com.ausganslage.ausgangslageBackend.datasource.H2ReplicationStub;
+import com.ausganslage.ausgangslageBackend.datasource.ReadWriteRoutingDataSource;
+import com.ausganslage.ausgangslageBackend.datasource.ReplicationMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured data source with a primary/replica pair when
+ * {@code app.datasource.routing.enabled=true}. See {@code application-replica.properties} for a local setup with
+ * two H2 databases.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    public ReplicationMonitor replicationMonitor() {
+        return new ReplicationMonitor();
+    }
+
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties,
+                                                 ReplicationMonitor replicationMonitor,
+                                                 @Value("${app.datasource.routing.replica-urls}") List<String> replicaUrls,
+                                                 @Value("${app.datasource.routing.replica-pool-size:10}") int replicaPoolSize,
+                                                 @Value("${app.datasource.routing.max-lag-ms:0}") long maxLagMillis) {
+        DataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i))
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas, replicationMonitor, maxLagMillis);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "app.datasource.routing.replication-stub", name = "enabled", havingValue = "true")
+    public H2ReplicationStub h2ReplicationStub(DataSourceProperties properties,
+                                               ReplicationMonitor replicationMonitor,
+                                               @Value("${app.datasource.routing.replica-urls}") List<String> replicaUrls,
+                                               @Value("${app.datasource.routing.replication-stub.interval-ms:200}") long intervalMillis) {
+        return new H2ReplicationStub(properties.determineUrl(), replicaUrls,
+            properties.determineUsername(), properties.determinePassword(), replicationMonitor, intervalMillis);
+    }
+}
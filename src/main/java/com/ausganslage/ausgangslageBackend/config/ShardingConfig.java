@@ -0,0 +1,45 @@
+package com.ausganslage.ausgangslageBackend.config;
+
+import com.ausganslage.ausgangslageBackend.sharding.ClusterMembership;
+import com.ausganslage.ausgangslageBackend.sharding.ShardRoutingFilter;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs this instance as one node of a sharded cluster when {@code app.sharding.enabled=true}: every game and lobby
+ * is owned by one node, and requests for it are routed there. See {@code application-cluster.properties} for
+ * several nodes on one host.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ClusterMembership clusterMembership(ReadSnapshots readSnapshots,
+                                               @Value("${app.sharding.self-url:http://localhost:${server.port}}") String selfUrl,
+                                               @Value("${app.sharding.nodes}") List<String> nodes,
+                                               @Value("${app.sharding.virtual-nodes:128}") int virtualNodes) {
+        return new ClusterMembership(selfUrl, nodes, virtualNodes, readSnapshots);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShardRoutingFilter> shardRoutingFilterRegistration(
+            ClusterMembership membership,
+            @Value("${app.sharding.mode:forward}") String mode,
+            @Value("${app.sharding.forward-timeout-ms:10000}") long forwardTimeoutMillis) {
+        FilterRegistrationBean<ShardRoutingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ShardRoutingFilter(membership,
+            ShardRoutingFilter.Mode.valueOf(mode.toUpperCase(Locale.ROOT)), Duration.ofMillis(forwardTimeoutMillis)));
+        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setOrder(-2);
+        return registrationBean;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ausganslage.ausgangslageBackend.config;
+
+import com.ausganslage.ausgangslageBackend.datasource.StatementCountingDataSource;
+import com.ausganslage.ausgangslageBackend.metrics.SqlStatementCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application data source in a {@link StatementCountingDataSource} and counts statements per API
+ * request. Set {@code app.sql.statement-headers.enabled=true} (see {@code application-dev.properties}) to get the
+ * totals back as response headers.
+ */
+@Configuration
+public class SqlStatementCountConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilterRegistration(
+            MeterRegistry registry,
+            @Value("${app.sql.statement-headers.enabled:false}") boolean exposeHeaders) {
+        FilterRegistrationBean<SqlStatementCountFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatementCountFilter(registry, exposeHeaders));
+        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setOrder(-1);
+        return registrationBean;
+    }
+}
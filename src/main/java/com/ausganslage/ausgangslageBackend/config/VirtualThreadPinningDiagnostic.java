@@ -0,0 +1,153 @@
+package com.ausganslage.ausgangslageBackend.config;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Checks at startup whether the JDBC path pins virtual threads to their carrier.
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or a native frame cannot unmount and holds its
+ * carrier thread until it resumes, so a few pinned requests can starve the whole request pool. The diagnostic runs
+ * a burst of concurrent queries on virtual threads through the connection pool while JFR records
+ * {@code jdk.VirtualThreadPinned} events, and logs where each pinning happened. Only active in virtual-thread mode;
+ * disable with {@code app.virtual-threads.pinning-check.enabled=false}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "app.virtual-threads.pinning-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningDiagnostic implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningDiagnostic.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int REPORTED_FRAMES = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int threads;
+    private final int queriesPerThread;
+
+    public VirtualThreadPinningDiagnostic(JdbcTemplate jdbcTemplate,
+                                          @Value("${app.virtual-threads.pinning-check.threads:64}") int threads,
+                                          @Value("${app.virtual-threads.pinning-check.queries-per-thread:20}") int queriesPerThread) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.threads = threads;
+        this.queriesPerThread = queriesPerThread;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Map<String, Integer> pinnedStacks = detectPinning();
+        if (pinnedStacks.isEmpty()) {
+            logger.info("Virtual-thread pinning check passed: threads={}, queriesPerThread={}", threads, queriesPerThread);
+            return;
+        }
+        pinnedStacks.forEach((stack, count) ->
+            logger.warn("Virtual threads pinned to their carrier in the JDBC path: occurrences={}, stack=\n{}", count, stack));
+    }
+
+    /**
+     * Runs the probe workload and returns each distinct pinning stack with its number of occurrences.
+     */
+    public Map<String, Integer> detectPinning() {
+        Path dump = null;
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            runProbe();
+            recording.stop();
+
+            dump = Files.createTempFile("pinning-check", ".jfr");
+            recording.dump(dump);
+            return summarize(RecordingFile.readAllEvents(dump));
+        } catch (IOException e) {
+            logger.warn("Virtual-thread pinning check failed: {}", e.getMessage());
+            return Map.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        } finally {
+            deleteQuietly(dump);
+        }
+    }
+
+    private void runProbe() throws InterruptedException {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-check-");
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    for (int q = 0; q < queriesPerThread; q++) {
+                        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES", Long.class);
+                    }
+                } catch (RuntimeException e) {
+                    logger.debug("Pinning probe query failed: {}", e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        if (!done.await(30, TimeUnit.SECONDS)) {
+            logger.warn("Virtual-thread pinning probe did not finish within 30 seconds");
+        }
+    }
+
+    private static Map<String, Integer> summarize(List<RecordedEvent> events) {
+        Map<String, Integer> stacks = new LinkedHashMap<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(PINNED_EVENT)) {
+                stacks.merge(describe(event.getStackTrace()), 1, Integer::sum);
+            }
+        }
+        return stacks;
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        List<String> frames = new ArrayList<>();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frames.size() == REPORTED_FRAMES) {
+                break;
+            }
+            frames.add("\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")");
+        }
+        return frames.stream().collect(Collectors.joining("\n"));
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.debug("Could not delete {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ausganslage.ausgangslageBackend.controller;
+
+import com.ausganslage.ausgangslageBackend.sharding.ClusterMembership;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Membership of the sharded cluster. Outside {@code /api}, so it is neither authenticated as a user nor routed;
+ * changes require the shared {@code app.sharding.admin-token} and have to be sent to every node.
+ */
+@RestController
+@RequestMapping("/internal/cluster")
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ClusterController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterController.class);
+
+    private final ClusterMembership membership;
+    private final String adminToken;
+
+    public ClusterController(ClusterMembership membership, @Value("${app.sharding.admin-token:}") String adminToken) {
+        this.membership = membership;
+        this.adminToken = adminToken;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMembership() {
+        return ResponseEntity.ok(Map.of("self", membership.getSelfUrl(), "nodes", membership.getNodes()));
+    }
+
+    @PutMapping("/nodes")
+    public ResponseEntity<Map<String, Object>> updateNodes(@RequestHeader(value = "X-Cluster-Token", required = false) String token,
+                                                           @RequestBody List<String> nodes) {
+        if (adminToken.isEmpty() || token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("Cluster membership change rejected: invalid admin token");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        membership.updateNodes(nodes);
+        return getMembership();
+    }
+}
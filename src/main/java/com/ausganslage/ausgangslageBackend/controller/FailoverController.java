@@ -0,0 +1,93 @@
+package com.ausganslage.ausgangslageBackend.controller;
+
+import com.ausganslage.ausgangslageBackend.dto.TakeoverResultDto;
+import com.ausganslage.ausgangslageBackend.failover.GameFailoverService;
+import com.ausganslage.ausgangslageBackend.failover.GameSnapshot;
+import com.ausganslage.ausgangslageBackend.failover.GameSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Lists the game snapshots in the shared failover directory and takes games over from a node that went away.
+ * Like {@link ClusterController} it lives outside {@code /api}; takeovers require {@code app.failover.admin-token}.
+ */
+@RestController
+@RequestMapping("/internal/failover")
+@ConditionalOnProperty(prefix = "app.failover", name = "enabled", havingValue = "true")
+public class FailoverController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailoverController.class);
+
+    private final GameFailoverService failoverService;
+    private final GameSnapshotStore store;
+    private final String adminToken;
+
+    public FailoverController(GameFailoverService failoverService, GameSnapshotStore store,
+                              @Value("${app.failover.admin-token:}") String adminToken) {
+        this.failoverService = failoverService;
+        this.store = store;
+        this.adminToken = adminToken;
+    }
+
+    @GetMapping("/games")
+    public ResponseEntity<List<Map<String, Object>>> getSnapshots() {
+        List<Map<String, Object>> snapshots = store.readAll().stream()
+                .sorted(Comparator.comparing(GameSnapshot::getGameId))
+                .map(FailoverController::summary)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(snapshots);
+    }
+
+    @PostMapping("/takeover")
+    public ResponseEntity<List<TakeoverResultDto>> takeOverFrom(@RequestHeader(value = "X-Cluster-Token", required = false) String token,
+                                                                @RequestParam String node) {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(failoverService.takeOverFrom(node));
+    }
+
+    @PostMapping("/games/{gameId}/takeover")
+    public ResponseEntity<TakeoverResultDto> takeOver(@RequestHeader(value = "X-Cluster-Token", required = false) String token,
+                                                      @PathVariable Long gameId) {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(failoverService.takeOver(gameId));
+    }
+
+    private boolean isAdmin(String token) {
+        if (adminToken.isEmpty() || token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("Game takeover rejected: invalid admin token");
+            return false;
+        }
+        return true;
+    }
+
+    private static Map<String, Object> summary(GameSnapshot snapshot) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("gameId", snapshot.getGameId());
+        summary.put("node", snapshot.getNode());
+        summary.put("status", snapshot.getStatus());
+        summary.put("currentPhase", snapshot.getCurrentPhase());
+        summary.put("dayNumber", snapshot.getDayNumber());
+        summary.put("version", snapshot.getVersion());
+        summary.put("journalSequence", snapshot.getJournalSequence());
+        summary.put("takenAt", snapshot.getTakenAt());
+        return summary;
+    }
+}
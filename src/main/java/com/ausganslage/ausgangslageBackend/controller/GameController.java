@@ -1,19 +1,26 @@
 package com.ausganslage.ausgangslageBackend.controller;
 
 import com.ausganslage.ausgangslageBackend.dto.*;
+import com.ausganslage.ausgangslageBackend.event.GameEventStreams;
 import com.ausganslage.ausgangslageBackend.model.Game;
 import com.ausganslage.ausgangslageBackend.model.Lobby;
 import com.ausganslage.ausgangslageBackend.model.User;
 import com.ausganslage.ausgangslageBackend.repository.GameRepository;
 import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
 import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.ausganslage.ausgangslageBackend.service.IdempotencyCache;
+import com.ausganslage.ausgangslageBackend.service.SnapshotReadService;
 import com.ausganslage.ausgangslageBackend.util.LoggingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/games")
@@ -21,14 +28,24 @@ public class GameController {
 
     private static final Logger logger = LoggerFactory.getLogger(GameController.class);
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final GameService gameService;
     private final GameRepository gameRepository;
     private final LobbyRepository lobbyRepository;
+    private final SnapshotReadService snapshotReadService;
+    private final GameEventStreams gameEventStreams;
+    private final IdempotencyCache idempotencyCache;
 
-    public GameController(GameService gameService, GameRepository gameRepository, LobbyRepository lobbyRepository) {
+    public GameController(GameService gameService, GameRepository gameRepository, LobbyRepository lobbyRepository,
+                          SnapshotReadService snapshotReadService, GameEventStreams gameEventStreams,
+                          IdempotencyCache idempotencyCache) {
         this.gameService = gameService;
         this.gameRepository = gameRepository;
         this.lobbyRepository = lobbyRepository;
+        this.snapshotReadService = snapshotReadService;
+        this.gameEventStreams = gameEventStreams;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @PostMapping("/start/{lobbyCode}")
@@ -50,16 +67,10 @@ public class GameController {
     }
 
     @GetMapping("/{gameId}/state")
-    public ResponseEntity<GameStateDto> getGameState(@PathVariable Long gameId,
-                                                      @RequestAttribute("currentUser") User currentUser) {
+    public CompletableFuture<ResponseEntity<GameStateDto>> getGameState(@PathVariable Long gameId,
+                                                                         @RequestAttribute("currentUser") User currentUser) {
         logger.trace("API: Get game state - gameId={}, userId={}", gameId, currentUser.getId());
-        try {
-            GameStateDto state = gameService.getGameState(gameId, currentUser);
-            return ResponseEntity.ok(state);
-        } catch (IllegalArgumentException e) {
-            logger.debug("API: Get game state failed - gameId={}, error={}", gameId, e.getMessage());
-            return ResponseEntity.notFound().build();
-        }
+        return snapshotReadService.getGameState(gameId, currentUser).thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/lobby/{lobbyCode}")
@@ -80,31 +91,39 @@ public class GameController {
     @PostMapping("/{gameId}/actions/vote")
     public ResponseEntity<Void> submitVote(@PathVariable Long gameId,
                                             @RequestBody VoteActionRequest request,
+                                            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
                                             @RequestAttribute("currentUser") User currentUser) {
         logger.info("API: Submit vote - gameId={}, userId={}, targetId={}",
             gameId, currentUser.getId(), request.getTargetPlayerId());
-        try {
-            gameService.submitVote(gameId, currentUser, request);
-            return ResponseEntity.ok().build();
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            logger.warn("API: Submit vote failed - gameId={}, error={}", gameId, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+        return idempotencyCache.execute(currentUser.getId(), "vote", idempotencyKey,
+            Arrays.asList(gameId, request.getTargetPlayerId()), () -> {
+            try {
+                gameService.submitVote(gameId, currentUser, request);
+                return ResponseEntity.ok().build();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("API: Submit vote failed - gameId={}, error={}", gameId, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     @PostMapping("/{gameId}/actions/power")
     public ResponseEntity<Void> submitPowerAction(@PathVariable Long gameId,
                                                    @RequestBody PowerActionRequest request,
+                                                   @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
                                                    @RequestAttribute("currentUser") User currentUser) {
         logger.info("API: Submit power action - gameId={}, userId={}, actionType={}",
             gameId, currentUser.getId(), request.getActionType());
-        try {
-            gameService.submitPowerAction(gameId, currentUser, request);
-            return ResponseEntity.ok().build();
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            logger.warn("API: Submit power action failed - gameId={}, error={}", gameId, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        }
+        return idempotencyCache.execute(currentUser.getId(), "power", idempotencyKey,
+            Arrays.asList(gameId, request.getActionType(), request.getTargetPlayerId()), () -> {
+            try {
+                gameService.submitPowerAction(gameId, currentUser, request);
+                return ResponseEntity.ok().build();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("API: Submit power action failed - gameId={}, error={}", gameId, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     @PostMapping("/{gameId}/actions/skip")
@@ -119,27 +138,32 @@ public class GameController {
     }
 
     @GetMapping("/{gameId}/chat")
-    public ResponseEntity<List<ChatMessageDto>> getChatMessages(@PathVariable Long gameId,
-                                                                  @RequestParam(required = false) Long since,
-                                                                  @RequestAttribute("currentUser") User currentUser) {
-        try {
-            List<ChatMessageDto> messages = gameService.getChatMessages(gameId, currentUser, since);
-            return ResponseEntity.ok(messages);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity<List<ChatMessageDto>>> getChatMessages(@PathVariable Long gameId,
+                                                                                     @RequestParam(required = false) Long since,
+                                                                                     @RequestAttribute("currentUser") User currentUser) {
+        return snapshotReadService.getChatMessages(gameId, currentUser, since).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/{gameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable Long gameId,
+                                   @RequestAttribute("currentUser") User currentUser) {
+        return gameEventStreams.open(gameId, currentUser);
     }
 
     @PostMapping("/{gameId}/chat")
     public ResponseEntity<Void> sendChatMessage(@PathVariable Long gameId,
                                                  @RequestBody ChatMessageRequest request,
+                                                 @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
                                                  @RequestAttribute("currentUser") User currentUser) {
-        try {
-            gameService.sendChatMessage(gameId, currentUser, request);
-            return ResponseEntity.noContent().build();
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            return ResponseEntity.badRequest().build();
-        }
+        return idempotencyCache.execute(currentUser.getId(), "chat", idempotencyKey,
+            Arrays.asList(gameId, request.getContent()), () -> {
+            try {
+                gameService.sendChatMessage(gameId, currentUser, request);
+                return ResponseEntity.noContent().build();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     @PostMapping("/{gameId}/transition-to-voting")
@@ -6,19 +6,24 @@ import com.ausganslage.ausgangslageBackend.model.Game;
 import com.ausganslage.ausgangslageBackend.model.User;
 import com.ausganslage.ausgangslageBackend.service.GameService;
 import com.ausganslage.ausgangslageBackend.service.LobbyService;
+import com.ausganslage.ausgangslageBackend.service.SnapshotReadService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/lobbies")
 public class LobbyController {
 
     private final LobbyService lobbyService;
     private final GameService gameService;
+    private final SnapshotReadService snapshotReadService;
 
-    public LobbyController(LobbyService lobbyService, GameService gameService) {
+    public LobbyController(LobbyService lobbyService, GameService gameService, SnapshotReadService snapshotReadService) {
         this.lobbyService = lobbyService;
         this.gameService = gameService;
+        this.snapshotReadService = snapshotReadService;
     }
 
     @PostMapping
@@ -29,13 +34,8 @@ public class LobbyController {
     }
 
     @GetMapping("/{code}/state")
-    public ResponseEntity<LobbyStateDto> getLobbyState(@PathVariable String code) {
-        try {
-            LobbyStateDto state = lobbyService.getLobbyState(code);
-            return ResponseEntity.ok(state);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity<LobbyStateDto>> getLobbyState(@PathVariable String code) {
+        return snapshotReadService.getLobbyState(code).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/{code}/join")
@@ -0,0 +1,124 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps local H2 replicas in sync with the H2 primary so read/write routing can be exercised without a real
+ * replicated database. Each sync dumps the primary with {@code SCRIPT} and reloads every replica from it, so it
+ * is only meant for development and tests.
+ */
+public class H2ReplicationStub {
+
+    private static final Logger logger = LoggerFactory.getLogger(H2ReplicationStub.class);
+
+    private final String primaryUrl;
+    private final List<String> replicaUrls;
+    private final String username;
+    private final String password;
+    private final ReplicationMonitor monitor;
+    private final long intervalMillis;
+
+    private ScheduledExecutorService scheduler;
+
+    public H2ReplicationStub(String primaryUrl, List<String> replicaUrls, String username, String password,
+                             ReplicationMonitor monitor, long intervalMillis) {
+        this.primaryUrl = primaryUrl;
+        this.replicaUrls = List.copyOf(replicaUrls);
+        this.username = username;
+        this.password = password;
+        this.monitor = monitor;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "h2-replication-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::replicateQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("H2 replication stub started: replicas={}, intervalMs={}", replicaUrls.size(), intervalMillis);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Copies the current primary contents to every replica. Skips the copy when nothing was committed since the
+     * last sync.
+     */
+    public synchronized void replicate() throws SQLException {
+        long version = monitor.getPrimaryVersion();
+        if (version == monitor.getReplicatedVersion()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<String> script = dumpPrimary();
+
+        long stamp = monitor.acquireSync();
+        try {
+            for (String replicaUrl : replicaUrls) {
+                load(replicaUrl, script);
+            }
+            monitor.markReplicated(version, startedAt);
+        } finally {
+            monitor.releaseSync(stamp);
+        }
+
+        logger.debug("Replicas synced: version={}, statements={}, tookMs={}",
+            version, script.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void replicateQuietly() {
+        try {
+            replicate();
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Replica sync failed: {}", e.getMessage());
+        }
+    }
+
+    private List<String> dumpPrimary() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(primaryUrl, username, password);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("CREATE USER")) {
+                    statements.add(sql);
+                }
+            }
+        }
+        return statements;
+    }
+
+    private void load(String replicaUrl, List<String> script) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(replicaUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
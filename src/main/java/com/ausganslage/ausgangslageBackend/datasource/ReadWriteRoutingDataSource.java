@@ -0,0 +1,149 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a pool of replicas and everything else to the primary.
+ * <p>
+ * The physical connection is fetched lazily, after the transaction manager has flagged the connection as
+ * read-only, so {@code @Transactional(readOnly = true)} alone decides the route. Replicas are picked round-robin.
+ * When the replicas trail the primary by more than {@code maxLagMillis}, or are being resynced, read-only
+ * transactions fall back to the primary.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReplicationMonitor monitor;
+    private final long maxLagMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                      ReplicationMonitor monitor, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.monitor = monitor;
+        this.maxLagMillis = maxLagMillis;
+        setTargetDataSource(new CommitTrackingDataSource(primary, monitor));
+        setReadOnlyDataSource(new ReplicaSelectingDataSource());
+        afterPropertiesSet();
+    }
+
+    public ReplicationMonitor getMonitor() {
+        return monitor;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(ReadWriteRoutingDataSource::closeQuietly);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+
+    private class ReplicaSelectingDataSource extends AbstractDataSource {
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (replicas.isEmpty() || !monitor.isReplicaUsable(maxLagMillis)) {
+                ReadWriteRoutingDataSource.logger.trace("Replica lag {} ms above limit, reading from primary", monitor.getLagMillis());
+                return primary.getConnection();
+            }
+
+            long stamp = monitor.tryAcquireRead();
+            if (stamp == 0) {
+                ReadWriteRoutingDataSource.logger.trace("Replicas are resyncing, reading from primary");
+                return primary.getConnection();
+            }
+
+            try {
+                DataSource replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                return releasingOnClose(replica.getConnection(), stamp);
+            } catch (SQLException | RuntimeException e) {
+                monitor.releaseRead(stamp);
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        private Connection releasingOnClose(Connection target, long stamp) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            monitor.releaseRead(stamp);
+                        }
+                    }
+                });
+        }
+    }
+
+    private static class CommitTrackingDataSource extends DelegatingDataSource {
+
+        private final ReplicationMonitor monitor;
+
+        CommitTrackingDataSource(DataSource target, ReplicationMonitor monitor) {
+            super(target);
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return tracking(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return tracking(super.getConnection(username, password));
+        }
+
+        private Connection tracking(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(target, args);
+                        if (method.getName().equals("commit") && !target.isReadOnly()) {
+                            monitor.recordPrimaryCommit();
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+        }
+    }
+}
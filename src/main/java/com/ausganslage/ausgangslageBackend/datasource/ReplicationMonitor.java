@@ -0,0 +1,89 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Tracks how far the read replicas trail the primary database.
+ * <p>
+ * Every committed write transaction on the primary bumps a version counter. Once the replicas have applied
+ * everything up to a version, the replication side reports it through {@link #markReplicated}. The replica lag
+ * is the age of the oldest commit the replicas have not seen yet, or zero only when they are caught up.
+ * <p>
+ * Replicas that are rebuilt in place (like the H2 replication stub) take the sync lock while they reload so no
+ * read transaction is handed a half-loaded replica.
+ */
+public class ReplicationMonitor {
+
+    private final AtomicLong primaryVersion = new AtomicLong();
+    private final StampedLock syncLock = new StampedLock();
+
+    private volatile long replicatedVersion = -1;
+    private volatile long oldestPendingCommitAt = 0;
+
+    public void recordPrimaryCommit() {
+        long now = System.currentTimeMillis();
+        primaryVersion.incrementAndGet();
+        if (oldestPendingCommitAt == 0) {
+            oldestPendingCommitAt = now;
+        }
+    }
+
+    public long getPrimaryVersion() {
+        return primaryVersion.get();
+    }
+
+    public long getReplicatedVersion() {
+        return replicatedVersion;
+    }
+
+    /**
+     * Records that the replicas contain every commit up to {@code version}, which was read from
+     * {@link #getPrimaryVersion()} at {@code syncStartedAt} right before the sync began.
+     */
+    public void markReplicated(long version, long syncStartedAt) {
+        replicatedVersion = version;
+        oldestPendingCommitAt = primaryVersion.get() > version ? syncStartedAt : 0;
+    }
+
+    /**
+     * The replica lag, at least 1 ms while any commit is pending: a commit from this very millisecond, or one
+     * whose timestamp is not written yet, still leaves the replicas behind.
+     */
+    public long getLagMillis() {
+        if (replicatedVersion < 0) {
+            return Long.MAX_VALUE;
+        }
+        if (primaryVersion.get() <= replicatedVersion) {
+            return 0;
+        }
+        long pendingSince = oldestPendingCommitAt;
+        if (pendingSince == 0) {
+            return 1;
+        }
+        return Math.max(1, System.currentTimeMillis() - pendingSince);
+    }
+
+    public boolean isReplicaUsable(long maxLagMillis) {
+        return getLagMillis() <= maxLagMillis;
+    }
+
+    /**
+     * Tries to pin the replicas for a read connection. Returns {@code 0} while a sync is rebuilding them.
+     */
+    public long tryAcquireRead() {
+        return syncLock.tryReadLock();
+    }
+
+    public void releaseRead(long stamp) {
+        syncLock.unlockRead(stamp);
+    }
+
+    public long acquireSync() {
+        return syncLock.writeLock();
+    }
+
+    public void releaseSync(long stamp) {
+        syncLock.unlockWrite(stamp);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound tally of the JDBC statements executed through {@link StatementCountingDataSource}.
+ * <p>
+ * Callers open a {@link Scope} around a unit of work, typically an HTTP request, and read the count and time spent
+ * in the database once it is done. Scopes nest: a statement is added to the innermost scope and to every scope
+ * around it, so a test can measure a request that also measures itself. Work a scope hands to another thread is
+ * counted in it too when wrapped with {@link #inCurrentScope}.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * Wraps {@code work} so that, on whichever thread it runs, its statements count towards the scope that is current
+     * here, such as the request that started a background load.
+     */
+    public static <T> Supplier<T> inCurrentScope(Supplier<T> work) {
+        Scope owner = current.get();
+        if (owner == null) {
+            return work;
+        }
+        return () -> {
+            Scope previous = current.get();
+            current.set(owner);
+            try {
+                return work.get();
+            } finally {
+                if (previous == null) {
+                    current.remove();
+                } else {
+                    current.set(previous);
+                }
+            }
+        };
+    }
+
+    static void record(long elapsedNanos) {
+        for (Scope scope = current.get(); scope != null; scope = scope.parent) {
+            scope.statements.incrementAndGet();
+            scope.elapsedNanos.addAndGet(elapsedNanos);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicLong elapsedNanos = new AtomicLong();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getStatementCount() {
+            return statements.get();
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos.get();
+        }
+
+        @Override
+        public void close() {
+            if (current.get() == this) {
+                if (parent == null) {
+                    current.remove();
+                } else {
+                    current.set(parent);
+                }
+            }
+        }
+    }
+}
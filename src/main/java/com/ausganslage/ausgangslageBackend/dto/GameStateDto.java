@@ -25,11 +25,12 @@ public class GameStateDto {
 
     private WolfVictimDto wolfVictim;
     private InspectionResultDto lastInspection;
+    private Long stateVersion;
 
     public GameStateDto() {
     }
 
-    public GameStateDto(Long gameId, GameStatus status, GamePhase currentPhase, Integer dayNumber, Faction winnerFaction, RoleName ownRole, Faction ownFaction, Boolean isAlive, Map<String, Object> ownStateFlags, List<PlayerInfoDto> players, List<String> availableActions, String phaseDescription, WolfVictimDto wolfVictim, InspectionResultDto lastInspection) {
+    public GameStateDto(Long gameId, GameStatus status, GamePhase currentPhase, Integer dayNumber, Faction winnerFaction, RoleName ownRole, Faction ownFaction, Boolean isAlive, Map<String, Object> ownStateFlags, List<PlayerInfoDto> players, List<String> availableActions, String phaseDescription, WolfVictimDto wolfVictim, InspectionResultDto lastInspection, Long stateVersion) {
         this.gameId = gameId;
         this.status = status;
         this.currentPhase = currentPhase;
@@ -44,6 +45,7 @@ public class GameStateDto {
         this.phaseDescription = phaseDescription;
         this.wolfVictim = wolfVictim;
         this.lastInspection = lastInspection;
+        this.stateVersion = stateVersion;
     }
 
     public Long getGameId() {
@@ -157,4 +159,12 @@ public class GameStateDto {
     public void setLastInspection(InspectionResultDto lastInspection) {
         this.lastInspection = lastInspection;
     }
+
+    public Long getStateVersion() {
+        return stateVersion;
+    }
+
+    public void setStateVersion(Long stateVersion) {
+        this.stateVersion = stateVersion;
+    }
 }
@@ -0,0 +1,50 @@
+package com.ausganslage.ausgangslageBackend.dto;
+
+public class TakeoverResultDto {
+    private Long gameId;
+    private Boolean restored;
+    private Integer replayedCommands;
+    private Long durationMillis;
+
+    public TakeoverResultDto() {
+    }
+
+    public TakeoverResultDto(Long gameId, Boolean restored, Integer replayedCommands, Long durationMillis) {
+        this.gameId = gameId;
+        this.restored = restored;
+        this.replayedCommands = replayedCommands;
+        this.durationMillis = durationMillis;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public Boolean getRestored() {
+        return restored;
+    }
+
+    public void setRestored(Boolean restored) {
+        this.restored = restored;
+    }
+
+    public Integer getReplayedCommands() {
+        return replayedCommands;
+    }
+
+    public void setReplayedCommands(Integer replayedCommands) {
+        this.replayedCommands = replayedCommands;
+    }
+
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(Long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
@@ -6,6 +6,10 @@ public enum ActionType {
     SEER_INSPECT,
     WITCH_HEAL,
     WITCH_POISON,
-    HUNTER_SHOOT
+    HUNTER_SHOOT;
+
+    public boolean isVote() {
+        return this == VOTE_LYNCH || this == VOTE_WOLF_KILL;
+    }
 }
 
@@ -0,0 +1,8 @@
+package com.ausganslage.ausgangslageBackend.enums;
+
+public enum DeathCause {
+    WOLF_KILL,
+    WITCH_POISON,
+    LYNCH,
+    HUNTER_SHOT
+}
@@ -0,0 +1,8 @@
+package com.ausganslage.ausgangslageBackend.enums;
+
+public enum GameCommandType {
+    VOTE,
+    POWER,
+    SKIP,
+    TRANSITION_TO_VOTING
+}
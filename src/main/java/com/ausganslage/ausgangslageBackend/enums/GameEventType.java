@@ -0,0 +1,7 @@
+package com.ausganslage.ausgangslageBackend.enums;
+
+public enum GameEventType {
+    PHASE_CHANGED,
+    CHAT_MESSAGE,
+    PLAYER_DIED
+}
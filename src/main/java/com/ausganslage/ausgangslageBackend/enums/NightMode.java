@@ -0,0 +1,6 @@
+package com.ausganslage.ausgangslageBackend.enums;
+
+public enum NightMode {
+    SEQUENTIAL,
+    CONCURRENT
+}
@@ -0,0 +1,15 @@
+package com.ausganslage.ausgangslageBackend.enums;
+
+public enum RuleEventType {
+    ACTION_RECORDED,
+    ACTION_REPLACED,
+    PHASE_CHANGED,
+    VICTIM_HEALED,
+    PLAYER_KILLED,
+    HUNTER_ARMED,
+    QUIET_NIGHT,
+    NO_LYNCH,
+    NIGHT_RESOLVED,
+    DAY_RESOLVED,
+    GAME_WON
+}
@@ -0,0 +1,105 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GameEventType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+
+import java.time.Instant;
+
+/**
+ * Something listeners of a game should react to. Events only say what changed; clients fetch the details
+ * through {@code /state} and {@code /chat} as usual.
+ */
+public class GameEvent {
+    private Long gameId;
+    private GameEventType type;
+    private GamePhase phase;
+    private Integer dayNumber;
+    private ChatChannel channel;
+    private Long playerId;
+    private Instant occurredAt;
+
+    public GameEvent() {
+    }
+
+    public static GameEvent phaseChanged(Long gameId, GamePhase phase, Integer dayNumber) {
+        GameEvent event = new GameEvent(gameId, GameEventType.PHASE_CHANGED);
+        event.setPhase(phase);
+        event.setDayNumber(dayNumber);
+        return event;
+    }
+
+    public static GameEvent chatMessage(Long gameId, ChatChannel channel) {
+        GameEvent event = new GameEvent(gameId, GameEventType.CHAT_MESSAGE);
+        event.setChannel(channel);
+        return event;
+    }
+
+    public static GameEvent playerDied(Long gameId, Long playerId) {
+        GameEvent event = new GameEvent(gameId, GameEventType.PLAYER_DIED);
+        event.setPlayerId(playerId);
+        return event;
+    }
+
+    private GameEvent(Long gameId, GameEventType type) {
+        this.gameId = gameId;
+        this.type = type;
+        this.occurredAt = Instant.now();
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public void setType(GameEventType type) {
+        this.type = type;
+    }
+
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    public void setPhase(GamePhase phase) {
+        this.phase = phase;
+    }
+
+    public Integer getDayNumber() {
+        return dayNumber;
+    }
+
+    public void setDayNumber(Integer dayNumber) {
+        this.dayNumber = dayNumber;
+    }
+
+    public ChatChannel getChannel() {
+        return channel;
+    }
+
+    public void setChannel(ChatChannel channel) {
+        this.channel = channel;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The coalesced events of one game collected during one batch window, in the order they were first published.
+ */
+public class GameEventBatch {
+    private Long gameId;
+    private List<GameEvent> events = new ArrayList<>();
+
+    public GameEventBatch() {
+    }
+
+    public GameEventBatch(Long gameId, List<GameEvent> events) {
+        this.gameId = gameId;
+        this.events = events;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public List<GameEvent> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<GameEvent> events) {
+        this.events = events;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+/**
+ * Publishes game events to listeners on this and, depending on the transport, other nodes.
+ * <p>
+ * Events published inside a transaction are sent once it commits and dropped if it rolls back. Delivery is
+ * batched per game: listeners receive at most one {@link GameEventBatch} per game and batch window, in which
+ * repeated events are coalesced.
+ */
+public interface GameEventBus {
+
+    void publish(GameEvent event);
+
+    Subscription subscribe(Long gameId, GameEventListener listener);
+
+    interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
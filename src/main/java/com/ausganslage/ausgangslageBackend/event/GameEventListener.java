@@ -0,0 +1,7 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+@FunctionalInterface
+public interface GameEventListener {
+
+    void onEvents(GameEventBatch batch);
+}
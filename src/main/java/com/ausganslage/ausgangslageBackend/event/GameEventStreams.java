@@ -0,0 +1,71 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GameEventType;
+import com.ausganslage.ausgangslageBackend.exception.UnauthorizedActionException;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView;
+import com.ausganslage.ausgangslageBackend.rules.RoleBehaviors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Server-sent event streams of a game's {@link GameEventBus} events for its players. Wolf chat events are only
+ * sent to werewolves.
+ */
+@Component
+public class GameEventStreams {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameEventStreams.class);
+
+    private final GameEventBus gameEventBus;
+    private final GamePlayerRepository gamePlayerRepository;
+    private final long timeoutMillis;
+
+    public GameEventStreams(GameEventBus gameEventBus, GamePlayerRepository gamePlayerRepository,
+                            @Value("${app.events.sse-timeout-ms:1800000}") long timeoutMillis) {
+        this.gameEventBus = gameEventBus;
+        this.gamePlayerRepository = gamePlayerRepository;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter open(Long gameId, User currentUser) {
+        GamePlayerView player = gamePlayerRepository.findViewsByGameId(gameId).stream()
+                .filter(p -> p.getUserId().equals(currentUser.getId()))
+                .findFirst()
+                .orElseThrow(() -> new UnauthorizedActionException("You are not in this game", currentUser.getId(), "STREAM_EVENTS"));
+        ChatChannel nightChannel = player.getRoleName() != null
+            ? RoleBehaviors.of(player.getRoleName()).nightChannel() : null;
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        GameEventBus.Subscription subscription = gameEventBus.subscribe(gameId, batch -> {
+            List<GameEvent> visible = batch.getEvents().stream()
+                    .filter(e -> e.getType() != GameEventType.CHAT_MESSAGE
+                        || e.getChannel() != ChatChannel.NIGHT_WOLVES || e.getChannel() == nightChannel)
+                    .collect(Collectors.toList());
+            if (visible.isEmpty()) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name("game").data(new GameEventBatch(gameId, visible)));
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Event stream closed: gameId={}, userId={}", gameId, currentUser.getId());
+                emitter.completeWithError(e);
+            }
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        logger.debug("Event stream opened: gameId={}, userId={}", gameId, currentUser.getId());
+        return emitter;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import com.ausganslage.ausgangslageBackend.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-JVM {@link GameEventBus}. Published events are buffered per game and flushed every batch window by a single
+ * thread; within a window a newer phase change replaces an older one, chat events collapse into one per channel
+ * and deaths into one per player.
+ * <p>
+ * Transports to other nodes extend this class: they send what {@link #transmit} hands them and pass what they
+ * receive to {@link #deliver}.
+ */
+public class LocalGameEventBus implements GameEventBus, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalGameEventBus.class);
+
+    private final Map<Long, Map<String, GameEvent>> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Set<GameEventListener>> listeners = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public LocalGameEventBus(long batchWindowMillis) {
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-event-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, batchWindowMillis, batchWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        TransactionHooks.afterCommit(() -> pending.compute(event.getGameId(), (gameId, events) -> {
+            Map<String, GameEvent> buffered = events != null ? events : new LinkedHashMap<>();
+            buffered.put(coalescingKey(event), event);
+            return buffered;
+        }));
+    }
+
+    @Override
+    public Subscription subscribe(Long gameId, GameEventListener listener) {
+        listeners.computeIfAbsent(gameId, id -> new CopyOnWriteArraySet<>()).add(listener);
+        return () -> listeners.computeIfPresent(gameId, (id, registered) -> {
+            registered.remove(listener);
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdownNow();
+    }
+
+    /**
+     * Sends the batches flushed on this node to other nodes. The local bus has nobody to send them to.
+     */
+    protected void transmit(List<GameEventBatch> batches) {
+    }
+
+    /**
+     * Hands a batch to the listeners of its game on this node.
+     */
+    protected void deliver(GameEventBatch batch) {
+        Set<GameEventListener> registered = listeners.get(batch.getGameId());
+        if (registered == null) {
+            return;
+        }
+        for (GameEventListener listener : registered) {
+            try {
+                listener.onEvents(batch);
+            } catch (RuntimeException e) {
+                logger.warn("Game event listener failed: gameId={}, error={}", batch.getGameId(), e.getMessage());
+            }
+        }
+    }
+
+    void flush() {
+        List<GameEventBatch> batches = new ArrayList<>();
+        for (Long gameId : pending.keySet()) {
+            Map<String, GameEvent> events = pending.remove(gameId);
+            if (events != null && !events.isEmpty()) {
+                batches.add(new GameEventBatch(gameId, new ArrayList<>(events.values())));
+            }
+        }
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        logger.trace("Flushing game events: games={}", batches.size());
+        batches.forEach(this::deliver);
+        try {
+            transmit(batches);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to transmit game events: games={}, error={}", batches.size(), e.getMessage());
+        }
+    }
+
+    private static String coalescingKey(GameEvent event) {
+        switch (event.getType()) {
+            case CHAT_MESSAGE:
+                return event.getType() + ":" + event.getChannel();
+            case PLAYER_DIED:
+                return event.getType() + ":" + event.getPlayerId();
+            default:
+                return event.getType().toString();
+        }
+    }
+}
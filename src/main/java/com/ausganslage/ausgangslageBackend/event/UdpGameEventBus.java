@@ -0,0 +1,148 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link GameEventBus} for several processes on one host. Every flushed window is sent as JSON datagrams to the
+ * configured peers, which deliver it to their own listeners.
+ * <p>
+ * Events are wake-up signals: a lost datagram only delays a listener until its next regular poll, so there are
+ * no acknowledgements or retries.
+ */
+public class UdpGameEventBus extends LocalGameEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(UdpGameEventBus.class);
+
+    static final int MAX_DATAGRAM_BYTES = 60_000;
+    private static final int RECEIVE_BUFFER_BYTES = 1 << 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final String nodeId;
+    private final List<SocketAddress> peers;
+    private final DatagramSocket socket;
+    private final Thread receiver;
+
+    public UdpGameEventBus(long batchWindowMillis, String nodeId, InetSocketAddress bindAddress,
+                           List<InetSocketAddress> peers) throws SocketException {
+        super(batchWindowMillis);
+        this.nodeId = nodeId;
+        this.peers = new ArrayList<>(peers);
+        this.peers.remove(bindAddress);
+        this.socket = new DatagramSocket(bindAddress);
+        socket.setReceiveBufferSize(RECEIVE_BUFFER_BYTES);
+        this.receiver = new Thread(this::receive, "game-event-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        logger.info("UDP game event bus started: nodeId={}, bind={}, peers={}", nodeId, bindAddress, this.peers);
+    }
+
+    @Override
+    protected void transmit(List<GameEventBatch> batches) {
+        if (peers.isEmpty()) {
+            return;
+        }
+        for (byte[] datagram : encode(batches)) {
+            for (SocketAddress peer : peers) {
+                try {
+                    socket.send(new DatagramPacket(datagram, datagram.length, peer));
+                } catch (IOException e) {
+                    logger.debug("Failed to send game events: peer={}, error={}", peer, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        socket.close();
+    }
+
+    private List<byte[]> encode(List<GameEventBatch> batches) {
+        List<byte[]> datagrams = new ArrayList<>();
+        byte[] encoded;
+        try {
+            encoded = objectMapper.writeValueAsBytes(new Envelope(nodeId, batches));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode game events", e);
+        }
+        if (encoded.length <= MAX_DATAGRAM_BYTES) {
+            datagrams.add(encoded);
+        } else if (batches.size() > 1) {
+            int half = batches.size() / 2;
+            datagrams.addAll(encode(batches.subList(0, half)));
+            datagrams.addAll(encode(batches.subList(half, batches.size())));
+        } else {
+            logger.warn("Game event batch too large for a datagram, dropped: gameId={}, bytes={}",
+                batches.get(0).getGameId(), encoded.length);
+        }
+        return datagrams;
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[65_536];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                Envelope envelope = objectMapper.readValue(packet.getData(), packet.getOffset(), packet.getLength(),
+                    Envelope.class);
+                if (!nodeId.equals(envelope.getOrigin())) {
+                    envelope.getBatches().forEach(this::deliver);
+                }
+            } catch (SocketException e) {
+                if (!socket.isClosed()) {
+                    logger.warn("Game event receiver failed: {}", e.getMessage());
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Dropped malformed game event datagram: from={}, error={}",
+                    packet.getSocketAddress(), e.getMessage());
+            }
+        }
+    }
+
+    static class Envelope {
+        private String origin;
+        private List<GameEventBatch> batches = new ArrayList<>();
+
+        public Envelope() {
+        }
+
+        Envelope(String origin, List<GameEventBatch> batches) {
+            this.origin = origin;
+            this.batches = batches;
+        }
+
+        public String getOrigin() {
+            return origin;
+        }
+
+        public void setOrigin(String origin) {
+            this.origin = origin;
+        }
+
+        public List<GameEventBatch> getBatches() {
+            return batches;
+        }
+
+        public void setBatches(List<GameEventBatch> batches) {
+            this.batches = batches;
+        }
+    }
+}
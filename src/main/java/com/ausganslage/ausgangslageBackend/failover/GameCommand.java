@@ -0,0 +1,131 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GameCommandType;
+import com.ausganslage.ausgangslageBackend.model.User;
+
+import java.time.Instant;
+
+/**
+ * A player command that changed a game, as written to the failover journal. Replaying it runs the same
+ * {@code GameService} method again, so everything the command caused (kills, potions, phase changes) is derived by
+ * the rules rather than copied.
+ */
+public class GameCommand {
+    private long sequence;
+    private Long gameId;
+    private GameCommandType type;
+    private Long userId;
+    private String username;
+    private ActionType actionType;
+    private Long targetPlayerId;
+    private Instant recordedAt;
+
+    public GameCommand() {
+    }
+
+    public static GameCommand vote(Long gameId, User user, Long targetPlayerId) {
+        GameCommand command = new GameCommand(gameId, GameCommandType.VOTE, user);
+        command.setTargetPlayerId(targetPlayerId);
+        return command;
+    }
+
+    public static GameCommand power(Long gameId, User user, ActionType actionType, Long targetPlayerId) {
+        GameCommand command = new GameCommand(gameId, GameCommandType.POWER, user);
+        command.setActionType(actionType);
+        command.setTargetPlayerId(targetPlayerId);
+        return command;
+    }
+
+    public static GameCommand skip(Long gameId, User user) {
+        return new GameCommand(gameId, GameCommandType.SKIP, user);
+    }
+
+    public static GameCommand transitionToVoting(Long gameId) {
+        return new GameCommand(gameId, GameCommandType.TRANSITION_TO_VOTING, null);
+    }
+
+    private GameCommand(Long gameId, GameCommandType type, User user) {
+        this.gameId = gameId;
+        this.type = type;
+        if (user != null) {
+            this.userId = user.getId();
+            this.username = user.getUsername();
+        }
+        this.recordedAt = Instant.now();
+    }
+
+    /**
+     * The user the command is replayed as. Only id and username are known, which is all the game rules look at.
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(username);
+        return user;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public GameCommandType getType() {
+        return type;
+    }
+
+    public void setType(GameCommandType type) {
+        this.type = type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    public void setActionType(ActionType actionType) {
+        this.actionType = actionType;
+    }
+
+    public Long getTargetPlayerId() {
+        return targetPlayerId;
+    }
+
+    public void setTargetPlayerId(Long targetPlayerId) {
+        this.targetPlayerId = targetPlayerId;
+    }
+
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(Instant recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
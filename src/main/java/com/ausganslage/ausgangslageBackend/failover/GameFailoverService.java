@@ -0,0 +1,117 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.ausganslage.ausgangslageBackend.dto.PowerActionRequest;
+import com.ausganslage.ausgangslageBackend.dto.TakeoverResultDto;
+import com.ausganslage.ausgangslageBackend.dto.VoteActionRequest;
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.exception.InvalidGameStateException;
+import com.ausganslage.ausgangslageBackend.exception.ResourceNotFoundException;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Takes over games of a node that went away: restores the latest snapshot into the local database and replays the
+ * journaled commands that came after it through {@link GameService}.
+ * <p>
+ * A snapshot may already contain the effect of a command journaled just after its sequence was read. Replaying
+ * such a command again is harmless: votes replace the earlier vote, and everything else is rejected by the rules
+ * because its phase has passed or its potion or shot is used up.
+ */
+public class GameFailoverService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameFailoverService.class);
+
+    private final GameSnapshotStore store;
+    private final GameSnapshotWriter writer;
+    private final GameStateRestorer restorer;
+    private final GameRepository gameRepository;
+    private final GameService gameService;
+    private final ReadSnapshots readSnapshots;
+    private final TransactionTemplate transactionTemplate;
+
+    public GameFailoverService(GameSnapshotStore store, GameSnapshotWriter writer, GameStateRestorer restorer,
+                               GameRepository gameRepository, GameService gameService, ReadSnapshots readSnapshots,
+                               PlatformTransactionManager transactionManager) {
+        this.store = store;
+        this.writer = writer;
+        this.restorer = restorer;
+        this.gameRepository = gameRepository;
+        this.gameService = gameService;
+        this.readSnapshots = readSnapshots;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Takes over every running game last snapshotted by {@code node}.
+     */
+    public List<TakeoverResultDto> takeOverFrom(String node) {
+        return store.readAll().stream()
+                .filter(snapshot -> node.equals(snapshot.getNode()))
+                .filter(snapshot -> snapshot.getStatus() != GameStatus.FINISHED)
+                .sorted(Comparator.comparing(GameSnapshot::getGameId))
+                .map(snapshot -> takeOver(snapshot.getGameId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Makes this node the home of the game. When the game is already in the local database (nodes sharing one
+     * database) only the snapshot ownership moves; otherwise the game is restored and its journal replayed.
+     */
+    public TakeoverResultDto takeOver(Long gameId) {
+        long startedAt = System.nanoTime();
+        GameSnapshot snapshot = store.read(gameId)
+                .orElseThrow(() -> new ResourceNotFoundException("GameSnapshot", gameId));
+
+        boolean restored = false;
+        int replayed = 0;
+        if (!gameRepository.existsById(gameId)) {
+            transactionTemplate.executeWithoutResult(status -> restorer.restore(snapshot));
+            restored = true;
+            writer.forget(gameId);
+            for (GameCommand command : store.readJournal(gameId)) {
+                if (command.getSequence() > snapshot.getJournalSequence() && replay(command)) {
+                    replayed++;
+                }
+            }
+        }
+        readSnapshots.invalidateGame(gameId);
+        writer.snapshot(gameId);
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        logger.info("Game taken over: gameId={}, fromNode={}, restored={}, replayedCommands={}, durationMs={}",
+            gameId, snapshot.getNode(), restored, replayed, durationMillis);
+        return new TakeoverResultDto(gameId, restored, replayed, durationMillis);
+    }
+
+    private boolean replay(GameCommand command) {
+        Long gameId = command.getGameId();
+        try {
+            switch (command.getType()) {
+                case VOTE -> gameService.submitVote(gameId, command.toUser(),
+                    new VoteActionRequest(command.getTargetPlayerId()));
+                case POWER -> gameService.submitPowerAction(gameId, command.toUser(),
+                    new PowerActionRequest(command.getActionType(), command.getTargetPlayerId()));
+                case SKIP -> gameService.skipAction(gameId, command.toUser());
+                case TRANSITION_TO_VOTING -> gameService.transitionToVoting(gameId);
+            }
+            // The next command may depend on the phase this one completed, so don't wait for the phase worker
+            gameService.advancePhase(gameId);
+            return true;
+        } catch (InvalidActionException | InvalidGameStateException e) {
+            logger.debug("Journaled command not replayed: gameId={}, sequence={}, type={}, reason={}",
+                gameId, command.getSequence(), command.getType(), e.getMessage());
+            return false;
+        }
+    }
+}
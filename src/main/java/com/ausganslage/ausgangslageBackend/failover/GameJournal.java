@@ -0,0 +1,25 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+/**
+ * Receives every committed change to a game so it can be restored elsewhere. {@link #NONE} is used unless
+ * {@code app.failover.enabled=true}.
+ */
+public interface GameJournal {
+
+    GameJournal NONE = new GameJournal() {
+        @Override
+        public void gameStarted(Long gameId) {
+        }
+
+        @Override
+        public void record(GameCommand command) {
+        }
+    };
+
+    void gameStarted(Long gameId);
+
+    /**
+     * Records {@code command} once the current transaction commits; nothing is recorded on rollback.
+     */
+    void record(GameCommand command);
+}
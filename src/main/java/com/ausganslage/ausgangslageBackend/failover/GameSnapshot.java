@@ -0,0 +1,313 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Compact copy of a running game: the game row, its players with their flags and the actions of the current day.
+ * Roles are stored by name because role template ids differ between databases. {@code journalSequence} is the
+ * last journal entry whose effects are guaranteed to be included; later entries are replayed on top.
+ */
+public class GameSnapshot {
+    private Long gameId;
+    private Long lobbyId;
+    private GameStatus status;
+    private GamePhase currentPhase;
+    private Integer dayNumber;
+    private Faction winnerFaction;
+    private Instant createdAt;
+    private Instant finishedAt;
+    private Long seed;
+    private NightMode nightMode;
+    private Long version;
+    private String node;
+    private long journalSequence;
+    private Instant takenAt;
+    private List<Player> players;
+    private List<Action> actions;
+
+    public GameSnapshot() {
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public Long getLobbyId() {
+        return lobbyId;
+    }
+
+    public void setLobbyId(Long lobbyId) {
+        this.lobbyId = lobbyId;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GameStatus status) {
+        this.status = status;
+    }
+
+    public GamePhase getCurrentPhase() {
+        return currentPhase;
+    }
+
+    public void setCurrentPhase(GamePhase currentPhase) {
+        this.currentPhase = currentPhase;
+    }
+
+    public Integer getDayNumber() {
+        return dayNumber;
+    }
+
+    public void setDayNumber(Integer dayNumber) {
+        this.dayNumber = dayNumber;
+    }
+
+    public Faction getWinnerFaction() {
+        return winnerFaction;
+    }
+
+    public void setWinnerFaction(Faction winnerFaction) {
+        this.winnerFaction = winnerFaction;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public NightMode getNightMode() {
+        return nightMode;
+    }
+
+    public void setNightMode(NightMode nightMode) {
+        this.nightMode = nightMode;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public void setNode(String node) {
+        this.node = node;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
+
+    public Instant getTakenAt() {
+        return takenAt;
+    }
+
+    public void setTakenAt(Instant takenAt) {
+        this.takenAt = takenAt;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<Player> players) {
+        this.players = players;
+    }
+
+    public List<Action> getActions() {
+        return actions;
+    }
+
+    public void setActions(List<Action> actions) {
+        this.actions = actions;
+    }
+
+    public static class Player {
+        private Long id;
+        private Long userId;
+        private RoleName role;
+        private Integer seatNumber;
+        private Boolean isAlive;
+        private Boolean revealedRole;
+        private String stateFlagsJson;
+
+        public Player() {
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public RoleName getRole() {
+            return role;
+        }
+
+        public void setRole(RoleName role) {
+            this.role = role;
+        }
+
+        public Integer getSeatNumber() {
+            return seatNumber;
+        }
+
+        public void setSeatNumber(Integer seatNumber) {
+            this.seatNumber = seatNumber;
+        }
+
+        public Boolean getIsAlive() {
+            return isAlive;
+        }
+
+        public void setIsAlive(Boolean isAlive) {
+            this.isAlive = isAlive;
+        }
+
+        public Boolean getRevealedRole() {
+            return revealedRole;
+        }
+
+        public void setRevealedRole(Boolean revealedRole) {
+            this.revealedRole = revealedRole;
+        }
+
+        public String getStateFlagsJson() {
+            return stateFlagsJson;
+        }
+
+        public void setStateFlagsJson(String stateFlagsJson) {
+            this.stateFlagsJson = stateFlagsJson;
+        }
+    }
+
+    public static class Action {
+        private Long id;
+        private Integer dayNumber;
+        private GamePhase phase;
+        private Long actorPlayerId;
+        private Long targetPlayerId;
+        private ActionType actionType;
+        private String payloadJson;
+        private Instant createdAt;
+
+        public Action() {
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Integer getDayNumber() {
+            return dayNumber;
+        }
+
+        public void setDayNumber(Integer dayNumber) {
+            this.dayNumber = dayNumber;
+        }
+
+        public GamePhase getPhase() {
+            return phase;
+        }
+
+        public void setPhase(GamePhase phase) {
+            this.phase = phase;
+        }
+
+        public Long getActorPlayerId() {
+            return actorPlayerId;
+        }
+
+        public void setActorPlayerId(Long actorPlayerId) {
+            this.actorPlayerId = actorPlayerId;
+        }
+
+        public Long getTargetPlayerId() {
+            return targetPlayerId;
+        }
+
+        public void setTargetPlayerId(Long targetPlayerId) {
+            this.targetPlayerId = targetPlayerId;
+        }
+
+        public ActionType getActionType() {
+            return actionType;
+        }
+
+        public void setActionType(ActionType actionType) {
+            this.actionType = actionType;
+        }
+
+        public String getPayloadJson() {
+            return payloadJson;
+        }
+
+        public void setPayloadJson(String payloadJson) {
+            this.payloadJson = payloadJson;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
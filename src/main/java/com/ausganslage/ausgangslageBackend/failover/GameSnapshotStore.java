@@ -0,0 +1,191 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshots and command journals in a directory every node can read, one pair of files per game:
+ * {@code game-<id>.json} is replaced atomically, {@code game-<id>.journal} holds one JSON command per line and is
+ * appended with {@code DSYNC}, so an acknowledged command survives the node.
+ */
+public class GameSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameSnapshotStore.class);
+
+    private static final String PREFIX = "game-";
+    private static final String SNAPSHOT_SUFFIX = ".json";
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    public GameSnapshotStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create failover directory " + directory, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized void write(GameSnapshot snapshot) {
+        Path target = snapshotFile(snapshot.getGameId());
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.write(temp, objectMapper.writeValueAsBytes(snapshot), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+            moveIntoPlace(temp, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot of game " + snapshot.getGameId(), e);
+        }
+    }
+
+    public synchronized Optional<GameSnapshot> read(Long gameId) {
+        try {
+            return Optional.of(objectMapper.readValue(Files.readAllBytes(snapshotFile(gameId)), GameSnapshot.class));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot of game " + gameId, e);
+        }
+    }
+
+    public synchronized List<GameSnapshot> readAll() {
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SNAPSHOT_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    snapshots.add(objectMapper.readValue(Files.readAllBytes(file), GameSnapshot.class));
+                } catch (IOException e) {
+                    logger.warn("Skipping unreadable snapshot: file={}, error={}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list failover directory " + directory, e);
+        }
+        return snapshots;
+    }
+
+    public synchronized void append(GameCommand command) {
+        try {
+            byte[] line = (objectMapper.writeValueAsString(command) + "\n").getBytes(StandardCharsets.UTF_8);
+            Files.write(journalFile(command.getGameId()), line, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to journal of game " + command.getGameId(), e);
+        }
+    }
+
+    /**
+     * Returns the journal in sequence order. A last line cut off by a crash is ignored.
+     */
+    public synchronized List<GameCommand> readJournal(Long gameId) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile(gameId), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read journal of game " + gameId, e);
+        }
+
+        List<GameCommand> commands = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                commands.add(objectMapper.readValue(line, GameCommand.class));
+            } catch (JsonProcessingException e) {
+                logger.warn("Skipping unreadable journal entry: gameId={}, error={}", gameId, e.getOriginalMessage());
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Drops journal entries up to and including {@code sequence}, which a snapshot now covers.
+     */
+    public synchronized void compactJournal(Long gameId, long sequence) {
+        List<GameCommand> remaining = readJournal(gameId).stream()
+                .filter(command -> command.getSequence() > sequence)
+                .collect(Collectors.toList());
+        Path target = journalFile(gameId);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            StringBuilder content = new StringBuilder();
+            for (GameCommand command : remaining) {
+                content.append(objectMapper.writeValueAsString(command)).append('\n');
+            }
+            Files.write(temp, content.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+            moveIntoPlace(temp, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact journal of game " + gameId, e);
+        }
+    }
+
+    /**
+     * Highest sequence written for the game so far, in the snapshot or the journal.
+     */
+    public synchronized long lastSequence(Long gameId) {
+        long last = read(gameId).map(GameSnapshot::getJournalSequence).orElse(0L);
+        for (GameCommand command : readJournal(gameId)) {
+            last = Math.max(last, command.getSequence());
+        }
+        return last;
+    }
+
+    public synchronized void delete(Long gameId) {
+        try {
+            Files.deleteIfExists(snapshotFile(gameId));
+            Files.deleteIfExists(journalFile(gameId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete failover files of game " + gameId, e);
+        }
+    }
+
+    private Path snapshotFile(Long gameId) {
+        return directory.resolve(PREFIX + gameId + SNAPSHOT_SUFFIX);
+    }
+
+    private Path journalFile(Long gameId) {
+        return directory.resolve(PREFIX + gameId + JOURNAL_SUFFIX);
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.GameAction;
+import com.ausganslage.ausgangslageBackend.model.GamePlayer;
+import com.ausganslage.ausgangslageBackend.model.RoleTemplate;
+import com.ausganslage.ausgangslageBackend.repository.GameActionRepository;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import com.ausganslage.ausgangslageBackend.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Journals every committed command of the games this node runs and snapshots changed games every
+ * {@code intervalMillis}. A snapshot covers the journal up to the sequence read before the game was loaded, so
+ * the journal is compacted to what came after. Nothing is flushed on shutdown: a crashed node would not get the
+ * chance either, and the journal already holds every acknowledged command.
+ */
+public class GameSnapshotWriter implements GameJournal, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameSnapshotWriter.class);
+
+    private final GameSnapshotStore store;
+    private final GameRepository gameRepository;
+    private final GamePlayerRepository gamePlayerRepository;
+    private final GameActionRepository gameActionRepository;
+    private final RoleTemplateRepository roleTemplateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String node;
+    private final Set<Long> changedGames = ConcurrentHashMap.newKeySet();
+    private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public GameSnapshotWriter(GameSnapshotStore store, GameRepository gameRepository,
+                              GamePlayerRepository gamePlayerRepository, GameActionRepository gameActionRepository,
+                              RoleTemplateRepository roleTemplateRepository, PlatformTransactionManager transactionManager,
+                              String node, long intervalMillis) {
+        this.store = store;
+        this.gameRepository = gameRepository;
+        this.gamePlayerRepository = gamePlayerRepository;
+        this.gameActionRepository = gameActionRepository;
+        this.roleTemplateRepository = roleTemplateRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.node = node;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotChangedGames, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    @Override
+    public void gameStarted(Long gameId) {
+        TransactionHooks.afterCommit(() -> changedGames.add(gameId));
+    }
+
+    @Override
+    public void record(GameCommand command) {
+        TransactionHooks.afterCommit(() -> {
+            AtomicLong sequence = sequence(command.getGameId());
+            try {
+                // Sequence order and file order must agree, so both happen under the game's counter
+                synchronized (sequence) {
+                    command.setSequence(sequence.incrementAndGet());
+                    store.append(command);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to journal command: gameId={}, type={}", command.getGameId(), command.getType(), e);
+            }
+            changedGames.add(command.getGameId());
+        });
+    }
+
+    public void snapshotChangedGames() {
+        for (Long gameId : new ArrayList<>(changedGames)) {
+            changedGames.remove(gameId);
+            try {
+                snapshot(gameId);
+            } catch (RuntimeException e) {
+                changedGames.add(gameId);
+                logger.error("Failed to snapshot game: gameId={}", gameId, e);
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of the game as this node sees it now and drops the journal entries it covers. Finished
+     * games have nothing to fail over, so their files are removed instead.
+     */
+    public void snapshot(Long gameId) {
+        AtomicLong sequence = sequence(gameId);
+        long coveredSequence = sequence.get();
+        GameSnapshot snapshot = transactionTemplate.execute(status -> capture(gameId));
+        if (snapshot == null) {
+            return;
+        }
+
+        synchronized (sequence) {
+            if (snapshot.getStatus() == GameStatus.FINISHED) {
+                store.delete(gameId);
+                sequences.remove(gameId);
+                logger.debug("Removed failover files of finished game: gameId={}", gameId);
+                return;
+            }
+            snapshot.setJournalSequence(coveredSequence);
+            store.write(snapshot);
+            store.compactJournal(gameId, coveredSequence);
+        }
+        logger.debug("Game snapshot written: gameId={}, version={}, journalSequence={}",
+            gameId, snapshot.getVersion(), coveredSequence);
+    }
+
+    /**
+     * Forgets the cached journal sequence of a game, so the next command continues after whatever the store holds.
+     * Needed when a game comes back from another node.
+     */
+    void forget(Long gameId) {
+        sequences.remove(gameId);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private AtomicLong sequence(Long gameId) {
+        return sequences.computeIfAbsent(gameId, id -> new AtomicLong(store.lastSequence(id)));
+    }
+
+    private GameSnapshot capture(Long gameId) {
+        Game game = gameRepository.findById(gameId).orElse(null);
+        if (game == null) {
+            return null;
+        }
+        Map<Long, RoleName> roles = roleTemplateRepository.findAll().stream()
+                .collect(Collectors.toMap(RoleTemplate::getId, RoleTemplate::getName));
+
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.setGameId(game.getId());
+        snapshot.setLobbyId(game.getLobbyId());
+        snapshot.setStatus(game.getStatus());
+        snapshot.setCurrentPhase(game.getCurrentPhase());
+        snapshot.setDayNumber(game.getDayNumber());
+        snapshot.setWinnerFaction(game.getWinnerFaction());
+        snapshot.setCreatedAt(game.getCreatedAt());
+        snapshot.setFinishedAt(game.getFinishedAt());
+        snapshot.setSeed(game.getSeed());
+        snapshot.setNightMode(game.getNightMode());
+        snapshot.setVersion(game.getVersion());
+        snapshot.setNode(node);
+        snapshot.setTakenAt(Instant.now());
+
+        List<GameSnapshot.Player> players = new ArrayList<>();
+        for (GamePlayer player : gamePlayerRepository.findByGameId(gameId)) {
+            GameSnapshot.Player copy = new GameSnapshot.Player();
+            copy.setId(player.getId());
+            copy.setUserId(player.getUserId());
+            copy.setRole(roles.get(player.getRoleId()));
+            copy.setSeatNumber(player.getSeatNumber());
+            copy.setIsAlive(player.getIsAlive());
+            copy.setRevealedRole(player.getRevealedRole());
+            copy.setStateFlagsJson(player.getStateFlagsJson());
+            players.add(copy);
+        }
+        snapshot.setPlayers(players);
+
+        List<GameSnapshot.Action> actions = new ArrayList<>();
+        for (GameAction action : gameActionRepository.findByGameIdAndDayNumber(gameId, game.getDayNumber())) {
+            GameSnapshot.Action copy = new GameSnapshot.Action();
+            copy.setId(action.getId());
+            copy.setDayNumber(action.getDayNumber());
+            copy.setPhase(action.getPhase());
+            copy.setActorPlayerId(action.getActorPlayerId());
+            copy.setTargetPlayerId(action.getTargetPlayerId());
+            copy.setActionType(action.getActionType());
+            copy.setPayloadJson(action.getPayloadJson());
+            copy.setCreatedAt(action.getCreatedAt());
+            actions.add(copy);
+        }
+        snapshot.setActions(actions);
+        return snapshot;
+    }
+}
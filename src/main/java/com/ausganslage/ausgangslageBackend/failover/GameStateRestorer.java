@@ -0,0 +1,111 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.ResourceNotFoundException;
+import com.ausganslage.ausgangslageBackend.model.RoleTemplate;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a {@link GameSnapshot} into the local database under its original ids, which clients and journaled
+ * commands refer to. JPA would assign new ids, so the rows are inserted with plain JDBC and the id sequences are
+ * moved past them afterwards. Must run inside a transaction.
+ */
+public class GameStateRestorer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameStateRestorer.class);
+
+    /**
+     * {@code allocationSize} of the entity id generators; Hibernate hands out the block below each sequence value.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RoleTemplateRepository roleTemplateRepository;
+
+    public GameStateRestorer(JdbcTemplate jdbcTemplate, RoleTemplateRepository roleTemplateRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.roleTemplateRepository = roleTemplateRepository;
+    }
+
+    public void restore(GameSnapshot snapshot) {
+        Map<RoleName, Long> roleIds = new EnumMap<>(RoleName.class);
+        for (RoleTemplate template : roleTemplateRepository.findAll()) {
+            roleIds.put(template.getName(), template.getId());
+        }
+
+        jdbcTemplate.update("insert into games (id, lobby_id, status, current_phase, day_number, winner_faction, " +
+                "created_at, finished_at, seed, night_mode, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            snapshot.getGameId(), snapshot.getLobbyId(), name(snapshot.getStatus()), name(snapshot.getCurrentPhase()),
+            snapshot.getDayNumber(), name(snapshot.getWinnerFaction()), timestamp(snapshot.getCreatedAt()),
+            timestamp(snapshot.getFinishedAt()), snapshot.getSeed(), name(snapshot.getNightMode()), snapshot.getVersion());
+
+        List<Object[]> players = snapshot.getPlayers().stream()
+                .map(player -> new Object[] {
+                    player.getId(), snapshot.getGameId(), player.getUserId(), roleId(roleIds, player.getRole()),
+                    player.getSeatNumber(), player.getIsAlive(), player.getRevealedRole(), player.getStateFlagsJson()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("insert into game_players (id, game_id, user_id, role_id, seat_number, is_alive, " +
+                "revealed_role, state_flags_json) values (?, ?, ?, ?, ?, ?, ?, ?)", players);
+
+        List<Object[]> actions = snapshot.getActions().stream()
+                .map(action -> new Object[] {
+                    action.getId(), snapshot.getGameId(), action.getDayNumber(), name(action.getPhase()),
+                    action.getActorPlayerId(), voter(action), action.getTargetPlayerId(), name(action.getActionType()),
+                    action.getPayloadJson(), timestamp(action.getCreatedAt())})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("insert into game_actions (id, game_id, day_number, phase, actor_player_id, " +
+                "voter_player_id, target_player_id, action_type, payload_json, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", actions);
+
+        advanceSequence("games", "games_seq");
+        advanceSequence("game_players", "game_players_seq");
+        advanceSequence("game_actions", "game_actions_seq");
+
+        logger.info("Game restored from snapshot: gameId={}, phase={}, dayNumber={}, players={}, actions={}",
+            snapshot.getGameId(), snapshot.getCurrentPhase(), snapshot.getDayNumber(), players.size(), actions.size());
+    }
+
+    /**
+     * Restarts {@code sequence} so the next block Hibernate allocates lies above every id in {@code table}. Ids
+     * already handed out to this node stay valid; a standby is expected not to have created games of its own.
+     */
+    private void advanceSequence(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        Long next = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+        long required = (maxId != null ? maxId : 0L) + ID_ALLOCATION_SIZE + 1;
+        if (next == null || next < required) {
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + required);
+        }
+    }
+
+    private static Long roleId(Map<RoleName, Long> roleIds, RoleName role) {
+        Long roleId = roleIds.get(role);
+        if (roleId == null) {
+            throw new ResourceNotFoundException("RoleTemplate", String.valueOf(role));
+        }
+        return roleId;
+    }
+
+    private static Long voter(GameSnapshot.Action action) {
+        return action.getActionType() != null && action.getActionType().isVote() ? action.getActorPlayerId() : null;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ausganslage.ausgangslageBackend.metrics;
+
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
+import com.ausganslage.ausgangslageBackend.repository.SessionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Gauges for running games, open lobbies and unexpired sessions. Each is a single count query evaluated when the
+ * registry is scraped, so the request path does no bookkeeping for them.
+ */
+@Component
+public class ActivityGauges {
+
+    public ActivityGauges(MeterRegistry registry, GameRepository gameRepository, LobbyRepository lobbyRepository,
+                          SessionRepository sessionRepository) {
+        Gauge.builder("game.active", gameRepository, repository -> repository.countByStatus(GameStatus.RUNNING))
+                .description("Games in progress")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("lobby.open", lobbyRepository, repository -> repository.countByStatus(LobbyStatus.OPEN))
+                .description("Lobbies waiting for players")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("session.active", sessionRepository, repository -> repository.countByExpiresAtAfter(Instant.now()))
+                .description("Sessions that have not expired")
+                .strongReference(true)
+                .register(registry);
+    }
+}
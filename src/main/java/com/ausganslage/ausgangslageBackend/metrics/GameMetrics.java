@@ -0,0 +1,77 @@
+package com.ausganslage.ausgangslageBackend.metrics;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counters and timers for the game lifecycle. All meters are registered up front and looked up through enum maps,
+ * so recording never goes through the registry; the Prometheus meters accumulate in striped adders.
+ */
+@Component
+public class GameMetrics {
+
+    private final Counter gamesStarted;
+    private final Map<Faction, Counter> gamesFinished = new EnumMap<>(Faction.class);
+    private final Map<GamePhase, Map<GamePhase, Counter>> phaseTransitions = new EnumMap<>(GamePhase.class);
+    private final Timer nightResolution;
+    private final Timer dayResolution;
+
+    public GameMetrics(MeterRegistry registry) {
+        gamesStarted = Counter.builder("game.started")
+                .description("Games started")
+                .register(registry);
+        for (Faction faction : Faction.values()) {
+            gamesFinished.put(faction, Counter.builder("game.finished")
+                    .description("Games finished, by winning faction")
+                    .tag("winner", faction.name())
+                    .register(registry));
+        }
+        for (GamePhase from : GamePhase.values()) {
+            Map<GamePhase, Counter> targets = new EnumMap<>(GamePhase.class);
+            for (GamePhase to : GamePhase.values()) {
+                targets.put(to, Counter.builder("game.phase.transitions")
+                        .description("Phase transitions, by source and target phase")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(registry));
+            }
+            phaseTransitions.put(from, targets);
+        }
+        nightResolution = Timer.builder("game.resolution")
+                .description("Time to resolve the night actions or the day vote")
+                .tag("phase", "night")
+                .register(registry);
+        dayResolution = Timer.builder("game.resolution")
+                .description("Time to resolve the night actions or the day vote")
+                .tag("phase", "day")
+                .register(registry);
+    }
+
+    public void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    public void gameFinished(Faction winner) {
+        gamesFinished.get(winner).increment();
+    }
+
+    public void phaseChanged(GamePhase from, GamePhase to) {
+        phaseTransitions.get(from).get(to).increment();
+    }
+
+    public void nightResolved(long elapsedNanos) {
+        nightResolution.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void dayResolved(long elapsedNanos) {
+        dayResolution.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,138 @@
+package com.ausganslage.ausgangslageBackend.metrics;
+
+import com.ausganslage.ausgangslageBackend.datasource.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each request issues and records them per endpoint as
+ * {@code http.server.requests.sql.statements} and {@code http.server.requests.sql}. With {@code exposeHeaders}
+ * the totals are also returned as {@value #STATEMENT_COUNT_HEADER} and {@value #STATEMENT_TIME_HEADER}, which
+ * buffers the response body and is meant for development only.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final String TOTALS_ATTRIBUTE = SqlStatementCountFilter.class.getName() + ".totals";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final boolean exposeHeaders;
+
+    public SqlStatementCountFilter(MeterRegistry registry, boolean exposeHeaders) {
+        this.registry = registry;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    /**
+     * Async handlers run their SQL, if any, off the request thread, counted in the dispatch that started it; the
+     * request is then measured over the initial and the async dispatch together and recorded once the final
+     * dispatch completes, when that off-thread work has finished.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = null;
+        if (exposeHeaders && !acceptsEventStream(request)) {
+            bufferedResponse = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            if (bufferedResponse == null) {
+                bufferedResponse = new ContentCachingResponseWrapper(response);
+            }
+        }
+
+        RequestTotals totals = (RequestTotals) request.getAttribute(TOTALS_ATTRIBUTE);
+        if (totals == null) {
+            totals = new RequestTotals();
+            request.setAttribute(TOTALS_ATTRIBUTE, totals);
+        }
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            totals.dispatches.add(scope);
+            try {
+                filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+            } finally {
+                if (!isAsyncStarted(request)) {
+                    record(request, totals);
+                }
+            }
+        }
+
+        if (bufferedResponse != null && !isAsyncStarted(request)) {
+            bufferedResponse.setHeader(STATEMENT_COUNT_HEADER, Integer.toString(totals.statements()));
+            bufferedResponse.setHeader(STATEMENT_TIME_HEADER,
+                String.format(Locale.ROOT, "%.3f", totals.elapsedNanos() / 1_000_000.0));
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Event streams are never buffered: they would only reach the client once the stream ends.
+     */
+    private static boolean acceptsEventStream(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private void record(HttpServletRequest request, RequestTotals totals) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        logger.trace("SQL statements for request: method={}, uri={}, statements={}, elapsedNanos={}",
+            request.getMethod(), uri, totals.statements(), totals.elapsedNanos());
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(totals.statements());
+        Timer.builder("http.server.requests.sql")
+                .description("Time spent executing SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(totals.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The scopes of a request's dispatches, read only once the request is complete so that SQL run off-thread on
+     * behalf of an earlier dispatch is included.
+     */
+    private static final class RequestTotals {
+        private final List<SqlStatementCounter.Scope> dispatches = new CopyOnWriteArrayList<>();
+
+        private int statements() {
+            return dispatches.stream().mapToInt(SqlStatementCounter.Scope::getStatementCount).sum();
+        }
+
+        private long elapsedNanos() {
+            return dispatches.stream().mapToLong(SqlStatementCounter.Scope::getElapsedNanos).sum();
+        }
+    }
+}
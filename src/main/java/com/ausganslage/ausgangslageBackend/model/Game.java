@@ -3,6 +3,7 @@ package com.ausganslage.ausgangslageBackend.model;
 import com.ausganslage.ausgangslageBackend.enums.Faction;
 import com.ausganslage.ausgangslageBackend.enums.GamePhase;
 import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
 import jakarta.persistence.*;
 import java.time.Instant;
 
@@ -10,7 +11,8 @@ import java.time.Instant;
 @Table(name = "games")
 public class Game {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -35,6 +37,20 @@ public class Game {
 
     private Instant finishedAt;
 
+    /**
+     * Seeds every random decision of the game, starting with role and seat assignment, so a game can be replayed
+     * exactly. Not exposed to players: together with the lobby it reveals every role.
+     */
+    private Long seed;
+
+    /**
+     * How the night's turns are ordered, fixed when the game starts; {@code null} on games from before night
+     * modes and treated as {@link NightMode#SEQUENTIAL}.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private NightMode nightMode;
+
     @Version
     @Column(nullable = false)
     private Long version = 0L;
@@ -117,6 +133,22 @@ public class Game {
         this.finishedAt = finishedAt;
     }
 
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public NightMode getNightMode() {
+        return nightMode;
+    }
+
+    public void setNightMode(NightMode nightMode) {
+        this.nightMode = nightMode;
+    }
+
     public Long getVersion() {
         return version;
     }
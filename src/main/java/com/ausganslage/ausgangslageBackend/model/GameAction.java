@@ -6,10 +6,12 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "game_actions")
+@Table(name = "game_actions", uniqueConstraints = @UniqueConstraint(name = "uk_game_actions_vote",
+        columnNames = {"game_id", "day_number", "phase", "voter_player_id"}))
 public class GameAction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_actions_seq")
+    @SequenceGenerator(name = "game_actions_seq", sequenceName = "game_actions_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -24,6 +26,12 @@ public class GameAction {
 
     private Long actorPlayerId;
 
+    /**
+     * The actor again on votes and {@code null} on everything else, so the unique key allows one vote per player
+     * and phase and leaves powers alone.
+     */
+    private Long voterPlayerId;
+
     private Long targetPlayerId;
 
     @Enumerated(EnumType.STRING)
@@ -91,6 +99,14 @@ public class GameAction {
         this.actorPlayerId = actorPlayerId;
     }
 
+    public Long getVoterPlayerId() {
+        return voterPlayerId;
+    }
+
+    public void setVoterPlayerId(Long voterPlayerId) {
+        this.voterPlayerId = voterPlayerId;
+    }
+
     public Long getTargetPlayerId() {
         return targetPlayerId;
     }
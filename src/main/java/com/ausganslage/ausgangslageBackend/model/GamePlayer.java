@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 @Table(name = "game_players")
 public class GamePlayer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_players_seq")
+    @SequenceGenerator(name = "game_players_seq", sequenceName = "game_players_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
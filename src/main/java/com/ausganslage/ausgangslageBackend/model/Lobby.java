@@ -2,13 +2,18 @@ package com.ausganslage.ausgangslageBackend.model;
 
 import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lobbies")
 @Table(name = "lobbies")
 public class Lobby {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lobbies_seq")
+    @SequenceGenerator(name = "lobbies_seq", sequenceName = "lobbies_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -27,6 +32,13 @@ public class Lobby {
     @Column(length = 2000)
     private String settingsJson = "{}";
 
+    /**
+     * Canonical key of the role composition compiled from {@link #settingsJson} when the lobby was created;
+     * {@code null} on lobbies from before role compositions and treated as the classic preset.
+     */
+    @Column(length = 200)
+    private String roleComposition;
+
     @Column(nullable = false)
     private Instant createdAt = Instant.now();
 
@@ -91,6 +103,14 @@ public class Lobby {
         this.settingsJson = settingsJson;
     }
 
+    public String getRoleComposition() {
+        return roleComposition;
+    }
+
+    public void setRoleComposition(String roleComposition) {
+        this.roleComposition = roleComposition;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
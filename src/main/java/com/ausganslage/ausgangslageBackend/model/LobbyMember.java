@@ -7,7 +7,8 @@ import java.time.Instant;
 @Table(name = "lobby_members")
 public class LobbyMember {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lobby_members_seq")
+    @SequenceGenerator(name = "lobby_members_seq", sequenceName = "lobby_members_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
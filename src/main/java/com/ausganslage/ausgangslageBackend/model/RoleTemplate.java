@@ -3,12 +3,17 @@ package com.ausganslage.ausgangslageBackend.model;
 import com.ausganslage.ausgangslageBackend.enums.Faction;
 import com.ausganslage.ausgangslageBackend.enums.RoleName;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "roleTemplates")
 @Table(name = "role_templates")
 public class RoleTemplate {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_templates_seq")
+    @SequenceGenerator(name = "role_templates_seq", sequenceName = "role_templates_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+    List<ChatMessage> findByGameIdOrderByCreatedAt(Long gameId);
     List<ChatMessage> findByLobbyIdAndCreatedAtAfterOrderByCreatedAt(Long lobbyId, Instant since);
     List<ChatMessage> findByGameIdAndChannelAndCreatedAtAfterOrderByCreatedAt(Long gameId, ChatChannel channel, Instant since);
     List<ChatMessage> findByGameIdAndChannelInAndCreatedAtAfterOrderByCreatedAt(Long gameId, List<ChatChannel> channels, Instant since);
@@ -0,0 +1,10 @@
+package com.ausganslage.ausgangslageBackend.repository;
+
+/**
+ * Hands out {@code game_actions} ids for rows written with native SQL, from the same pool Hibernate assigns
+ * persisted actions from.
+ */
+public interface GameActionIds {
+
+    Long nextId();
+}
@@ -4,13 +4,34 @@ import com.ausganslage.ausgangslageBackend.enums.ActionType;
 import com.ausganslage.ausgangslageBackend.enums.GamePhase;
 import com.ausganslage.ausgangslageBackend.model.GameAction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
-import java.util.Optional;
 
-public interface GameActionRepository extends JpaRepository<GameAction, Long> {
+public interface GameActionRepository extends JpaRepository<GameAction, Long>, GameActionIds {
+    List<GameAction> findByGameIdAndDayNumber(Long gameId, Integer dayNumber);
     List<GameAction> findByGameIdAndDayNumberAndPhase(Long gameId, Integer dayNumber, GamePhase phase);
-    Optional<GameAction> findByGameIdAndDayNumberAndPhaseAndActorPlayerId(Long gameId, Integer dayNumber, GamePhase phase, Long actorPlayerId);
     List<GameAction> findByGameIdAndDayNumberAndPhaseAndActionType(Long gameId, Integer dayNumber, GamePhase phase, ActionType actionType);
     List<GameAction> findByGameIdAndActorPlayerIdAndActionType(Long gameId, Long actorPlayerId, ActionType actionType);
-}
 
+    /**
+     * Writes {@code actorPlayerId}'s vote for the phase in one statement: their earlier vote keeps its row and id and
+     * only gets the new target, otherwise a row is inserted with {@code newId} from {@link #nextId()}. Callers hold
+     * the game row lock, so two votes of one player never race for the insert.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "merge into game_actions a using (values (1)) v(x) " +
+           "on a.game_id = :gameId and a.day_number = :dayNumber and a.phase = :phase and a.voter_player_id = :actorPlayerId " +
+           "when matched then update set target_player_id = :targetPlayerId, created_at = current_timestamp " +
+           "when not matched then insert (id, game_id, day_number, phase, actor_player_id, voter_player_id, " +
+           "target_player_id, action_type, payload_json, created_at) values (:newId, :gameId, " +
+           ":dayNumber, :phase, :actorPlayerId, :actorPlayerId, :targetPlayerId, :actionType, null, current_timestamp)",
+           nativeQuery = true)
+    int upsertVote(@Param("gameId") Long gameId, @Param("dayNumber") Integer dayNumber, @Param("phase") String phase,
+                   @Param("actorPlayerId") Long actorPlayerId, @Param("targetPlayerId") Long targetPlayerId,
+                   @Param("actionType") String actionType, @Param("newId") Long newId);
+}
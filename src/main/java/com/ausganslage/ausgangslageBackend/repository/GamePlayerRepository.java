@@ -1,7 +1,11 @@
 package com.ausganslage.ausgangslageBackend.repository;
 
 import com.ausganslage.ausgangslageBackend.model.GamePlayer;
+import com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView;
+import com.ausganslage.ausgangslageBackend.repository.projection.RoleAliveCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +14,18 @@ public interface GamePlayerRepository extends JpaRepository<GamePlayer, Long> {
     Optional<GamePlayer> findByGameIdAndUserId(Long gameId, Long userId);
     List<GamePlayer> findByGameIdAndIsAlive(Long gameId, Boolean isAlive);
     long countByGameIdAndIsAlive(Long gameId, Boolean isAlive);
-}
 
+    @Query("select new com.ausganslage.ausgangslageBackend.repository.projection.RoleAliveCount(r.name, r.faction, count(p)) " +
+           "from GamePlayer p join RoleTemplate r on r.id = p.roleId " +
+           "where p.gameId = :gameId and p.isAlive = true " +
+           "group by r.name, r.faction")
+    List<RoleAliveCount> countAliveByRole(@Param("gameId") Long gameId);
+
+    @Query("select new com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView(" +
+           "p.id, p.userId, u.username, u.avatarConfig, p.seatNumber, p.isAlive, p.revealedRole, p.stateFlagsJson, " +
+           "p.roleId, r.name, r.faction) " +
+           "from GamePlayer p left join User u on u.id = p.userId left join RoleTemplate r on r.id = p.roleId " +
+           "where p.gameId = :gameId " +
+           "order by p.seatNumber")
+    List<GamePlayerView> findViewsByGameId(@Param("gameId") Long gameId);
+}
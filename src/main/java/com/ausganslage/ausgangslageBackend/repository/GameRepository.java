@@ -1,10 +1,23 @@
 package com.ausganslage.ausgangslageBackend.repository;
 
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
 import com.ausganslage.ausgangslageBackend.model.Game;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface GameRepository extends JpaRepository<Game, Long> {
     Optional<Game> findByLobbyId(Long lobbyId);
-}
+    long countByStatus(GameStatus status);
 
+    /**
+     * Loads the game and holds its row lock until the transaction ends, so commands and phase advancement on one
+     * game run one after the other and each sees the phase the previous one left.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Game g where g.id = :id")
+    Optional<Game> findByIdForUpdate(@Param("id") Long id);
+}
@@ -1,10 +1,18 @@
 package com.ausganslage.ausgangslageBackend.repository;
 
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
 import com.ausganslage.ausgangslageBackend.model.Lobby;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
 public interface LobbyRepository extends JpaRepository<Lobby, Long> {
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "lobbyByCode")
+    })
     Optional<Lobby> findByLobbyCode(String lobbyCode);
-}
 
+    long countByStatus(LobbyStatus status);
+}
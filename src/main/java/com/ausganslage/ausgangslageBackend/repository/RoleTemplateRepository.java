@@ -2,10 +2,15 @@ package com.ausganslage.ausgangslageBackend.repository;
 
 import com.ausganslage.ausgangslageBackend.enums.RoleName;
 import com.ausganslage.ausgangslageBackend.model.RoleTemplate;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
 public interface RoleTemplateRepository extends JpaRepository<RoleTemplate, Long> {
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "roleTemplateByName")
+    })
     Optional<RoleTemplate> findByName(RoleName name);
 }
-
@@ -2,10 +2,13 @@ package com.ausganslage.ausgangslageBackend.repository;
 
 import com.ausganslage.ausgangslageBackend.model.Session;
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
 import java.util.Optional;
 
 public interface SessionRepository extends JpaRepository<Session, Long> {
     Optional<Session> findByToken(String token);
     void deleteByUserId(Long userId);
+    long countByExpiresAtAfter(Instant now);
 }
 
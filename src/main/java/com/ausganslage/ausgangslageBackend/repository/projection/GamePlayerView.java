@@ -0,0 +1,79 @@
+package com.ausganslage.ausgangslageBackend.repository.projection;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+public class GamePlayerView {
+
+    private final Long playerId;
+    private final Long userId;
+    private final String username;
+    private final String avatarConfig;
+    private final Integer seatNumber;
+    private final Boolean isAlive;
+    private final Boolean revealedRole;
+    private final String stateFlagsJson;
+    private final Long roleId;
+    private final RoleName roleName;
+    private final Faction faction;
+
+    public GamePlayerView(Long playerId, Long userId, String username, String avatarConfig, Integer seatNumber,
+                          Boolean isAlive, Boolean revealedRole, String stateFlagsJson,
+                          Long roleId, RoleName roleName, Faction faction) {
+        this.playerId = playerId;
+        this.userId = userId;
+        this.username = username;
+        this.avatarConfig = avatarConfig;
+        this.seatNumber = seatNumber;
+        this.isAlive = isAlive;
+        this.revealedRole = revealedRole;
+        this.stateFlagsJson = stateFlagsJson;
+        this.roleId = roleId;
+        this.roleName = roleName;
+        this.faction = faction;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getAvatarConfig() {
+        return avatarConfig;
+    }
+
+    public Integer getSeatNumber() {
+        return seatNumber;
+    }
+
+    public Boolean getIsAlive() {
+        return isAlive;
+    }
+
+    public Boolean getRevealedRole() {
+        return revealedRole;
+    }
+
+    public String getStateFlagsJson() {
+        return stateFlagsJson;
+    }
+
+    public Long getRoleId() {
+        return roleId;
+    }
+
+    public RoleName getRoleName() {
+        return roleName;
+    }
+
+    public Faction getFaction() {
+        return faction;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ausganslage.ausgangslageBackend.repository.projection;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+public class RoleAliveCount {
+
+    private final RoleName roleName;
+    private final Faction faction;
+    private final long aliveCount;
+
+    public RoleAliveCount(RoleName roleName, Faction faction, long aliveCount) {
+        this.roleName = roleName;
+        this.faction = faction;
+        this.aliveCount = aliveCount;
+    }
+
+    public RoleName getRoleName() {
+        return roleName;
+    }
+
+    public Faction getFaction() {
+        return faction;
+    }
+
+    public long getAliveCount() {
+        return aliveCount;
+    }
+}
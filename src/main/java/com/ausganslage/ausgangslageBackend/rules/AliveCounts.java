@@ -0,0 +1,91 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.Arrays;
+
+/**
+ * How many players are alive, in total, per {@link RoleName} and per {@link Faction}. Immutable; a death gives a
+ * new instance, so a {@link GameState} answers win and turn checks without scanning its players.
+ */
+public final class AliveCounts {
+
+    public static final AliveCounts NONE = new AliveCounts(new int[RoleName.values().length],
+        new int[Faction.values().length], 0);
+
+    private final int[] byRole;
+    private final int[] byFaction;
+    private final int total;
+
+    private AliveCounts(int[] byRole, int[] byFaction, int total) {
+        this.byRole = byRole;
+        this.byFaction = byFaction;
+        this.total = total;
+    }
+
+    static AliveCounts of(PlayerState[] players) {
+        int[] byRole = new int[RoleName.values().length];
+        int[] byFaction = new int[Faction.values().length];
+        int total = 0;
+        for (PlayerState player : players) {
+            if (player.isAlive()) {
+                byRole[player.getRole().ordinal()]++;
+                byFaction[player.getFaction().ordinal()]++;
+                total++;
+            }
+        }
+        return new AliveCounts(byRole, byFaction, total);
+    }
+
+    /**
+     * These counts with {@code count} more living players of {@code role} in {@code faction}.
+     */
+    public AliveCounts plus(RoleName role, Faction faction, int count) {
+        int[] roles = byRole.clone();
+        int[] factions = byFaction.clone();
+        roles[role.ordinal()] += count;
+        factions[faction.ordinal()] += count;
+        return new AliveCounts(roles, factions, total + count);
+    }
+
+    public int alive() {
+        return total;
+    }
+
+    public int alive(RoleName role) {
+        return byRole[role.ordinal()];
+    }
+
+    public int alive(Faction faction) {
+        return byFaction[faction.ordinal()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AliveCounts)) {
+            return false;
+        }
+        AliveCounts other = (AliveCounts) o;
+        return total == other.total && Arrays.equals(byRole, other.byRole) && Arrays.equals(byFaction, other.byFaction);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(byRole) + Arrays.hashCode(byFaction);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("alive=").append(total);
+        for (RoleName role : RoleName.values()) {
+            if (byRole[role.ordinal()] != 0) {
+                text.append(", ").append(role).append('=').append(byRole[role.ordinal()]);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,322 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.DeathCause;
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GameCommandType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.exception.InvalidGameStateException;
+import com.ausganslage.ausgangslageBackend.exception.ResourceNotFoundException;
+import com.ausganslage.ausgangslageBackend.exception.UnauthorizedActionException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The game loop as a pure function: a {@link GameState} and a {@link RuleCommand} give the next state and the
+ * {@link RuleEvent}s on the way. Invalid commands throw the same exceptions the REST API reports, before anything
+ * changed. Deterministic and free of I/O, so it runs the same behind {@code GameService}, in the headless
+ * simulation and in unit tests.
+ */
+public final class GameEngine {
+
+    private GameEngine() {
+    }
+
+    /**
+     * Validates and applies {@code command}, then advances the phase as far as it is complete and checks for a
+     * winner. The transition to voting only changes the phase.
+     */
+    public static Transition apply(GameState state, RuleCommand command) {
+        return apply(state, command, command.getType() != GameCommandType.TRANSITION_TO_VOTING);
+    }
+
+    /**
+     * Validates and records {@code command} without advancing the phase; {@link #advance(GameState)} does that
+     * later, off the request.
+     */
+    public static Transition submit(GameState state, RuleCommand command) {
+        return apply(state, command, false);
+    }
+
+    /**
+     * Moves on from the current phase if everybody who has to act did, resolving the night or the vote on the
+     * way, and checks for a winner.
+     */
+    public static Transition advance(GameState state) {
+        List<RuleEvent> events = new ArrayList<>(4);
+        return new Transition(advance(state, events), events);
+    }
+
+    private static Transition apply(GameState state, RuleCommand command, boolean advance) {
+        List<RuleEvent> events = new ArrayList<>(4);
+        GameState next = switch (command.getType()) {
+            case VOTE -> vote(state, command, events);
+            case POWER -> power(state, command, events);
+            case SKIP -> skip(state, command, events);
+            case TRANSITION_TO_VOTING -> transitionToVoting(state, events);
+        };
+        if (advance) {
+            next = advance(next, events);
+        }
+        return new Transition(next, events);
+    }
+
+    /**
+     * Applies tonight's wolf kill and potions without changing the phase.
+     */
+    public static Transition resolveNight(GameState state) {
+        List<RuleEvent> events = new ArrayList<>(4);
+        return new Transition(resolveNight(state, events), events);
+    }
+
+    /**
+     * Applies the lynch vote and starts the next night.
+     */
+    public static Transition resolveDayVoting(GameState state) {
+        List<RuleEvent> events = new ArrayList<>(4);
+        return new Transition(resolveDayVoting(state, events), events);
+    }
+
+    public static Transition checkWinner(GameState state) {
+        List<RuleEvent> events = new ArrayList<>(1);
+        return new Transition(checkWinner(state, events), events);
+    }
+
+    private static GameState vote(GameState state, RuleCommand command, List<RuleEvent> events) {
+        PlayerState voter = requirePlayer(state, command.getActorPlayerId());
+        if (!voter.isAlive()) {
+            throw new InvalidActionException("SUBMIT_VOTE", "Dead players cannot vote");
+        }
+
+        GamePhase phase = state.getPhase();
+        RoleBehavior behavior = RoleBehaviors.of(voter.getRole());
+        GamePhase turn = nightTurn(state, behavior);
+        ActionType actionType;
+        if (phase == GamePhase.DAY_VOTING) {
+            actionType = ActionType.VOTE_LYNCH;
+        } else if (turn != null && behavior.nightVote() != null) {
+            actionType = behavior.nightVote();
+            phase = turn;
+        } else {
+            throw new InvalidGameStateException("Invalid voting phase", String.valueOf(state.getPhase()), "DAY_VOTING or NIGHT_WOLVES");
+        }
+
+        PlayerState target = requirePlayer(state, command.getTargetPlayerId());
+        if (!target.isAlive()) {
+            throw new InvalidActionException("SUBMIT_VOTE", "Cannot vote for dead player");
+        }
+        if (actionType != ActionType.VOTE_LYNCH) {
+            behavior.validateTarget(actionType, voter, target);
+        }
+
+        GameState next = state;
+        RuleAction previous = state.findAction(voter.getId(), phase, actionType);
+        if (previous != null) {
+            next = next.withoutAction(previous);
+            events.add(RuleEvent.actionReplaced(previous));
+        }
+        return record(next, new RuleAction(voter.getId(), target.getId(), actionType, phase, false), events);
+    }
+
+    private static GameState power(GameState state, RuleCommand command, List<RuleEvent> events) {
+        PlayerState actor = requirePlayer(state, command.getActorPlayerId());
+        ActionType actionType = command.getActionType();
+        RoleBehavior owner = actionType != null ? RoleBehaviors.ownerOf(actionType) : null;
+        if (!actor.isAlive() && (owner == null || !owner.actsWhenDead())) {
+            throw new InvalidActionException("POWER_ACTION", "Dead players cannot use powers");
+        }
+        if (owner == null) {
+            throw new InvalidActionException("POWER_ACTION", "Invalid power action type");
+        }
+
+        Long targetId = owner.validatePower(state, actor, actionType, command.getTargetPlayerId());
+        PlayerState target = targetId != null ? requirePlayer(state, targetId) : null;
+        owner.validateTarget(actionType, actor, target);
+
+        GamePhase turn = nightTurn(state, owner);
+        if (turn != null && owner.nightTurnDone(state)) {
+            throw new InvalidActionException("POWER_ACTION", "Already acted this night");
+        }
+        requireTurnOpen(state, actor, turn, "POWER_ACTION");
+        GamePhase phase = turn != null ? turn : state.getPhase();
+        GameState next = record(state, new RuleAction(actor.getId(), targetId, actionType, phase, false), events);
+        return owner.applyPower(next, actor, target, actionType, events);
+    }
+
+    private static GameState skip(GameState state, RuleCommand command, List<RuleEvent> events) {
+        PlayerState actor = requirePlayer(state, command.getActorPlayerId());
+        if (!actor.isAlive()) {
+            throw new InvalidActionException("SKIP_ACTION", "Dead players cannot skip");
+        }
+
+        RoleBehavior behavior = RoleBehaviors.of(actor.getRole());
+        GamePhase turn = nightTurn(state, behavior);
+        ActionType actionType = turn != null ? behavior.skipAction() : null;
+        if (actionType == null) {
+            throw new InvalidGameStateException("Cannot skip during this phase", String.valueOf(state.getPhase()), "NIGHT_SEER or NIGHT_WITCH");
+        }
+        requireTurnOpen(state, actor, turn, "SKIP_ACTION");
+        return record(state, new RuleAction(actor.getId(), null, actionType, turn, true), events);
+    }
+
+    private static GameState transitionToVoting(GameState state, List<RuleEvent> events) {
+        if (state.getPhase() != GamePhase.DAY_DISCUSSION) {
+            throw new InvalidGameStateException("Can only transition to voting from discussion phase",
+                String.valueOf(state.getPhase()), GamePhase.DAY_DISCUSSION.toString());
+        }
+        return changePhase(state, GamePhase.DAY_VOTING, events);
+    }
+
+    private static GameState advance(GameState state, List<RuleEvent> events) {
+        GameState next = state;
+        RoleBehavior acting = RoleBehaviors.actingIn(state.getPhase());
+        if (acting != null) {
+            if (acting.nightTurnDone(state)) {
+                GamePhase nextNightPhase = RoleBehaviors.nextNightPhase(state.getPhase(), state.getNightMode());
+                if (nextNightPhase != null) {
+                    next = changePhase(next, nextNightPhase, events);
+                } else if (RoleBehaviors.allNightTurnsDone(state)) {
+                    next = resolveNight(next, events);
+                    next = changePhase(next, GamePhase.DAY_DISCUSSION, events);
+                }
+            }
+        } else if (state.getPhase() == GamePhase.DAY_VOTING) {
+            if (GameRules.votingDone(state.countAlive(),
+                    state.countAliveActors(GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH))) {
+                next = resolveDayVoting(next, events);
+            }
+        }
+        return checkWinner(next, events);
+    }
+
+    /**
+     * The phase {@code behavior}'s night turn is recorded under if it is open now, or {@code null}: its own night
+     * phase, or in {@link NightMode#CONCURRENT} any night phase until a role that acts all night has finished.
+     */
+    static GamePhase nightTurn(GameState state, RoleBehavior behavior) {
+        GamePhase own = behavior.nightPhase();
+        if (own == null) {
+            return null;
+        }
+        if (state.getPhase() == own) {
+            return own;
+        }
+        boolean openAllNight = state.getNightMode() == NightMode.CONCURRENT && behavior.actsAllNight()
+            && RoleBehaviors.actingIn(state.getPhase()) != null && !behavior.nightTurnDone(state);
+        return openAllNight ? own : null;
+    }
+
+    /**
+     * Rejects a second night action by a player who already took their turn. Synchronously the phase has moved
+     * on by then, but a submitted command leaves it for the worker to advance. Skipping checks only this, since a
+     * witch out of potions is done yet still has to skip.
+     */
+    private static void requireTurnOpen(GameState state, PlayerState actor, GamePhase turn, String action) {
+        if (turn != null && state.hasActed(actor.getId(), turn)) {
+            throw new InvalidActionException(action, "Already acted this night");
+        }
+    }
+
+    private static GameState resolveNight(GameState state, List<RuleEvent> events) {
+        Long healTargetId = null;
+        Long poisonTargetId = null;
+        for (RuleAction action : state.getActions()) {
+            if (action.getPhase() != GamePhase.NIGHT_WITCH) {
+                continue;
+            }
+            if (action.getActionType() == ActionType.WITCH_HEAL) {
+                healTargetId = action.getTargetPlayerId();
+            } else if (action.getActionType() == ActionType.WITCH_POISON) {
+                poisonTargetId = action.getTargetPlayerId();
+            }
+        }
+
+        NightOutcome night = GameRules.resolveNight(state.wolfVictimId(), healTargetId, poisonTargetId);
+        GameState next = state;
+        if (night.isHealed()) {
+            events.add(RuleEvent.victimHealed(night.getWolfVictimId()));
+        }
+        next = killIfAlive(next, night.getKilledByWolvesId(), DeathCause.WOLF_KILL, events);
+        next = killIfAlive(next, night.getPoisonedPlayerId(), DeathCause.WITCH_POISON, events);
+        if (night.isQuietNight()) {
+            events.add(RuleEvent.quietNight());
+        }
+        events.add(RuleEvent.nightResolved());
+        return next;
+    }
+
+    private static GameState resolveDayVoting(GameState state, List<RuleEvent> events) {
+        Long victimId = GameRules.majorityTarget(state.targets(GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH));
+        GameState next = state;
+        if (victimId != null) {
+            next = killIfAlive(next, victimId, DeathCause.LYNCH, events);
+        } else {
+            events.add(RuleEvent.noLynch());
+        }
+        GamePhase fromPhase = next.getPhase();
+        next = next.nextDay();
+        events.add(RuleEvent.phaseChanged(fromPhase, GamePhase.NIGHT_WOLVES, next.getDayNumber()));
+        events.add(RuleEvent.dayResolved());
+        return next;
+    }
+
+    private static GameState checkWinner(GameState state, List<RuleEvent> events) {
+        if (state.getStatus() != GameStatus.RUNNING) {
+            return state;
+        }
+        Faction winner = GameRules.winner(state.countAlive(Faction.WOLVES), state.countAlive(Faction.VILLAGE));
+        if (winner == null) {
+            return state;
+        }
+        events.add(RuleEvent.gameWon(winner, state.getPhase(), state.getDayNumber()));
+        return state.finished(winner);
+    }
+
+    private static GameState record(GameState state, RuleAction action, List<RuleEvent> events) {
+        events.add(RuleEvent.actionRecorded(action));
+        return state.withAction(action);
+    }
+
+    private static GameState changePhase(GameState state, GamePhase phase, List<RuleEvent> events) {
+        events.add(RuleEvent.phaseChanged(state.getPhase(), phase, state.getDayNumber()));
+        return state.withPhase(phase);
+    }
+
+    private static GameState killIfAlive(GameState state, Long playerId, DeathCause cause, List<RuleEvent> events) {
+        if (playerId == null) {
+            return state;
+        }
+        PlayerState player = state.player(playerId);
+        return player != null && player.isAlive() ? kill(state, player, cause, events) : state;
+    }
+
+    static GameState kill(GameState state, PlayerState player, DeathCause cause, List<RuleEvent> events) {
+        events.add(RuleEvent.playerKilled(player.getId(), cause));
+        return state.withPlayer(RoleBehaviors.of(player.getRole()).onDeath(player.killed(), events));
+    }
+
+    private static PlayerState requirePlayer(GameState state, Long playerId) {
+        PlayerState player = playerId != null ? state.player(playerId) : null;
+        if (player == null) {
+            throw new ResourceNotFoundException("GamePlayer", playerId);
+        }
+        return player;
+    }
+
+    static void requireRole(PlayerState actor, RoleName role, String message, ActionType actionType) {
+        if (actor.getRole() != role) {
+            throw new UnauthorizedActionException(message, actor.getUserId(), actionType.toString());
+        }
+    }
+
+    static void requirePhase(GamePhase phase, GamePhase required, String message) {
+        if (phase != required) {
+            throw new InvalidGameStateException(message, String.valueOf(phase), required.toString());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The werewolf rules as plain functions of counts and ids, without repositories or logging. {@code GameService}
+ * applies them to the database; the headless simulation applies them to games held in memory.
+ */
+public final class GameRules {
+
+    public static final int MIN_PLAYERS = 4;
+
+    private GameRules() {
+    }
+
+    /**
+     * Roles for a game of {@code playerCount} under {@link RoleComposition#CLASSIC}, before shuffling: one werewolf
+     * per four players (at least one), a seer, a witch, a hunter, and villagers for the remaining seats.
+     */
+    public static List<RoleName> roleComposition(int playerCount) {
+        return new ArrayList<>(RoleComposition.CLASSIC.plan(playerCount));
+    }
+
+    /**
+     * Fisher-Yates shuffle driven by {@code random}, so the same seed always gives the same order. Replaces
+     * {@code Collections.shuffle}, whose default generator is shared by every thread.
+     */
+    public static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    public static boolean werewolvesDone(long aliveWerewolves, long aliveWerewolfVoters) {
+        return aliveWerewolves == 0 || aliveWerewolfVoters >= aliveWerewolves;
+    }
+
+    public static boolean seerDone(boolean seerAlive, boolean seerActed) {
+        return seerActed || !seerAlive;
+    }
+
+    /**
+     * The witch is done after acting, or right away when dead or out of potions.
+     */
+    public static boolean witchDone(boolean witchAlive, boolean witchActed, boolean witchHasPotion) {
+        return !witchAlive || witchActed || !witchHasPotion;
+    }
+
+    public static boolean votingDone(long alivePlayers, long aliveVoters) {
+        return aliveVoters >= alivePlayers;
+    }
+
+    /**
+     * The player with strictly the most votes, or {@code null} without votes or on a tie.
+     */
+    public static Long majorityTarget(Iterable<Long> votedTargets) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long target : votedTargets) {
+            if (target != null) {
+                counts.merge(target, 1, Integer::sum);
+            }
+        }
+
+        Long leader = null;
+        int leaderVotes = 0;
+        boolean tie = false;
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > leaderVotes) {
+                leader = entry.getKey();
+                leaderVotes = entry.getValue();
+                tie = false;
+            } else if (entry.getValue() == leaderVotes) {
+                tie = true;
+            }
+        }
+        return tie ? null : leader;
+    }
+
+    /**
+     * Combines the wolves' choice with the witch's potions. A heal only counts on the wolf victim; a skipped turn
+     * is recorded as a heal without target.
+     */
+    public static NightOutcome resolveNight(Long wolfVictimId, Long healTargetId, Long poisonTargetId) {
+        boolean healed = wolfVictimId != null && wolfVictimId.equals(healTargetId);
+        return new NightOutcome(wolfVictimId, healed, poisonTargetId);
+    }
+
+    /**
+     * The winning faction, or {@code null} while the game goes on. Wolves win as soon as they are at least as
+     * many as the village.
+     */
+    public static Faction winner(long aliveWerewolves, long aliveVillagers) {
+        if (aliveWerewolves == 0) {
+            return Faction.VILLAGE;
+        }
+        if (aliveWerewolves >= aliveVillagers) {
+            return Faction.WOLVES;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,285 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything the rules need to know about a game: phase, day, players and the actions of the current day.
+ * Immutable and structurally shared: a change copies only the array it touches, so a vote shares the players
+ * with the previous state and a death shares the actions. Players are few, so lookups are linear scans; the
+ * living are counted once per load and adjusted on every death, as win and turn checks run after every action.
+ */
+public final class GameState {
+    private static final PlayerState[] NO_PLAYERS = new PlayerState[0];
+    private static final RuleAction[] NO_ACTIONS = new RuleAction[0];
+
+    private final NightMode nightMode;
+    private final GameStatus status;
+    private final GamePhase phase;
+    private final int dayNumber;
+    private final Faction winner;
+    private final PlayerState[] players;
+    private final RuleAction[] actions;
+    private final AliveCounts alive;
+
+    public GameState(GameStatus status, GamePhase phase, int dayNumber, Faction winner,
+                     List<PlayerState> players, List<RuleAction> actions) {
+        this(NightMode.SEQUENTIAL, status, phase, dayNumber, winner, players, actions);
+    }
+
+    public GameState(NightMode nightMode, GameStatus status, GamePhase phase, int dayNumber, Faction winner,
+                     List<PlayerState> players, List<RuleAction> actions) {
+        this(nightMode, status, phase, dayNumber, winner, players.toArray(NO_PLAYERS), actions.toArray(NO_ACTIONS));
+    }
+
+    /**
+     * A state whose alive counts are already known, so its players are not counted again.
+     */
+    public GameState(NightMode nightMode, GameStatus status, GamePhase phase, int dayNumber, Faction winner,
+                     List<PlayerState> players, List<RuleAction> actions, AliveCounts alive) {
+        this(nightMode, status, phase, dayNumber, winner, players.toArray(NO_PLAYERS), actions.toArray(NO_ACTIONS),
+            alive);
+    }
+
+    private GameState(NightMode nightMode, GameStatus status, GamePhase phase, int dayNumber, Faction winner,
+                      PlayerState[] players, RuleAction[] actions) {
+        this(nightMode, status, phase, dayNumber, winner, players, actions, AliveCounts.of(players));
+    }
+
+    private GameState(NightMode nightMode, GameStatus status, GamePhase phase, int dayNumber, Faction winner,
+                      PlayerState[] players, RuleAction[] actions, AliveCounts alive) {
+        this.nightMode = nightMode;
+        this.status = status;
+        this.phase = phase;
+        this.dayNumber = dayNumber;
+        this.winner = winner;
+        this.players = players;
+        this.actions = actions;
+        this.alive = alive;
+    }
+
+    /**
+     * The first night of a new game.
+     */
+    public static GameState starting(List<PlayerState> players) {
+        return starting(NightMode.SEQUENTIAL, players);
+    }
+
+    public static GameState starting(NightMode nightMode, List<PlayerState> players) {
+        return new GameState(nightMode, GameStatus.RUNNING, GamePhase.NIGHT_WOLVES, 1, null, players, List.of());
+    }
+
+    public NightMode getNightMode() {
+        return nightMode;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    public int getDayNumber() {
+        return dayNumber;
+    }
+
+    public Faction getWinner() {
+        return winner;
+    }
+
+    public List<PlayerState> getPlayers() {
+        return Collections.unmodifiableList(Arrays.asList(players));
+    }
+
+    public List<RuleAction> getActions() {
+        return Collections.unmodifiableList(Arrays.asList(actions));
+    }
+
+    public int playerCount() {
+        return players.length;
+    }
+
+    public PlayerState playerAt(int index) {
+        return players[index];
+    }
+
+    public PlayerState player(Long playerId) {
+        for (PlayerState player : players) {
+            if (player.getId().equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public PlayerState playerByUserId(Long userId) {
+        for (PlayerState player : players) {
+            if (player.getUserId().equals(userId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public AliveCounts getAliveCounts() {
+        return alive;
+    }
+
+    public boolean hasAlive(RoleName role) {
+        return alive.alive(role) > 0;
+    }
+
+    public PlayerState firstAlive(RoleName role) {
+        if (!hasAlive(role)) {
+            return null;
+        }
+        for (PlayerState player : players) {
+            if (player.isAlive() && player.getRole() == role) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public int countAlive() {
+        return alive.alive();
+    }
+
+    public int countAlive(RoleName role) {
+        return alive.alive(role);
+    }
+
+    public int countAlive(Faction faction) {
+        return alive.alive(faction);
+    }
+
+    /**
+     * The action {@code actorPlayerId} took in {@code phase} with {@code actionType} today, or {@code null}.
+     */
+    public RuleAction findAction(Long actorPlayerId, GamePhase phase, ActionType actionType) {
+        for (RuleAction action : actions) {
+            if (action.getPhase() == phase && action.getActionType() == actionType
+                    && action.getActorPlayerId().equals(actorPlayerId)) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether {@code actorPlayerId} took any action in {@code phase} today.
+     */
+    public boolean hasActed(Long actorPlayerId, GamePhase phase) {
+        for (RuleAction action : actions) {
+            if (action.getPhase() == phase && action.getActorPlayerId().equals(actorPlayerId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasAction(GamePhase phase, ActionType actionType) {
+        for (RuleAction action : actions) {
+            if (action.getPhase() == phase && action.getActionType() == actionType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Alive players who took an {@code actionType} action in {@code phase} today. Votes are replaced rather
+     * than added, so every actor appears once.
+     */
+    public int countAliveActors(GamePhase phase, ActionType actionType) {
+        int count = 0;
+        for (RuleAction action : actions) {
+            if (action.getPhase() == phase && action.getActionType() == actionType) {
+                PlayerState actor = player(action.getActorPlayerId());
+                if (actor != null && actor.isAlive()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Targets of the {@code actionType} actions in {@code phase} today, one entry per vote.
+     */
+    public List<Long> targets(GamePhase phase, ActionType actionType) {
+        List<Long> targets = new ArrayList<>(actions.length);
+        for (RuleAction action : actions) {
+            if (action.getPhase() == phase && action.getActionType() == actionType) {
+                targets.add(action.getTargetPlayerId());
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Tonight's wolf victim by strict majority, or {@code null}.
+     */
+    public Long wolfVictimId() {
+        return GameRules.majorityTarget(targets(GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL));
+    }
+
+    GameState withPhase(GamePhase newPhase) {
+        return new GameState(nightMode, status, newPhase, dayNumber, winner, players, actions, alive);
+    }
+
+    /**
+     * The next night: day number advanced, today's actions dropped.
+     */
+    GameState nextDay() {
+        return new GameState(nightMode, status, GamePhase.NIGHT_WOLVES, dayNumber + 1, winner, players, NO_ACTIONS, alive);
+    }
+
+    GameState finished(Faction winningFaction) {
+        return new GameState(nightMode, GameStatus.FINISHED, GamePhase.RESULT, dayNumber, winningFaction, players, actions,
+            alive);
+    }
+
+    GameState withPlayer(PlayerState changed) {
+        PlayerState[] copy = players.clone();
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i].getId().equals(changed.getId())) {
+                AliveCounts counts = alive;
+                if (copy[i].isAlive() != changed.isAlive()) {
+                    counts = alive.plus(changed.getRole(), changed.getFaction(), changed.isAlive() ? 1 : -1);
+                }
+                copy[i] = changed;
+                return new GameState(nightMode, status, phase, dayNumber, winner, copy, actions, counts);
+            }
+        }
+        throw new IllegalArgumentException("Player " + changed.getId() + " is not in this game");
+    }
+
+    GameState withAction(RuleAction action) {
+        RuleAction[] copy = Arrays.copyOf(actions, actions.length + 1);
+        copy[actions.length] = action;
+        return new GameState(nightMode, status, phase, dayNumber, winner, players, copy, alive);
+    }
+
+    GameState withoutAction(RuleAction removed) {
+        RuleAction[] copy = new RuleAction[actions.length - 1];
+        int next = 0;
+        for (RuleAction action : actions) {
+            if (action != removed) {
+                copy[next++] = action;
+            }
+        }
+        return new GameState(nightMode, status, phase, dayNumber, winner, players, copy, alive);
+    }
+}
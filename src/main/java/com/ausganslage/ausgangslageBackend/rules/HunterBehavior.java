@@ -0,0 +1,79 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.DeathCause;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.exception.InvalidGameStateException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The hunter holds one shot and gets it (back) on dying, so the revenge shot can be fired after the hunter's
+ * death.
+ */
+class HunterBehavior implements RoleBehavior {
+
+    @Override
+    public RoleName role() {
+        return RoleName.HUNTER;
+    }
+
+    @Override
+    public Set<ActionType> powers() {
+        return Set.of(ActionType.HUNTER_SHOOT);
+    }
+
+    @Override
+    public boolean actsWhenDead() {
+        return true;
+    }
+
+    @Override
+    public Long validatePower(GameState state, PlayerState actor, ActionType actionType, Long targetId) {
+        GameEngine.requireRole(actor, RoleName.HUNTER, "Only the Hunter can shoot", actionType);
+        if (!actor.isHunterShotAvailable()) {
+            throw new InvalidActionException("HUNTER_SHOOT", "Hunter shot not available");
+        }
+        GamePhase phase = state.getPhase();
+        if (phase != GamePhase.DAY_DISCUSSION && phase != GamePhase.DAY_VOTING && phase != GamePhase.NIGHT_WITCH) {
+            throw new InvalidGameStateException("Hunter can only shoot during day phases or after night resolution",
+                String.valueOf(phase), "DAY_DISCUSSION, DAY_VOTING, or NIGHT_WITCH");
+        }
+        return targetId;
+    }
+
+    @Override
+    public void validateTarget(ActionType actionType, PlayerState actor, PlayerState target) {
+        if (target == null || !target.isAlive()) {
+            throw new InvalidActionException("HUNTER_SHOOT", "Can only shoot a living player");
+        }
+    }
+
+    @Override
+    public GameState applyPower(GameState state, PlayerState actor, PlayerState target, ActionType actionType,
+                                List<RuleEvent> events) {
+        GameState next = state.withPlayer(actor.withoutHunterShot());
+        return GameEngine.kill(next, target, DeathCause.HUNTER_SHOT, events);
+    }
+
+    @Override
+    public void anytimeActions(PlayerState player, List<String> actions) {
+        if (player.isHunterShotAvailable()) {
+            actions.add(ActionType.HUNTER_SHOOT.name());
+        }
+    }
+
+    @Override
+    public PlayerState starting(PlayerState player) {
+        return player.armed();
+    }
+
+    @Override
+    public PlayerState onDeath(PlayerState killed, List<RuleEvent> events) {
+        events.add(RuleEvent.hunterArmed(killed.getId()));
+        return killed.armed();
+    }
+}
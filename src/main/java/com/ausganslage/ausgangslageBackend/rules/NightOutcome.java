@@ -0,0 +1,42 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+/**
+ * What happened during one night, as decided by {@link GameRules#resolveNight}.
+ */
+public class NightOutcome {
+    private final Long wolfVictimId;
+    private final boolean healed;
+    private final Long poisonedPlayerId;
+
+    public NightOutcome(Long wolfVictimId, boolean healed, Long poisonedPlayerId) {
+        this.wolfVictimId = wolfVictimId;
+        this.healed = healed;
+        this.poisonedPlayerId = poisonedPlayerId;
+    }
+
+    public Long getWolfVictimId() {
+        return wolfVictimId;
+    }
+
+    public boolean isHealed() {
+        return healed;
+    }
+
+    public Long getPoisonedPlayerId() {
+        return poisonedPlayerId;
+    }
+
+    /**
+     * The wolf victim unless the witch saved them.
+     */
+    public Long getKilledByWolvesId() {
+        return healed ? null : wolfVictimId;
+    }
+
+    /**
+     * Nobody was attacked: no wolf victim and no poison.
+     */
+    public boolean isQuietNight() {
+        return wolfVictimId == null && poisonedPlayerId == null;
+    }
+}
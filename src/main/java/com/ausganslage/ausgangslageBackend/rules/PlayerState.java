@@ -0,0 +1,104 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+/**
+ * One player as the rules see it. Immutable; every change returns a copy.
+ */
+public final class PlayerState {
+    private final Long id;
+    private final Long userId;
+    private final RoleName role;
+    private final Faction faction;
+    private final boolean alive;
+    private final boolean roleRevealed;
+    private final boolean healPotion;
+    private final boolean poisonPotion;
+    private final boolean hunterShotAvailable;
+
+    public PlayerState(Long id, Long userId, RoleName role, Faction faction, boolean alive, boolean roleRevealed,
+                       boolean healPotion, boolean poisonPotion, boolean hunterShotAvailable) {
+        this.id = id;
+        this.userId = userId;
+        this.role = role;
+        this.faction = faction;
+        this.alive = alive;
+        this.roleRevealed = roleRevealed;
+        this.healPotion = healPotion;
+        this.poisonPotion = poisonPotion;
+        this.hunterShotAvailable = hunterShotAvailable;
+    }
+
+    /**
+     * A player at the start of a game: alive, role hidden, with whatever {@link RoleBehavior#starting} gives the
+     * role (the witch's potions, the hunter's shot).
+     */
+    public static PlayerState starting(Long id, Long userId, RoleName role, Faction faction) {
+        return RoleBehaviors.of(role).starting(new PlayerState(id, userId, role, faction, true, false,
+            false, false, false));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public RoleName getRole() {
+        return role;
+    }
+
+    public Faction getFaction() {
+        return faction;
+    }
+
+    public boolean isAlive() {
+        return alive;
+    }
+
+    public boolean isRoleRevealed() {
+        return roleRevealed;
+    }
+
+    public boolean hasHealPotion() {
+        return healPotion;
+    }
+
+    public boolean hasPoisonPotion() {
+        return poisonPotion;
+    }
+
+    public boolean isHunterShotAvailable() {
+        return hunterShotAvailable;
+    }
+
+    /**
+     * Dead, with the role revealed.
+     */
+    PlayerState killed() {
+        return new PlayerState(id, userId, role, faction, false, true, healPotion, poisonPotion, hunterShotAvailable);
+    }
+
+    PlayerState withPotions() {
+        return new PlayerState(id, userId, role, faction, alive, roleRevealed, true, true, hunterShotAvailable);
+    }
+
+    PlayerState armed() {
+        return new PlayerState(id, userId, role, faction, alive, roleRevealed, healPotion, poisonPotion, true);
+    }
+
+    PlayerState withoutHealPotion() {
+        return new PlayerState(id, userId, role, faction, alive, roleRevealed, false, poisonPotion, hunterShotAvailable);
+    }
+
+    PlayerState withoutPoisonPotion() {
+        return new PlayerState(id, userId, role, faction, alive, roleRevealed, healPotion, false, hunterShotAvailable);
+    }
+
+    PlayerState withoutHunterShot() {
+        return new PlayerState(id, userId, role, faction, alive, roleRevealed, healPotion, poisonPotion, false);
+    }
+}
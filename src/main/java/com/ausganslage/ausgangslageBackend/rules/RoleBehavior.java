@@ -0,0 +1,136 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything that is specific to one role: when it acts at night, which powers it has and how they are checked
+ * and applied, what happens when it dies and which chat it can read. Implementations are registered in
+ * {@link RoleBehaviors}; the engine and {@code GameService} only look them up, so a new role is a new
+ * implementation plus a {@link RoleName} constant.
+ */
+public interface RoleBehavior {
+
+    RoleName role();
+
+    /**
+     * The night phase in which this role acts, or {@code null} if it sleeps through the night.
+     */
+    default GamePhase nightPhase() {
+        return null;
+    }
+
+    /**
+     * Whether, in {@link NightMode#CONCURRENT}, this role's turn is open the whole night instead of only in
+     * {@link #nightPhase()}. Its actions are still recorded under {@link #nightPhase()}.
+     */
+    default boolean actsAllNight() {
+        return false;
+    }
+
+    /**
+     * Whether everybody with this role has finished their turn in {@link #nightPhase()}.
+     */
+    default boolean nightTurnDone(GameState state) {
+        return true;
+    }
+
+    /**
+     * The vote this role casts in its night phase, or {@code null}.
+     */
+    default ActionType nightVote() {
+        return null;
+    }
+
+    /**
+     * The action recorded when this role skips its night turn, or {@code null} if it cannot skip.
+     */
+    default ActionType skipAction() {
+        return null;
+    }
+
+    /**
+     * The power actions only this role can take.
+     */
+    default Set<ActionType> powers() {
+        return Set.of();
+    }
+
+    /**
+     * Whether this role's powers can still be used after it died.
+     */
+    default boolean actsWhenDead() {
+        return false;
+    }
+
+    /**
+     * Checks a power action before anything changes and returns its target, which the role may fill in.
+     */
+    default Long validatePower(GameState state, PlayerState actor, ActionType actionType, Long targetId) {
+        throw new IllegalStateException(role() + " has no power " + actionType);
+    }
+
+    /**
+     * Checks the target of a power or night vote once it is resolved.
+     */
+    default void validateTarget(ActionType actionType, PlayerState actor, PlayerState target) {
+    }
+
+    /**
+     * Applies the effects of a recorded power action beyond the action itself.
+     */
+    default GameState applyPower(GameState state, PlayerState actor, PlayerState target, ActionType actionType,
+                                 List<RuleEvent> events) {
+        return state;
+    }
+
+    /**
+     * Adds the actions a living player with this role can take in its night phase.
+     */
+    default void nightActions(PlayerState player, List<String> actions) {
+        ActionType vote = nightVote();
+        if (vote != null) {
+            actions.add(vote.name());
+        }
+    }
+
+    /**
+     * Adds the actions available in any phase, alive or, for roles that act when dead, dead.
+     */
+    default void anytimeActions(PlayerState player, List<String> actions) {
+    }
+
+    /**
+     * A player of this role at the start of a game.
+     */
+    default PlayerState starting(PlayerState player) {
+        return player;
+    }
+
+    /**
+     * Death trigger: the already killed player, possibly changed, with any events the death causes.
+     */
+    default PlayerState onDeath(PlayerState killed, List<RuleEvent> events) {
+        return killed;
+    }
+
+    /**
+     * The private chat this role reads and writes during its night phase, or {@code null}.
+     */
+    default ChatChannel nightChannel() {
+        return null;
+    }
+
+    /**
+     * Whether a player with this role sees the hidden role {@code other} of another player.
+     */
+    default boolean knowsRole(RoleName other) {
+        return false;
+    }
+}
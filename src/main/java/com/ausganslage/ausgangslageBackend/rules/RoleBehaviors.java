@@ -0,0 +1,138 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatch tables from role, power and night phase to the {@link RoleBehavior} in charge, built once when the
+ * class loads. Night order follows the order of the night phases in {@link GamePhase}; in
+ * {@link NightMode#CONCURRENT} the phases of roles that act all night are left out and their turns stay open
+ * until the night is resolved.
+ */
+public final class RoleBehaviors {
+
+    private static final Map<RoleName, RoleBehavior> BY_ROLE = new EnumMap<>(RoleName.class);
+    private static final Map<ActionType, RoleBehavior> BY_POWER = new EnumMap<>(ActionType.class);
+    private static final Map<GamePhase, RoleBehavior> BY_NIGHT_PHASE = new EnumMap<>(GamePhase.class);
+    private static final Map<GamePhase, GamePhase> NEXT_NIGHT_PHASE = new EnumMap<>(GamePhase.class);
+    private static final Map<GamePhase, GamePhase> NEXT_CONCURRENT_NIGHT_PHASE = new EnumMap<>(GamePhase.class);
+    private static final List<RoleBehavior> ALL_NIGHT = new ArrayList<>();
+
+    static {
+        register(new WerewolfBehavior());
+        register(new SeerBehavior());
+        register(new WitchBehavior());
+        register(new HunterBehavior());
+        register(new VillagerBehavior());
+
+        for (RoleName role : RoleName.values()) {
+            if (!BY_ROLE.containsKey(role)) {
+                throw new IllegalStateException("No behavior registered for role " + role);
+            }
+        }
+        GamePhase previous = null;
+        GamePhase previousConcurrent = null;
+        for (Map.Entry<GamePhase, RoleBehavior> entry : BY_NIGHT_PHASE.entrySet()) {
+            if (previous != null) {
+                NEXT_NIGHT_PHASE.put(previous, entry.getKey());
+            }
+            previous = entry.getKey();
+            if (entry.getValue().actsAllNight()) {
+                ALL_NIGHT.add(entry.getValue());
+            } else {
+                if (previousConcurrent != null) {
+                    NEXT_CONCURRENT_NIGHT_PHASE.put(previousConcurrent, entry.getKey());
+                }
+                previousConcurrent = entry.getKey();
+            }
+        }
+    }
+
+    private RoleBehaviors() {
+    }
+
+    private static void register(RoleBehavior behavior) {
+        if (BY_ROLE.putIfAbsent(behavior.role(), behavior) != null) {
+            throw new IllegalStateException("Two behaviors for role " + behavior.role());
+        }
+        for (ActionType power : behavior.powers()) {
+            if (BY_POWER.putIfAbsent(power, behavior) != null) {
+                throw new IllegalStateException("Two roles own power " + power);
+            }
+        }
+        if (behavior.nightPhase() != null && BY_NIGHT_PHASE.putIfAbsent(behavior.nightPhase(), behavior) != null) {
+            throw new IllegalStateException("Two roles act in " + behavior.nightPhase());
+        }
+    }
+
+    public static RoleBehavior of(RoleName role) {
+        return BY_ROLE.get(role);
+    }
+
+    /**
+     * The role whose power {@code actionType} is, or {@code null} for votes.
+     */
+    public static RoleBehavior ownerOf(ActionType actionType) {
+        return BY_POWER.get(actionType);
+    }
+
+    /**
+     * The role taking its turn in {@code phase}, or {@code null} outside the night.
+     */
+    public static RoleBehavior actingIn(GamePhase phase) {
+        return BY_NIGHT_PHASE.get(phase);
+    }
+
+    /**
+     * The night phase after {@code phase} in {@code mode}, or {@code null} once the last role has acted.
+     */
+    public static GamePhase nextNightPhase(GamePhase phase, NightMode mode) {
+        return mode == NightMode.CONCURRENT ? NEXT_CONCURRENT_NIGHT_PHASE.get(phase) : NEXT_NIGHT_PHASE.get(phase);
+    }
+
+    /**
+     * Whether every role whose turn is open all night has finished it; always true outside
+     * {@link NightMode#CONCURRENT}, where those roles had their own phase.
+     */
+    public static boolean allNightTurnsDone(GameState state) {
+        if (state.getNightMode() != NightMode.CONCURRENT) {
+            return true;
+        }
+        for (RoleBehavior behavior : ALL_NIGHT) {
+            if (!behavior.nightTurnDone(state)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The action names {@code player} can submit in {@code phase}. In {@link NightMode#CONCURRENT} a role that
+     * acts all night is offered its night actions in every night phase; whether it already acted tonight is not
+     * known here, the engine rejects a second turn.
+     */
+    public static List<String> availableActions(GamePhase phase, NightMode mode, PlayerState player) {
+        RoleBehavior behavior = of(player.getRole());
+        List<String> actions = new ArrayList<>(2);
+        if (!player.isAlive() && !behavior.actsWhenDead()) {
+            return actions;
+        }
+        if (player.isAlive()) {
+            if (phase == behavior.nightPhase()
+                    || (mode == NightMode.CONCURRENT && behavior.actsAllNight() && BY_NIGHT_PHASE.containsKey(phase))) {
+                behavior.nightActions(player, actions);
+            } else if (phase == GamePhase.DAY_VOTING) {
+                actions.add(ActionType.VOTE_LYNCH.name());
+            }
+        }
+        behavior.anytimeActions(player, actions);
+        return actions;
+    }
+}
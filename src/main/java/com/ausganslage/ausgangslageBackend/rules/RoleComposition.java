@@ -0,0 +1,165 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Which roles a game is dealt: either a named preset or fixed counts chosen by the host, with villagers on the
+ * remaining seats. Immutable; {@link #getKey()} is the canonical form stored on the lobby and parsed back by
+ * {@link #fromKey}.
+ */
+public final class RoleComposition {
+
+    public static final RoleComposition CLASSIC = preset("CLASSIC", 4, RoleName.SEER, RoleName.WITCH, RoleName.HUNTER);
+    public static final RoleComposition BASIC = preset("BASIC", 4, RoleName.SEER);
+    public static final RoleComposition FULL_MOON = preset("FULL_MOON", 3, RoleName.SEER, RoleName.WITCH, RoleName.HUNTER);
+
+    private static final List<RoleComposition> PRESETS = List.of(CLASSIC, BASIC, FULL_MOON);
+
+    private final String key;
+    private final int playersPerWerewolf;
+    private final Map<RoleName, Integer> counts;
+
+    private RoleComposition(String key, int playersPerWerewolf, Map<RoleName, Integer> counts) {
+        this.key = key;
+        this.playersPerWerewolf = playersPerWerewolf;
+        this.counts = Collections.unmodifiableMap(counts);
+    }
+
+    private static RoleComposition preset(String name, int playersPerWerewolf, RoleName... specials) {
+        Map<RoleName, Integer> counts = new EnumMap<>(RoleName.class);
+        for (RoleName role : specials) {
+            counts.merge(role, 1, Integer::sum);
+        }
+        return new RoleComposition(name, playersPerWerewolf, counts);
+    }
+
+    /**
+     * The preset called {@code name}, or {@code null} if there is none.
+     */
+    public static RoleComposition preset(String name) {
+        for (RoleComposition preset : PRESETS) {
+            if (preset.key.equals(name)) {
+                return preset;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fixed role counts; villagers are added for every seat the counts leave open. Zero counts are dropped and a
+     * {@link RoleName#VILLAGER} count is ignored.
+     */
+    public static RoleComposition custom(Map<RoleName, Integer> roleCounts) {
+        Map<RoleName, Integer> counts = new EnumMap<>(RoleName.class);
+        roleCounts.forEach((role, count) -> {
+            if (role != RoleName.VILLAGER && count != null && count > 0) {
+                counts.put(role, count);
+            }
+        });
+        StringBuilder key = new StringBuilder();
+        counts.forEach((role, count) -> {
+            if (key.length() > 0) {
+                key.append(',');
+            }
+            key.append(role.name()).append(':').append(count);
+        });
+        return new RoleComposition(key.toString(), 0, counts);
+    }
+
+    /**
+     * Parses the canonical form written by {@link #getKey()}; a {@code null} or blank key is {@link #CLASSIC}.
+     */
+    public static RoleComposition fromKey(String key) {
+        if (key == null || key.isBlank()) {
+            return CLASSIC;
+        }
+        RoleComposition preset = preset(key);
+        if (preset != null) {
+            return preset;
+        }
+        Map<RoleName, Integer> counts = new EnumMap<>(RoleName.class);
+        for (String entry : key.split(",")) {
+            int colon = entry.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("Malformed role composition: " + key);
+            }
+            counts.put(RoleName.valueOf(entry.substring(0, colon)), Integer.parseInt(entry.substring(colon + 1)));
+        }
+        return custom(counts);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isPreset() {
+        return playersPerWerewolf > 0;
+    }
+
+    public int werewolves(int playerCount) {
+        return isPreset() ? Math.max(1, playerCount / playersPerWerewolf) : counts.getOrDefault(RoleName.WEREWOLF, 0);
+    }
+
+    /**
+     * The fewest players this composition can be dealt to: every fixed role has a seat and the werewolves are
+     * fewer than everybody else.
+     */
+    public int minPlayers() {
+        int seats = isPreset() ? 1 : 0;
+        for (int count : counts.values()) {
+            seats += count;
+        }
+        int werewolves = werewolves(seats);
+        return Math.max(GameRules.MIN_PLAYERS, Math.max(seats, 2 * werewolves + 1));
+    }
+
+    /**
+     * Roles for a game of {@code playerCount}, before shuffling, werewolves first.
+     */
+    public List<RoleName> plan(int playerCount) {
+        List<RoleName> roles = new ArrayList<>(playerCount);
+        int werewolves = werewolves(playerCount);
+        for (int i = 0; i < werewolves; i++) {
+            roles.add(RoleName.WEREWOLF);
+        }
+        counts.forEach((role, count) -> {
+            if (role != RoleName.WEREWOLF) {
+                for (int i = 0; i < count; i++) {
+                    roles.add(role);
+                }
+            }
+        });
+        while (roles.size() < playerCount) {
+            roles.add(RoleName.VILLAGER);
+        }
+        return Collections.unmodifiableList(roles);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RoleComposition)) {
+            return false;
+        }
+        return key.equals(((RoleComposition) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
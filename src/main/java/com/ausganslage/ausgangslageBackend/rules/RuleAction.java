@@ -0,0 +1,43 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+
+/**
+ * An action taken during the current day. A skipped seer or witch turn is an action without target.
+ */
+public final class RuleAction {
+    private final Long actorPlayerId;
+    private final Long targetPlayerId;
+    private final ActionType actionType;
+    private final GamePhase phase;
+    private final boolean skipped;
+
+    public RuleAction(Long actorPlayerId, Long targetPlayerId, ActionType actionType, GamePhase phase, boolean skipped) {
+        this.actorPlayerId = actorPlayerId;
+        this.targetPlayerId = targetPlayerId;
+        this.actionType = actionType;
+        this.phase = phase;
+        this.skipped = skipped;
+    }
+
+    public Long getActorPlayerId() {
+        return actorPlayerId;
+    }
+
+    public Long getTargetPlayerId() {
+        return targetPlayerId;
+    }
+
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    public boolean isSkipped() {
+        return skipped;
+    }
+}
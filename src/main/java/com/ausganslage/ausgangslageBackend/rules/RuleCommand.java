@@ -0,0 +1,73 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GameCommandType;
+
+/**
+ * Something a player, or the host for the transition to voting, asks the rules to do. Players are identified by
+ * player id, not user id.
+ */
+public final class RuleCommand {
+    private final GameCommandType type;
+    private final Long actorPlayerId;
+    private final ActionType actionType;
+    private final Long targetPlayerId;
+
+    private RuleCommand(GameCommandType type, Long actorPlayerId, ActionType actionType, Long targetPlayerId) {
+        this.type = type;
+        this.actorPlayerId = actorPlayerId;
+        this.actionType = actionType;
+        this.targetPlayerId = targetPlayerId;
+    }
+
+    /**
+     * A lynch vote by day or a wolf vote at night, depending on the phase.
+     */
+    public static RuleCommand vote(Long actorPlayerId, Long targetPlayerId) {
+        return new RuleCommand(GameCommandType.VOTE, actorPlayerId, null, targetPlayerId);
+    }
+
+    public static RuleCommand power(Long actorPlayerId, ActionType actionType, Long targetPlayerId) {
+        return new RuleCommand(GameCommandType.POWER, actorPlayerId, actionType, targetPlayerId);
+    }
+
+    public static RuleCommand inspect(Long seerPlayerId, Long targetPlayerId) {
+        return power(seerPlayerId, ActionType.SEER_INSPECT, targetPlayerId);
+    }
+
+    public static RuleCommand heal(Long witchPlayerId, Long targetPlayerId) {
+        return power(witchPlayerId, ActionType.WITCH_HEAL, targetPlayerId);
+    }
+
+    public static RuleCommand poison(Long witchPlayerId, Long targetPlayerId) {
+        return power(witchPlayerId, ActionType.WITCH_POISON, targetPlayerId);
+    }
+
+    public static RuleCommand shoot(Long hunterPlayerId, Long targetPlayerId) {
+        return power(hunterPlayerId, ActionType.HUNTER_SHOOT, targetPlayerId);
+    }
+
+    public static RuleCommand skip(Long actorPlayerId) {
+        return new RuleCommand(GameCommandType.SKIP, actorPlayerId, null, null);
+    }
+
+    public static RuleCommand transitionToVoting() {
+        return new RuleCommand(GameCommandType.TRANSITION_TO_VOTING, null, null, null);
+    }
+
+    public GameCommandType getType() {
+        return type;
+    }
+
+    public Long getActorPlayerId() {
+        return actorPlayerId;
+    }
+
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    public Long getTargetPlayerId() {
+        return targetPlayerId;
+    }
+}
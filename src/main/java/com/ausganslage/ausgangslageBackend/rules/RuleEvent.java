@@ -0,0 +1,115 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.DeathCause;
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RuleEventType;
+
+/**
+ * What a command caused, in the order it happened. Callers turn these into rows, messages, audit entries and
+ * metrics; the rules themselves have no side effects.
+ */
+public final class RuleEvent {
+    private final RuleEventType type;
+    private final Long playerId;
+    private final RuleAction action;
+    private final DeathCause cause;
+    private final GamePhase fromPhase;
+    private final GamePhase toPhase;
+    private final Faction winner;
+    private final int dayNumber;
+
+    private RuleEvent(RuleEventType type, Long playerId, RuleAction action, DeathCause cause,
+                      GamePhase fromPhase, GamePhase toPhase, Faction winner, int dayNumber) {
+        this.type = type;
+        this.playerId = playerId;
+        this.action = action;
+        this.cause = cause;
+        this.fromPhase = fromPhase;
+        this.toPhase = toPhase;
+        this.winner = winner;
+        this.dayNumber = dayNumber;
+    }
+
+    public static RuleEvent actionRecorded(RuleAction action) {
+        return new RuleEvent(RuleEventType.ACTION_RECORDED, action.getActorPlayerId(), action, null, null, null, null, 0);
+    }
+
+    /**
+     * {@code action} was dropped because its actor voted again.
+     */
+    public static RuleEvent actionReplaced(RuleAction action) {
+        return new RuleEvent(RuleEventType.ACTION_REPLACED, action.getActorPlayerId(), action, null, null, null, null, 0);
+    }
+
+    public static RuleEvent phaseChanged(GamePhase fromPhase, GamePhase toPhase, int dayNumber) {
+        return new RuleEvent(RuleEventType.PHASE_CHANGED, null, null, null, fromPhase, toPhase, null, dayNumber);
+    }
+
+    public static RuleEvent victimHealed(Long playerId) {
+        return new RuleEvent(RuleEventType.VICTIM_HEALED, playerId, null, null, null, null, null, 0);
+    }
+
+    public static RuleEvent playerKilled(Long playerId, DeathCause cause) {
+        return new RuleEvent(RuleEventType.PLAYER_KILLED, playerId, null, cause, null, null, null, 0);
+    }
+
+    public static RuleEvent hunterArmed(Long playerId) {
+        return new RuleEvent(RuleEventType.HUNTER_ARMED, playerId, null, null, null, null, null, 0);
+    }
+
+    public static RuleEvent quietNight() {
+        return new RuleEvent(RuleEventType.QUIET_NIGHT, null, null, null, null, null, null, 0);
+    }
+
+    public static RuleEvent noLynch() {
+        return new RuleEvent(RuleEventType.NO_LYNCH, null, null, null, null, null, null, 0);
+    }
+
+    public static RuleEvent nightResolved() {
+        return new RuleEvent(RuleEventType.NIGHT_RESOLVED, null, null, null, null, null, null, 0);
+    }
+
+    public static RuleEvent dayResolved() {
+        return new RuleEvent(RuleEventType.DAY_RESOLVED, null, null, null, null, null, null, 0);
+    }
+
+    public static RuleEvent gameWon(Faction winner, GamePhase fromPhase, int dayNumber) {
+        return new RuleEvent(RuleEventType.GAME_WON, null, null, null, fromPhase, GamePhase.RESULT, winner, dayNumber);
+    }
+
+    public RuleEventType getType() {
+        return type;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public RuleAction getAction() {
+        return action;
+    }
+
+    public DeathCause getCause() {
+        return cause;
+    }
+
+    public GamePhase getFromPhase() {
+        return fromPhase;
+    }
+
+    public GamePhase getToPhase() {
+        return toPhase;
+    }
+
+    public Faction getWinner() {
+        return winner;
+    }
+
+    /**
+     * Day number after a phase change or at the end of the game.
+     */
+    public int getDayNumber() {
+        return dayNumber;
+    }
+}
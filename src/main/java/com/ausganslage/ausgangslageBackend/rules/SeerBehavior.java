@@ -0,0 +1,61 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.InvalidGameStateException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The seer inspects one player's role per night, or skips.
+ */
+class SeerBehavior implements RoleBehavior {
+
+    @Override
+    public RoleName role() {
+        return RoleName.SEER;
+    }
+
+    @Override
+    public GamePhase nightPhase() {
+        return GamePhase.NIGHT_SEER;
+    }
+
+    @Override
+    public boolean actsAllNight() {
+        return true;
+    }
+
+    @Override
+    public boolean nightTurnDone(GameState state) {
+        return GameRules.seerDone(state.hasAlive(RoleName.SEER),
+            state.hasAction(GamePhase.NIGHT_SEER, ActionType.SEER_INSPECT));
+    }
+
+    @Override
+    public ActionType skipAction() {
+        return ActionType.SEER_INSPECT;
+    }
+
+    @Override
+    public Set<ActionType> powers() {
+        return Set.of(ActionType.SEER_INSPECT);
+    }
+
+    @Override
+    public Long validatePower(GameState state, PlayerState actor, ActionType actionType, Long targetId) {
+        GameEngine.requireRole(actor, RoleName.SEER, "Only the Seer can inspect", actionType);
+        if (GameEngine.nightTurn(state, this) == null) {
+            throw new InvalidGameStateException("Can only inspect during Seer phase",
+                String.valueOf(state.getPhase()), GamePhase.NIGHT_SEER.toString());
+        }
+        return targetId;
+    }
+
+    @Override
+    public void nightActions(PlayerState player, List<String> actions) {
+        actions.add(ActionType.SEER_INSPECT.name());
+    }
+}
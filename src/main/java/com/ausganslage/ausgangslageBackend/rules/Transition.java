@@ -0,0 +1,24 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import java.util.List;
+
+/**
+ * The state after a command together with the events that led there.
+ */
+public final class Transition {
+    private final GameState state;
+    private final List<RuleEvent> events;
+
+    public Transition(GameState state, List<RuleEvent> events) {
+        this.state = state;
+        this.events = events;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public List<RuleEvent> getEvents() {
+        return events;
+    }
+}
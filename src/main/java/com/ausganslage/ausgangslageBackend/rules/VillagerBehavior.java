@@ -0,0 +1,14 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+/**
+ * Villagers only discuss and vote by day.
+ */
+class VillagerBehavior implements RoleBehavior {
+
+    @Override
+    public RoleName role() {
+        return RoleName.VILLAGER;
+    }
+}
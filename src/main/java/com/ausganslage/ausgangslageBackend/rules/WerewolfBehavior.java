@@ -0,0 +1,51 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+
+/**
+ * Wolves vote on a victim together in the first night phase, share a private chat and know each other.
+ */
+class WerewolfBehavior implements RoleBehavior {
+
+    @Override
+    public RoleName role() {
+        return RoleName.WEREWOLF;
+    }
+
+    @Override
+    public GamePhase nightPhase() {
+        return GamePhase.NIGHT_WOLVES;
+    }
+
+    @Override
+    public boolean nightTurnDone(GameState state) {
+        return GameRules.werewolvesDone(state.countAlive(RoleName.WEREWOLF),
+            state.countAliveActors(GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL));
+    }
+
+    @Override
+    public ActionType nightVote() {
+        return ActionType.VOTE_WOLF_KILL;
+    }
+
+    @Override
+    public void validateTarget(ActionType actionType, PlayerState actor, PlayerState target) {
+        if (actionType == ActionType.VOTE_WOLF_KILL && target.getRole() == RoleName.WEREWOLF) {
+            throw new InvalidActionException("VOTE_WOLF_KILL", "Werewolves cannot kill each other");
+        }
+    }
+
+    @Override
+    public ChatChannel nightChannel() {
+        return ChatChannel.NIGHT_WOLVES;
+    }
+
+    @Override
+    public boolean knowsRole(RoleName other) {
+        return other == RoleName.WEREWOLF;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The witch has one heal potion for the wolves' victim and one poison for anybody, and uses at most one of them
+ * per night.
+ */
+class WitchBehavior implements RoleBehavior {
+
+    @Override
+    public RoleName role() {
+        return RoleName.WITCH;
+    }
+
+    @Override
+    public GamePhase nightPhase() {
+        return GamePhase.NIGHT_WITCH;
+    }
+
+    /**
+     * Only potions end the turn; a hunter shooting during the witch phase does not.
+     */
+    @Override
+    public boolean nightTurnDone(GameState state) {
+        PlayerState witch = state.firstAlive(RoleName.WITCH);
+        if (witch == null) {
+            return true;
+        }
+        boolean acted = state.hasAction(GamePhase.NIGHT_WITCH, ActionType.WITCH_HEAL)
+            || state.hasAction(GamePhase.NIGHT_WITCH, ActionType.WITCH_POISON);
+        return GameRules.witchDone(true, acted, witch.hasHealPotion() || witch.hasPoisonPotion());
+    }
+
+    @Override
+    public ActionType skipAction() {
+        return ActionType.WITCH_HEAL;
+    }
+
+    @Override
+    public Set<ActionType> powers() {
+        return Set.of(ActionType.WITCH_HEAL, ActionType.WITCH_POISON);
+    }
+
+    @Override
+    public Long validatePower(GameState state, PlayerState actor, ActionType actionType, Long targetId) {
+        if (actionType == ActionType.WITCH_HEAL) {
+            GameEngine.requireRole(actor, RoleName.WITCH, "Only the Witch can heal", actionType);
+            GameEngine.requirePhase(state.getPhase(), GamePhase.NIGHT_WITCH, "Can only heal during Witch phase");
+            if (!actor.hasHealPotion()) {
+                throw new InvalidActionException("WITCH_HEAL", "Heal potion already used");
+            }
+            Long wolfVictimId = state.wolfVictimId();
+            if (wolfVictimId == null) {
+                throw new InvalidActionException("WITCH_HEAL", "No wolf victim to heal");
+            }
+            if (targetId != null && !targetId.equals(wolfVictimId)) {
+                throw new InvalidActionException("WITCH_HEAL", "Can only heal the wolf victim");
+            }
+            return wolfVictimId;
+        }
+
+        GameEngine.requireRole(actor, RoleName.WITCH, "Only the Witch can poison", actionType);
+        GameEngine.requirePhase(state.getPhase(), GamePhase.NIGHT_WITCH, "Can only poison during Witch phase");
+        if (!actor.hasPoisonPotion()) {
+            throw new InvalidActionException("WITCH_POISON", "Poison potion already used");
+        }
+        return targetId;
+    }
+
+    @Override
+    public GameState applyPower(GameState state, PlayerState actor, PlayerState target, ActionType actionType,
+                                List<RuleEvent> events) {
+        return state.withPlayer(actionType == ActionType.WITCH_HEAL
+            ? actor.withoutHealPotion() : actor.withoutPoisonPotion());
+    }
+
+    @Override
+    public void nightActions(PlayerState player, List<String> actions) {
+        if (player.hasHealPotion()) {
+            actions.add(ActionType.WITCH_HEAL.name());
+        }
+        if (player.hasPoisonPotion()) {
+            actions.add(ActionType.WITCH_POISON.name());
+        }
+    }
+
+    @Override
+    public PlayerState starting(PlayerState player) {
+        return player.withPotions();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.projection.RoleAliveCount;
+import com.ausganslage.ausgangslageBackend.rules.AliveCounts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks in the background that the alive counts {@link AliveCountRegistry} carries between commands match the
+ * persisted {@code isAlive} flags. Every {@code app.alive-audit.interval-ms} the counts of each game it holds are
+ * compared with one grouped count query. A difference seen twice in a row, so not just a kill committing between
+ * the two reads, is logged as an error and the counts are dropped, so the game's next command counts its players
+ * from the database again.
+ */
+@Component
+public class AliveCountAudit implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AliveCountAudit.class);
+
+    private final AliveCountRegistry registry;
+    private final GamePlayerRepository gamePlayerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> suspected = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+
+    public AliveCountAudit(AliveCountRegistry registry, GamePlayerRepository gamePlayerRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.alive-audit.interval-ms:60000}") long intervalMillis) {
+        this.registry = registry;
+        this.gamePlayerRepository = gamePlayerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        if (intervalMillis > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "alive-count-audit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::verify, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Compares the counts of every game in the registry with the database; returns how many games disagreed twice
+     * in a row.
+     */
+    public int verify() {
+        List<Long> gameIds = registry.gameIds();
+        suspected.retainAll(gameIds);
+        int mismatches = 0;
+        for (Long gameId : gameIds) {
+            try {
+                if (!verify(gameId)) {
+                    mismatches++;
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Alive count audit failed: gameId={}", gameId, e);
+            }
+        }
+        return mismatches;
+    }
+
+    private boolean verify(Long gameId) {
+        AliveCounts counted = registry.current(gameId);
+        AliveCounts persisted = transactionTemplate.execute(status -> persistedCounts(gameId));
+        if (counted == null || counted.equals(persisted)) {
+            suspected.remove(gameId);
+            return true;
+        }
+        if (suspected.add(gameId)) {
+            logger.debug("Alive counts differ, checking again next round: gameId={}, counted=[{}], persisted=[{}]",
+                gameId, counted, persisted);
+            return true;
+        }
+        logger.error("Alive counts out of sync with persisted players: gameId={}, counted=[{}], persisted=[{}]",
+            gameId, counted, persisted);
+        registry.discard(gameId, counted);
+        suspected.remove(gameId);
+        return false;
+    }
+
+    private AliveCounts persistedCounts(Long gameId) {
+        AliveCounts counts = AliveCounts.NONE;
+        for (RoleAliveCount row : gamePlayerRepository.countAliveByRole(gameId)) {
+            counts = counts.plus(row.getRoleName(), row.getFaction(), (int) row.getAliveCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.rules.AliveCounts;
+import com.ausganslage.ausgangslageBackend.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The alive counts of each running game, carried from one command to the next so a command does not count the
+ * players again. Dealing the roles seeds them and every command commits the counts its deaths left.
+ * <p>
+ * Each entry is stamped with the version of the game row it was committed with, and a command only takes it for
+ * the version it locked. A rolled back command, another node running the game meanwhile or a restored snapshot
+ * therefore make the game count its players once more instead of using stale counts. Finished games are
+ * forgotten; beyond {@code app.alive-counts.max-games} the game used least recently is dropped.
+ */
+@Component
+public class AliveCountRegistry {
+
+    private final Map<Long, Stamped> games;
+
+    public AliveCountRegistry(@Value("${app.alive-counts.max-games:10000}") int maxGames) {
+        this.games = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Stamped> eldest) {
+                return size() > maxGames;
+            }
+        });
+    }
+
+    /**
+     * The counts committed with {@code version} of the game row, or {@code null} if they have to be counted.
+     */
+    public AliveCounts get(Long gameId, Long version) {
+        Stamped stamped = games.get(gameId);
+        return stamped != null && stamped.version.equals(version) ? stamped.counts : null;
+    }
+
+    /**
+     * Stores {@code counts} for {@code game} once the current transaction committed, stamped with the version
+     * the commit gave its row. An entry with a newer version is kept.
+     */
+    public void commit(Game game, AliveCounts counts) {
+        TransactionHooks.afterCommit(() -> games.merge(game.getId(), new Stamped(game.getVersion(), counts),
+            (known, committed) -> committed.version >= known.version ? committed : known));
+    }
+
+    public void forget(Long gameId) {
+        TransactionHooks.afterCommit(() -> games.remove(gameId));
+    }
+
+    /**
+     * Drops the counts of {@code gameId} if they are still {@code counts}, so its next command counts again.
+     */
+    void discard(Long gameId, AliveCounts counts) {
+        synchronized (games) {
+            Stamped stamped = games.get(gameId);
+            if (stamped != null && stamped.counts.equals(counts)) {
+                games.remove(gameId);
+            }
+        }
+    }
+
+    /**
+     * The current counts of {@code gameId} whatever their version, or {@code null}.
+     */
+    AliveCounts current(Long gameId) {
+        Stamped stamped = games.get(gameId);
+        return stamped != null ? stamped.counts : null;
+    }
+
+    List<Long> gameIds() {
+        synchronized (games) {
+            return new ArrayList<>(games.keySet());
+        }
+    }
+
+    private record Stamped(Long version, AliveCounts counts) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs phase advancement off the request thread, in order per game.
+ * <p>
+ * At most one task per game runs at a time, on a small shared pool ({@code app.phase-advance.threads}). A task
+ * submitted while one is running for the same game is not queued behind it: the latest one runs once the current
+ * one finished, so a burst of votes costs one or two evaluations, each of which sees every vote committed before
+ * it started. Off by default: unless {@code app.phase-advance.async=true}, nothing runs here and
+ * {@code GameService} advances on the request thread as before.
+ */
+@Component
+public class GamePhaseWorker implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(GamePhaseWorker.class);
+
+    /**
+     * Marks a game whose task is running with nothing waiting behind it.
+     */
+    private static final Runnable NOTHING_WAITING = () -> { };
+
+    private final boolean async;
+    private final ExecutorService executor;
+    private final Map<Long, Runnable> waiting = new ConcurrentHashMap<>();
+
+    public GamePhaseWorker(@Value("${app.phase-advance.async:false}") boolean async,
+                           @Value("${app.phase-advance.threads:2}") int threads) {
+        this.async = async;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = async ? Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "phase-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void submit(Long gameId, Runnable task) {
+        if (!async) {
+            task.run();
+            return;
+        }
+        boolean[] idle = {false};
+        waiting.compute(gameId, (id, current) -> {
+            if (current == null) {
+                idle[0] = true;
+                return NOTHING_WAITING;
+            }
+            return task;
+        });
+        if (idle[0]) {
+            start(gameId, task);
+        }
+    }
+
+    /**
+     * Whether a task of {@code gameId} is running or waiting.
+     */
+    boolean isScheduled(Long gameId) {
+        return waiting.containsKey(gameId);
+    }
+
+    private void start(Long gameId, Runnable task) {
+        try {
+            executor.execute(() -> run(gameId, task));
+        } catch (RejectedExecutionException e) {
+            // Shutting down: clear the mark, or every later submit for the game would wait behind nothing.
+            waiting.remove(gameId);
+            logger.warn("Phase advancement rejected: gameId={}", gameId, e);
+        }
+    }
+
+    private void run(Long gameId, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("Phase advancement failed: gameId={}", gameId, e);
+        } finally {
+            Runnable[] next = {null};
+            waiting.compute(gameId, (id, current) -> {
+                if (current == NOTHING_WAITING) {
+                    return null;
+                }
+                next[0] = current;
+                return NOTHING_WAITING;
+            });
+            if (next[0] != null) {
+                start(gameId, next[0]);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
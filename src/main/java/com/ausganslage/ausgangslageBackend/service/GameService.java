@@ -2,23 +2,50 @@ package com.ausganslage.ausgangslageBackend.service;
 
 import com.ausganslage.ausgangslageBackend.dto.*;
 import com.ausganslage.ausgangslageBackend.enums.*;
+import com.ausganslage.ausgangslageBackend.event.GameEvent;
+import com.ausganslage.ausgangslageBackend.event.GameEventBus;
 import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
 import com.ausganslage.ausgangslageBackend.exception.InvalidGameStateException;
 import com.ausganslage.ausgangslageBackend.exception.ResourceNotFoundException;
 import com.ausganslage.ausgangslageBackend.exception.UnauthorizedActionException;
+import com.ausganslage.ausgangslageBackend.failover.GameCommand;
+import com.ausganslage.ausgangslageBackend.failover.GameJournal;
+import com.ausganslage.ausgangslageBackend.metrics.GameMetrics;
 import com.ausganslage.ausgangslageBackend.model.*;
 import com.ausganslage.ausgangslageBackend.repository.*;
+import com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView;
+import com.ausganslage.ausgangslageBackend.rules.AliveCounts;
+import com.ausganslage.ausgangslageBackend.rules.GameEngine;
+import com.ausganslage.ausgangslageBackend.rules.GameRules;
+import com.ausganslage.ausgangslageBackend.rules.GameState;
+import com.ausganslage.ausgangslageBackend.rules.PlayerState;
+import com.ausganslage.ausgangslageBackend.rules.RoleBehavior;
+import com.ausganslage.ausgangslageBackend.rules.RoleBehaviors;
+import com.ausganslage.ausgangslageBackend.rules.RoleComposition;
+import com.ausganslage.ausgangslageBackend.rules.RuleAction;
+import com.ausganslage.ausgangslageBackend.rules.RuleCommand;
+import com.ausganslage.ausgangslageBackend.rules.RuleEvent;
+import com.ausganslage.ausgangslageBackend.rules.Transition;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
 import com.ausganslage.ausgangslageBackend.util.AuditLogger;
 import com.ausganslage.ausgangslageBackend.util.LoggingContext;
+import com.ausganslage.ausgangslageBackend.util.TransactionHooks;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +53,16 @@ public class GameService {
 
     private static final Logger logger = LoggerFactory.getLogger(GameService.class);
 
+    private static final String HEAL_POTION = "healPotion";
+    private static final String POISON_POTION = "poisonPotion";
+    private static final String HUNTER_SHOT_AVAILABLE = "hunterShotAvailable";
+
+    /**
+     * Upper bound on phases one background advancement moves through; a night resolving into a win takes three.
+     */
+    private static final int MAX_ADVANCE_STEPS = 8;
+    private static final int MAX_ADVANCE_ATTEMPTS = 3;
+
     private final GameRepository gameRepository;
     private final GamePlayerRepository gamePlayerRepository;
     private final GameActionRepository gameActionRepository;
@@ -34,12 +71,29 @@ public class GameService {
     private final RoleTemplateRepository roleTemplateRepository;
     private final UserRepository userRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final GameMetrics gameMetrics;
+    private final ReadSnapshots readSnapshots;
+    private final GameEventBus gameEventBus;
+    private final GameJournal gameJournal;
+    private final RolePlanCache rolePlanCache;
+    private final NightMode nightMode;
+    private final GamePhaseWorker phaseWorker;
+    private final TransactionTemplate transactionTemplate;
+    private final NightResultIndex nightResultIndex;
+    private final AliveCountRegistry aliveCounts;
+    private final EntityManager entityManager;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     public GameService(GameRepository gameRepository, GamePlayerRepository gamePlayerRepository,
                        GameActionRepository gameActionRepository, LobbyRepository lobbyRepository,
                        LobbyMemberRepository lobbyMemberRepository, RoleTemplateRepository roleTemplateRepository,
-                       UserRepository userRepository, ChatMessageRepository chatMessageRepository) {
+                       UserRepository userRepository, ChatMessageRepository chatMessageRepository,
+                       GameMetrics gameMetrics, ReadSnapshots readSnapshots, GameEventBus gameEventBus,
+                       GameJournal gameJournal, RolePlanCache rolePlanCache,
+                       @Value("${app.rules.night-mode:SEQUENTIAL}") NightMode nightMode,
+                       GamePhaseWorker phaseWorker, PlatformTransactionManager transactionManager,
+                       NightResultIndex nightResultIndex, AliveCountRegistry aliveCounts,
+                       EntityManager entityManager) {
         this.gameRepository = gameRepository;
         this.gamePlayerRepository = gamePlayerRepository;
         this.gameActionRepository = gameActionRepository;
@@ -48,6 +102,17 @@ public class GameService {
         this.roleTemplateRepository = roleTemplateRepository;
         this.userRepository = userRepository;
         this.chatMessageRepository = chatMessageRepository;
+        this.gameMetrics = gameMetrics;
+        this.readSnapshots = readSnapshots;
+        this.gameEventBus = gameEventBus;
+        this.gameJournal = gameJournal;
+        this.rolePlanCache = rolePlanCache;
+        this.nightMode = nightMode != null ? nightMode : NightMode.SEQUENTIAL;
+        this.phaseWorker = phaseWorker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nightResultIndex = nightResultIndex;
+        this.aliveCounts = aliveCounts;
+        this.entityManager = entityManager;
     }
 
     @Transactional
@@ -98,6 +163,14 @@ public class GameService {
             throw new InvalidActionException("START_GAME", "All players must be ready");
         }
 
+        RoleComposition composition = rolePlanCache.composition(lobby.getRoleComposition());
+        if (members.size() < composition.minPlayers()) {
+            logger.warn("Start game failed - too few players for role composition: lobbyId={}, playerCount={}, composition={}",
+                lobby.getId(), members.size(), composition);
+            throw new InvalidActionException("START_GAME",
+                "Role composition needs at least " + composition.minPlayers() + " players");
+        }
+
         logger.info("Creating game: lobbyId={}, playerCount={}", lobby.getId(), members.size());
 
         Game game = new Game();
@@ -106,70 +179,65 @@ public class GameService {
         game.setCurrentPhase(GamePhase.NIGHT_WOLVES);
         game.setDayNumber(1);
         game.setCreatedAt(Instant.now());
+        game.setSeed(ThreadLocalRandom.current().nextLong());
+        game.setNightMode(nightMode);
 
         game = gameRepository.save(game);
 
         LoggingContext.setGameId(game.getId());
         logger.info("Game entity created: gameId={}, lobbyId={}", game.getId(), lobby.getId());
 
-        distributeRoles(game, members);
+        distributeRoles(game, members, rolePlanCache.plan(composition, members.size()));
 
         lobby.setStatus(LobbyStatus.IN_GAME);
         lobbyRepository.save(lobby);
+        readSnapshots.invalidateLobby(lobby.getLobbyCode());
 
         AuditLogger.logGameStarted(game.getId(), lobby.getId(), members.size(), currentUser.getId());
+        gameMetrics.gameStarted();
         logger.info("Game started successfully: gameId={}, lobbyId={}, playerCount={}",
             game.getId(), lobby.getId(), members.size());
 
         createSystemMessage(game.getId(), "Game started! Night falls...");
+        gameJournal.gameStarted(game.getId());
 
         return game;
     }
 
-    private void distributeRoles(Game game, List<LobbyMember> members) {
-        logger.info("Distributing roles: gameId={}, playerCount={}", game.getId(), members.size());
+    private void distributeRoles(Game game, List<LobbyMember> members, List<RoleName> plan) {
+        logger.info("Distributing roles: gameId={}, playerCount={}, seed={}", game.getId(), members.size(), game.getSeed());
 
         int playerCount = members.size();
-        List<RoleTemplate> rolesToAssign = new ArrayList<>();
-
-        int werewolfCount = Math.max(1, playerCount / 4);
+        long werewolfCount = plan.stream().filter(role -> role == RoleName.WEREWOLF).count();
+        long villagerCount = plan.stream().filter(role -> role == RoleName.VILLAGER).count();
         logger.debug("Calculating werewolf count: gameId={}, playerCount={}, werewolfCount={}",
             game.getId(), playerCount, werewolfCount);
 
-        RoleTemplate werewolf = roleTemplateRepository.findByName(RoleName.WEREWOLF)
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", "WEREWOLF"));
-        for (int i = 0; i < werewolfCount; i++) {
-            rolesToAssign.add(werewolf);
+        Map<RoleName, RoleTemplate> roleTemplates = new EnumMap<>(RoleName.class);
+        for (RoleTemplate template : roleTemplateRepository.findAll()) {
+            roleTemplates.put(template.getName(), template);
         }
 
-        RoleTemplate seer = roleTemplateRepository.findByName(RoleName.SEER)
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", "SEER"));
-        rolesToAssign.add(seer);
-
-        RoleTemplate witch = roleTemplateRepository.findByName(RoleName.WITCH)
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", "WITCH"));
-        rolesToAssign.add(witch);
-
-        RoleTemplate hunter = roleTemplateRepository.findByName(RoleName.HUNTER)
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", "HUNTER"));
-        rolesToAssign.add(hunter);
-
-        RoleTemplate villager = roleTemplateRepository.findByName(RoleName.VILLAGER)
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", "VILLAGER"));
-        while (rolesToAssign.size() < playerCount) {
-            rolesToAssign.add(villager);
+        List<RoleTemplate> rolesToAssign = new ArrayList<>(playerCount);
+        for (RoleName role : plan) {
+            rolesToAssign.add(requireRoleTemplate(roleTemplates, role));
         }
 
-        logger.debug("Role distribution composition: gameId={}, werewolves={}, villagers={}, special roles=3",
-            game.getId(), werewolfCount, playerCount - werewolfCount - 3);
+        logger.debug("Role distribution composition: gameId={}, werewolves={}, villagers={}, special roles={}",
+            game.getId(), werewolfCount, villagerCount, playerCount - werewolfCount - villagerCount);
 
-        Collections.shuffle(rolesToAssign);
+        // Roles and seats draw from separate splits of the game's seed; members are sorted by user id first so
+        // the result depends only on the seed and who plays, not on the order the database returns them in
+        SplittableRandom random = new SplittableRandom(game.getSeed());
+        GameRules.shuffle(rolesToAssign, random.split());
 
         List<LobbyMember> shuffledMembers = new ArrayList<>(members);
-        Collections.shuffle(shuffledMembers);
+        shuffledMembers.sort(Comparator.comparing(LobbyMember::getUserId));
+        GameRules.shuffle(shuffledMembers, random.split());
 
         logger.debug("Assigning roles to players: gameId={}", game.getId());
 
+        List<GamePlayer> players = new ArrayList<>(playerCount);
         for (int i = 0; i < shuffledMembers.size(); i++) {
             LobbyMember member = shuffledMembers.get(i);
             RoleTemplate role = rolesToAssign.get(i);
@@ -182,22 +250,37 @@ public class GameService {
             player.setIsAlive(true);
             player.setRevealedRole(false);
 
+            PlayerState start = PlayerState.starting(null, member.getUserId(), role.getName(), role.getFaction());
             Map<String, Object> stateFlags = new HashMap<>();
-            if (role.getName() == RoleName.WITCH) {
-                stateFlags.put("healPotion", true);
-                stateFlags.put("poisonPotion", true);
-            } else if (role.getName() == RoleName.HUNTER) {
-                stateFlags.put("hunterShotAvailable", true);
-            }
+            putFlag(stateFlags, HEAL_POTION, start.hasHealPotion());
+            putFlag(stateFlags, POISON_POTION, start.hasPoisonPotion());
+            putFlag(stateFlags, HUNTER_SHOT_AVAILABLE, start.isHunterShotAvailable());
             player.setStateFlagsJson(toJson(stateFlags));
 
-            gamePlayerRepository.save(player);
+            players.add(player);
+        }
 
-            User user = userRepository.findById(member.getUserId()).orElse(null);
-            String username = user != null ? user.getUsername() : "Unknown";
+        // Sequence-backed ids are assigned on persist, so the whole batch is flushed in one JDBC batch
+        players = gamePlayerRepository.saveAll(players);
+
+        AliveCounts alive = AliveCounts.NONE;
+        for (RoleTemplate role : rolesToAssign) {
+            alive = alive.plus(role.getName(), role.getFaction(), 1);
+        }
+        aliveCounts.commit(game, alive);
+
+        Map<Long, String> usernames = new HashMap<>();
+        for (User user : userRepository.findAllById(players.stream().map(GamePlayer::getUserId).toList())) {
+            usernames.put(user.getId(), user.getUsername());
+        }
+
+        for (int i = 0; i < players.size(); i++) {
+            GamePlayer player = players.get(i);
+            RoleTemplate role = rolesToAssign.get(i);
+            String username = usernames.getOrDefault(player.getUserId(), "Unknown");
 
             logger.debug("Role assigned: gameId={}, userId={}, username={}, role={}, seatNumber={}",
-                game.getId(), member.getUserId(), username, role.getName(), i + 1);
+                game.getId(), player.getUserId(), username, role.getName(), player.getSeatNumber());
             AuditLogger.logRoleAssignment(game.getId(), player.getId(), username, role.getName().toString());
         }
 
@@ -205,6 +288,14 @@ public class GameService {
             game.getId(), shuffledMembers.size());
     }
 
+    private RoleTemplate requireRoleTemplate(Map<RoleName, RoleTemplate> roleTemplates, RoleName name) {
+        RoleTemplate template = roleTemplates.get(name);
+        if (template == null) {
+            throw new ResourceNotFoundException("RoleTemplate", name.toString());
+        }
+        return template;
+    }
+
     @Transactional(readOnly = true)
     public GameStateDto getGameState(Long gameId, User currentUser) {
         LoggingContext.setGameId(gameId);
@@ -217,18 +308,31 @@ public class GameService {
                     return new ResourceNotFoundException("Game", gameId);
                 });
 
-        GamePlayer currentPlayer = gamePlayerRepository.findByGameIdAndUserId(gameId, currentUser.getId())
+        List<GamePlayerView> allPlayers = gamePlayerRepository.findViewsByGameId(gameId);
+
+        GamePlayerView currentPlayer = allPlayers.stream()
+                .filter(p -> p.getUserId().equals(currentUser.getId()))
+                .findFirst()
                 .orElseThrow(() -> {
                     logger.warn("Get game state failed - user not in game: gameId={}, userId={}",
                         gameId, currentUser.getId());
                     return new UnauthorizedActionException("You are not in this game", currentUser.getId(), "GET_GAME_STATE");
                 });
 
-        RoleTemplate currentRole = roleTemplateRepository.findById(currentPlayer.getRoleId())
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", currentPlayer.getRoleId()));
+        return buildGameState(game, allPlayers, currentPlayer);
+    }
+
+    /**
+     * Renders the state of {@code game} as seen by {@code currentPlayer}. Pure function of its arguments, also
+     * used to render from in-memory snapshots.
+     */
+    GameStateDto buildGameState(Game game, List<GamePlayerView> allPlayers, GamePlayerView currentPlayer) {
+        if (currentPlayer.getRoleName() == null) {
+            throw new ResourceNotFoundException("RoleTemplate", currentPlayer.getRoleId());
+        }
 
         logger.trace("Game state retrieved: gameId={}, userId={}, phase={}, dayNumber={}, isAlive={}",
-            gameId, currentUser.getId(), game.getCurrentPhase(), game.getDayNumber(), currentPlayer.getIsAlive());
+            game.getId(), currentPlayer.getUserId(), game.getCurrentPhase(), game.getDayNumber(), currentPlayer.getIsAlive());
 
         GameStateDto dto = new GameStateDto();
         dto.setGameId(game.getId());
@@ -236,19 +340,21 @@ public class GameService {
         dto.setCurrentPhase(game.getCurrentPhase());
         dto.setDayNumber(game.getDayNumber());
         dto.setWinnerFaction(game.getWinnerFaction());
+        dto.setStateVersion(game.getVersion());
 
-        dto.setOwnRole(currentRole.getName());
-        dto.setOwnFaction(currentRole.getFaction());
+        Map<String, Object> ownFlags = fromJson(currentPlayer.getStateFlagsJson());
+        dto.setOwnRole(currentPlayer.getRoleName());
+        dto.setOwnFaction(currentPlayer.getFaction());
         dto.setIsAlive(currentPlayer.getIsAlive());
-        dto.setOwnStateFlags(fromJson(currentPlayer.getStateFlagsJson()));
+        dto.setOwnStateFlags(ownFlags);
 
-        List<GamePlayer> allPlayers = gamePlayerRepository.findByGameId(gameId);
         dto.setPlayers(allPlayers.stream()
-                .map(p -> toPlayerInfoDto(p, currentPlayer, currentRole))
+                .map(p -> toPlayerInfoDto(p, currentPlayer))
                 .collect(Collectors.toList()));
 
-        dto.setAvailableActions(calculateAvailableActions(game, currentPlayer, currentRole));
-        dto.setPhaseDescription(getPhaseDescription(game.getCurrentPhase()));
+        dto.setAvailableActions(RoleBehaviors.availableActions(game.getCurrentPhase(), nightModeOf(game),
+            toPlayerState(currentPlayer, ownFlags)));
+        dto.setPhaseDescription(getPhaseDescription(game.getCurrentPhase(), nightModeOf(game)));
 
         return dto;
     }
@@ -262,94 +368,18 @@ public class GameService {
         LoggingContext.setUserId(currentUser.getId());
         LoggingContext.setUsername(currentUser.getUsername());
 
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> {
-                    logger.warn("Vote failed - game not found: gameId={}", gameId);
-                    return new ResourceNotFoundException("Game", gameId);
-                });
+        LoadedGame loaded = loadGame(requireGame(gameId, "Vote"));
+        PlayerState voter = requirePlayer(loaded, currentUser, "SUBMIT_VOTE");
 
-        GamePlayer currentPlayer = gamePlayerRepository.findByGameIdAndUserId(gameId, currentUser.getId())
-                .orElseThrow(() -> {
-                    logger.warn("Vote failed - user not in game: gameId={}, userId={}",
-                        gameId, currentUser.getId());
-                    return new UnauthorizedActionException("You are not in this game", currentUser.getId(), "SUBMIT_VOTE");
-                });
+        Transition transition = submit(loaded, RuleCommand.vote(voter.getId(), request.getTargetPlayerId()));
+        RuleAction vote = recordedAction(transition);
 
-        if (!currentPlayer.getIsAlive()) {
-            logger.warn("Vote failed - player is dead: gameId={}, playerId={}",
-                gameId, currentPlayer.getId());
-            throw new InvalidActionException("SUBMIT_VOTE", "Dead players cannot vote");
-        }
-
-        RoleTemplate currentRole = roleTemplateRepository.findById(currentPlayer.getRoleId())
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", currentPlayer.getRoleId()));
-
-        ActionType actionType;
-        if (game.getCurrentPhase() == GamePhase.DAY_VOTING) {
-            actionType = ActionType.VOTE_LYNCH;
-            logger.debug("Lynch vote: gameId={}, voterId={}, phase={}",
-                gameId, currentPlayer.getId(), game.getCurrentPhase());
-        } else if (game.getCurrentPhase() == GamePhase.NIGHT_WOLVES && currentRole.getName() == RoleName.WEREWOLF) {
-            actionType = ActionType.VOTE_WOLF_KILL;
-            logger.debug("Wolf kill vote: gameId={}, wolvesVoterId={}, phase={}",
-                gameId, currentPlayer.getId(), game.getCurrentPhase());
-        } else {
-            logger.warn("Vote failed - invalid phase: gameId={}, phase={}, role={}",
-                gameId, game.getCurrentPhase(), currentRole.getName());
-            throw new InvalidGameStateException("Invalid voting phase", game.getCurrentPhase().toString(), "DAY_VOTING or NIGHT_WOLVES");
-        }
-
-        GamePlayer targetPlayer = gamePlayerRepository.findById(request.getTargetPlayerId())
-                .orElseThrow(() -> {
-                    logger.warn("Vote failed - target not found: gameId={}, targetPlayerId={}",
-                        gameId, request.getTargetPlayerId());
-                    return new ResourceNotFoundException("GamePlayer", request.getTargetPlayerId());
-                });
-
-        if (!targetPlayer.getIsAlive()) {
-            logger.warn("Vote failed - target is dead: gameId={}, targetPlayerId={}",
-                gameId, request.getTargetPlayerId());
-            throw new InvalidActionException("SUBMIT_VOTE", "Cannot vote for dead player");
-        }
-
-        if (actionType == ActionType.VOTE_WOLF_KILL && currentRole.getName() == RoleName.WEREWOLF) {
-            RoleTemplate targetRole = roleTemplateRepository.findById(targetPlayer.getRoleId()).orElse(null);
-            if (targetRole != null && targetRole.getName() == RoleName.WEREWOLF) {
-                logger.warn("Vote failed - werewolf trying to kill werewolf: gameId={}, voterId={}, targetId={}",
-                    gameId, currentPlayer.getId(), targetPlayer.getId());
-                throw new InvalidActionException("VOTE_WOLF_KILL", "Werewolves cannot kill each other");
-            }
-        }
-
-        Optional<GameAction> existingVote = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActorPlayerId(
-                gameId, game.getDayNumber(), game.getCurrentPhase(), currentPlayer.getId());
-
-        if (existingVote.isPresent()) {
-            logger.debug("Removing existing vote: gameId={}, playerId={}, oldTargetId={}",
-                gameId, currentPlayer.getId(), existingVote.get().getTargetPlayerId());
-            gameActionRepository.delete(existingVote.get());
-        }
-
-        GameAction action = new GameAction();
-        action.setGameId(gameId);
-        action.setDayNumber(game.getDayNumber());
-        action.setPhase(game.getCurrentPhase());
-        action.setActorPlayerId(currentPlayer.getId());
-        action.setTargetPlayerId(targetPlayer.getId());
-        action.setActionType(actionType);
-        action.setCreatedAt(Instant.now());
-
-        gameActionRepository.save(action);
-
-        User targetUser = userRepository.findById(targetPlayer.getUserId()).orElse(null);
-        String targetUsername = targetUser != null ? targetUser.getUsername() : "Unknown";
-
-        AuditLogger.logPlayerAction(gameId, currentPlayer.getId(), currentUser.getUsername(),
-            actionType.toString(), targetPlayer.getId(), targetUsername, game.getCurrentPhase().toString());
+        String targetUsername = username(loaded, vote.getTargetPlayerId(), "Unknown");
+        AuditLogger.logPlayerAction(gameId, voter.getId(), currentUser.getUsername(),
+            vote.getActionType().toString(), vote.getTargetPlayerId(), targetUsername, vote.getPhase().toString());
         logger.info("Vote recorded: gameId={}, actionType={}, voter={}, target={}, phase={}",
-            gameId, actionType, currentUser.getUsername(), targetUsername, game.getCurrentPhase());
-
-        checkAndAdvancePhase(game);
+            gameId, vote.getActionType(), currentUser.getUsername(), targetUsername, vote.getPhase());
+        gameJournal.record(GameCommand.vote(gameId, currentUser, vote.getTargetPlayerId()));
     }
 
     @Transactional
@@ -361,678 +391,458 @@ public class GameService {
         LoggingContext.setUserId(currentUser.getId());
         LoggingContext.setUsername(currentUser.getUsername());
 
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> {
-                    logger.warn("Power action failed - game not found: gameId={}", gameId);
-                    return new ResourceNotFoundException("Game", gameId);
-                });
-
-        GamePlayer currentPlayer = gamePlayerRepository.findByGameIdAndUserId(gameId, currentUser.getId())
-                .orElseThrow(() -> {
-                    logger.warn("Power action failed - user not in game: gameId={}, userId={}",
-                        gameId, currentUser.getId());
-                    return new UnauthorizedActionException("You are not in this game", currentUser.getId(), "POWER_ACTION");
-                });
-
-        if (!currentPlayer.getIsAlive() && request.getActionType() != ActionType.HUNTER_SHOOT) {
-            logger.warn("Power action failed - player is dead: gameId={}, playerId={}, actionType={}",
-                gameId, currentPlayer.getId(), request.getActionType());
-            throw new InvalidActionException("POWER_ACTION", "Dead players cannot use powers");
-        }
-
-        RoleTemplate currentRole = roleTemplateRepository.findById(currentPlayer.getRoleId())
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", currentPlayer.getRoleId()));
-
-        logger.debug("Validating power action: gameId={}, playerId={}, role={}, actionType={}",
-            gameId, currentPlayer.getId(), currentRole.getName(), request.getActionType());
+        LoadedGame loaded = loadGame(requireGame(gameId, "Power action"));
+        PlayerState actor = requirePlayer(loaded, currentUser, "POWER_ACTION");
 
-        validatePowerAction(game, currentPlayer, currentRole, request);
+        Transition transition = submit(loaded,
+            RuleCommand.power(actor.getId(), request.getActionType(), request.getTargetPlayerId()));
+        RuleAction action = recordedAction(transition);
 
-        GameAction action = new GameAction();
-        action.setGameId(gameId);
-        action.setDayNumber(game.getDayNumber());
-        action.setPhase(game.getCurrentPhase());
-        action.setActorPlayerId(currentPlayer.getId());
-        action.setTargetPlayerId(request.getTargetPlayerId());
-        action.setActionType(request.getActionType());
-        action.setCreatedAt(Instant.now());
-
-        gameActionRepository.save(action);
-
-        String targetUsername = "None";
-        if (request.getTargetPlayerId() != null) {
-            GamePlayer targetPlayer = gamePlayerRepository.findById(request.getTargetPlayerId()).orElse(null);
-            if (targetPlayer != null) {
-                User targetUser = userRepository.findById(targetPlayer.getUserId()).orElse(null);
-                targetUsername = targetUser != null ? targetUser.getUsername() : "Unknown";
-            }
-        }
-
-        AuditLogger.logPlayerAction(gameId, currentPlayer.getId(), currentUser.getUsername(),
-            request.getActionType().toString(), request.getTargetPlayerId(), targetUsername,
-            game.getCurrentPhase().toString());
+        String targetUsername = action.getTargetPlayerId() != null
+            ? username(loaded, action.getTargetPlayerId(), "Unknown") : "None";
+        AuditLogger.logPlayerAction(gameId, actor.getId(), currentUser.getUsername(),
+            action.getActionType().toString(), action.getTargetPlayerId(), targetUsername, action.getPhase().toString());
         logger.info("Power action recorded: gameId={}, actionType={}, actor={}, target={}",
-            gameId, request.getActionType(), currentUser.getUsername(), targetUsername);
-
-        if (request.getActionType() == ActionType.WITCH_HEAL || request.getActionType() == ActionType.WITCH_POISON) {
-            logger.debug("Updating witch potions: gameId={}, playerId={}, actionType={}",
-                gameId, currentPlayer.getId(), request.getActionType());
-            updateWitchPotions(currentPlayer, request.getActionType());
-        }
-
-        if (request.getActionType() == ActionType.HUNTER_SHOOT) {
-            logger.info("Hunter shooting: gameId={}, hunterId={}, targetId={}",
-                gameId, currentPlayer.getId(), request.getTargetPlayerId());
-
-            Map<String, Object> flags = fromJson(currentPlayer.getStateFlagsJson());
-            flags.put("hunterShotAvailable", false);
-            currentPlayer.setStateFlagsJson(toJson(flags));
-            gamePlayerRepository.save(currentPlayer);
-
-            GamePlayer target = gamePlayerRepository.findById(request.getTargetPlayerId())
-                    .orElseThrow(() -> new ResourceNotFoundException("GamePlayer", request.getTargetPlayerId()));
-            killPlayer(target, game);
-        }
-
-        checkAndAdvancePhase(game);
+            gameId, action.getActionType(), currentUser.getUsername(), targetUsername);
+        gameJournal.record(GameCommand.power(gameId, currentUser, request.getActionType(), request.getTargetPlayerId()));
     }
 
     @Transactional
     public void skipAction(Long gameId, User currentUser) {
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new ResourceNotFoundException("Game", gameId));
+        LoadedGame loaded = loadGame(requireGame(gameId, "Skip"));
+        PlayerState actor = requirePlayer(loaded, currentUser, "SKIP_ACTION");
 
-        GamePlayer currentPlayer = gamePlayerRepository.findByGameIdAndUserId(gameId, currentUser.getId())
-                .orElseThrow(() -> new UnauthorizedActionException("You are not in this game", currentUser.getId(), "SKIP_ACTION"));
+        submit(loaded, RuleCommand.skip(actor.getId()));
+        gameJournal.record(GameCommand.skip(gameId, currentUser));
+    }
 
-        if (!currentPlayer.getIsAlive()) {
-            throw new InvalidActionException("SKIP_ACTION", "Dead players cannot skip");
+    /**
+     * Applies a player's command. With {@code app.phase-advance.async} the command is only recorded and the phase
+     * is advanced on the {@link GamePhaseWorker} once this transaction committed; clients see the outcome as a
+     * new {@link GameStateDto#getStateVersion()}. The game row is locked while either runs, so a command checked
+     * against a phase never commits after the worker closed that phase.
+     */
+    private Transition submit(LoadedGame loaded, RuleCommand command) {
+        if (!phaseWorker.isAsync()) {
+            Transition transition = GameEngine.apply(loaded.state(), command);
+            applyTransition(loaded, transition);
+            return transition;
         }
+        Transition transition = GameEngine.submit(loaded.state(), command);
+        applyTransition(loaded, transition);
+        Long gameId = loaded.game().getId();
+        TransactionHooks.afterCommit(() -> phaseWorker.submit(gameId, () -> advanceInBackground(gameId)));
+        return transition;
+    }
 
-        RoleTemplate currentRole = roleTemplateRepository.findById(currentPlayer.getRoleId())
-                .orElseThrow(() -> new ResourceNotFoundException("RoleTemplate", currentPlayer.getRoleId()));
-
-        if (game.getCurrentPhase() == GamePhase.NIGHT_SEER && currentRole.getName() == RoleName.SEER) {
-            GameAction skipAction = new GameAction();
-            skipAction.setGameId(gameId);
-            skipAction.setDayNumber(game.getDayNumber());
-            skipAction.setPhase(game.getCurrentPhase());
-            skipAction.setActorPlayerId(currentPlayer.getId());
-            skipAction.setActionType(ActionType.SEER_INSPECT);
-            skipAction.setPayloadJson("{\"skipped\":true}");
-            skipAction.setCreatedAt(Instant.now());
-            gameActionRepository.save(skipAction);
-        } else if (game.getCurrentPhase() == GamePhase.NIGHT_WITCH && currentRole.getName() == RoleName.WITCH) {
-            GameAction skipAction = new GameAction();
-            skipAction.setGameId(gameId);
-            skipAction.setDayNumber(game.getDayNumber());
-            skipAction.setPhase(game.getCurrentPhase());
-            skipAction.setActorPlayerId(currentPlayer.getId());
-            skipAction.setActionType(ActionType.WITCH_HEAL);
-            skipAction.setPayloadJson("{\"skipped\":true}");
-            skipAction.setCreatedAt(Instant.now());
-            gameActionRepository.save(skipAction);
-        } else {
-            throw new InvalidGameStateException("Cannot skip during this phase", game.getCurrentPhase().toString(), "NIGHT_SEER or NIGHT_WITCH");
+    private void advanceInBackground(Long gameId) {
+        LoggingContext.setGameId(gameId);
+        LoggingContext.setAction("ADVANCE_PHASE");
+        try {
+            advancePhase(gameId);
+        } finally {
+            LoggingContext.clear();
         }
-
-        checkAndAdvancePhase(game);
     }
 
-    private void validatePowerAction(Game game, GamePlayer player, RoleTemplate role, PowerActionRequest request) {
-        Map<String, Object> flags = fromJson(player.getStateFlagsJson());
-
-        switch (request.getActionType()) {
-            case SEER_INSPECT:
-                if (role.getName() != RoleName.SEER) {
-                    throw new UnauthorizedActionException("Only the Seer can inspect", player.getUserId(), "SEER_INSPECT");
-                }
-                if (game.getCurrentPhase() != GamePhase.NIGHT_SEER) {
-                    throw new InvalidGameStateException("Can only inspect during Seer phase", game.getCurrentPhase().toString(), GamePhase.NIGHT_SEER.toString());
-                }
-                break;
-
-            case WITCH_HEAL:
-                if (role.getName() != RoleName.WITCH) {
-                    throw new UnauthorizedActionException("Only the Witch can heal", player.getUserId(), "WITCH_HEAL");
-                }
-                if (game.getCurrentPhase() != GamePhase.NIGHT_WITCH) {
-                    throw new InvalidGameStateException("Can only heal during Witch phase", game.getCurrentPhase().toString(), GamePhase.NIGHT_WITCH.toString());
-                }
-                if (!Boolean.TRUE.equals(flags.get("healPotion"))) {
-                    throw new InvalidActionException("WITCH_HEAL", "Heal potion already used");
-                }
-                Long wolfVictimId = getWolfVictimId(game);
-                if (wolfVictimId == null) {
-                    throw new InvalidActionException("WITCH_HEAL", "No wolf victim to heal");
-                }
-                if (request.getTargetPlayerId() != null && !request.getTargetPlayerId().equals(wolfVictimId)) {
-                    throw new InvalidActionException("WITCH_HEAL", "Can only heal the wolf victim");
-                }
-                break;
-
-            case WITCH_POISON:
-                if (role.getName() != RoleName.WITCH) {
-                    throw new UnauthorizedActionException("Only the Witch can poison", player.getUserId(), "WITCH_POISON");
-                }
-                if (game.getCurrentPhase() != GamePhase.NIGHT_WITCH) {
-                    throw new InvalidGameStateException("Can only poison during Witch phase", game.getCurrentPhase().toString(), GamePhase.NIGHT_WITCH.toString());
-                }
-                if (!Boolean.TRUE.equals(flags.get("poisonPotion"))) {
-                    throw new InvalidActionException("WITCH_POISON", "Poison potion already used");
-                }
-                break;
+    /**
+     * Advances the game as far as its committed actions allow, one transaction per phase, and retries a step
+     * that lost a race for the game row. Runs on the {@link GamePhaseWorker}, and directly where the caller needs
+     * the outcome before going on, like journal replay.
+     */
+    public void advancePhase(Long gameId) {
+        for (int step = 0; step < MAX_ADVANCE_STEPS; step++) {
+            if (!Boolean.TRUE.equals(advanceStepWithRetry(gameId))) {
+                return;
+            }
+        }
+        logger.warn("Phase advancement stopped after {} steps: gameId={}", MAX_ADVANCE_STEPS, gameId);
+    }
 
-            case HUNTER_SHOOT:
-                if (role.getName() != RoleName.HUNTER) {
-                    throw new UnauthorizedActionException("Only the Hunter can shoot", player.getUserId(), "HUNTER_SHOOT");
-                }
-                if (!Boolean.TRUE.equals(flags.get("hunterShotAvailable"))) {
-                    throw new InvalidActionException("HUNTER_SHOOT", "Hunter shot not available");
+    private Boolean advanceStepWithRetry(Long gameId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> advanceStep(gameId));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ADVANCE_ATTEMPTS) {
+                    throw e;
                 }
-                if (game.getCurrentPhase() != GamePhase.DAY_DISCUSSION &&
-                    game.getCurrentPhase() != GamePhase.DAY_VOTING &&
-                    game.getCurrentPhase() != GamePhase.NIGHT_WITCH) {
-                    throw new InvalidGameStateException("Hunter can only shoot during day phases or after night resolution",
-                        game.getCurrentPhase().toString(), "DAY_DISCUSSION, DAY_VOTING, or NIGHT_WITCH");
-                }
-                break;
-
-            default:
-                throw new InvalidActionException("POWER_ACTION", "Invalid power action type");
+                logger.debug("Phase advancement conflicted, retrying: gameId={}, attempt={}", gameId, attempt);
+            }
         }
     }
 
-    private void updateWitchPotions(GamePlayer witch, ActionType actionType) {
-        Map<String, Object> flags = fromJson(witch.getStateFlagsJson());
-        if (actionType == ActionType.WITCH_HEAL) {
-            flags.put("healPotion", false);
-        } else if (actionType == ActionType.WITCH_POISON) {
-            flags.put("poisonPotion", false);
+    /**
+     * One {@link GameEngine#advance(GameState)}; {@code true} if the game moved on and may be able to move again.
+     */
+    private boolean advanceStep(Long gameId) {
+        Game game = gameRepository.findByIdForUpdate(gameId).orElse(null);
+        if (game == null || game.getStatus() != GameStatus.RUNNING) {
+            return false;
         }
-        witch.setStateFlagsJson(toJson(flags));
-        gamePlayerRepository.save(witch);
+        LoadedGame loaded = loadGame(game);
+        Transition transition = GameEngine.advance(loaded.state());
+        applyTransition(loaded, transition);
+        GameState before = loaded.state();
+        GameState after = transition.getState();
+        return after.getStatus() == GameStatus.RUNNING && (after.getPhase() != before.getPhase()
+            || after.getDayNumber() != before.getDayNumber());
+    }
+
+    @Transactional
+    public void transitionToVoting(Long gameId) {
+        logger.info("Transitioning to voting phase: gameId={}", gameId);
+        LoggingContext.setGameId(gameId);
+        LoggingContext.setAction("TRANSITION_TO_VOTING");
+
+        LoadedGame loaded = loadGame(requireGame(gameId, "Transition to voting"));
+        applyTransition(loaded, GameEngine.apply(loaded.state(), RuleCommand.transitionToVoting()));
+        gameJournal.record(GameCommand.transitionToVoting(gameId));
+        logger.info("Transitioned to voting phase: gameId={}, dayNumber={}", gameId, loaded.game().getDayNumber());
     }
 
+    /**
+     * Moves the game on if the current phase is complete, then checks for a winner.
+     */
     @Transactional
     public void checkAndAdvancePhase(Game game) {
         logger.debug("Checking phase advancement: gameId={}, currentPhase={}, dayNumber={}",
             game.getId(), game.getCurrentPhase(), game.getDayNumber());
-
-        List<GamePlayer> alivePlayers = gamePlayerRepository.findByGameIdAndIsAlive(game.getId(), true);
-
-        logger.trace("Alive players count: gameId={}, count={}", game.getId(), alivePlayers.size());
-
-        GamePhase oldPhase = game.getCurrentPhase();
-
-        switch (game.getCurrentPhase()) {
-            case NIGHT_WOLVES:
-                if (hasAllWerewolvesVoted(game, alivePlayers)) {
-                    logger.info("All werewolves voted - advancing to Seer phase: gameId={}", game.getId());
-                    game.setCurrentPhase(GamePhase.NIGHT_SEER);
-                    gameRepository.save(game);
-                    AuditLogger.logPhaseChange(game.getId(), oldPhase.toString(),
-                        GamePhase.NIGHT_SEER.toString(), game.getDayNumber());
-                } else {
-                    logger.trace("Waiting for werewolf votes: gameId={}", game.getId());
-                }
-                break;
-
-            case NIGHT_SEER:
-                if (hasSeerActed(game, alivePlayers) || !hasSeerAlive(alivePlayers)) {
-                    logger.info("Seer phase complete - advancing to Witch phase: gameId={}, seerActed={}, seerAlive={}",
-                        game.getId(), hasSeerActed(game, alivePlayers), hasSeerAlive(alivePlayers));
-                    game.setCurrentPhase(GamePhase.NIGHT_WITCH);
-                    gameRepository.save(game);
-                    AuditLogger.logPhaseChange(game.getId(), oldPhase.toString(),
-                        GamePhase.NIGHT_WITCH.toString(), game.getDayNumber());
-                } else {
-                    logger.trace("Waiting for seer action: gameId={}", game.getId());
-                }
-                break;
-
-            case NIGHT_WITCH:
-                if (hasWitchActed(game, alivePlayers) || !hasWitchAlive(alivePlayers)) {
-                    logger.info("Witch phase complete - resolving night actions: gameId={}, witchActed={}, witchAlive={}",
-                        game.getId(), hasWitchActed(game, alivePlayers), hasWitchAlive(alivePlayers));
-                    resolveNightActions(game);
-                    game.setCurrentPhase(GamePhase.DAY_DISCUSSION);
-                    gameRepository.save(game);
-                    AuditLogger.logPhaseChange(game.getId(), oldPhase.toString(),
-                        GamePhase.DAY_DISCUSSION.toString(), game.getDayNumber());
-                } else {
-                    logger.trace("Waiting for witch action: gameId={}", game.getId());
-                }
-                break;
-
-            case DAY_DISCUSSION:
-                logger.trace("Day discussion phase - no automatic advancement: gameId={}", game.getId());
-                break;
-
-            case DAY_VOTING:
-                if (hasAllAlivePlayersVoted(game, alivePlayers)) {
-                    logger.info("All players voted - resolving day voting: gameId={}", game.getId());
-                    resolveDayVoting(game);
-                } else {
-                    logger.trace("Waiting for all players to vote: gameId={}", game.getId());
-                }
-                break;
-
-            case RESULT:
-                logger.trace("Game in result phase: gameId={}", game.getId());
-                break;
-        }
-
-        checkWinCondition(game);
+        LoadedGame loaded = loadGame(game);
+        applyTransition(loaded, GameEngine.advance(loaded.state()));
     }
 
-    private boolean hasAllWerewolvesVoted(Game game, List<GamePlayer> alivePlayers) {
-        List<GamePlayer> aliveWerewolves = alivePlayers.stream()
-                .filter(p -> {
-                    RoleTemplate role = roleTemplateRepository.findById(p.getRoleId()).orElse(null);
-                    return role != null && role.getName() == RoleName.WEREWOLF;
-                })
-                .collect(Collectors.toList());
-
-        if (aliveWerewolves.isEmpty()) return true;
-
-        List<GameAction> votes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-                game.getId(), game.getDayNumber(), GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL);
-
-        Set<Long> votedWerewolfIds = votes.stream()
-                .map(GameAction::getActorPlayerId)
-                .collect(Collectors.toSet());
-
-        Set<Long> aliveWerewolfIds = aliveWerewolves.stream()
-                .map(GamePlayer::getId)
-                .collect(Collectors.toSet());
-
-        return votedWerewolfIds.containsAll(aliveWerewolfIds);
+    @Transactional
+    public void resolveNightActions(Game game) {
+        logger.info("Resolving night actions: gameId={}, dayNumber={}", game.getId(), game.getDayNumber());
+        LoadedGame loaded = loadGame(game);
+        applyTransition(loaded, GameEngine.resolveNight(loaded.state()));
     }
 
-    private boolean hasSeerActed(Game game, List<GamePlayer> alivePlayers) {
-        List<GameAction> actions = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-                game.getId(), game.getDayNumber(), GamePhase.NIGHT_SEER, ActionType.SEER_INSPECT);
-        return !actions.isEmpty();
+    @Transactional
+    public void resolveDayVoting(Game game) {
+        logger.info("Resolving day voting: gameId={}, dayNumber={}", game.getId(), game.getDayNumber());
+        LoadedGame loaded = loadGame(game);
+        applyTransition(loaded, GameEngine.resolveDayVoting(loaded.state()));
     }
 
-    private boolean hasSeerAlive(List<GamePlayer> alivePlayers) {
-        return alivePlayers.stream().anyMatch(p -> {
-            RoleTemplate role = roleTemplateRepository.findById(p.getRoleId()).orElse(null);
-            return role != null && role.getName() == RoleName.SEER;
-        });
+    @Transactional
+    public void checkWinCondition(Game game) {
+        logger.trace("Checking win condition: gameId={}", game.getId());
+        LoadedGame loaded = loadGame(game);
+        applyTransition(loaded, GameEngine.checkWinner(loaded.state()));
     }
 
-    private boolean hasWitchActed(Game game, List<GamePlayer> alivePlayers) {
-        List<GameAction> actions = gameActionRepository.findByGameIdAndDayNumberAndPhase(
-                game.getId(), game.getDayNumber(), GamePhase.NIGHT_WITCH);
+    /**
+     * Loads the game for a command, locking its row so that the command is checked against the phase it lands in.
+     */
+    private Game requireGame(Long gameId, String operation) {
+        return gameRepository.findByIdForUpdate(gameId)
+                .orElseThrow(() -> {
+                    logger.warn("{} failed - game not found: gameId={}", operation, gameId);
+                    return new ResourceNotFoundException("Game", gameId);
+                });
+    }
 
-        if (!actions.isEmpty()) {
-            return true;
+    private PlayerState requirePlayer(LoadedGame loaded, User currentUser, String action) {
+        PlayerState player = loaded.state().playerByUserId(currentUser.getId());
+        if (player == null) {
+            logger.warn("{} failed - user not in game: gameId={}, userId={}",
+                action, loaded.game().getId(), currentUser.getId());
+            throw new UnauthorizedActionException("You are not in this game", currentUser.getId(), action);
         }
+        return player;
+    }
 
-        GamePlayer witch = alivePlayers.stream()
-                .filter(p -> {
-                    RoleTemplate role = roleTemplateRepository.findById(p.getRoleId()).orElse(null);
-                    return role != null && role.getName() == RoleName.WITCH;
-                })
-                .findFirst()
-                .orElse(null);
-
-        if (witch == null) {
-            return true;
+    /**
+     * Builds the rules' view of {@code game}: all players and the actions of the current day.
+     */
+    private LoadedGame loadGame(Game game) {
+        long startNanos = System.nanoTime();
+        Map<Long, RoleTemplate> roles = new HashMap<>();
+        for (RoleTemplate template : roleTemplateRepository.findAll()) {
+            roles.put(template.getId(), template);
         }
 
-        Map<String, Object> flags = fromJson(witch.getStateFlagsJson());
-        if (!Boolean.TRUE.equals(flags.get("healPotion")) && !Boolean.TRUE.equals(flags.get("poisonPotion"))) {
-            return true;
+        List<GamePlayer> playerRows = gamePlayerRepository.findByGameId(game.getId());
+        Map<Long, GamePlayer> playersById = new HashMap<>();
+        List<PlayerState> players = new ArrayList<>(playerRows.size());
+        for (GamePlayer row : playerRows) {
+            RoleTemplate role = roles.get(row.getRoleId());
+            if (role == null) {
+                throw new ResourceNotFoundException("RoleTemplate", row.getRoleId());
+            }
+            Map<String, Object> flags = fromJson(row.getStateFlagsJson());
+            players.add(new PlayerState(row.getId(), row.getUserId(), role.getName(), role.getFaction(),
+                row.getIsAlive(), row.getRevealedRole(), Boolean.TRUE.equals(flags.get(HEAL_POTION)),
+                Boolean.TRUE.equals(flags.get(POISON_POTION)), Boolean.TRUE.equals(flags.get(HUNTER_SHOT_AVAILABLE))));
+            playersById.put(row.getId(), row);
         }
 
-        return false;
-    }
-
-    private boolean hasWitchAlive(List<GamePlayer> alivePlayers) {
-        return alivePlayers.stream().anyMatch(p -> {
-            RoleTemplate role = roleTemplateRepository.findById(p.getRoleId()).orElse(null);
-            return role != null && role.getName() == RoleName.WITCH;
-        });
-    }
-
-    private boolean hasAllAlivePlayersVoted(Game game, List<GamePlayer> alivePlayers) {
-        List<GameAction> votes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-                game.getId(), game.getDayNumber(), GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH);
-
-        Set<Long> votedPlayerIds = votes.stream()
-                .map(GameAction::getActorPlayerId)
-                .collect(Collectors.toSet());
-
-        Set<Long> alivePlayerIds = alivePlayers.stream()
-                .map(GamePlayer::getId)
-                .collect(Collectors.toSet());
+        IdentityHashMap<RuleAction, GameAction> actionRows = new IdentityHashMap<>();
+        List<RuleAction> actions = new ArrayList<>();
+        for (GameAction row : gameActionRepository.findByGameIdAndDayNumber(game.getId(), game.getDayNumber())) {
+            boolean skipped = row.getPayloadJson() != null && Boolean.TRUE.equals(fromJson(row.getPayloadJson()).get("skipped"));
+            RuleAction action = new RuleAction(row.getActorPlayerId(), row.getTargetPlayerId(), row.getActionType(),
+                row.getPhase(), skipped);
+            actions.add(action);
+            actionRows.put(action, row);
+        }
 
-        return votedPlayerIds.containsAll(alivePlayerIds);
+        AliveCounts alive = aliveCounts.get(game.getId(), game.getVersion());
+        GameState state = alive != null
+            ? new GameState(nightModeOf(game), game.getStatus(), game.getCurrentPhase(), game.getDayNumber(),
+                game.getWinnerFaction(), players, actions, alive)
+            : new GameState(nightModeOf(game), game.getStatus(), game.getCurrentPhase(), game.getDayNumber(),
+                game.getWinnerFaction(), players, actions);
+        return new LoadedGame(game, state, playersById, actionRows, startNanos);
     }
 
-    @Transactional
-    public void resolveNightActions(Game game) {
-        logger.info("Resolving night actions: gameId={}, dayNumber={}", game.getId(), game.getDayNumber());
-
-        List<GameAction> wolfVotes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-                game.getId(), game.getDayNumber(), GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL);
-
-        logger.debug("Wolf votes count: gameId={}, voteCount={}", game.getId(), wolfVotes.size());
-
-        Long wolfVictimId = getMajorityTarget(wolfVotes);
-
-        if (wolfVictimId != null) {
-            logger.info("Werewolves chose victim: gameId={}, victimPlayerId={}", game.getId(), wolfVictimId);
-        } else {
-            logger.info("No wolf victim (tie or no votes): gameId={}", game.getId());
+    /**
+     * Writes a transition back: changed players, new and replaced actions, the game row, and for every event
+     * the messages, audit entries, metrics and bus events players and operators expect.
+     */
+    private void applyTransition(LoadedGame loaded, Transition transition) {
+        Game game = loaded.game();
+        GameState before = loaded.state();
+        GameState after = transition.getState();
+        readSnapshots.invalidateGame(game.getId());
+
+        for (int i = 0; i < after.playerCount(); i++) {
+            PlayerState player = after.playerAt(i);
+            if (player != before.playerAt(i)) {
+                updatePlayerRow(loaded.playerRow(player.getId()), player);
+            }
         }
 
-        List<GameAction> witchActions = gameActionRepository.findByGameIdAndDayNumberAndPhase(
-                game.getId(), game.getDayNumber(), GamePhase.NIGHT_WITCH);
-
-        logger.debug("Witch actions count: gameId={}, actionCount={}", game.getId(), witchActions.size());
-
-        boolean healed = false;
-        Long poisonedPlayerId = null;
-
-        for (GameAction action : witchActions) {
-            if (action.getActionType() == ActionType.WITCH_HEAL) {
-                if (action.getTargetPlayerId().equals(wolfVictimId)) {
-                    healed = true;
-                    logger.info("Witch healed wolf victim: gameId={}, victimPlayerId={}",
-                        game.getId(), wolfVictimId);
+        for (RuleEvent event : transition.getEvents()) {
+            switch (event.getType()) {
+                case ACTION_REPLACED -> {
+                    // The upsert below overwrites a vote in place; only rows written before votes had a key go
+                    GameAction replaced = loaded.actionRow(event.getAction());
+                    if (replaced != null && replaced.getVoterPlayerId() == null) {
+                        logger.debug("Removing existing vote: gameId={}, playerId={}, oldTargetId={}",
+                            game.getId(), replaced.getActorPlayerId(), replaced.getTargetPlayerId());
+                        gameActionRepository.delete(replaced);
+                    }
+                }
+                case ACTION_RECORDED -> {
+                    RuleAction action = event.getAction();
+                    if (action.getActionType().isVote()) {
+                        gameActionRepository.upsertVote(game.getId(), before.getDayNumber(), action.getPhase().name(),
+                            action.getActorPlayerId(), action.getTargetPlayerId(), action.getActionType().name(),
+                            gameActionRepository.nextId());
+                    } else {
+                        gameActionRepository.save(toGameAction(game.getId(), before.getDayNumber(), action));
+                    }
+                    if (event.getAction().getActionType() == ActionType.SEER_INSPECT
+                            && event.getAction().getTargetPlayerId() != null) {
+                        indexInspection(loaded, after, event.getAction());
+                    }
+                }
+                case PHASE_CHANGED -> {
+                    logger.info("Phase changed: gameId={}, from={}, to={}, dayNumber={}",
+                        game.getId(), event.getFromPhase(), event.getToPhase(), event.getDayNumber());
+                    AuditLogger.logPhaseChange(game.getId(), event.getFromPhase().toString(),
+                        event.getToPhase().toString(), event.getDayNumber());
+                    gameMetrics.phaseChanged(event.getFromPhase(), event.getToPhase());
+                    gameEventBus.publish(GameEvent.phaseChanged(game.getId(), event.getToPhase(), event.getDayNumber()));
+                    if (event.getFromPhase() == GamePhase.NIGHT_WOLVES) {
+                        indexWolfVictim(loaded, after, event.getDayNumber());
+                    }
+                    if (event.getToPhase() == GamePhase.DAY_VOTING) {
+                        createSystemMessage(game.getId(), "Voting phase has begun! Vote for who to lynch.");
+                    }
+                }
+                case VICTIM_HEALED -> {
+                    logger.info("Witch healed wolf victim: gameId={}, victimPlayerId={}", game.getId(), event.getPlayerId());
                     createSystemMessage(game.getId(), "The Witch saved someone from the wolves!");
                 }
-            } else if (action.getActionType() == ActionType.WITCH_POISON) {
-                poisonedPlayerId = action.getTargetPlayerId();
-                logger.info("Witch poisoned player: gameId={}, poisonedPlayerId={}",
-                    game.getId(), poisonedPlayerId);
-            }
-        }
-
-        if (wolfVictimId != null && !healed) {
-            GamePlayer victim = gamePlayerRepository.findById(wolfVictimId).orElse(null);
-            if (victim != null) {
-                User victimUser = userRepository.findById(victim.getUserId()).orElse(null);
-                String victimName = victimUser != null ? victimUser.getUsername() : "Unknown";
-
-                logger.info("Wolf victim dies: gameId={}, playerId={}, username={}",
-                    game.getId(), victim.getId(), victimName);
-                AuditLogger.logPlayerDeath(game.getId(), victim.getId(), victimName,
-                    "WOLF_KILL", game.getDayNumber());
-
-                killPlayer(victim, game);
-                createSystemMessage(game.getId(), victimName + " was killed by werewolves during the night!");
+                case PLAYER_KILLED -> announceDeath(loaded, event);
+                case HUNTER_ARMED -> {
+                    logger.info("Hunter killed - shot becomes available: gameId={}, hunterId={}",
+                        game.getId(), event.getPlayerId());
+                    createSystemMessage(game.getId(),
+                        username(loaded, event.getPlayerId(), "The Hunter") + " was a Hunter! They can now take revenge!");
+                }
+                case QUIET_NIGHT -> {
+                    logger.info("No deaths during night: gameId={}", game.getId());
+                    createSystemMessage(game.getId(), "No one was killed during the night.");
+                }
+                case NO_LYNCH -> {
+                    logger.info("No lynch (tie or no votes): gameId={}", game.getId());
+                    createSystemMessage(game.getId(), "No one was lynched today.");
+                }
+                case GAME_WON -> {
+                    announceWinner(game, after, event);
+                    TransactionHooks.afterCommit(() -> nightResultIndex.forget(game.getId()));
+                }
             }
         }
 
-        if (poisonedPlayerId != null) {
-            GamePlayer poisoned = gamePlayerRepository.findById(poisonedPlayerId).orElse(null);
-            if (poisoned != null && poisoned.getIsAlive()) {
-                User poisonedUser = userRepository.findById(poisoned.getUserId()).orElse(null);
-                String poisonedName = poisonedUser != null ? poisonedUser.getUsername() : "Unknown";
-
-                logger.info("Poisoned player dies: gameId={}, playerId={}, username={}",
-                    game.getId(), poisoned.getId(), poisonedName);
-                AuditLogger.logPlayerDeath(game.getId(), poisoned.getId(), poisonedName,
-                    "WITCH_POISON", game.getDayNumber());
-
-                killPlayer(poisoned, game);
-                createSystemMessage(game.getId(), poisonedName + " was poisoned during the night!");
-            }
+        if (after.getPhase() != before.getPhase() || after.getDayNumber() != before.getDayNumber()
+                || after.getStatus() != before.getStatus()) {
+            game.setCurrentPhase(after.getPhase());
+            game.setDayNumber(after.getDayNumber());
+            game.setStatus(after.getStatus());
+            game.setWinnerFaction(after.getWinner());
+            gameRepository.save(game);
+        } else if (!after.getAliveCounts().equals(before.getAliveCounts())) {
+            // A death outside a phase change, like a hunter's shot, must still move the version the counts carry
+            entityManager.lock(game, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
         }
 
-        if (wolfVictimId == null && !healed) {
-            logger.info("No deaths during night: gameId={}", game.getId());
-            createSystemMessage(game.getId(), "No one was killed during the night.");
+        if (after.getStatus() != GameStatus.RUNNING) {
+            aliveCounts.forget(game.getId());
+        } else {
+            aliveCounts.commit(game, after.getAliveCounts());
         }
-    }
-
-    @Transactional
-    public void resolveDayVoting(Game game) {
-        logger.info("Resolving day voting: gameId={}, dayNumber={}", game.getId(), game.getDayNumber());
-
-        List<GameAction> votes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-                game.getId(), game.getDayNumber(), GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH);
-
-        logger.debug("Lynch votes count: gameId={}, voteCount={}", game.getId(), votes.size());
 
-        Long victimId = getMajorityTarget(votes);
-
-        if (victimId != null) {
-            logger.info("Village voted to lynch player: gameId={}, victimPlayerId={}", game.getId(), victimId);
-
-            GamePlayer victim = gamePlayerRepository.findById(victimId).orElse(null);
-            if (victim != null) {
-                User victimUser = userRepository.findById(victim.getUserId()).orElse(null);
-                String victimName = victimUser != null ? victimUser.getUsername() : "Unknown";
-
-                long voteCount = votes.stream().filter(v -> v.getTargetPlayerId().equals(victimId)).count();
-                logger.info("Player lynched by village: gameId={}, playerId={}, username={}, votesReceived={}",
-                    game.getId(), victim.getId(), victimName, voteCount);
-                AuditLogger.logPlayerDeath(game.getId(), victim.getId(), victimName,
-                    "LYNCH", game.getDayNumber());
-                AuditLogger.logVoteResult(game.getId(), victim.getId(), victimName,
-                    (int) voteCount, votes.size(), GamePhase.DAY_VOTING.toString());
-
-                killPlayer(victim, game);
-                createSystemMessage(game.getId(), victimName + " was lynched by the village!");
+        // Resolution is timed from loading the game until its outcome is written, like the resolvers it replaced
+        for (RuleEvent event : transition.getEvents()) {
+            if (event.getType() == RuleEventType.NIGHT_RESOLVED) {
+                gameMetrics.nightResolved(System.nanoTime() - loaded.loadStartedNanos());
+            } else if (event.getType() == RuleEventType.DAY_RESOLVED) {
+                gameMetrics.dayResolved(System.nanoTime() - loaded.loadStartedNanos());
             }
-        } else {
-            logger.info("No lynch (tie or no votes): gameId={}", game.getId());
-            createSystemMessage(game.getId(), "No one was lynched today.");
         }
-
-        logger.info("Advancing to next night: gameId={}, nextDayNumber={}",
-            game.getId(), game.getDayNumber() + 1);
-        game.setDayNumber(game.getDayNumber() + 1);
-        game.setCurrentPhase(GamePhase.NIGHT_WOLVES);
-        gameRepository.save(game);
-        AuditLogger.logPhaseChange(game.getId(), GamePhase.DAY_VOTING.toString(),
-            GamePhase.NIGHT_WOLVES.toString(), game.getDayNumber());
     }
 
-    @Transactional
-    public void killPlayer(GamePlayer player, Game game) {
-        logger.debug("Killing player: gameId={}, playerId={}", game.getId(), player.getId());
-
-        player.setIsAlive(false);
-        player.setRevealedRole(true);
-        gamePlayerRepository.save(player);
-
-        RoleTemplate role = roleTemplateRepository.findById(player.getRoleId()).orElse(null);
-        if (role != null && role.getName() == RoleName.HUNTER) {
-            logger.info("Hunter killed - shot becomes available: gameId={}, hunterId={}",
-                game.getId(), player.getId());
-            Map<String, Object> flags = fromJson(player.getStateFlagsJson());
-            flags.put("hunterShotAvailable", true);
-            player.setStateFlagsJson(toJson(flags));
-            gamePlayerRepository.save(player);
-
-            User hunterUser = userRepository.findById(player.getUserId()).orElse(null);
-            String hunterName = hunterUser != null ? hunterUser.getUsername() : "The Hunter";
-            createSystemMessage(game.getId(), hunterName + " was a Hunter! They can now take revenge!");
-        }
+    /**
+     * Fixes tonight's wolf victim for the witch once the wolves' turn is over; their votes can't change after.
+     */
+    private void indexWolfVictim(LoadedGame loaded, GameState state, int dayNumber) {
+        Long victimId = state.wolfVictimId();
+        WolfVictimDto victim = victimId != null ? new WolfVictimDto(victimId, username(loaded, victimId, "Unknown")) : null;
+        Long gameId = loaded.game().getId();
+        TransactionHooks.afterCommit(() -> nightResultIndex.recordWolfVictim(gameId, dayNumber, victim));
     }
 
-    private Long getMajorityTarget(List<GameAction> votes) {
-        if (votes.isEmpty()) return null;
-
-        Map<Long, Long> voteCounts = votes.stream()
-                .collect(Collectors.groupingBy(GameAction::getTargetPlayerId, Collectors.counting()));
-
-        long maxVotes = voteCounts.values().stream()
-                .max(Long::compare)
-                .orElse(0L);
-
-        List<Long> topVoted = voteCounts.entrySet().stream()
-                .filter(e -> e.getValue() == maxVotes)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        if (topVoted.size() > 1) {
-            return null;
-        }
-
-        return topVoted.get(0);
+    private void indexInspection(LoadedGame loaded, GameState state, RuleAction inspection) {
+        Long targetId = inspection.getTargetPlayerId();
+        PlayerState target = state.player(targetId);
+        InspectionResultDto result = new InspectionResultDto(targetId, username(loaded, targetId, "Unknown"),
+            target != null ? target.getRole() : null);
+        Long gameId = loaded.game().getId();
+        TransactionHooks.afterCommit(() ->
+            nightResultIndex.recordInspection(gameId, inspection.getActorPlayerId(), result));
     }
 
-    @Transactional
-    public void checkWinCondition(Game game) {
-        logger.trace("Checking win condition: gameId={}", game.getId());
+    private void updatePlayerRow(GamePlayer row, PlayerState player) {
+        row.setIsAlive(player.isAlive());
+        row.setRevealedRole(player.isRoleRevealed());
+        Map<String, Object> flags = fromJson(row.getStateFlagsJson());
+        putFlag(flags, HEAL_POTION, player.hasHealPotion());
+        putFlag(flags, POISON_POTION, player.hasPoisonPotion());
+        putFlag(flags, HUNTER_SHOT_AVAILABLE, player.isHunterShotAvailable());
+        row.setStateFlagsJson(toJson(flags));
+        gamePlayerRepository.save(row);
+    }
 
-        List<GamePlayer> alivePlayers = gamePlayerRepository.findByGameIdAndIsAlive(game.getId(), true);
-
-        long aliveWerewolves = alivePlayers.stream()
-                .filter(p -> {
-                    RoleTemplate role = roleTemplateRepository.findById(p.getRoleId()).orElse(null);
-                    return role != null && role.getFaction() == Faction.WOLVES;
-                })
-                .count();
-
-        long aliveVillagers = alivePlayers.stream()
-                .filter(p -> {
-                    RoleTemplate role = roleTemplateRepository.findById(p.getRoleId()).orElse(null);
-                    return role != null && role.getFaction() == Faction.VILLAGE;
-                })
-                .count();
-
-        logger.debug("Win condition check: gameId={}, aliveWerewolves={}, aliveVillagers={}, totalAlive={}",
-            game.getId(), aliveWerewolves, aliveVillagers, alivePlayers.size());
-
-        if (aliveWerewolves == 0) {
-            long gameDuration = game.getCreatedAt() != null ?
-                Instant.now().getEpochSecond() - game.getCreatedAt().getEpochSecond() : 0;
-
-            logger.info("GAME ENDED - Village wins: gameId={}, dayNumber={}, durationSeconds={}",
-                game.getId(), game.getDayNumber(), gameDuration);
-            AuditLogger.logGameEnded(game.getId(), Faction.VILLAGE.toString(), (int) gameDuration);
-
-            game.setStatus(GameStatus.FINISHED);
-            game.setWinnerFaction(Faction.VILLAGE);
-            game.setCurrentPhase(GamePhase.RESULT);
-            game.setFinishedAt(Instant.now());
-            gameRepository.save(game);
-            createSystemMessage(game.getId(), "The Village wins! All werewolves have been eliminated!");
-        } else if (aliveWerewolves >= aliveVillagers) {
-            long gameDuration = game.getCreatedAt() != null ?
-                Instant.now().getEpochSecond() - game.getCreatedAt().getEpochSecond() : 0;
-
-            logger.info("GAME ENDED - Werewolves win: gameId={}, dayNumber={}, durationSeconds={}, werewolves={}, villagers={}",
-                game.getId(), game.getDayNumber(), gameDuration, aliveWerewolves, aliveVillagers);
-            AuditLogger.logGameEnded(game.getId(), Faction.WOLVES.toString(), (int) gameDuration);
-
-            game.setStatus(GameStatus.FINISHED);
-            game.setWinnerFaction(Faction.WOLVES);
-            game.setCurrentPhase(GamePhase.RESULT);
-            game.setFinishedAt(Instant.now());
-            gameRepository.save(game);
-            createSystemMessage(game.getId(), "The Werewolves win! They have taken over the village!");
+    /**
+     * Keeps the flags a role never had out of its JSON.
+     */
+    private static void putFlag(Map<String, Object> flags, String name, boolean value) {
+        if (value || flags.containsKey(name)) {
+            flags.put(name, value);
         }
     }
 
-    @Transactional
-    public void transitionToVoting(Long gameId) {
-        logger.info("Transitioning to voting phase: gameId={}", gameId);
-        LoggingContext.setGameId(gameId);
-        LoggingContext.setAction("TRANSITION_TO_VOTING");
-
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> {
-                    logger.warn("Transition to voting failed - game not found: gameId={}", gameId);
-                    return new ResourceNotFoundException("Game", gameId);
-                });
+    private static PlayerState toPlayerState(GamePlayerView player, Map<String, Object> flags) {
+        return new PlayerState(player.getPlayerId(), player.getUserId(), player.getRoleName(), player.getFaction(),
+            player.getIsAlive(), player.getRevealedRole(), Boolean.TRUE.equals(flags.get(HEAL_POTION)),
+            Boolean.TRUE.equals(flags.get(POISON_POTION)), Boolean.TRUE.equals(flags.get(HUNTER_SHOT_AVAILABLE)));
+    }
 
-        if (game.getCurrentPhase() != GamePhase.DAY_DISCUSSION) {
-            logger.warn("Transition to voting failed - wrong phase: gameId={}, currentPhase={}",
-                gameId, game.getCurrentPhase());
-            throw new InvalidGameStateException("Can only transition to voting from discussion phase",
-                game.getCurrentPhase().toString(), GamePhase.DAY_DISCUSSION.toString());
+    private static GameAction toGameAction(Long gameId, int dayNumber, RuleAction ruleAction) {
+        GameAction action = new GameAction();
+        action.setGameId(gameId);
+        action.setDayNumber(dayNumber);
+        action.setPhase(ruleAction.getPhase());
+        action.setActorPlayerId(ruleAction.getActorPlayerId());
+        action.setTargetPlayerId(ruleAction.getTargetPlayerId());
+        action.setActionType(ruleAction.getActionType());
+        if (ruleAction.isSkipped()) {
+            action.setPayloadJson("{\"skipped\":true}");
         }
-
-        game.setCurrentPhase(GamePhase.DAY_VOTING);
-        gameRepository.save(game);
-
-        AuditLogger.logPhaseChange(gameId, GamePhase.DAY_DISCUSSION.toString(),
-            GamePhase.DAY_VOTING.toString(), game.getDayNumber());
-        logger.info("Transitioned to voting phase: gameId={}, dayNumber={}", gameId, game.getDayNumber());
-
-        createSystemMessage(gameId, "Voting phase has begun! Vote for who to lynch.");
+        action.setCreatedAt(Instant.now());
+        return action;
     }
 
-    private List<String> calculateAvailableActions(Game game, GamePlayer player, RoleTemplate role) {
-        List<String> actions = new ArrayList<>();
-
-        if (!player.getIsAlive() && role.getName() != RoleName.HUNTER) {
-            return actions;
+    private void announceDeath(LoadedGame loaded, RuleEvent event) {
+        Long gameId = loaded.game().getId();
+        int dayNumber = loaded.state().getDayNumber();
+        String name = username(loaded, event.getPlayerId(), "Unknown");
+        logger.info("Player dies: gameId={}, playerId={}, username={}, cause={}",
+            gameId, event.getPlayerId(), name, event.getCause());
+        AuditLogger.logPlayerDeath(gameId, event.getPlayerId(), name, event.getCause().toString(), dayNumber);
+        gameEventBus.publish(GameEvent.playerDied(gameId, event.getPlayerId()));
+
+        switch (event.getCause()) {
+            case WOLF_KILL -> createSystemMessage(gameId, name + " was killed by werewolves during the night!");
+            case WITCH_POISON -> createSystemMessage(gameId, name + " was poisoned during the night!");
+            case LYNCH -> {
+                List<Long> votes = loaded.state().targets(GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH);
+                int received = Collections.frequency(votes, event.getPlayerId());
+                AuditLogger.logVoteResult(gameId, event.getPlayerId(), name, received, votes.size(),
+                    GamePhase.DAY_VOTING.toString());
+                createSystemMessage(gameId, name + " was lynched by the village!");
+            }
+            case HUNTER_SHOT -> {
+            }
         }
+    }
 
-        Map<String, Object> flags = fromJson(player.getStateFlagsJson());
-
-        switch (game.getCurrentPhase()) {
-            case NIGHT_WOLVES:
-                if (role.getName() == RoleName.WEREWOLF && player.getIsAlive()) {
-                    actions.add("VOTE_WOLF_KILL");
-                }
-                break;
-
-            case NIGHT_SEER:
-                if (role.getName() == RoleName.SEER && player.getIsAlive()) {
-                    actions.add("SEER_INSPECT");
-                }
-                break;
-
-            case NIGHT_WITCH:
-                if (role.getName() == RoleName.WITCH && player.getIsAlive()) {
-                    if (Boolean.TRUE.equals(flags.get("healPotion"))) {
-                        actions.add("WITCH_HEAL");
-                    }
-                    if (Boolean.TRUE.equals(flags.get("poisonPotion"))) {
-                        actions.add("WITCH_POISON");
-                    }
-                }
-                break;
-
-            case DAY_VOTING:
-                if (player.getIsAlive()) {
-                    actions.add("VOTE_LYNCH");
-                }
-                break;
-
-            case DAY_DISCUSSION:
-                break;
+    private void announceWinner(Game game, GameState after, RuleEvent event) {
+        Faction winner = event.getWinner();
+        long gameDuration = game.getCreatedAt() != null ?
+            Instant.now().getEpochSecond() - game.getCreatedAt().getEpochSecond() : 0;
+
+        logger.info("GAME ENDED - {} win: gameId={}, dayNumber={}, durationSeconds={}, werewolves={}, villagers={}",
+            winner, game.getId(), event.getDayNumber(), gameDuration,
+            after.countAlive(Faction.WOLVES), after.countAlive(Faction.VILLAGE));
+        AuditLogger.logGameEnded(game.getId(), winner.toString(), (int) gameDuration);
+        gameMetrics.gameFinished(winner);
+        gameMetrics.phaseChanged(event.getFromPhase(), GamePhase.RESULT);
+        gameEventBus.publish(GameEvent.phaseChanged(game.getId(), GamePhase.RESULT, event.getDayNumber()));
+
+        game.setFinishedAt(Instant.now());
+        createSystemMessage(game.getId(), winner == Faction.VILLAGE
+            ? "The Village wins! All werewolves have been eliminated!"
+            : "The Werewolves win! They have taken over the village!");
+    }
 
-            case RESULT:
-                break;
+    private static RuleAction recordedAction(Transition transition) {
+        for (RuleEvent event : transition.getEvents()) {
+            if (event.getType() == RuleEventType.ACTION_RECORDED) {
+                return event.getAction();
+            }
         }
+        throw new IllegalStateException("Command recorded no action");
+    }
 
-        if (Boolean.TRUE.equals(flags.get("hunterShotAvailable"))) {
-            actions.add("HUNTER_SHOOT");
+    private String username(LoadedGame loaded, Long playerId, String fallback) {
+        GamePlayer player = loaded.playerRow(playerId);
+        if (player == null) {
+            return fallback;
         }
-
-        return actions;
+        return userRepository.findById(player.getUserId()).map(User::getUsername).orElse(fallback);
     }
 
-    private PlayerInfoDto toPlayerInfoDto(GamePlayer player, GamePlayer currentPlayer, RoleTemplate currentRole) {
-        User user = userRepository.findById(player.getUserId()).orElse(null);
-        RoleTemplate playerRole = roleTemplateRepository.findById(player.getRoleId()).orElse(null);
-
+    private PlayerInfoDto toPlayerInfoDto(GamePlayerView player, GamePlayerView currentPlayer) {
         PlayerInfoDto dto = new PlayerInfoDto();
-        dto.setPlayerId(player.getId());
+        dto.setPlayerId(player.getPlayerId());
         dto.setUserId(player.getUserId());
-        dto.setUsername(user != null ? user.getUsername() : "Unknown");
-        dto.setAvatarConfig(user != null ? user.getAvatarConfig() : "default");
+        dto.setUsername(player.getUsername() != null ? player.getUsername() : "Unknown");
+        dto.setAvatarConfig(player.getAvatarConfig() != null ? player.getAvatarConfig() : "default");
         dto.setSeatNumber(player.getSeatNumber());
         dto.setIsAlive(player.getIsAlive());
         dto.setRevealedRole(player.getRevealedRole());
 
-        if (player.getId().equals(currentPlayer.getId()) || player.getRevealedRole()) {
-            dto.setRole(playerRole != null ? playerRole.getName() : null);
-        } else if (currentRole.getName() == RoleName.WEREWOLF && playerRole != null && playerRole.getName() == RoleName.WEREWOLF) {
-            dto.setRole(RoleName.WEREWOLF);
+        if (player.getPlayerId().equals(currentPlayer.getPlayerId()) || player.getRevealedRole()) {
+            dto.setRole(player.getRoleName());
+        } else if (RoleBehaviors.of(currentPlayer.getRoleName()).knowsRole(player.getRoleName())) {
+            dto.setRole(player.getRoleName());
         } else {
             dto.setRole(null);
         }
@@ -1040,9 +850,14 @@ public class GameService {
         return dto;
     }
 
-    private String getPhaseDescription(GamePhase phase) {
+    private static NightMode nightModeOf(Game game) {
+        return game.getNightMode() != null ? game.getNightMode() : NightMode.SEQUENTIAL;
+    }
+
+    private String getPhaseDescription(GamePhase phase, NightMode mode) {
         switch (phase) {
-            case NIGHT_WOLVES: return "Night - Werewolves awaken";
+            case NIGHT_WOLVES: return mode == NightMode.CONCURRENT
+                ? "Night - Werewolves and Seer awaken" : "Night - Werewolves awaken";
             case NIGHT_SEER: return "Night - Seer investigates";
             case NIGHT_WITCH: return "Night - Witch decides";
             case DAY_DISCUSSION: return "Day - Discussion";
@@ -1064,6 +879,15 @@ public class GameService {
 
         Instant since = sinceTimestamp != null ? Instant.ofEpochMilli(sinceTimestamp) : Instant.EPOCH;
 
+        List<ChatChannel> allowedChannels = readableChannels(game, role != null ? role.getName() : null);
+
+        List<ChatMessage> messages = chatMessageRepository.findByGameIdAndChannelInAndCreatedAtAfterOrderByCreatedAt(
+                gameId, allowedChannels, since);
+
+        return toChatMessageDtos(messages);
+    }
+
+    List<ChatChannel> readableChannels(Game game, RoleName role) {
         List<ChatChannel> allowedChannels = new ArrayList<>();
         allowedChannels.add(ChatChannel.SYSTEM);
 
@@ -1071,14 +895,11 @@ public class GameService {
             allowedChannels.add(ChatChannel.DAY);
         }
 
-        if (role != null && role.getName() == RoleName.WEREWOLF) {
-            allowedChannels.add(ChatChannel.NIGHT_WOLVES);
+        ChatChannel nightChannel = role != null ? RoleBehaviors.of(role).nightChannel() : null;
+        if (nightChannel != null) {
+            allowedChannels.add(nightChannel);
         }
-
-        List<ChatMessage> messages = chatMessageRepository.findByGameIdAndChannelInAndCreatedAtAfterOrderByCreatedAt(
-                gameId, allowedChannels, since);
-
-        return messages.stream().map(this::toChatMessageDto).collect(Collectors.toList());
+        return allowedChannels;
     }
 
     @Transactional
@@ -1103,10 +924,11 @@ public class GameService {
 
         RoleTemplate role = roleTemplateRepository.findById(player.getRoleId()).orElse(null);
 
+        RoleBehavior behavior = role != null ? RoleBehaviors.of(role.getName()) : null;
         ChatChannel channel;
-        if (game.getCurrentPhase() == GamePhase.NIGHT_WOLVES && role != null && role.getName() == RoleName.WEREWOLF) {
-            channel = ChatChannel.NIGHT_WOLVES;
-            logger.trace("Chat to wolves channel: gameId={}, userId={}", gameId, currentUser.getId());
+        if (behavior != null && behavior.nightChannel() != null && game.getCurrentPhase() == behavior.nightPhase()) {
+            channel = behavior.nightChannel();
+            logger.trace("Chat to night channel: gameId={}, userId={}, channel={}", gameId, currentUser.getId(), channel);
         } else if (game.getCurrentPhase() == GamePhase.DAY_DISCUSSION || game.getCurrentPhase() == GamePhase.DAY_VOTING) {
             channel = ChatChannel.DAY;
             logger.trace("Chat to day channel: gameId={}, userId={}", gameId, currentUser.getId());
@@ -1125,6 +947,9 @@ public class GameService {
         message.setCreatedAt(Instant.now());
 
         message = chatMessageRepository.save(message);
+        readSnapshots.appendChat(gameId,
+            toChatMessageDto(message, Map.of(currentUser.getId(), currentUser.getUsername())));
+        gameEventBus.publish(GameEvent.chatMessage(gameId, channel));
 
         AuditLogger.logChatMessage(gameId, currentUser.getId(), currentUser.getUsername(),
             channel.toString(), request.getContent() != null ? request.getContent().length() : 0);
@@ -1143,16 +968,34 @@ public class GameService {
         message.setContent(content);
         message.setCreatedAt(Instant.now());
         chatMessageRepository.save(message);
+        readSnapshots.appendChat(gameId, toChatMessageDto(message, Map.of()));
+        gameEventBus.publish(GameEvent.chatMessage(gameId, ChatChannel.SYSTEM));
     }
 
-    private ChatMessageDto toChatMessageDto(ChatMessage message) {
+    /**
+     * Converts {@code messages}, looking up all their authors in one query.
+     */
+    List<ChatMessageDto> toChatMessageDtos(List<ChatMessage> messages) {
+        Set<Long> senderIds = messages.stream()
+                .map(ChatMessage::getSenderUserId)
+                .filter(id -> id > 0)
+                .collect(Collectors.toSet());
+        Map<Long, String> usernames = new HashMap<>();
+        if (!senderIds.isEmpty()) {
+            for (User sender : userRepository.findAllById(senderIds)) {
+                usernames.put(sender.getId(), sender.getUsername());
+            }
+        }
+        return messages.stream().map(m -> toChatMessageDto(m, usernames)).collect(Collectors.toList());
+    }
+
+    private ChatMessageDto toChatMessageDto(ChatMessage message, Map<Long, String> usernames) {
         ChatMessageDto dto = new ChatMessageDto();
         dto.setId(message.getId());
         dto.setSenderUserId(message.getSenderUserId());
 
         if (message.getSenderUserId() > 0) {
-            User sender = userRepository.findById(message.getSenderUserId()).orElse(null);
-            dto.setSenderUsername(sender != null ? sender.getUsername() : "Unknown");
+            dto.setSenderUsername(usernames.getOrDefault(message.getSenderUserId(), "Unknown"));
         } else {
             dto.setSenderUsername("System");
         }
@@ -1180,12 +1023,6 @@ public class GameService {
         }
     }
 
-    private Long getWolfVictimId(Game game) {
-        List<GameAction> wolfVotes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-                game.getId(), game.getDayNumber(), GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL);
-        return getMajorityTarget(wolfVotes);
-    }
-
     @Transactional(readOnly = true)
     public WolfVictimDto getWolfVictim(Long gameId, User currentUser) {
         Game game = gameRepository.findById(gameId)
@@ -1206,10 +1043,16 @@ public class GameService {
                 game.getCurrentPhase().toString(), GamePhase.NIGHT_WITCH.toString());
         }
 
+        return nightResultIndex.wolfVictim(gameId, game.getDayNumber(), () -> loadWolfVictim(game));
+    }
+
+    private WolfVictimDto loadWolfVictim(Game game) {
         List<GameAction> wolfVotes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
                 game.getId(), game.getDayNumber(), GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL);
 
-        Long victimId = getMajorityTarget(wolfVotes);
+        Long victimId = GameRules.majorityTarget(wolfVotes.stream()
+                .map(GameAction::getTargetPlayerId)
+                .collect(Collectors.toList()));
 
         if (victimId == null) {
             return null;
@@ -1236,11 +1079,16 @@ public class GameService {
             throw new UnauthorizedActionException("Only the Seer can see inspection results", currentUser.getId(), "GET_INSPECTION_RESULT");
         }
 
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new ResourceNotFoundException("Game", gameId));
+        if (!gameRepository.existsById(gameId)) {
+            throw new ResourceNotFoundException("Game", gameId);
+        }
+
+        return nightResultIndex.lastInspection(gameId, player.getId(), () -> loadLastInspection(gameId, player));
+    }
 
+    private InspectionResultDto loadLastInspection(Long gameId, GamePlayer player) {
         List<GameAction> inspections = gameActionRepository.findByGameIdAndActorPlayerIdAndActionType(
-                game.getId(), player.getId(), ActionType.SEER_INSPECT);
+                gameId, player.getId(), ActionType.SEER_INSPECT);
 
         inspections = inspections.stream()
                 .filter(a -> a.getTargetPlayerId() != null)
@@ -0,0 +1,166 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the responses to a user's recent requests by their {@code Idempotency-Key}, so a client retrying a vote,
+ * power action or chat message after a timeout gets the first outcome back instead of applying it twice. Each entry
+ * keeps the request's game and body fields; a key reused for a different request is answered with 422.
+ * <p>
+ * Each user keeps their last {@code app.idempotency.keys-per-user} keys, and beyond {@code app.idempotency.max-users}
+ * the user seen least recently is dropped. Neither ever drops a request that is still running, so a retry arriving
+ * meanwhile waits for it, for at most {@code app.idempotency.wait-ms} before it is answered with 409. A request that
+ * threw stores nothing, so its retry runs again.
+ */
+@Component
+public class IdempotencyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyCache.class);
+
+    private final Map<Long, UserKeys> users;
+    private final int keysPerUser;
+    private final long waitMillis;
+
+    public IdempotencyCache(@Value("${app.idempotency.keys-per-user:64}") int keysPerUser,
+                            @Value("${app.idempotency.max-users:10000}") int maxUsers,
+                            @Value("${app.idempotency.wait-ms:10000}") long waitMillis) {
+        this.keysPerUser = keysPerUser;
+        this.waitMillis = waitMillis;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserKeys> eldest) {
+                if (size() > maxUsers) {
+                    removeFirstIdle(values().iterator(), size() - 1);
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Runs {@code request} once per {@code userId}, {@code scope} and {@code key} and answers repeats with its
+     * response, or with 422 if the repeat's {@code fingerprint}, the game and body fields, is not equal. Without a
+     * key the request simply runs.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(Long userId, String scope, String key, List<?> fingerprint,
+                                         Supplier<ResponseEntity<T>> request) {
+        if (key == null || key.isBlank()) {
+            return request.get();
+        }
+        String entryKey = scope + ':' + key;
+        Entry pending = new Entry(fingerprint);
+        UserKeys keys;
+        while (true) {
+            Entry earlier;
+            // Claimed under the users lock, so the user can't be dropped between the lookup and the claim.
+            synchronized (users) {
+                keys = users.computeIfAbsent(userId, id -> new UserKeys());
+                earlier = keys.putIfAbsent(entryKey, pending);
+            }
+            if (earlier == null) {
+                break;
+            }
+            if (!earlier.fingerprint.equals(fingerprint)) {
+                logger.warn("Idempotency key reused for a different request: userId={}, scope={}", userId, scope);
+                return ResponseEntity.unprocessableEntity().build();
+            }
+            try {
+                ResponseEntity<?> response = earlier.response.get(waitMillis, TimeUnit.MILLISECONDS);
+                logger.debug("Replaying response for idempotency key: userId={}, scope={}, status={}",
+                    userId, scope, response.getStatusCode());
+                return (ResponseEntity<T>) response;
+            } catch (ExecutionException e) {
+                // the earlier attempt threw and removed its entry; run this one instead
+            } catch (TimeoutException e) {
+                logger.warn("Idempotency key still in progress: userId={}, scope={}", userId, scope);
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+        }
+        try {
+            ResponseEntity<T> response = request.get();
+            pending.response.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            keys.remove(entryKey, pending);
+            pending.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the first of the next {@code limit} entries that has no request running, if any.
+     */
+    private static void removeFirstIdle(Iterator<? extends Idle> candidates, int limit) {
+        for (int i = 0; i < limit && candidates.hasNext(); i++) {
+            if (candidates.next().isIdle()) {
+                candidates.remove();
+                return;
+            }
+        }
+    }
+
+    private interface Idle {
+
+        boolean isIdle();
+    }
+
+    private final class UserKeys implements Idle {
+
+        private final Map<String, Entry> entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > keysPerUser) {
+                    removeFirstIdle(values().iterator(), size() - 1);
+                }
+                return false;
+            }
+        };
+
+        synchronized Entry putIfAbsent(String entryKey, Entry entry) {
+            return entries.putIfAbsent(entryKey, entry);
+        }
+
+        synchronized void remove(String entryKey, Entry entry) {
+            entries.remove(entryKey, entry);
+        }
+
+        @Override
+        public synchronized boolean isIdle() {
+            return entries.values().stream().allMatch(Entry::isIdle);
+        }
+    }
+
+    private static final class Entry implements Idle {
+
+        private final List<?> fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(List<?> fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public boolean isIdle() {
+            return response.isDone();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.GameAction;
+import com.ausganslage.ausgangslageBackend.model.GamePlayer;
+import com.ausganslage.ausgangslageBackend.rules.GameState;
+import com.ausganslage.ausgangslageBackend.rules.RuleAction;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A game as handed to the rules engine, together with the rows its {@link GameState} was built from, so a
+ * transition can be written back as the few updates, inserts and deletes it implies. Remembers when loading began,
+ * so resolving a night or a vote is timed from reading the game to writing the outcome.
+ */
+class LoadedGame {
+
+    private final Game game;
+    private final GameState state;
+    private final Map<Long, GamePlayer> players;
+    private final Map<RuleAction, GameAction> actions;
+    private final long loadStartedNanos;
+
+    LoadedGame(Game game, GameState state, Map<Long, GamePlayer> players, IdentityHashMap<RuleAction, GameAction> actions,
+               long loadStartedNanos) {
+        this.game = game;
+        this.state = state;
+        this.players = players;
+        this.actions = actions;
+        this.loadStartedNanos = loadStartedNanos;
+    }
+
+    Game game() {
+        return game;
+    }
+
+    GameState state() {
+        return state;
+    }
+
+    GamePlayer playerRow(Long playerId) {
+        return players.get(playerId);
+    }
+
+    GameAction actionRow(RuleAction action) {
+        return actions.get(action);
+    }
+
+    long loadStartedNanos() {
+        return loadStartedNanos;
+    }
+}
@@ -13,6 +13,8 @@ import com.ausganslage.ausgangslageBackend.model.User;
 import com.ausganslage.ausgangslageBackend.repository.LobbyMemberRepository;
 import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
 import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.rules.RoleComposition;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
 import com.ausganslage.ausgangslageBackend.util.AuditLogger;
 import com.ausganslage.ausgangslageBackend.util.CodeGenerator;
 import com.ausganslage.ausgangslageBackend.util.LoggingContext;
@@ -33,11 +35,16 @@ public class LobbyService {
     private final LobbyRepository lobbyRepository;
     private final LobbyMemberRepository lobbyMemberRepository;
     private final UserRepository userRepository;
+    private final ReadSnapshots readSnapshots;
+    private final RolePlanCache rolePlanCache;
 
-    public LobbyService(LobbyRepository lobbyRepository, LobbyMemberRepository lobbyMemberRepository, UserRepository userRepository) {
+    public LobbyService(LobbyRepository lobbyRepository, LobbyMemberRepository lobbyMemberRepository,
+                        UserRepository userRepository, ReadSnapshots readSnapshots, RolePlanCache rolePlanCache) {
         this.lobbyRepository = lobbyRepository;
         this.lobbyMemberRepository = lobbyMemberRepository;
         this.userRepository = userRepository;
+        this.readSnapshots = readSnapshots;
+        this.rolePlanCache = rolePlanCache;
     }
 
     @Transactional
@@ -48,18 +55,22 @@ public class LobbyService {
         LoggingContext.setUserId(currentUser.getId());
         LoggingContext.setUsername(currentUser.getUsername());
 
+        RoleComposition composition = rolePlanCache.compile(request.getSettingsJson(), request.getMaxPlayers());
+
         Lobby lobby = new Lobby();
         lobby.setLobbyCode(generateUniqueLobbyCode());
         lobby.setHostUserId(currentUser.getId());
         lobby.setMaxPlayers(request.getMaxPlayers());
         lobby.setStatus(LobbyStatus.OPEN);
         lobby.setSettingsJson(request.getSettingsJson());
+        lobby.setRoleComposition(composition.getKey());
         lobby.setCreatedAt(Instant.now());
 
         lobby = lobbyRepository.save(lobby);
 
         LoggingContext.setLobbyId(lobby.getId());
-        logger.debug("Lobby entity created: lobbyId={}, lobbyCode={}", lobby.getId(), lobby.getLobbyCode());
+        logger.debug("Lobby entity created: lobbyId={}, lobbyCode={}, roleComposition={}",
+            lobby.getId(), lobby.getLobbyCode(), lobby.getRoleComposition());
 
         LobbyMember member = new LobbyMember();
         member.setLobbyId(lobby.getId());
@@ -104,6 +115,7 @@ public class LobbyService {
         LoggingContext.setAction("JOIN_LOBBY");
         LoggingContext.setUserId(currentUser.getId());
         LoggingContext.setUsername(currentUser.getUsername());
+        readSnapshots.invalidateLobby(lobbyCode);
 
         Lobby lobby = lobbyRepository.findByLobbyCode(lobbyCode)
                 .orElseThrow(() -> {
@@ -156,6 +168,7 @@ public class LobbyService {
         LoggingContext.setAction("LEAVE_LOBBY");
         LoggingContext.setUserId(currentUser.getId());
         LoggingContext.setUsername(currentUser.getUsername());
+        readSnapshots.invalidateLobby(lobbyCode);
 
         Lobby lobby = lobbyRepository.findByLobbyCode(lobbyCode)
                 .orElseThrow(() -> {
@@ -195,6 +208,7 @@ public class LobbyService {
 
     @Transactional
     public void setReady(String lobbyCode, User currentUser, boolean ready) {
+        readSnapshots.invalidateLobby(lobbyCode);
         Lobby lobby = lobbyRepository.findByLobbyCode(lobbyCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Lobby", lobbyCode));
 
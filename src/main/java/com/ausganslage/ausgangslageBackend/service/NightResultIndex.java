@@ -0,0 +1,112 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.dto.InspectionResultDto;
+import com.ausganslage.ausgangslageBackend.dto.WolfVictimDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * What the witch and the seer poll for, kept per running game: tonight's wolf victim, fixed once the wolves' turn
+ * is over, and each seer's latest inspection. {@code GameService} records both as the actions commit, so polls are
+ * answered without reading the action table; a game this node has not seen (a restart, a takeover) is loaded once
+ * through the given loader. Finished games are forgotten; beyond {@code app.night-index.max-games} the game looked
+ * at least recently is dropped, and only that game goes back to its loader.
+ */
+@Component
+public class NightResultIndex {
+
+    /**
+     * Stands for "this seer has not inspected anyone", which the map can't hold as {@code null}.
+     */
+    private static final InspectionResultDto NO_INSPECTION = new InspectionResultDto();
+
+    private final Map<Long, GameNight> games;
+
+    public NightResultIndex(@Value("${app.night-index.max-games:10000}") int maxGames) {
+        this.games = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GameNight> eldest) {
+                return size() > maxGames;
+            }
+        });
+    }
+
+    /**
+     * The wolf victim of {@code dayNumber}'s night, {@code null} if the wolves did not agree on one.
+     */
+    public WolfVictimDto wolfVictim(Long gameId, int dayNumber, Supplier<WolfVictimDto> loader) {
+        GameNight night = game(gameId);
+        DayVictim known = night.wolfVictim;
+        if (known != null && known.dayNumber == dayNumber) {
+            return known.victim;
+        }
+        WolfVictimDto victim = loader.get();
+        night.wolfVictim = new DayVictim(dayNumber, victim);
+        return victim;
+    }
+
+    public void recordWolfVictim(Long gameId, int dayNumber, WolfVictimDto victim) {
+        game(gameId).wolfVictim = new DayVictim(dayNumber, victim);
+    }
+
+    /**
+     * The latest inspection of the seer {@code seerPlayerId}, {@code null} if there was none yet.
+     */
+    public InspectionResultDto lastInspection(Long gameId, Long seerPlayerId, Supplier<InspectionResultDto> loader) {
+        Map<Long, InspectionResultDto> inspections = game(gameId).inspections;
+        InspectionResultDto inspection = inspections.get(seerPlayerId);
+        if (inspection == null) {
+            // Loaded outside the map so the query holds no lock; an inspection recorded meanwhile wins.
+            InspectionResultDto loaded = loader.get();
+            inspection = loaded != null ? loaded : NO_INSPECTION;
+            InspectionResultDto recorded = inspections.putIfAbsent(seerPlayerId, inspection);
+            if (recorded != null) {
+                inspection = recorded;
+            }
+        }
+        return inspection != NO_INSPECTION ? inspection : null;
+    }
+
+    public void recordInspection(Long gameId, Long seerPlayerId, InspectionResultDto inspection) {
+        game(gameId).inspections.put(seerPlayerId, inspection);
+    }
+
+    public void forget(Long gameId) {
+        games.remove(gameId);
+    }
+
+    private GameNight game(Long gameId) {
+        GameNight night = games.get(gameId);
+        if (night == null) {
+            GameNight created = new GameNight();
+            night = games.putIfAbsent(gameId, created);
+            if (night == null) {
+                night = created;
+            }
+        }
+        return night;
+    }
+
+    private static final class GameNight {
+
+        private volatile DayVictim wolfVictim;
+        private final Map<Long, InspectionResultDto> inspections = new ConcurrentHashMap<>();
+    }
+
+    private static final class DayVictim {
+
+        private final int dayNumber;
+        private final WolfVictimDto victim;
+
+        private DayVictim(int dayNumber, WolfVictimDto victim) {
+            this.dayNumber = dayNumber;
+            this.victim = victim;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.rules.RoleComposition;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns lobby settings into a {@link RoleComposition} once, when the lobby is created, and keeps the role list
+ * for each (composition, player count) that has been dealt, so starting a game neither parses JSON nor rebuilds
+ * the list.
+ * <p>
+ * Settings pick a preset with {@code {"composition": "BASIC"}} or fixed counts with
+ * {@code {"roles": {"WEREWOLF": 2, "SEER": 1}}}; anything else in the settings is left alone and no choice at all
+ * means {@link RoleComposition#CLASSIC}.
+ */
+@Component
+public class RolePlanCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RolePlanCache.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, RoleComposition> compositions = new ConcurrentHashMap<>();
+    private final Map<PlanKey, List<RoleName>> plans = new ConcurrentHashMap<>();
+    private final int maxPlans;
+
+    public RolePlanCache(@Value("${app.role-plans.max-entries:4096}") int maxPlans) {
+        this.maxPlans = maxPlans;
+    }
+
+    /**
+     * Parses and validates the role choice in {@code settingsJson} for a lobby of up to {@code maxPlayers}.
+     */
+    public RoleComposition compile(String settingsJson, int maxPlayers) {
+        RoleComposition composition = parse(settingsJson);
+        if (composition.werewolves(maxPlayers) < 1) {
+            throw new InvalidActionException("CREATE_LOBBY", "Role composition needs at least one werewolf");
+        }
+        if (composition.minPlayers() > maxPlayers) {
+            throw new InvalidActionException("CREATE_LOBBY", "Role composition needs at least "
+                + composition.minPlayers() + " players but the lobby only fits " + maxPlayers);
+        }
+        logger.debug("Compiled role composition: key={}, minPlayers={}", composition.getKey(), composition.minPlayers());
+        return composition;
+    }
+
+    /**
+     * The composition stored on a lobby under {@code key}, as returned by {@link RoleComposition#getKey()}.
+     */
+    public RoleComposition composition(String key) {
+        if (key == null) {
+            return RoleComposition.CLASSIC;
+        }
+        RoleComposition composition = compositions.get(key);
+        if (composition == null) {
+            if (compositions.size() >= maxPlans) {
+                compositions.clear();
+            }
+            composition = compositions.computeIfAbsent(key, RoleComposition::fromKey);
+        }
+        return composition;
+    }
+
+    /**
+     * The unmodifiable, unshuffled roles {@code composition} deals to {@code playerCount} players.
+     */
+    public List<RoleName> plan(RoleComposition composition, int playerCount) {
+        PlanKey key = new PlanKey(composition, playerCount);
+        List<RoleName> plan = plans.get(key);
+        if (plan == null) {
+            if (plans.size() >= maxPlans) {
+                plans.clear();
+            }
+            plan = plans.computeIfAbsent(key, k -> composition.plan(playerCount));
+        }
+        return plan;
+    }
+
+    private RoleComposition parse(String settingsJson) {
+        if (settingsJson == null || settingsJson.isBlank()) {
+            return RoleComposition.CLASSIC;
+        }
+        JsonNode settings;
+        try {
+            settings = objectMapper.readTree(settingsJson);
+        } catch (JsonProcessingException e) {
+            throw new InvalidActionException("CREATE_LOBBY", "Settings are not valid JSON");
+        }
+
+        JsonNode roles = settings.get("roles");
+        JsonNode preset = settings.get("composition");
+        if (roles != null && preset != null) {
+            throw new InvalidActionException("CREATE_LOBBY", "Choose either a composition or role counts, not both");
+        }
+        if (preset != null) {
+            RoleComposition composition = RoleComposition.preset(preset.asText());
+            if (composition == null) {
+                throw new InvalidActionException("CREATE_LOBBY", "Unknown role composition: " + preset.asText());
+            }
+            return composition;
+        }
+        if (roles == null) {
+            return RoleComposition.CLASSIC;
+        }
+        if (!roles.isObject()) {
+            throw new InvalidActionException("CREATE_LOBBY", "Role counts must be an object");
+        }
+
+        Map<RoleName, Integer> counts = new EnumMap<>(RoleName.class);
+        for (Map.Entry<String, JsonNode> field : roles.properties()) {
+            RoleName role;
+            try {
+                role = RoleName.valueOf(field.getKey());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidActionException("CREATE_LOBBY", "Unknown role: " + field.getKey());
+            }
+            if (!field.getValue().isInt() || field.getValue().asInt() < 0) {
+                throw new InvalidActionException("CREATE_LOBBY", "Role count must be a non-negative number: " + role);
+            }
+            counts.put(role, field.getValue().asInt());
+        }
+        return RoleComposition.custom(counts);
+    }
+
+    private static final class PlanKey {
+
+        private final RoleComposition composition;
+        private final int playerCount;
+
+        private PlanKey(RoleComposition composition, int playerCount) {
+            this.composition = composition;
+            this.playerCount = playerCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) o;
+            return playerCount == other.playerCount && composition.equals(other.composition);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * composition.hashCode() + playerCount;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.dto.ChatMessageDto;
+import com.ausganslage.ausgangslageBackend.dto.GameStateDto;
+import com.ausganslage.ausgangslageBackend.dto.LobbyStateDto;
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.exception.ResourceNotFoundException;
+import com.ausganslage.ausgangslageBackend.exception.UnauthorizedActionException;
+import com.ausganslage.ausgangslageBackend.model.ChatMessage;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.ChatMessageRepository;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView;
+import com.ausganslage.ausgangslageBackend.snapshot.GameSnapshot;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Read path of the polling endpoints. Answers from {@link ReadSnapshots} without touching the database; only when
+ * a snapshot is missing or was invalidated by a write, one loader thread reloads it for all waiting requests.
+ * <p>
+ * The results are futures, so the servlet thread is handed back while a snapshot loads. With
+ * {@code app.snapshots.enabled=false} every call is answered from the database on the calling thread, as before.
+ */
+@Service
+public class SnapshotReadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotReadService.class);
+
+    private final ReadSnapshots readSnapshots;
+    private final GameService gameService;
+    private final LobbyService lobbyService;
+    private final GameRepository gameRepository;
+    private final GamePlayerRepository gamePlayerRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public SnapshotReadService(ReadSnapshots readSnapshots, GameService gameService, LobbyService lobbyService,
+                               GameRepository gameRepository, GamePlayerRepository gamePlayerRepository,
+                               ChatMessageRepository chatMessageRepository, PlatformTransactionManager transactionManager,
+                               @Value("${app.snapshots.enabled:true}") boolean enabled) {
+        this.readSnapshots = readSnapshots;
+        this.gameService = gameService;
+        this.lobbyService = lobbyService;
+        this.gameRepository = gameRepository;
+        this.gamePlayerRepository = gamePlayerRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        // Snapshots must include the commit that invalidated them, so they are not routed to a lagging replica.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public CompletableFuture<GameStateDto> getGameState(Long gameId, User currentUser) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(gameService.getGameState(gameId, currentUser));
+        }
+        return gameSnapshot(gameId).thenApply(snapshot ->
+            gameService.buildGameState(snapshot.getGame(), snapshot.getPlayers(),
+                requirePlayer(snapshot, currentUser, "GET_GAME_STATE")));
+    }
+
+    public CompletableFuture<List<ChatMessageDto>> getChatMessages(Long gameId, User currentUser, Long sinceTimestamp) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(gameService.getChatMessages(gameId, currentUser, sinceTimestamp));
+        }
+        Instant since = sinceTimestamp != null ? Instant.ofEpochMilli(sinceTimestamp) : Instant.EPOCH;
+
+        return gameSnapshot(gameId).thenCombine(chatSnapshot(gameId), (snapshot, messages) -> {
+            GamePlayerView player = requirePlayer(snapshot, currentUser, "GET_CHAT_MESSAGES");
+            List<ChatChannel> channels = gameService.readableChannels(snapshot.getGame(), player.getRoleName());
+            return messages.stream()
+                    .filter(m -> channels.contains(m.getChannel()))
+                    .filter(m -> m.getCreatedAt().isAfter(since))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    public CompletableFuture<LobbyStateDto> getLobbyState(String lobbyCode) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(lobbyService.getLobbyState(lobbyCode));
+        }
+        return readSnapshots.lobbies().get(lobbyCode,
+            () -> transactionTemplate.execute(status -> lobbyService.getLobbyState(lobbyCode)));
+    }
+
+    private CompletableFuture<GameSnapshot> gameSnapshot(Long gameId) {
+        return readSnapshots.games().get(gameId, () -> transactionTemplate.execute(status -> {
+            logger.debug("Loading game snapshot: gameId={}", gameId);
+            Game game = gameRepository.findById(gameId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Game", gameId));
+            return new GameSnapshot(game, gamePlayerRepository.findViewsByGameId(gameId));
+        }));
+    }
+
+    private CompletableFuture<List<ChatMessageDto>> chatSnapshot(Long gameId) {
+        return readSnapshots.chats().get(gameId, () -> transactionTemplate.execute(status -> {
+            logger.debug("Loading chat snapshot: gameId={}", gameId);
+            List<ChatMessage> messages = chatMessageRepository.findByGameIdOrderByCreatedAt(gameId);
+            return List.copyOf(gameService.toChatMessageDtos(messages));
+        }));
+    }
+
+    private static GamePlayerView requirePlayer(GameSnapshot snapshot, User currentUser, String action) {
+        return snapshot.getPlayers().stream()
+                .filter(p -> p.getUserId().equals(currentUser.getId()))
+                .findFirst()
+                .orElseThrow(() -> new UnauthorizedActionException("You are not in this game", currentUser.getId(), action));
+    }
+}
@@ -0,0 +1,69 @@
+package com.ausganslage.ausgangslageBackend.sharding;
+
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The nodes of the cluster as this node sees them, and which of them owns a game or lobby.
+ * <p>
+ * Membership is replaced as a whole by {@link #updateNodes}. Since placement uses a {@link ConsistentHashRing},
+ * only games and lobbies on the arcs of the joining or leaving node change owner; this node drops its snapshots of
+ * the ones it handed over and keeps everything else.
+ */
+public class ClusterMembership {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private final String selfUrl;
+    private final int virtualNodes;
+    private final ReadSnapshots readSnapshots;
+
+    private volatile ConsistentHashRing ring;
+
+    public ClusterMembership(String selfUrl, Collection<String> nodes, int virtualNodes, ReadSnapshots readSnapshots) {
+        this.selfUrl = selfUrl;
+        this.virtualNodes = virtualNodes;
+        this.readSnapshots = readSnapshots;
+        this.ring = new ConsistentHashRing(nodes, virtualNodes);
+        if (!ring.getNodes().contains(selfUrl)) {
+            logger.warn("This node is not a cluster member, all sharded requests are forwarded: self={}, nodes={}",
+                selfUrl, ring.getNodes());
+        }
+        logger.info("Cluster membership initialized: self={}, nodes={}", selfUrl, ring.getNodes());
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public List<String> getNodes() {
+        return ring.getNodes();
+    }
+
+    /**
+     * Returns the node that owns {@code shardKey}; with no members at all this node serves everything itself.
+     */
+    public String ownerOf(String shardKey) {
+        String owner = ring.ownerOf(shardKey);
+        return owner != null ? owner : selfUrl;
+    }
+
+    public boolean isLocal(String shardKey) {
+        return selfUrl.equals(ownerOf(shardKey));
+    }
+
+    public synchronized void updateNodes(Collection<String> nodes) {
+        List<String> previous = ring.getNodes();
+        ring = new ConsistentHashRing(nodes, virtualNodes);
+
+        int dropped = readSnapshots.retainOwned(
+            gameId -> isLocal(ShardKeys.game(gameId)),
+            lobbyCode -> isLocal(ShardKeys.lobby(lobbyCode)));
+        logger.info("Cluster membership changed: previous={}, nodes={}, droppedSnapshots={}",
+            previous, ring.getNodes(), dropped);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ausganslage.ausgangslageBackend.sharding;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shard keys of games and lobbies, and which key an API path addresses.
+ */
+public final class ShardKeys {
+
+    private static final Pattern GAME_PATH = Pattern.compile("^/api/games/(\\d+)(/.*)?$");
+    private static final Pattern GAME_BY_LOBBY_PATH = Pattern.compile("^/api/games/(?:start|lobby)/([^/]+)$");
+    private static final Pattern LOBBY_PATH = Pattern.compile("^/api/lobbies/([^/]+)(/.*)?$");
+
+    private ShardKeys() {
+    }
+
+    public static String game(Long gameId) {
+        return "game:" + gameId;
+    }
+
+    public static String lobby(String lobbyCode) {
+        return "lobby:" + lobbyCode;
+    }
+
+    /**
+     * Returns the shard key the request path belongs to, or {@code null} for paths that any node can serve, such
+     * as authentication, creating a lobby or a game's event stream, which the event bus feeds on every node.
+     */
+    public static String fromPath(String path) {
+        if (path.endsWith("/events")) {
+            return null;
+        }
+        Matcher matcher = GAME_PATH.matcher(path);
+        if (matcher.matches()) {
+            return game(Long.valueOf(matcher.group(1)));
+        }
+        matcher = GAME_BY_LOBBY_PATH.matcher(path);
+        if (matcher.matches()) {
+            return lobby(matcher.group(1));
+        }
+        matcher = LOBBY_PATH.matcher(path);
+        if (matcher.matches()) {
+            return lobby(matcher.group(1));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ausganslage.ausgangslageBackend.sharding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sends requests for a game or lobby to the node that owns it.
+ * <p>
+ * Requests that address a node other than this one are either proxied to the owner ({@code forward}) or answered
+ * with a {@code 307} pointing there ({@code redirect}). A forwarded request carries {@value #FORWARDED_HEADER} and
+ * is always served where it lands, so nodes that briefly disagree about membership cannot bounce it back and
+ * forth. Every sharded response names the node that served it in {@value #NODE_HEADER}.
+ */
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    public static final String FORWARDED_HEADER = "X-Shard-Forwarded-By";
+    public static final String NODE_HEADER = "X-Shard-Node";
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRoutingFilter.class);
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+        "connection", "content-length", "expect", "host", "keep-alive", "proxy-connection", "te", "trailer",
+        "transfer-encoding", "upgrade");
+
+    public enum Mode {
+        FORWARD, REDIRECT
+    }
+
+    private final ClusterMembership membership;
+    private final Mode mode;
+    private final HttpClient httpClient;
+    private final Duration forwardTimeout;
+
+    public ShardRoutingFilter(ClusterMembership membership, Mode mode, Duration forwardTimeout) {
+        this.membership = membership;
+        this.mode = mode;
+        this.forwardTimeout = forwardTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String shardKey = ShardKeys.fromPath(request.getRequestURI().substring(request.getContextPath().length()));
+        if (shardKey == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String owner = membership.ownerOf(shardKey);
+        if (owner.equals(membership.getSelfUrl()) || request.getHeader(FORWARDED_HEADER) != null) {
+            response.setHeader(NODE_HEADER, membership.getSelfUrl());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String target = owner + request.getRequestURI()
+            + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        if (mode == Mode.REDIRECT) {
+            logger.debug("Redirecting to shard owner: shardKey={}, owner={}", shardKey, owner);
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader("Location", target);
+            return;
+        }
+
+        logger.debug("Forwarding to shard owner: shardKey={}, owner={}, method={}", shardKey, owner, request.getMethod());
+        forward(request, response, URI.create(target));
+    }
+
+    private void forward(HttpServletRequest request, HttpServletResponse response, URI target) throws IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpRequest.Builder forwarded = HttpRequest.newBuilder(target)
+                .timeout(forwardTimeout)
+                .method(request.getMethod(), body.length == 0
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                for (String value : Collections.list(request.getHeaders(name))) {
+                    forwarded.header(name, value);
+                }
+            }
+        }
+        forwarded.header(FORWARDED_HEADER, membership.getSelfUrl());
+
+        HttpResponse<byte[]> ownerResponse;
+        try {
+            ownerResponse = httpClient.send(forwarded.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        } catch (IOException e) {
+            logger.warn("Shard owner unreachable: target={}, error={}", target, e.getMessage());
+            response.sendError(HttpStatus.BAD_GATEWAY.value());
+            return;
+        }
+
+        response.setStatus(ownerResponse.statusCode());
+        ownerResponse.headers().map().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !name.startsWith(":")) {
+                copyHeader(response, name, values);
+            }
+        });
+        byte[] responseBody = ownerResponse.body();
+        if (responseBody.length > 0) {
+            response.setContentLength(responseBody.length);
+            try (OutputStream out = response.getOutputStream()) {
+                out.write(responseBody);
+            }
+        }
+    }
+
+    private static void copyHeader(HttpServletResponse response, String name, List<String> values) {
+        for (String value : values) {
+            response.addHeader(name, value);
+        }
+    }
+}
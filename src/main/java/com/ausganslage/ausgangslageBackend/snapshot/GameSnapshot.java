@@ -0,0 +1,29 @@
+package com.ausganslage.ausgangslageBackend.snapshot;
+
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView;
+
+import java.util.List;
+
+/**
+ * Everything needed to render {@code /state} for any player of a game, as of the last committed write.
+ * Shared between request threads and never modified after loading.
+ */
+public class GameSnapshot {
+
+    private final Game game;
+    private final List<GamePlayerView> players;
+
+    public GameSnapshot(Game game, List<GamePlayerView> players) {
+        this.game = game;
+        this.players = List.copyOf(players);
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public List<GamePlayerView> getPlayers() {
+        return players;
+    }
+}
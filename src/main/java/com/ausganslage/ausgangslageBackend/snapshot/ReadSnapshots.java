@@ -0,0 +1,112 @@
+package com.ausganslage.ausgangslageBackend.snapshot;
+
+import com.ausganslage.ausgangslageBackend.dto.ChatMessageDto;
+import com.ausganslage.ausgangslageBackend.dto.LobbyStateDto;
+import com.ausganslage.ausgangslageBackend.util.TransactionHooks;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * In-memory snapshots behind the polling endpoints: game state, chat history and lobby state.
+ * <p>
+ * Services that change a game, its chat or a lobby call the matching {@code invalidate} method. Inside a
+ * transaction the snapshot is dropped after the commit, so the next poll reloads what was actually written;
+ * outside a transaction it is dropped immediately.
+ * <p>
+ * Snapshots are loaded on a small fixed pool ({@code app.snapshots.loader-threads}), which caps how many
+ * connections polling can take from the pool and leaves the rest for writes.
+ */
+@Component
+public class ReadSnapshots implements DisposableBean {
+
+    private final ExecutorService loaderExecutor;
+    private final SnapshotCache<Long, GameSnapshot> games;
+    private final SnapshotCache<Long, List<ChatMessageDto>> chats;
+    private final SnapshotCache<String, LobbyStateDto> lobbies;
+
+    public ReadSnapshots(@Value("${app.snapshots.loader-threads:4}") int loaderThreads,
+                         @Value("${app.snapshots.idle-timeout-ms:600000}") long idleTimeoutMillis) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.loaderExecutor = Executors.newFixedThreadPool(loaderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-loader-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.games = new SnapshotCache<>(loaderExecutor, idleTimeoutMillis);
+        this.chats = new SnapshotCache<>(loaderExecutor, idleTimeoutMillis);
+        this.lobbies = new SnapshotCache<>(loaderExecutor, idleTimeoutMillis);
+    }
+
+    public SnapshotCache<Long, GameSnapshot> games() {
+        return games;
+    }
+
+    public SnapshotCache<Long, List<ChatMessageDto>> chats() {
+        return chats;
+    }
+
+    public SnapshotCache<String, LobbyStateDto> lobbies() {
+        return lobbies;
+    }
+
+    public void invalidateGame(Long gameId) {
+        TransactionHooks.afterCommit(() -> games.invalidate(gameId));
+    }
+
+    /**
+     * Adds {@code message} to the game's chat snapshot after the commit, so a post doesn't make the next poll reload
+     * the whole history.
+     */
+    public void appendChat(Long gameId, ChatMessageDto message) {
+        TransactionHooks.afterCommit(() -> chats.update(gameId, messages -> withMessage(messages, message)));
+    }
+
+    public void invalidateLobby(String lobbyCode) {
+        TransactionHooks.afterCommit(() -> lobbies.invalidate(lobbyCode));
+    }
+
+    /**
+     * Drops the snapshots of games and lobbies this node no longer serves, so they are reloaded should it own them
+     * again later. Returns the number of snapshots dropped.
+     */
+    public int retainOwned(Predicate<Long> ownsGame, Predicate<String> ownsLobby) {
+        return games.retainKeys(ownsGame) + chats.retainKeys(ownsGame) + lobbies.retainKeys(ownsLobby);
+    }
+
+    /**
+     * {@code messages} with {@code message} inserted by creation time; unchanged if a load that started after the
+     * commit already read it.
+     */
+    static List<ChatMessageDto> withMessage(List<ChatMessageDto> messages, ChatMessageDto message) {
+        int position = messages.size();
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            ChatMessageDto existing = messages.get(i);
+            if (existing.getId().equals(message.getId())) {
+                return messages;
+            }
+            if (!existing.getCreatedAt().isAfter(message.getCreatedAt())) {
+                break;
+            }
+            position = i;
+        }
+        List<ChatMessageDto> updated = new ArrayList<>(messages.size() + 1);
+        updated.addAll(messages.subList(0, position));
+        updated.add(message);
+        updated.addAll(messages.subList(position, messages.size()));
+        return Collections.unmodifiableList(updated);
+    }
+
+    @Override
+    public void destroy() {
+        loaderExecutor.shutdownNow();
+    }
+}
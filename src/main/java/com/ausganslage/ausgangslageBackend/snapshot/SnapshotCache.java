@@ -0,0 +1,112 @@
+package com.ausganslage.ausgangslageBackend.snapshot;
+
+import com.ausganslage.ausgangslageBackend.datasource.SqlStatementCounter;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Asynchronously loaded, explicitly invalidated snapshots keyed by id.
+ * <p>
+ * Concurrent readers of a missing key share a single load, which runs on the loader executor so the calling
+ * thread is never blocked; its SQL is counted towards the reader that started it. {@link #invalidate} drops the
+ * entry, including a load that is still in flight, so a load that raced with a write is never served to later
+ * readers. Failed loads are not cached. Entries that nobody read for {@code idleTimeoutMillis} are swept out every
+ * few thousand reads.
+ */
+public class SnapshotCache<K, V> {
+
+    private static final int SWEEP_INTERVAL = 4096;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Executor loaderExecutor;
+    private final long idleTimeoutMillis;
+    private final AtomicInteger readsSinceSweep = new AtomicInteger();
+
+    public SnapshotCache(Executor loaderExecutor, long idleTimeoutMillis) {
+        this.loaderExecutor = loaderExecutor;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public CompletableFuture<V> get(K key, Supplier<V> loader) {
+        if (readsSinceSweep.incrementAndGet() >= SWEEP_INTERVAL) {
+            readsSinceSweep.set(0);
+            sweep();
+        }
+
+        Entry<V> entry = entries.computeIfAbsent(key, k -> new Entry<>());
+        entry.lastAccessMillis = System.currentTimeMillis();
+        if (entry.claimLoad()) {
+            Supplier<V> counted = SqlStatementCounter.inCurrentScope(loader);
+            CompletableFuture.supplyAsync(counted, loaderExecutor).whenComplete((value, error) -> {
+                if (error != null) {
+                    entries.remove(key, entry);
+                    entry.future.completeExceptionally(error);
+                } else {
+                    entry.future.complete(value);
+                }
+            });
+        }
+        return entry.future;
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Replaces a loaded snapshot with {@code change} applied to it, instead of dropping it. A snapshot that is still
+     * loading is dropped, as the load may or may not include the change; a missing one stays missing.
+     */
+    public void update(K key, UnaryOperator<V> change) {
+        entries.computeIfPresent(key, (k, entry) -> {
+            if (!entry.future.isDone() || entry.future.isCompletedExceptionally()) {
+                return null;
+            }
+            return Entry.loaded(change.apply(entry.future.join()), entry.lastAccessMillis);
+        });
+    }
+
+    /**
+     * Drops every entry whose key does not match {@code keep} and returns how many were dropped.
+     */
+    public int retainKeys(Predicate<K> keep) {
+        int before = entries.size();
+        entries.keySet().removeIf(key -> !keep.test(key));
+        return before - entries.size();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void sweep() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        entries.entrySet().removeIf(e -> e.getValue().lastAccessMillis < cutoff);
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final AtomicBoolean loadStarted = new AtomicBoolean();
+        private volatile long lastAccessMillis;
+
+        static <V> Entry<V> loaded(V value, long lastAccessMillis) {
+            Entry<V> entry = new Entry<>();
+            entry.loadStarted.set(true);
+            entry.future.complete(value);
+            entry.lastAccessMillis = lastAccessMillis;
+            return entry;
+        }
+
+        boolean claimLoad() {
+            return !loadStarted.get() && loadStarted.compareAndSet(false, true);
+        }
+    }
+}
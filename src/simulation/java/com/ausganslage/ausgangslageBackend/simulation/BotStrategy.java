@@ -0,0 +1,29 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * How simulated players decide. Every method returns a seat index, or -1 for no action.
+ */
+interface BotStrategy {
+
+    int wolfTarget(SimulatedGame game, int wolf, SplittableRandom random);
+
+    int seerTarget(SimulatedGame game, int seer, SplittableRandom random);
+
+    boolean witchHeals(SimulatedGame game, int witch, int wolfVictim, SplittableRandom random);
+
+    int witchPoisonTarget(SimulatedGame game, int witch, SplittableRandom random);
+
+    int lynchTarget(SimulatedGame game, int voter, SplittableRandom random);
+
+    int hunterTarget(SimulatedGame game, int hunter, SplittableRandom random);
+
+    static BotStrategy named(String name) {
+        return switch (name) {
+            case "random" -> new RandomBots();
+            case "scripted" -> new ScriptedBots();
+            default -> throw new IllegalArgumentException("Unknown strategy " + name + ", expected random or scripted");
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import com.ausganslage.ausgangslageBackend.rules.GameRules;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays complete games with bot players directly against {@link GameRules}, without HTTP or a database, on a
+ * fork-join pool across all cores. Prints throughput and balance statistics: how often each faction wins, how
+ * long games last, and how often the witch and hunter act. Useful both for tuning role compositions and as a
+ * CPU benchmark of the rules.
+ * <p>
+ * Options: {@code --games} (1000000), {@code --players} (8), {@code --strategy} (random or scripted),
+ * {@code --seed} (random), {@code --parallelism} (available processors), {@code --max-days} (50),
+ * {@code --warmup-games} (100000).
+ */
+public class GameSimulation {
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        long games = Long.parseLong(options.getOrDefault("games", "1000000"));
+        int players = Integer.parseInt(options.getOrDefault("players", "8"));
+        String strategy = options.getOrDefault("strategy", "random");
+        long seed = options.containsKey("seed") ? Long.parseLong(options.get("seed")) : System.nanoTime();
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism",
+            Integer.toString(Runtime.getRuntime().availableProcessors())));
+        int maxDays = Integer.parseInt(options.getOrDefault("max-days", "50"));
+        long warmupGames = Long.parseLong(options.getOrDefault("warmup-games", "100000"));
+
+        if (players < GameRules.MIN_PLAYERS) {
+            throw new IllegalArgumentException("A game needs at least " + GameRules.MIN_PLAYERS + " players");
+        }
+        BotStrategy bots = BotStrategy.named(strategy);
+
+        System.out.printf("Simulating %d games x %d players with %s bots, seed %d, parallelism %d%n",
+            games, players, strategy, seed, parallelism);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            if (warmupGames > 0) {
+                pool.invoke(new SimulationTask(warmupGames, players, maxDays, bots, new SplittableRandom(~seed)));
+            }
+            long start = System.nanoTime();
+            SimulationStats stats = pool.invoke(
+                new SimulationTask(games, players, maxDays, bots, new SplittableRandom(seed)));
+            stats.print(System.out, System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String key = args[i].substring(2);
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                options.put(key.substring(0, eq), key.substring(eq + 1));
+            } else if (i + 1 < args.length) {
+                options.put(key, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + key);
+            }
+        }
+        return options;
+    }
+}
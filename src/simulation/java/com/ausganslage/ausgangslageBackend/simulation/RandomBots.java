@@ -0,0 +1,45 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.SplittableRandom;
+
+/**
+ * Players without any information: every choice is a uniformly random alive player. Wolves do not target each
+ * other, which the rules forbid anyway; the witch uses each potion with a fixed probability.
+ */
+class RandomBots implements BotStrategy {
+
+    private static final double HEAL_PROBABILITY = 0.5;
+    private static final double POISON_PROBABILITY = 0.2;
+
+    @Override
+    public int wolfTarget(SimulatedGame game, int wolf, SplittableRandom random) {
+        return game.randomAlive(random, seat -> game.role(seat) != RoleName.WEREWOLF);
+    }
+
+    @Override
+    public int seerTarget(SimulatedGame game, int seer, SplittableRandom random) {
+        return game.randomAlive(random, seat -> seat != seer);
+    }
+
+    @Override
+    public boolean witchHeals(SimulatedGame game, int witch, int wolfVictim, SplittableRandom random) {
+        return random.nextDouble() < HEAL_PROBABILITY;
+    }
+
+    @Override
+    public int witchPoisonTarget(SimulatedGame game, int witch, SplittableRandom random) {
+        return random.nextDouble() < POISON_PROBABILITY ? game.randomAlive(random, seat -> seat != witch) : -1;
+    }
+
+    @Override
+    public int lynchTarget(SimulatedGame game, int voter, SplittableRandom random) {
+        return game.randomAlive(random, seat -> seat != voter);
+    }
+
+    @Override
+    public int hunterTarget(SimulatedGame game, int hunter, SplittableRandom random) {
+        return game.randomAlive(random, seat -> seat != hunter);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+
+import java.util.SplittableRandom;
+
+/**
+ * Players that use what their role knows. Wolves agree on the alive non-wolf with the lowest seat, like the
+ * load test bots. The seer inspects players not inspected yet and shares every wolf found; the village lynches the
+ * first known wolf or else a random player. The witch saves the first victim and poisons a known wolf, and the
+ * hunter shoots a known wolf or else picks at random.
+ */
+class ScriptedBots implements BotStrategy {
+
+    @Override
+    public int wolfTarget(SimulatedGame game, int wolf, SplittableRandom random) {
+        for (int seat = 0; seat < game.playerCount(); seat++) {
+            if (game.isAlive(seat) && game.role(seat) != RoleName.WEREWOLF) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int seerTarget(SimulatedGame game, int seer, SplittableRandom random) {
+        int target = game.randomAlive(random, seat -> seat != seer && !game.isInspected(seat));
+        return target >= 0 ? target : game.randomAlive(random, seat -> seat != seer);
+    }
+
+    @Override
+    public boolean witchHeals(SimulatedGame game, int witch, int wolfVictim, SplittableRandom random) {
+        return true;
+    }
+
+    @Override
+    public int witchPoisonTarget(SimulatedGame game, int witch, SplittableRandom random) {
+        return game.firstKnownWolf();
+    }
+
+    @Override
+    public int lynchTarget(SimulatedGame game, int voter, SplittableRandom random) {
+        int knownWolf = game.firstKnownWolf();
+        if (knownWolf >= 0 && knownWolf != voter && game.role(voter) != RoleName.WEREWOLF) {
+            return knownWolf;
+        }
+        return game.randomAlive(random, seat -> seat != voter);
+    }
+
+    @Override
+    public int hunterTarget(SimulatedGame game, int hunter, SplittableRandom random) {
+        int knownWolf = game.firstKnownWolf();
+        return knownWolf >= 0 ? knownWolf : game.randomAlive(random, seat -> seat != hunter);
+    }
+}
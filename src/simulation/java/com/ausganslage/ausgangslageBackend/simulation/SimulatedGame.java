@@ -0,0 +1,212 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.rules.GameRules;
+import com.ausganslage.ausgangslageBackend.rules.NightOutcome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+
+/**
+ * One game held in plain arrays and played to the end by bots. Phase order and every decision (majorities, the
+ * witch's heal, winners) go through {@link GameRules}, the same functions {@code GameService} applies to the
+ * database. Players are identified by seat index, which doubles as the player id passed to the rules.
+ */
+class SimulatedGame {
+
+    private final RoleName[] roles;
+    private final boolean[] alive;
+    private final boolean[] inspected;
+    private final List<Long> votes;
+    private long aliveWerewolves;
+    private long aliveVillagers;
+    private boolean healPotion = true;
+    private boolean poisonPotion = true;
+    private int knownWolf = -1;
+    private int hunter = -1;
+    private boolean hunterMayShoot;
+    private int dayNumber = 1;
+
+    SimulatedGame(int playerCount, SplittableRandom random) {
+        List<RoleName> composition = GameRules.roleComposition(playerCount);
+        GameRules.shuffle(composition, random);
+        roles = composition.toArray(new RoleName[0]);
+        alive = new boolean[playerCount];
+        inspected = new boolean[playerCount];
+        votes = new ArrayList<>(playerCount);
+        for (int seat = 0; seat < playerCount; seat++) {
+            alive[seat] = true;
+            if (roles[seat] == RoleName.WEREWOLF) {
+                aliveWerewolves++;
+            } else {
+                aliveVillagers++;
+            }
+        }
+    }
+
+    /**
+     * Plays until one faction wins or {@code maxDays} have passed, and adds the outcome to {@code stats}.
+     */
+    void play(BotStrategy bots, SplittableRandom random, int maxDays, SimulationStats stats) {
+        Faction winner = null;
+        while (winner == null && dayNumber <= maxDays) {
+            winner = playNight(bots, random, stats);
+            if (winner == null) {
+                winner = playDay(bots, random, stats);
+            }
+        }
+        stats.gameFinished(winner, Math.min(dayNumber, maxDays), aliveWerewolves + aliveVillagers);
+    }
+
+    private Faction playNight(BotStrategy bots, SplittableRandom random, SimulationStats stats) {
+        votes.clear();
+        for (int seat = 0; seat < roles.length; seat++) {
+            if (alive[seat] && roles[seat] == RoleName.WEREWOLF) {
+                addVote(bots.wolfTarget(this, seat, random));
+            }
+        }
+        Long wolfVictim = GameRules.majorityTarget(votes);
+
+        int seer = aliveWithRole(RoleName.SEER);
+        if (seer >= 0) {
+            int target = bots.seerTarget(this, seer, random);
+            if (target >= 0) {
+                inspected[target] = true;
+                if (roles[target] == RoleName.WEREWOLF && (knownWolf < 0 || !alive[knownWolf])) {
+                    knownWolf = target;
+                }
+            }
+        }
+
+        Long healTarget = null;
+        Long poisonTarget = null;
+        int witch = aliveWithRole(RoleName.WITCH);
+        if (witch >= 0) {
+            // One potion per night: the witch phase ends with the first action
+            if (healPotion && wolfVictim != null && bots.witchHeals(this, witch, wolfVictim.intValue(), random)) {
+                healTarget = wolfVictim;
+                healPotion = false;
+                stats.healed();
+            } else if (poisonPotion) {
+                int target = bots.witchPoisonTarget(this, witch, random);
+                if (target >= 0) {
+                    poisonTarget = (long) target;
+                    poisonPotion = false;
+                    stats.poisoned();
+                }
+            }
+        }
+
+        NightOutcome night = GameRules.resolveNight(wolfVictim, healTarget, poisonTarget);
+        if (night.getKilledByWolvesId() != null) {
+            kill(night.getKilledByWolvesId().intValue());
+        }
+        if (night.getPoisonedPlayerId() != null && alive[night.getPoisonedPlayerId().intValue()]) {
+            kill(night.getPoisonedPlayerId().intValue());
+        }
+        return afterDeaths(bots, random, stats);
+    }
+
+    private Faction playDay(BotStrategy bots, SplittableRandom random, SimulationStats stats) {
+        votes.clear();
+        for (int seat = 0; seat < roles.length; seat++) {
+            if (alive[seat]) {
+                addVote(bots.lynchTarget(this, seat, random));
+            }
+        }
+        Long lynched = GameRules.majorityTarget(votes);
+        if (lynched != null) {
+            kill(lynched.intValue());
+        }
+        Faction winner = afterDeaths(bots, random, stats);
+        dayNumber++;
+        return winner;
+    }
+
+    /**
+     * Checks for a winner, lets a hunter who just died shoot, and checks again, as the server does after the
+     * resolution and after the hunter's power action.
+     */
+    private Faction afterDeaths(BotStrategy bots, SplittableRandom random, SimulationStats stats) {
+        Faction winner = GameRules.winner(aliveWerewolves, aliveVillagers);
+        if (winner != null || !hunterMayShoot) {
+            return winner;
+        }
+        hunterMayShoot = false;
+        int target = bots.hunterTarget(this, hunter, random);
+        if (target >= 0) {
+            kill(target);
+            stats.hunterShot();
+        }
+        return GameRules.winner(aliveWerewolves, aliveVillagers);
+    }
+
+    private void kill(int seat) {
+        alive[seat] = false;
+        if (roles[seat] == RoleName.WEREWOLF) {
+            aliveWerewolves--;
+        } else {
+            aliveVillagers--;
+        }
+        if (roles[seat] == RoleName.HUNTER) {
+            hunter = seat;
+            hunterMayShoot = true;
+        }
+    }
+
+    private void addVote(int target) {
+        if (target >= 0) {
+            votes.add((long) target);
+        }
+    }
+
+    private int aliveWithRole(RoleName role) {
+        for (int seat = 0; seat < roles.length; seat++) {
+            if (alive[seat] && roles[seat] == role) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    int playerCount() {
+        return roles.length;
+    }
+
+    RoleName role(int seat) {
+        return roles[seat];
+    }
+
+    boolean isAlive(int seat) {
+        return alive[seat];
+    }
+
+    boolean isInspected(int seat) {
+        return inspected[seat];
+    }
+
+    /**
+     * An alive wolf the seer has found, or -1.
+     */
+    int firstKnownWolf() {
+        return knownWolf >= 0 && alive[knownWolf] ? knownWolf : -1;
+    }
+
+    /**
+     * A uniformly chosen alive seat accepted by {@code filter}, or -1 if there is none. Reservoir sampling, so
+     * nothing is allocated.
+     */
+    int randomAlive(SplittableRandom random, IntPredicate filter) {
+        int chosen = -1;
+        int seen = 0;
+        for (int seat = 0; seat < roles.length; seat++) {
+            if (alive[seat] && filter.test(seat) && random.nextInt(++seen) == 0) {
+                chosen = seat;
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+
+import java.io.PrintStream;
+
+/**
+ * Outcome counters of a batch of simulated games. Each fork-join leaf fills its own instance; results are
+ * combined with {@link #merge}, so nothing is shared between threads.
+ */
+class SimulationStats {
+
+    private long games;
+    private long villageWins;
+    private long wolfWins;
+    private long stalemates;
+    private long totalDays;
+    private long totalSurvivors;
+    private long heals;
+    private long poisons;
+    private long hunterShots;
+
+    void gameFinished(Faction winner, int days, long survivors) {
+        games++;
+        if (winner == Faction.VILLAGE) {
+            villageWins++;
+        } else if (winner == Faction.WOLVES) {
+            wolfWins++;
+        } else {
+            stalemates++;
+        }
+        totalDays += days;
+        totalSurvivors += survivors;
+    }
+
+    void healed() {
+        heals++;
+    }
+
+    void poisoned() {
+        poisons++;
+    }
+
+    void hunterShot() {
+        hunterShots++;
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        villageWins += other.villageWins;
+        wolfWins += other.wolfWins;
+        stalemates += other.stalemates;
+        totalDays += other.totalDays;
+        totalSurvivors += other.totalSurvivors;
+        heals += other.heals;
+        poisons += other.poisons;
+        hunterShots += other.hunterShots;
+        return this;
+    }
+
+    long games() {
+        return games;
+    }
+
+    void print(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("Games: %d in %.2f s (%.0f games/s)%n", games, seconds, games / seconds);
+        out.printf("Village wins: %d (%.2f%%)%n", villageWins, percent(villageWins));
+        out.printf("Wolf wins:    %d (%.2f%%)%n", wolfWins, percent(wolfWins));
+        out.printf("Stalemates:   %d (%.2f%%)%n", stalemates, percent(stalemates));
+        out.printf("Average days: %.2f, average survivors: %.2f%n", average(totalDays), average(totalSurvivors));
+        out.printf("Per game: heals %.3f, poisons %.3f, hunter shots %.3f%n",
+            average(heals), average(poisons), average(hunterShots));
+    }
+
+    private double percent(long count) {
+        return games == 0 ? 0 : 100.0 * count / games;
+    }
+
+    private double average(long total) {
+        return games == 0 ? 0 : (double) total / games;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ausganslage.ausgangslageBackend.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays {@code games} games by halving the range until a leaf is small enough to play on one thread. Each half
+ * gets its own {@link SplittableRandom#split() split} generator, so a seed reproduces the same statistics at any
+ * parallelism.
+ */
+class SimulationTask extends RecursiveTask<SimulationStats> {
+
+    static final int GAMES_PER_LEAF = 1_000;
+
+    private final long games;
+    private final int players;
+    private final int maxDays;
+    private final BotStrategy bots;
+    private final SplittableRandom random;
+
+    SimulationTask(long games, int players, int maxDays, BotStrategy bots, SplittableRandom random) {
+        this.games = games;
+        this.players = players;
+        this.maxDays = maxDays;
+        this.bots = bots;
+        this.random = random;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (games <= GAMES_PER_LEAF) {
+            SimulationStats stats = new SimulationStats();
+            for (long i = 0; i < games; i++) {
+                new SimulatedGame(players, random).play(bots, random, maxDays, stats);
+            }
+            return stats;
+        }
+        long half = games / 2;
+        SimulationTask left = new SimulationTask(half, players, maxDays, bots, random.split());
+        SimulationTask right = new SimulationTask(games - half, players, maxDays, bots, random);
+        left.fork();
+        return right.compute().merge(left.join());
+    }
+}
@@ -0,0 +1,110 @@
+package com.ausganslage.ausgangslageBackend.benchmark;
+
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.model.Lobby;
+import com.ausganslage.ausgangslageBackend.model.LobbyMember;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.LobbyMemberRepository;
+import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures {@link GameService#startGame} latency for growing lobby sizes.
+ * Excluded from the default test run; execute with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(properties = {
+        "logging.level.com.ausganslage.ausgangslageBackend=WARN",
+        "logging.level.AUDIT=WARN"
+})
+@Tag("benchmark")
+class StartGameBenchmarkTest {
+
+    private static final int[] PLAYER_COUNTS = {4, 8, 16, 32, 64, 100};
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 30;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LobbyRepository lobbyRepository;
+
+    @Autowired
+    private LobbyMemberRepository lobbyMemberRepository;
+
+    private int lobbyCounter = 0;
+
+    @Test
+    void benchmarkStartGame() {
+        List<User> users = createUsers(100);
+
+        System.out.println("players | median ms | p95 ms | max ms");
+        for (int playerCount : PLAYER_COUNTS) {
+            List<User> players = users.subList(0, playerCount);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                gameService.startGame(createReadyLobby(players), players.get(0));
+            }
+
+            long[] samples = new long[MEASURED_ITERATIONS];
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                String lobbyCode = createReadyLobby(players);
+                long start = System.nanoTime();
+                gameService.startGame(lobbyCode, players.get(0));
+                samples[i] = System.nanoTime() - start;
+            }
+
+            Arrays.sort(samples);
+            System.out.printf("%7d | %9.2f | %6.2f | %6.2f%n", playerCount,
+                samples[samples.length / 2] / 1_000_000.0,
+                samples[(int) (samples.length * 0.95)] / 1_000_000.0,
+                samples[samples.length - 1] / 1_000_000.0);
+        }
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUsername("bench" + i);
+            user.setEmail("bench" + i + "@bench.local");
+            user.setPasswordHash("x");
+            user.setAvatarConfig("default");
+            users.add(userRepository.save(user));
+        }
+        return users;
+    }
+
+    private String createReadyLobby(List<User> players) {
+        Lobby lobby = new Lobby();
+        lobby.setLobbyCode("B" + (lobbyCounter++));
+        lobby.setHostUserId(players.get(0).getId());
+        lobby.setMaxPlayers(players.size());
+        lobby.setStatus(LobbyStatus.OPEN);
+        lobby.setCreatedAt(Instant.now());
+        lobby = lobbyRepository.save(lobby);
+
+        for (User player : players) {
+            LobbyMember member = new LobbyMember();
+            member.setLobbyId(lobby.getId());
+            member.setUserId(player.getId());
+            member.setIsHost(player == players.get(0));
+            member.setIsReady(true);
+            lobbyMemberRepository.save(member);
+        }
+        return lobby.getLobbyCode();
+    }
+}
@@ -0,0 +1,20 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the annotated test when its body issues more than {@link #value()} SQL statements. Put the fixture setup in
+ * {@code @BeforeEach}, which is not counted, and only the call under test in the test method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,34 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements a {@link QueryBudget} test method executes through {@link StatementCountingDataSource}
+ * and asserts they stay within the budget.
+ */
+public class QueryBudgetExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        QueryBudget budget = invocationContext.getExecutable().getAnnotation(QueryBudget.class);
+        if (budget == null) {
+            invocation.proceed();
+            return;
+        }
+
+        int statements;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            invocation.proceed();
+            statements = scope.getStatementCount();
+        }
+        assertTrue(statements <= budget.value(), () -> invocationContext.getExecutable().getName() + " executed " + statements
+            + " SQL statements, budget is " + budget.value());
+    }
+}
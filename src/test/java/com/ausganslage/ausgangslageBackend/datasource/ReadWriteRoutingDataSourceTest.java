@@ -0,0 +1,107 @@
+package com.ausganslage.ausgangslageBackend.datasource;
+
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replica-urls=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.routing.max-lag-ms=0",
+        "app.datasource.routing.replication-stub.enabled=true",
+        "app.datasource.routing.replication-stub.interval-ms=3600000"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private H2ReplicationStub replicationStub;
+
+    @Autowired
+    private ReplicationMonitor replicationMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void syncReplicas() throws Exception {
+        replicationStub.replicate();
+    }
+
+    @Test
+    void testReadOnlyTransaction_UsesReplicaWhenCaughtUp() {
+        assertEquals(0, replicationMonitor.getLagMillis());
+        assertEquals("ROUTING_REPLICA", databaseName(true));
+        assertEquals("ROUTING_PRIMARY", databaseName(false));
+    }
+
+    @Test
+    void testReadOnlyTransaction_FallsBackToPrimaryWhileReplicaLags() throws Exception {
+        User user = saveUser("lagging");
+
+        assertEquals("ROUTING_PRIMARY", databaseName(true));
+        assertTrue(readOnly().execute(status -> userRepository.findById(user.getId())).isPresent());
+
+        replicationStub.replicate();
+
+        assertEquals("ROUTING_REPLICA", databaseName(true));
+        assertTrue(readOnly().execute(status -> userRepository.findById(user.getId())).isPresent());
+    }
+
+    @Test
+    void testLag_CommitWithinTheSameMillisecondStillLags() {
+        ReplicationMonitor monitor = new ReplicationMonitor();
+        monitor.markReplicated(monitor.getPrimaryVersion(), System.currentTimeMillis());
+
+        monitor.recordPrimaryCommit();
+
+        assertTrue(monitor.getLagMillis() >= 1);
+        assertFalse(monitor.isReplicaUsable(0));
+    }
+
+    @Test
+    void testReadOnlyTransaction_OnPrimaryDoesNotCountAsWrite() {
+        long version = replicationMonitor.getPrimaryVersion();
+
+        readOnly().execute(status -> userRepository.count());
+
+        assertEquals(version, replicationMonitor.getPrimaryVersion());
+    }
+
+    private String databaseName(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@routing.local");
+        user.setPasswordHash("x");
+        user.setAvatarConfig("default");
+        return userRepository.save(user);
+    }
+}
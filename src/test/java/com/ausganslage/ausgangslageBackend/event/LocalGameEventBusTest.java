@@ -0,0 +1,91 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GameEventType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalGameEventBusTest {
+
+    // Flushed by hand; the scheduled flush never fires during a test.
+    private final LocalGameEventBus bus = new LocalGameEventBus(3_600_000);
+
+    @AfterEach
+    void tearDown() {
+        bus.destroy();
+    }
+
+    @Test
+    void testFlush_CoalescesEventsPerGame() {
+        List<GameEventBatch> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(1L, received::add);
+
+        bus.publish(GameEvent.phaseChanged(1L, GamePhase.NIGHT_SEER, 1));
+        for (int i = 0; i < 5; i++) {
+            bus.publish(GameEvent.chatMessage(1L, ChatChannel.NIGHT_WOLVES));
+        }
+        bus.publish(GameEvent.playerDied(1L, 7L));
+        bus.publish(GameEvent.phaseChanged(1L, GamePhase.NIGHT_WITCH, 1));
+        bus.publish(GameEvent.playerDied(1L, 8L));
+        bus.publish(GameEvent.playerDied(1L, 7L));
+        bus.publish(GameEvent.chatMessage(1L, ChatChannel.SYSTEM));
+        bus.flush();
+
+        assertEquals(1, received.size());
+        List<GameEvent> events = received.get(0).getEvents();
+        assertEquals(5, events.size());
+        assertEquals(GameEventType.PHASE_CHANGED, events.get(0).getType());
+        assertEquals(GamePhase.NIGHT_WITCH, events.get(0).getPhase());
+        assertEquals(ChatChannel.NIGHT_WOLVES, events.get(1).getChannel());
+        assertEquals(7L, events.get(2).getPlayerId());
+        assertEquals(8L, events.get(3).getPlayerId());
+        assertEquals(ChatChannel.SYSTEM, events.get(4).getChannel());
+    }
+
+    @Test
+    void testFlush_DeliversOnlyToListenersOfTheGame() {
+        List<GameEventBatch> game1 = new CopyOnWriteArrayList<>();
+        List<GameEventBatch> game2 = new CopyOnWriteArrayList<>();
+        bus.subscribe(1L, game1::add);
+        bus.subscribe(2L, game2::add);
+
+        bus.publish(GameEvent.chatMessage(1L, ChatChannel.DAY));
+        bus.flush();
+        bus.flush();
+
+        assertEquals(1, game1.size());
+        assertTrue(game2.isEmpty());
+    }
+
+    @Test
+    void testSubscription_CloseStopsDelivery() {
+        List<GameEventBatch> received = new CopyOnWriteArrayList<>();
+        GameEventBus.Subscription subscription = bus.subscribe(1L, received::add);
+
+        subscription.close();
+        bus.publish(GameEvent.chatMessage(1L, ChatChannel.DAY));
+        bus.flush();
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void testFlush_FailingListenerDoesNotStopOthers() {
+        List<GameEventBatch> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(1L, batch -> {
+            throw new IllegalStateException("client gone");
+        });
+        bus.subscribe(1L, received::add);
+
+        bus.publish(GameEvent.playerDied(1L, 3L));
+        bus.flush();
+
+        assertEquals(1, received.size());
+    }
+}
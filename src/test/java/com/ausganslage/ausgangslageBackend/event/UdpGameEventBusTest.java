@@ -0,0 +1,85 @@
+package com.ausganslage.ausgangslageBackend.event;
+
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UdpGameEventBusTest {
+
+    private UdpGameEventBus nodeA;
+    private UdpGameEventBus nodeB;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        InetSocketAddress addressA = freeAddress();
+        InetSocketAddress addressB = freeAddress();
+        List<InetSocketAddress> peers = List.of(addressA, addressB);
+        // Flushed by hand so every window is deterministic.
+        nodeA = new UdpGameEventBus(3_600_000, "a", addressA, peers);
+        nodeB = new UdpGameEventBus(3_600_000, "b", addressB, peers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    @Test
+    void testPublish_ReachesListenersOnOtherNodeOnce() throws Exception {
+        LinkedBlockingQueue<GameEventBatch> onA = new LinkedBlockingQueue<>();
+        LinkedBlockingQueue<GameEventBatch> onB = new LinkedBlockingQueue<>();
+        nodeA.subscribe(5L, onA::add);
+        nodeB.subscribe(5L, onB::add);
+
+        nodeA.publish(GameEvent.phaseChanged(5L, GamePhase.DAY_DISCUSSION, 2));
+        nodeA.publish(GameEvent.playerDied(5L, 11L));
+        nodeA.publish(GameEvent.chatMessage(5L, ChatChannel.SYSTEM));
+        nodeA.flush();
+
+        GameEventBatch remote = onB.poll(5, TimeUnit.SECONDS);
+        assertNotNull(remote);
+        assertEquals(5L, remote.getGameId());
+        assertEquals(3, remote.getEvents().size());
+        assertEquals(GamePhase.DAY_DISCUSSION, remote.getEvents().get(0).getPhase());
+        assertEquals(11L, remote.getEvents().get(1).getPlayerId());
+        assertNotNull(remote.getEvents().get(2).getOccurredAt());
+
+        assertNotNull(onA.poll(5, TimeUnit.SECONDS));
+        assertNull(onA.poll(200, TimeUnit.MILLISECONDS));
+        assertNull(onB.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testEncode_SplitsWindowsLargerThanOneDatagram() throws Exception {
+        LinkedBlockingQueue<GameEventBatch> onB = new LinkedBlockingQueue<>();
+        int games = 1_000;
+        for (long gameId = 0; gameId < games; gameId++) {
+            nodeB.subscribe(gameId, onB::add);
+            nodeA.publish(GameEvent.phaseChanged(gameId, GamePhase.NIGHT_WOLVES, 1));
+        }
+        nodeA.flush();
+
+        for (int i = 0; i < games; i++) {
+            assertNotNull(onB.poll(5, TimeUnit.SECONDS), "Missing batch " + i);
+        }
+    }
+
+    private static InetSocketAddress freeAddress() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), socket.getLocalPort());
+        }
+    }
+}
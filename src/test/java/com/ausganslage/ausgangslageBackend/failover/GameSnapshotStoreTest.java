@@ -0,0 +1,127 @@
+package com.ausganslage.ausgangslageBackend.failover;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GameCommandType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndRead_RoundTripsSnapshot() {
+        GameSnapshotStore store = new GameSnapshotStore(directory);
+        store.write(snapshot(7L, 3));
+
+        GameSnapshot read = store.read(7L).orElseThrow();
+
+        assertEquals(GamePhase.NIGHT_SEER, read.getCurrentPhase());
+        assertEquals(3, read.getJournalSequence());
+        assertEquals(RoleName.WITCH, read.getPlayers().get(0).getRole());
+        assertEquals("{\"healPotion\":true}", read.getPlayers().get(0).getStateFlagsJson());
+        assertEquals(ActionType.VOTE_WOLF_KILL, read.getActions().get(0).getActionType());
+        assertTrue(store.read(8L).isEmpty());
+        assertEquals(1, store.readAll().size());
+    }
+
+    @Test
+    void testCompactJournal_KeepsOnlyEntriesAfterSequence() {
+        GameSnapshotStore store = new GameSnapshotStore(directory);
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            store.append(command(7L, sequence));
+        }
+
+        store.compactJournal(7L, 2);
+
+        List<GameCommand> journal = store.readJournal(7L);
+        assertEquals(1, journal.size());
+        assertEquals(3, journal.get(0).getSequence());
+        assertEquals(GameCommandType.VOTE, journal.get(0).getType());
+        assertEquals(42L, journal.get(0).toUser().getId());
+    }
+
+    @Test
+    void testReadJournal_IgnoresLineCutOffByCrash() throws Exception {
+        GameSnapshotStore store = new GameSnapshotStore(directory);
+        store.append(command(7L, 1));
+        Files.write(directory.resolve("game-7.journal"), "{\"sequence\":2,\"gameId\"".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        assertEquals(1, store.readJournal(7L).size());
+        assertEquals(1, store.lastSequence(7L));
+    }
+
+    @Test
+    void testLastSequence_CoversSnapshotAndJournal() {
+        GameSnapshotStore store = new GameSnapshotStore(directory);
+        assertEquals(0, store.lastSequence(7L));
+
+        store.write(snapshot(7L, 5));
+        assertEquals(5, store.lastSequence(7L));
+
+        store.append(command(7L, 6));
+        assertEquals(6, store.lastSequence(7L));
+
+        store.delete(7L);
+        assertEquals(0, store.lastSequence(7L));
+        assertTrue(store.readJournal(7L).isEmpty());
+    }
+
+    private static GameSnapshot snapshot(Long gameId, long journalSequence) {
+        GameSnapshot.Player witch = new GameSnapshot.Player();
+        witch.setId(11L);
+        witch.setUserId(42L);
+        witch.setRole(RoleName.WITCH);
+        witch.setSeatNumber(1);
+        witch.setIsAlive(true);
+        witch.setRevealedRole(false);
+        witch.setStateFlagsJson("{\"healPotion\":true}");
+
+        GameSnapshot.Action vote = new GameSnapshot.Action();
+        vote.setId(21L);
+        vote.setDayNumber(1);
+        vote.setPhase(GamePhase.NIGHT_WOLVES);
+        vote.setActorPlayerId(12L);
+        vote.setTargetPlayerId(11L);
+        vote.setActionType(ActionType.VOTE_WOLF_KILL);
+        vote.setCreatedAt(Instant.now());
+
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.setGameId(gameId);
+        snapshot.setLobbyId(1L);
+        snapshot.setStatus(GameStatus.RUNNING);
+        snapshot.setCurrentPhase(GamePhase.NIGHT_SEER);
+        snapshot.setDayNumber(1);
+        snapshot.setVersion(2L);
+        snapshot.setNode("node-a");
+        snapshot.setJournalSequence(journalSequence);
+        snapshot.setTakenAt(Instant.now());
+        snapshot.setPlayers(List.of(witch));
+        snapshot.setActions(List.of(vote));
+        return snapshot;
+    }
+
+    private static GameCommand command(Long gameId, long sequence) {
+        User user = new User();
+        user.setId(42L);
+        user.setUsername("witch");
+        GameCommand command = GameCommand.vote(gameId, user, 11L);
+        command.setSequence(sequence);
+        return command;
+    }
+}
@@ -0,0 +1,214 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.AusgangslageBackendApplication;
+import com.ausganslage.ausgangslageBackend.dto.GameStateDto;
+import com.ausganslage.ausgangslageBackend.dto.PlayerInfoDto;
+import com.ausganslage.ausgangslageBackend.dto.PowerActionRequest;
+import com.ausganslage.ausgangslageBackend.dto.VoteActionRequest;
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.failover.GameSnapshotStore;
+import com.ausganslage.ausgangslageBackend.failover.GameSnapshotWriter;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.GamePlayer;
+import com.ausganslage.ausgangslageBackend.model.Lobby;
+import com.ausganslage.ausgangslageBackend.model.LobbyMember;
+import com.ausganslage.ausgangslageBackend.model.RoleTemplate;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.LobbyMemberRepository;
+import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two nodes in one JVM, each with its own in-memory database, sharing only the failover directory. Node A runs a
+ * game and is shut down mid-night; node B takes the game over.
+ */
+class GameFailoverIntegrationTest {
+
+    private static final String ADMIN_TOKEN = "test-admin-token";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @TempDir
+    Path failoverDirectory;
+
+    private ConfigurableApplicationContext contextA;
+    private ConfigurableApplicationContext contextB;
+
+    @BeforeEach
+    void startNodes() {
+        contextA = startNode("node-a");
+        contextB = startNode("node-b");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        contextB.close();
+        if (contextA.isActive()) {
+            contextA.close();
+        }
+    }
+
+    @Test
+    void testTakeover_RestoresSnapshotAndReplaysLaterCommands() throws Exception {
+        GameService gameServiceA = contextA.getBean(GameService.class);
+        GameSnapshotWriter writerA = contextA.getBean(GameSnapshotWriter.class);
+        List<User> users = createUsers(5);
+        Game game = gameServiceA.startGame(createReadyLobby(users), users.get(0));
+        Map<RoleName, GamePlayer> players = playersByRole(game.getId());
+        User wolf = userOf(users, players.get(RoleName.WEREWOLF));
+        User seer = userOf(users, players.get(RoleName.SEER));
+        User witch = userOf(users, players.get(RoleName.WITCH));
+        GamePlayer victim = players.get(RoleName.VILLAGER);
+
+        gameServiceA.submitVote(game.getId(), wolf, new VoteActionRequest(victim.getId()));
+        writerA.snapshot(game.getId());
+        gameServiceA.submitPowerAction(game.getId(), seer,
+            new PowerActionRequest(ActionType.SEER_INSPECT, players.get(RoleName.WEREWOLF).getId()));
+
+        GameSnapshotStore store = contextA.getBean(GameSnapshotStore.class);
+        assertEquals(GamePhase.NIGHT_SEER, store.read(game.getId()).orElseThrow().getCurrentPhase());
+        assertEquals(1, store.readJournal(game.getId()).size());
+
+        // Snapshots are only written every hour here, so the seer's inspection exists only in the journal
+        contextA.close();
+
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response = takeOver(contextB, "node-a", ADMIN_TOKEN);
+        GameStateDto state = contextB.getBean(GameService.class).getGameState(game.getId(), witch);
+        long failoverMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertEquals(200, response.statusCode());
+        JsonNode results = objectMapper.readTree(response.body());
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).path("restored").asBoolean());
+        assertEquals(1, results.get(0).path("replayedCommands").asInt());
+
+        assertEquals(GamePhase.NIGHT_WITCH, state.getCurrentPhase());
+        assertEquals(1, state.getDayNumber());
+        assertTrue(state.getAvailableActions().contains("WITCH_HEAL"));
+        assertTrue(state.getPlayers().stream().allMatch(PlayerInfoDto::getIsAlive));
+        assertEquals(RoleName.WEREWOLF,
+            contextB.getBean(GameService.class).getLastInspectionResult(game.getId(), seer).getRole());
+        assertTrue(failoverMillis < 10_000, "Failover took " + failoverMillis + " ms");
+
+        // The game goes on on node B, with new rows that do not collide with the restored ids
+        GameService gameServiceB = contextB.getBean(GameService.class);
+        gameServiceB.submitPowerAction(game.getId(), witch, new PowerActionRequest(ActionType.WITCH_HEAL, victim.getId()));
+
+        GameStateDto afterNight = gameServiceB.getGameState(game.getId(), witch);
+        assertEquals(GamePhase.DAY_DISCUSSION, afterNight.getCurrentPhase());
+        assertEquals(1, afterNight.getDayNumber());
+        assertEquals(Boolean.FALSE, afterNight.getOwnStateFlags().get("healPotion"));
+
+        GameSnapshotStore storeB = contextB.getBean(GameSnapshotStore.class);
+        assertEquals("node-b", storeB.read(game.getId()).orElseThrow().getNode());
+    }
+
+    @Test
+    void testTakeover_RequiresAdminToken() throws Exception {
+        HttpResponse<String> response = takeOver(contextB, "node-a", "wrong");
+
+        assertEquals(403, response.statusCode());
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(AusgangslageBackendApplication.class).run(
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:failover_" + nodeId + "_" + System.nanoTime(),
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+            "--app.failover.enabled=true",
+            "--app.failover.dir=" + failoverDirectory,
+            "--app.failover.node-id=" + nodeId,
+            "--app.failover.snapshot-interval-ms=3600000",
+            "--app.failover.admin-token=" + ADMIN_TOKEN,
+            // The assertions read phases right after each command, so advance them on the request thread
+            "--app.phase-advance.async=false");
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUsername("failover" + i);
+            user.setEmail("failover" + i + "@test.com");
+            user.setPasswordHash("x");
+            user.setAvatarConfig("default");
+            users.add(user);
+        }
+        return contextA.getBean(UserRepository.class).saveAll(users);
+    }
+
+    private String createReadyLobby(List<User> users) {
+        Lobby lobby = new Lobby();
+        lobby.setLobbyCode("FAIL01");
+        lobby.setHostUserId(users.get(0).getId());
+        lobby.setMaxPlayers(users.size());
+        lobby.setStatus(LobbyStatus.OPEN);
+        lobby.setCreatedAt(Instant.now());
+        lobby = contextA.getBean(LobbyRepository.class).save(lobby);
+
+        List<LobbyMember> members = new ArrayList<>();
+        for (User user : users) {
+            LobbyMember member = new LobbyMember();
+            member.setLobbyId(lobby.getId());
+            member.setUserId(user.getId());
+            member.setIsHost(user == users.get(0));
+            member.setIsReady(true);
+            members.add(member);
+        }
+        contextA.getBean(LobbyMemberRepository.class).saveAll(members);
+        return lobby.getLobbyCode();
+    }
+
+    private Map<RoleName, GamePlayer> playersByRole(Long gameId) {
+        Map<Long, RoleName> roles = contextA.getBean(RoleTemplateRepository.class).findAll().stream()
+                .collect(Collectors.toMap(RoleTemplate::getId, RoleTemplate::getName));
+        return contextA.getBean(GamePlayerRepository.class).findByGameId(gameId).stream()
+                .collect(Collectors.toMap(p -> roles.get(p.getRoleId()), p -> p));
+    }
+
+    private static User userOf(List<User> users, GamePlayer player) {
+        return users.stream().filter(u -> u.getId().equals(player.getUserId())).findFirst().orElseThrow();
+    }
+
+    private static HttpResponse<String> takeOver(ConfigurableApplicationContext context, String node, String token)
+            throws Exception {
+        String port = context.getEnvironment().getProperty("local.server.port");
+        HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/internal/failover/takeover?node=" + node))
+                .header("X-Cluster-Token", token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
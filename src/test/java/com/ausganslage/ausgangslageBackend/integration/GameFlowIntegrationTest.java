@@ -12,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
@@ -120,8 +121,11 @@ class GameFlowIntegrationTest {
 
         Game game = objectMapper.readValue(gameResponse, Game.class);
 
-        mockMvc.perform(get("/api/games/" + game.getId() + "/state")
+        MvcResult stateResult = mockMvc.perform(get("/api/games/" + game.getId() + "/state")
                 .header("Authorization", user1Token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(stateResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.currentPhase").value("NIGHT_WOLVES"))
                 .andExpect(jsonPath("$.players").isArray())
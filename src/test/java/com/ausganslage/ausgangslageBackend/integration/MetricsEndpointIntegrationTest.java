@@ -0,0 +1,77 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.model.Lobby;
+import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LobbyRepository lobbyRepository;
+
+    @Test
+    void testMetrics_ExportsRequestTimersAndActivityGauges() throws Exception {
+        String response = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"metrics\",\"email\":\"metrics@test.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode auth = objectMapper.readTree(response);
+
+        Lobby lobby = new Lobby();
+        lobby.setLobbyCode("METRIC");
+        lobby.setHostUserId(auth.path("user").path("id").asLong());
+        lobby.setMaxPlayers(8);
+        lobby.setStatus(LobbyStatus.OPEN);
+        lobby.setCreatedAt(Instant.now());
+        lobbyRepository.save(lobby);
+
+        MvcResult lobbyState = mockMvc.perform(get("/api/lobbies/METRIC/state")
+                .header("Authorization", "Bearer " + auth.path("token").asText()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(lobbyState))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(containsString("uri=\"/api/lobbies/{code}/state\"")))
+                .andExpect(content().string(containsString("lobby_open 1.0")))
+                .andExpect(content().string(containsString("session_active 1.0")))
+                .andExpect(content().string(containsString("game_active 0.0")))
+                .andExpect(content().string(containsString(
+                    "game_phase_transitions_total{from=\"DAY_DISCUSSION\",to=\"DAY_VOTING\"} 0.0")));
+    }
+}
@@ -0,0 +1,152 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.dto.AuthResponse;
+import com.ausganslage.ausgangslageBackend.dto.CreateLobbyRequest;
+import com.ausganslage.ausgangslageBackend.dto.RegisterRequest;
+import com.ausganslage.ausgangslageBackend.dto.VoteActionRequest;
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.GameAction;
+import com.ausganslage.ausgangslageBackend.model.GamePlayer;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.GameActionRepository;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.service.AuthService;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.ausganslage.ausgangslageBackend.service.LobbyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A command racing the phase worker: the command waits for the game row and is then checked against the phase the
+ * worker left, instead of committing into the phase the worker just closed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:phase_advance_lock",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.phase-advance.async=true"
+})
+class PhaseAdvanceLockIntegrationTest {
+
+    private static final int PLAYERS = 8;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LobbyService lobbyService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GamePlayerRepository gamePlayerRepository;
+
+    @Autowired
+    private GameActionRepository gameActionRepository;
+
+    @Autowired
+    private RoleTemplateRepository roleTemplateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testRevoteRacingThePhaseAdvance_IsRejectedOnceTheWolvesTurnClosed() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            RegisterRequest request = new RegisterRequest();
+            request.setUsername("race_" + i);
+            request.setEmail("race_" + i + "@test.com");
+            request.setPassword("password123");
+            AuthResponse account = authService.register(request);
+            users.add(userRepository.findById(account.getUser().getId()).orElseThrow());
+        }
+        CreateLobbyRequest lobbyRequest = new CreateLobbyRequest();
+        lobbyRequest.setMaxPlayers(PLAYERS);
+        lobbyRequest.setSettingsJson("{}");
+        String lobbyCode = lobbyService.createLobby(lobbyRequest, users.get(0)).getLobbyCode();
+        for (User user : users.subList(1, PLAYERS)) {
+            lobbyService.joinLobby(lobbyCode, user);
+        }
+        for (User user : users) {
+            lobbyService.setReady(lobbyCode, user, true);
+        }
+        Game game = gameService.startGame(lobbyCode, users.get(0));
+        Long gameId = game.getId();
+
+        Long werewolfRoleId = roleTemplateRepository.findByName(RoleName.WEREWOLF).orElseThrow().getId();
+        List<User> wolves = new ArrayList<>();
+        List<Long> villagerIds = new ArrayList<>();
+        for (GamePlayer player : gamePlayerRepository.findByGameId(gameId)) {
+            if (player.getRoleId().equals(werewolfRoleId)) {
+                wolves.add(userRepository.findById(player.getUserId()).orElseThrow());
+            } else {
+                villagerIds.add(player.getId());
+            }
+        }
+        Long victimId = villagerIds.get(0);
+        gameService.submitVote(gameId, wolves.get(0), new VoteActionRequest(victimId));
+
+        // The last wolf votes and the phase is advanced in one transaction that holds the game row until released.
+        CountDownLatch advanced = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> advance = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (User wolf : wolves.subList(1, wolves.size())) {
+                gameService.submitVote(gameId, wolf, new VoteActionRequest(victimId));
+            }
+            gameService.advancePhase(gameId);
+            advanced.countDown();
+            await(release);
+        }));
+        assertTrue(advanced.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> revote = CompletableFuture.runAsync(() ->
+            gameService.submitVote(gameId, wolves.get(0), new VoteActionRequest(villagerIds.get(1))));
+        Thread.sleep(300);
+        assertFalse(revote.isDone(), "the revote should wait for the game row");
+
+        release.countDown();
+        advance.get(10, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> revote.get(10, TimeUnit.SECONDS));
+
+        assertNotEquals(GamePhase.NIGHT_WOLVES, gameRepository.findById(gameId).orElseThrow().getCurrentPhase());
+        List<GameAction> votes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
+            gameId, 1, GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL);
+        assertEquals(wolves.size(), votes.size());
+        assertTrue(votes.stream().allMatch(vote -> victimId.equals(vote.getTargetPlayerId())));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.datasource.QueryBudget;
+import com.ausganslage.ausgangslageBackend.dto.AuthResponse;
+import com.ausganslage.ausgangslageBackend.dto.RegisterRequest;
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.metrics.SqlStatementCountFilter;
+import com.ausganslage.ausgangslageBackend.model.ChatMessage;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.Lobby;
+import com.ausganslage.ausgangslageBackend.model.LobbyMember;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.ChatMessageRepository;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.LobbyMemberRepository;
+import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.service.AuthService;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_budget",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.sql.statement-headers.enabled=true"
+})
+@AutoConfigureMockMvc
+class QueryBudgetIntegrationTest {
+
+    private static final int PLAYERS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LobbyRepository lobbyRepository;
+
+    @Autowired
+    private LobbyMemberRepository lobbyMemberRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    private static int gameCounter = 0;
+
+    private String token;
+    private User user;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        int run = gameCounter++;
+        List<AuthResponse> accounts = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            RegisterRequest request = new RegisterRequest();
+            request.setUsername("budget" + run + "_" + i);
+            request.setEmail("budget" + run + "_" + i + "@test.com");
+            request.setPassword("password123");
+            accounts.add(authService.register(request));
+        }
+
+        Lobby lobby = new Lobby();
+        lobby.setLobbyCode("QB" + run);
+        lobby.setHostUserId(accounts.get(0).getUser().getId());
+        lobby.setMaxPlayers(PLAYERS);
+        lobby.setStatus(LobbyStatus.OPEN);
+        lobby.setCreatedAt(Instant.now());
+        lobby = lobbyRepository.save(lobby);
+
+        for (AuthResponse account : accounts) {
+            LobbyMember member = new LobbyMember();
+            member.setLobbyId(lobby.getId());
+            member.setUserId(account.getUser().getId());
+            member.setIsHost(account == accounts.get(0));
+            member.setIsReady(true);
+            lobbyMemberRepository.save(member);
+        }
+
+        token = accounts.get(0).getToken();
+        user = userRepository.findById(accounts.get(0).getUser().getId()).orElseThrow();
+        game = gameService.startGame(lobby.getLobbyCode(), user);
+
+        // Day chat from several players, so the budgets cover looking up the authors.
+        game.setCurrentPhase(GamePhase.DAY_DISCUSSION);
+        game = gameRepository.save(game);
+        for (AuthResponse account : accounts.subList(0, 3)) {
+            ChatMessage message = new ChatMessage();
+            message.setGameId(game.getId());
+            message.setSenderUserId(account.getUser().getId());
+            message.setChannel(ChatChannel.DAY);
+            message.setContent("Hello from " + account.getUser().getUsername());
+            chatMessageRepository.save(message);
+        }
+    }
+
+    @Test
+    @QueryBudget(3)
+    void testGetGameState_WithinBudget() {
+        gameService.getGameState(game.getId(), user);
+    }
+
+    @Test
+    @QueryBudget(5)
+    void testGetChatMessages_WithinBudget() {
+        assertEquals(3, gameService.getChatMessages(game.getId(), user, null).stream()
+            .filter(m -> m.getChannel() == ChatChannel.DAY && m.getSenderUsername().startsWith("budget"))
+            .count());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void testGetGameStateRequest_WithinBudgetIncludingAuthentication() throws Exception {
+        assertStatementCountWithinBudget(get("/api/games/" + game.getId() + "/state"), 4);
+    }
+
+    @Test
+    @QueryBudget(6)
+    void testGetChatMessagesRequest_WithinBudgetIncludingAuthentication() throws Exception {
+        assertStatementCountWithinBudget(get("/api/games/" + game.getId() + "/chat"), 6);
+    }
+
+    /**
+     * Runs the async request and checks the statement count it reports, which includes the SQL of the snapshot
+     * loads it started on the loader threads.
+     */
+    private void assertStatementCountWithinBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        MvcResult result = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult completed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementCountFilter.STATEMENT_TIME_HEADER))
+                .andReturn();
+        String header = completed.getResponse().getHeader(SqlStatementCountFilter.STATEMENT_COUNT_HEADER);
+        assertNotNull(header);
+        int statements = Integer.parseInt(header);
+        assertTrue(statements <= budget, "request executed " + statements + " SQL statements, budget is " + budget);
+    }
+}
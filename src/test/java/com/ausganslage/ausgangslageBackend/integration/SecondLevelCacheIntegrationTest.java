@@ -0,0 +1,87 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Lobby;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.LobbyRepository;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LobbyRepository lobbyRepository;
+
+    @Autowired
+    private RoleTemplateRepository roleTemplateRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testUserFindById_ServedFromCache() {
+        User user = new User();
+        user.setUsername("cached");
+        user.setEmail("cached@test.com");
+        user.setPasswordHash("x");
+        user.setAvatarConfig("default");
+        Long userId = userRepository.save(user).getId();
+
+        userRepository.findById(userId);
+        statistics.clear();
+
+        assertTrue(userRepository.findById(userId).isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("users").getHitCount());
+    }
+
+    @Test
+    void testFindByLobbyCode_ServedFromQueryCache() {
+        Lobby lobby = new Lobby();
+        lobby.setLobbyCode("CACHE1");
+        lobby.setHostUserId(1L);
+        lobby.setMaxPlayers(8);
+        lobby.setStatus(LobbyStatus.OPEN);
+        lobby.setCreatedAt(Instant.now());
+        lobbyRepository.save(lobby);
+
+        lobbyRepository.findByLobbyCode("CACHE1");
+        statistics.clear();
+
+        assertTrue(lobbyRepository.findByLobbyCode("CACHE1").isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryRegionStatistics("lobbyByCode").getHitCount());
+    }
+
+    @Test
+    void testFindByName_ServedFromQueryCache() {
+        roleTemplateRepository.findByName(RoleName.SEER);
+        statistics.clear();
+
+        assertTrue(roleTemplateRepository.findByName(RoleName.SEER).isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,155 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.AusgangslageBackendApplication;
+import com.ausganslage.ausgangslageBackend.sharding.ClusterMembership;
+import com.ausganslage.ausgangslageBackend.sharding.ShardKeys;
+import com.ausganslage.ausgangslageBackend.sharding.ShardRoutingFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two sharded nodes in one JVM, sharing one in-memory database.
+ */
+class ShardRoutingIntegrationTest {
+
+    private static final String ADMIN_TOKEN = "test-admin-token";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private static String nodeA;
+    private static String nodeB;
+    private static ConfigurableApplicationContext contextA;
+    private static ConfigurableApplicationContext contextB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        nodeA = "http://localhost:" + portA;
+        nodeB = "http://localhost:" + portB;
+        contextA = startNode(portA);
+        contextB = startNode(portB);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        contextB.close();
+        contextA.close();
+    }
+
+    @Test
+    void testLobbyRequests_AreServedByTheOwnerOnEveryNode() throws Exception {
+        String token = register("shard_owner");
+        String lobbyCode = createLobby(nodeA, token);
+        String owner = contextA.getBean(ClusterMembership.class).ownerOf(ShardKeys.lobby(lobbyCode));
+
+        for (String node : List.of(nodeA, nodeB)) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(node + "/api/lobbies/" + lobbyCode + "/state"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET());
+            assertEquals(200, response.statusCode());
+            assertEquals(owner, response.headers().firstValue(ShardRoutingFilter.NODE_HEADER).orElse(null));
+            assertEquals(lobbyCode, objectMapper.readTree(response.body()).path("lobbyCode").asText());
+        }
+    }
+
+    @Test
+    void testMembershipChange_MovesOwnershipToRemainingNode() throws Exception {
+        String token = register("shard_member");
+        String lobbyCode = createLobby(nodeA, token);
+
+        try {
+            for (String node : List.of(nodeA, nodeB)) {
+                HttpResponse<String> response = updateNodes(node, ADMIN_TOKEN, List.of(nodeA));
+                assertEquals(200, response.statusCode());
+            }
+
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(nodeB + "/api/lobbies/" + lobbyCode + "/state"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET());
+            assertEquals(200, response.statusCode());
+            assertEquals(nodeA, response.headers().firstValue(ShardRoutingFilter.NODE_HEADER).orElse(null));
+        } finally {
+            for (String node : List.of(nodeA, nodeB)) {
+                updateNodes(node, ADMIN_TOKEN, List.of(nodeA, nodeB));
+            }
+        }
+    }
+
+    @Test
+    void testMembershipChange_RequiresAdminToken() throws Exception {
+        HttpResponse<String> response = updateNodes(nodeA, "wrong", List.of(nodeA));
+
+        assertEquals(403, response.statusCode());
+        assertEquals(List.of(nodeA, nodeB).stream().sorted().toList(),
+            contextA.getBean(ClusterMembership.class).getNodes());
+    }
+
+    private static ConfigurableApplicationContext startNode(int port) {
+        return new SpringApplicationBuilder(AusgangslageBackendApplication.class).run(
+            "--server.port=" + port,
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:sharded;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=update",
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+            "--app.sharding.enabled=true",
+            "--app.sharding.nodes=" + nodeA + "," + nodeB,
+            "--app.sharding.self-url=http://localhost:" + port,
+            "--app.sharding.admin-token=" + ADMIN_TOKEN);
+    }
+
+    private static String register(String username) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+            "username", username, "email", username + "@test.com", "password", "password123"));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(nodeB + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        assertEquals(200, response.statusCode());
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    private static String createLobby(String node, String token) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(node + "/api/lobbies"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"maxPlayers\":8,\"settingsJson\":\"{}\"}")));
+        assertEquals(200, response.statusCode());
+        JsonNode lobby = objectMapper.readTree(response.body());
+        return lobby.path("lobbyCode").asText();
+    }
+
+    private static HttpResponse<String> updateNodes(String node, String adminToken, List<String> nodes) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(node + "/internal/cluster/nodes"))
+                .header("Content-Type", "application/json")
+                .header("X-Cluster-Token", adminToken)
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(nodes))));
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.dto.AuthResponse;
+import com.ausganslage.ausgangslageBackend.dto.ChatMessageRequest;
+import com.ausganslage.ausgangslageBackend.dto.CreateLobbyRequest;
+import com.ausganslage.ausgangslageBackend.dto.LobbyStateDto;
+import com.ausganslage.ausgangslageBackend.dto.RegisterRequest;
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.exception.UnauthorizedActionException;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.service.AuthService;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.ausganslage.ausgangslageBackend.service.LobbyService;
+import com.ausganslage.ausgangslageBackend.service.SnapshotReadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot_read",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class SnapshotReadIntegrationTest {
+
+    private static final int PLAYERS = 8;
+
+    @Autowired
+    private SnapshotReadService snapshotReadService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LobbyService lobbyService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private static int runCounter = 0;
+
+    private int run;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        run = runCounter++;
+        users = new ArrayList<>();
+        for (int i = 0; i <= PLAYERS; i++) {
+            RegisterRequest request = new RegisterRequest();
+            request.setUsername("snap" + run + "_" + i);
+            request.setEmail("snap" + run + "_" + i + "@test.com");
+            request.setPassword("password123");
+            AuthResponse account = authService.register(request);
+            users.add(userRepository.findById(account.getUser().getId()).orElseThrow());
+        }
+    }
+
+    @Test
+    void testLobbyState_ReflectsCommittedJoin() throws Exception {
+        String lobbyCode = createLobby(users.get(0)).getLobbyCode();
+        assertEquals(1, snapshotReadService.getLobbyState(lobbyCode).get(5, TimeUnit.SECONDS).getMembers().size());
+
+        lobbyService.joinLobby(lobbyCode, users.get(1));
+
+        assertEquals(2, snapshotReadService.getLobbyState(lobbyCode).get(5, TimeUnit.SECONDS).getMembers().size());
+    }
+
+    @Test
+    void testChatMessages_ReflectCommittedMessageForReadersOfTheChannelOnly() throws Exception {
+        Game game = startGame();
+        User wolf = null;
+        User villager = null;
+        for (User user : users.subList(0, PLAYERS)) {
+            RoleName role = snapshotReadService.getGameState(game.getId(), user).get(5, TimeUnit.SECONDS).getOwnRole();
+            if (role == RoleName.WEREWOLF) {
+                wolf = user;
+            } else {
+                villager = user;
+            }
+        }
+        assertNotNull(wolf);
+        assertNotNull(villager);
+        assertEquals(0, wolfMessages(game, wolf));
+
+        gameService.sendChatMessage(game.getId(), wolf, new ChatMessageRequest("Who tonight?"));
+
+        assertEquals(1, wolfMessages(game, wolf));
+        assertEquals(0, wolfMessages(game, villager));
+    }
+
+    @Test
+    void testGameState_RejectsUserOutsideTheGame() {
+        Game game = startGame();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> snapshotReadService.getGameState(game.getId(), users.get(PLAYERS)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(UnauthorizedActionException.class, e.getCause());
+    }
+
+    private long wolfMessages(Game game, User reader) throws Exception {
+        return snapshotReadService.getChatMessages(game.getId(), reader, null).get(5, TimeUnit.SECONDS).stream()
+                .filter(m -> m.getChannel() == ChatChannel.NIGHT_WOLVES)
+                .count();
+    }
+
+    private LobbyStateDto createLobby(User host) {
+        CreateLobbyRequest request = new CreateLobbyRequest();
+        request.setMaxPlayers(PLAYERS);
+        request.setSettingsJson("{}");
+        return lobbyService.createLobby(request, host);
+    }
+
+    private Game startGame() {
+        String lobbyCode = createLobby(users.get(0)).getLobbyCode();
+        for (User user : users.subList(1, PLAYERS)) {
+            lobbyService.joinLobby(lobbyCode, user);
+        }
+        for (User user : users.subList(0, PLAYERS)) {
+            lobbyService.setReady(lobbyCode, user, true);
+        }
+        return gameService.startGame(lobbyCode, users.get(0));
+    }
+}
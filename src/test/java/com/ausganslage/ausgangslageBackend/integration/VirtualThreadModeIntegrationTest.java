@@ -0,0 +1,48 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.config.VirtualThreadPinningDiagnostic;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:virtual_threads",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.virtual-threads.pinning-check.threads=8",
+        "app.virtual-threads.pinning-check.queries-per-thread=5"
+})
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    private VirtualThreadPinningDiagnostic pinningDiagnostic;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void testAsyncExecutor_RunsOnVirtualThreads() throws Exception {
+        String threadDescription = applicationTaskExecutor.submit(() -> Thread.currentThread().toString()).get();
+
+        assertTrue(threadDescription.startsWith("VirtualThread"), threadDescription);
+    }
+
+    @Test
+    void testPinningDiagnostic_CompletesProbe() {
+        Map<String, Integer> pinnedStacks = pinningDiagnostic.detectPinning();
+
+        assertNotNull(pinnedStacks);
+        pinnedStacks.values().forEach(count -> assertTrue(count > 0));
+    }
+}
@@ -0,0 +1,159 @@
+package com.ausganslage.ausgangslageBackend.integration;
+
+import com.ausganslage.ausgangslageBackend.dto.AuthResponse;
+import com.ausganslage.ausgangslageBackend.dto.CreateLobbyRequest;
+import com.ausganslage.ausgangslageBackend.dto.RegisterRequest;
+import com.ausganslage.ausgangslageBackend.dto.VoteActionRequest;
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.model.GameAction;
+import com.ausganslage.ausgangslageBackend.model.GamePlayer;
+import com.ausganslage.ausgangslageBackend.model.User;
+import com.ausganslage.ausgangslageBackend.repository.GameActionRepository;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.GameRepository;
+import com.ausganslage.ausgangslageBackend.repository.RoleTemplateRepository;
+import com.ausganslage.ausgangslageBackend.repository.UserRepository;
+import com.ausganslage.ausgangslageBackend.service.AuthService;
+import com.ausganslage.ausgangslageBackend.service.GameService;
+import com.ausganslage.ausgangslageBackend.service.LobbyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:vote_upsert",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class VoteUpsertIntegrationTest {
+
+    private static final int PLAYERS = 8;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LobbyService lobbyService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GamePlayerRepository gamePlayerRepository;
+
+    @Autowired
+    private GameActionRepository gameActionRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RoleTemplateRepository roleTemplateRepository;
+
+    private static int runCounter = 0;
+
+    private Game game;
+    private User wolf;
+    private List<User> users;
+    private List<Long> villagerIds;
+
+    @BeforeEach
+    void setUp() {
+        int run = runCounter++;
+        users = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            RegisterRequest request = new RegisterRequest();
+            request.setUsername("vote" + run + "_" + i);
+            request.setEmail("vote" + run + "_" + i + "@test.com");
+            request.setPassword("password123");
+            AuthResponse account = authService.register(request);
+            users.add(userRepository.findById(account.getUser().getId()).orElseThrow());
+        }
+
+        CreateLobbyRequest lobbyRequest = new CreateLobbyRequest();
+        lobbyRequest.setMaxPlayers(PLAYERS);
+        lobbyRequest.setSettingsJson("{}");
+        String lobbyCode = lobbyService.createLobby(lobbyRequest, users.get(0)).getLobbyCode();
+        for (User user : users.subList(1, PLAYERS)) {
+            lobbyService.joinLobby(lobbyCode, user);
+        }
+        for (User user : users) {
+            lobbyService.setReady(lobbyCode, user, true);
+        }
+        game = gameService.startGame(lobbyCode, users.get(0));
+
+        Long werewolfRoleId = roleTemplateRepository.findByName(RoleName.WEREWOLF).orElseThrow().getId();
+        villagerIds = new ArrayList<>();
+        for (GamePlayer player : gamePlayerRepository.findByGameId(game.getId())) {
+            if (player.getRoleId().equals(werewolfRoleId)) {
+                wolf = userRepository.findById(player.getUserId()).orElseThrow();
+            } else {
+                villagerIds.add(player.getId());
+            }
+        }
+    }
+
+    @Test
+    void testRevote_OverwritesTheVoteInPlace() {
+        gameService.submitVote(game.getId(), wolf, new VoteActionRequest(villagerIds.get(0)));
+        Long firstId = wolfVotes().get(0).getId();
+        gameService.submitVote(game.getId(), wolf, new VoteActionRequest(villagerIds.get(1)));
+
+        List<GameAction> votes = wolfVotes();
+        assertEquals(1, votes.size());
+        assertEquals(firstId, votes.get(0).getId());
+        assertEquals(villagerIds.get(1), votes.get(0).getTargetPlayerId());
+        assertNull(votes.get(0).getPayloadJson());
+    }
+
+    @Test
+    void testRacingVotes_LeaveOneVote() throws Exception {
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+            gameService.submitVote(game.getId(), wolf, new VoteActionRequest(villagerIds.get(0))));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+            gameService.submitVote(game.getId(), wolf, new VoteActionRequest(villagerIds.get(1))));
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        List<GameAction> votes = wolfVotes();
+        assertEquals(1, votes.size());
+        assertTrue(villagerIds.subList(0, 2).contains(votes.get(0).getTargetPlayerId()));
+    }
+
+    @Test
+    void testVoteIds_TakeOneStepOfTheSharedPoolEach() {
+        Game voting = gameRepository.findById(game.getId()).orElseThrow();
+        voting.setCurrentPhase(GamePhase.DAY_VOTING);
+        gameRepository.save(voting);
+        Long lynched = gamePlayerRepository.findByGameId(game.getId()).get(0).getId();
+
+        for (User user : users) {
+            gameService.submitVote(game.getId(), user, new VoteActionRequest(lynched));
+        }
+
+        List<GameAction> votes = gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
+            game.getId(), 1, GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH);
+        assertEquals(PLAYERS, votes.size());
+        long lowest = votes.stream().mapToLong(GameAction::getId).min().orElseThrow();
+        long highest = votes.stream().mapToLong(GameAction::getId).max().orElseThrow();
+        assertTrue(highest - lowest < 50, "vote ids span " + (highest - lowest));
+    }
+
+    private List<GameAction> wolfVotes() {
+        return gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
+            game.getId(), 1, GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL);
+    }
+}
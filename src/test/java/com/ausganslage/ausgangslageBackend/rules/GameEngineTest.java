@@ -0,0 +1,251 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.DeathCause;
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.GameStatus;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.enums.RuleEventType;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.exception.InvalidGameStateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    private static final long WOLF = 1L;
+    private static final long SEER = 2L;
+    private static final long WITCH = 3L;
+    private static final long HUNTER = 4L;
+    private static final long VILLAGER = 5L;
+    private static final long VILLAGER_2 = 6L;
+
+    @Test
+    void testNight_WolfKillResolvesIntoDiscussion() {
+        GameState state = newGame();
+
+        state = GameEngine.apply(state, RuleCommand.vote(WOLF, VILLAGER)).getState();
+        assertEquals(GamePhase.NIGHT_SEER, state.getPhase());
+        state = GameEngine.apply(state, RuleCommand.inspect(SEER, WOLF)).getState();
+        assertEquals(GamePhase.NIGHT_WITCH, state.getPhase());
+        Transition witchTurn = GameEngine.apply(state, RuleCommand.skip(WITCH));
+
+        GameState afterNight = witchTurn.getState();
+        assertEquals(GamePhase.DAY_DISCUSSION, afterNight.getPhase());
+        assertEquals(1, afterNight.getDayNumber());
+        assertFalse(afterNight.player(VILLAGER).isAlive());
+        assertTrue(afterNight.player(VILLAGER).isRoleRevealed());
+        assertEquals(List.of(RuleEventType.ACTION_RECORDED, RuleEventType.PLAYER_KILLED,
+                RuleEventType.NIGHT_RESOLVED, RuleEventType.PHASE_CHANGED), types(witchTurn));
+        assertEquals(DeathCause.WOLF_KILL, witchTurn.getEvents().get(1).getCause());
+        assertEquals(5, afterNight.countAlive());
+        assertEquals(1, afterNight.countAlive(RoleName.VILLAGER));
+        assertEquals(4, afterNight.countAlive(Faction.VILLAGE));
+        assertEquals(6, state.countAlive());
+    }
+
+    @Test
+    void testApply_LeavesThePreviousStateUntouched() {
+        GameState before = newGame();
+
+        GameState after = GameEngine.apply(before, RuleCommand.vote(WOLF, VILLAGER)).getState();
+
+        assertEquals(GamePhase.NIGHT_WOLVES, before.getPhase());
+        assertTrue(before.getActions().isEmpty());
+        assertEquals(1, after.getActions().size());
+        assertSame(before.playerAt(0), after.playerAt(0));
+    }
+
+    @Test
+    void testVote_ReplacesOnlyTheActorsOwnVote() {
+        GameState state = inPhase(GamePhase.DAY_VOTING);
+        state = GameEngine.apply(state, RuleCommand.vote(SEER, WOLF)).getState();
+        state = GameEngine.apply(state, RuleCommand.vote(WITCH, WOLF)).getState();
+
+        Transition revote = GameEngine.apply(state, RuleCommand.vote(SEER, VILLAGER));
+
+        assertEquals(RuleEventType.ACTION_REPLACED, revote.getEvents().get(0).getType());
+        assertEquals(List.of(WOLF, VILLAGER),
+            revote.getState().targets(GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH));
+    }
+
+    @Test
+    void testWitchHeal_SavesTheVictimAndUsesThePotion() {
+        GameState state = GameEngine.apply(newGame(), RuleCommand.vote(WOLF, VILLAGER)).getState();
+        state = GameEngine.apply(state, RuleCommand.skip(SEER)).getState();
+
+        Transition heal = GameEngine.apply(state, RuleCommand.heal(WITCH, null));
+
+        GameState afterNight = heal.getState();
+        assertTrue(afterNight.player(VILLAGER).isAlive());
+        assertFalse(afterNight.player(WITCH).hasHealPotion());
+        assertTrue(afterNight.player(WITCH).hasPoisonPotion());
+        assertEquals(VILLAGER, heal.getEvents().get(0).getAction().getTargetPlayerId());
+        assertTrue(types(heal).contains(RuleEventType.VICTIM_HEALED));
+        assertFalse(types(heal).contains(RuleEventType.QUIET_NIGHT));
+    }
+
+    @Test
+    void testWitchPoison_NightWithOnlyAPoisoningIsNotQuiet() {
+        GameState state = inPhase(GamePhase.NIGHT_WITCH);
+
+        Transition poison = GameEngine.apply(state, RuleCommand.poison(WITCH, VILLAGER));
+
+        assertFalse(poison.getState().player(VILLAGER).isAlive());
+        assertFalse(types(poison).contains(RuleEventType.QUIET_NIGHT));
+        assertEquals(DeathCause.WITCH_POISON, poison.getEvents().get(1).getCause());
+    }
+
+    @Test
+    void testHunterShot_DuringWitchPhaseDoesNotEndIt() {
+        GameState state = inPhase(GamePhase.NIGHT_WITCH)
+            .withPlayer(new PlayerState(HUNTER, HUNTER, RoleName.HUNTER, Faction.VILLAGE, false, true,
+                false, false, true));
+
+        Transition shot = GameEngine.apply(state, RuleCommand.shoot(HUNTER, VILLAGER));
+
+        assertEquals(GamePhase.NIGHT_WITCH, shot.getState().getPhase());
+        assertFalse(shot.getState().player(VILLAGER).isAlive());
+        assertFalse(shot.getState().player(HUNTER).isHunterShotAvailable());
+        assertThrows(InvalidActionException.class, () ->
+            GameEngine.apply(shot.getState(), RuleCommand.shoot(HUNTER, VILLAGER_2)));
+    }
+
+    @Test
+    void testHunterShot_RejectsDeadTarget() {
+        GameState state = inPhase(GamePhase.DAY_DISCUSSION)
+            .withPlayer(new PlayerState(HUNTER, HUNTER, RoleName.HUNTER, Faction.VILLAGE, false, true,
+                false, false, true))
+            .withPlayer(new PlayerState(VILLAGER, VILLAGER, RoleName.VILLAGER, Faction.VILLAGE, false, true,
+                false, false, false));
+
+        assertThrows(InvalidActionException.class, () ->
+            GameEngine.apply(state, RuleCommand.shoot(HUNTER, VILLAGER)));
+    }
+
+    @Test
+    void testDayVoting_TieLynchesNobodyAndStartsTheNextNight() {
+        GameState state = inPhase(GamePhase.DAY_VOTING);
+        state = GameEngine.apply(state, RuleCommand.vote(WOLF, SEER)).getState();
+        state = GameEngine.apply(state, RuleCommand.vote(SEER, WOLF)).getState();
+        state = GameEngine.apply(state, RuleCommand.vote(WITCH, WOLF)).getState();
+        state = GameEngine.apply(state, RuleCommand.vote(HUNTER, SEER)).getState();
+        state = GameEngine.apply(state, RuleCommand.vote(VILLAGER, VILLAGER_2)).getState();
+
+        Transition last = GameEngine.apply(state, RuleCommand.vote(VILLAGER_2, VILLAGER));
+
+        assertTrue(types(last).contains(RuleEventType.NO_LYNCH));
+        assertEquals(GamePhase.NIGHT_WOLVES, last.getState().getPhase());
+        assertEquals(2, last.getState().getDayNumber());
+        assertTrue(last.getState().getActions().isEmpty());
+        assertEquals(6, last.getState().countAlive());
+    }
+
+    @Test
+    void testLynchingTheLastWolf_VillageWins() {
+        GameState state = inPhase(GamePhase.DAY_VOTING);
+        for (long voter = WOLF; voter <= VILLAGER; voter++) {
+            state = GameEngine.apply(state, RuleCommand.vote(voter, WOLF)).getState();
+        }
+
+        Transition last = GameEngine.apply(state, RuleCommand.vote(VILLAGER_2, WOLF));
+
+        assertEquals(GameStatus.FINISHED, last.getState().getStatus());
+        assertEquals(GamePhase.RESULT, last.getState().getPhase());
+        assertEquals(Faction.VILLAGE, last.getState().getWinner());
+        RuleEvent won = last.getEvents().get(last.getEvents().size() - 1);
+        assertEquals(RuleEventType.GAME_WON, won.getType());
+        assertEquals(GamePhase.NIGHT_WOLVES, won.getFromPhase());
+        assertEquals(2, won.getDayNumber());
+    }
+
+    @Test
+    void testConcurrentNight_SeerActsWithWolvesAndWitchFollowsTheTally() {
+        GameState state = newGame(NightMode.CONCURRENT);
+
+        state = GameEngine.apply(state, RuleCommand.inspect(SEER, WOLF)).getState();
+        assertEquals(GamePhase.NIGHT_WOLVES, state.getPhase());
+        assertTrue(state.hasAction(GamePhase.NIGHT_SEER, ActionType.SEER_INSPECT));
+        assertThrows(InvalidGameStateException.class, () ->
+            GameEngine.apply(newGame(NightMode.CONCURRENT).withPhase(GamePhase.NIGHT_WITCH)
+                .withAction(new RuleAction(SEER, WOLF, ActionType.SEER_INSPECT, GamePhase.NIGHT_SEER, false)),
+                RuleCommand.inspect(SEER, HUNTER)));
+
+        Transition tally = GameEngine.apply(state, RuleCommand.vote(WOLF, VILLAGER));
+        assertEquals(GamePhase.NIGHT_WITCH, tally.getState().getPhase());
+        assertEquals(RuleEventType.PHASE_CHANGED, tally.getEvents().get(tally.getEvents().size() - 1).getType());
+        assertEquals(GamePhase.NIGHT_WITCH, tally.getEvents().get(tally.getEvents().size() - 1).getToPhase());
+    }
+
+    @Test
+    void testConcurrentNight_ResolvesOnlyAfterTheSeer() {
+        GameState state = GameEngine.apply(newGame(NightMode.CONCURRENT), RuleCommand.vote(WOLF, VILLAGER)).getState();
+        assertEquals(GamePhase.NIGHT_WITCH, state.getPhase());
+
+        state = GameEngine.apply(state, RuleCommand.skip(WITCH)).getState();
+        assertEquals(GamePhase.NIGHT_WITCH, state.getPhase());
+        assertTrue(state.player(VILLAGER).isAlive());
+
+        Transition seerTurn = GameEngine.apply(state, RuleCommand.inspect(SEER, WOLF));
+        assertEquals(GamePhase.DAY_DISCUSSION, seerTurn.getState().getPhase());
+        assertFalse(seerTurn.getState().player(VILLAGER).isAlive());
+        assertEquals(GamePhase.NIGHT_SEER, seerTurn.getEvents().get(0).getAction().getPhase());
+    }
+
+    @Test
+    void testSubmit_SeerInspectsOnlyOncePerNight() {
+        GameState inspected = GameEngine.submit(inPhase(GamePhase.NIGHT_SEER), RuleCommand.inspect(SEER, WOLF))
+            .getState();
+
+        assertEquals(GamePhase.NIGHT_SEER, inspected.getPhase());
+        assertThrows(InvalidActionException.class, () ->
+            GameEngine.submit(inspected, RuleCommand.inspect(SEER, HUNTER)));
+        assertThrows(InvalidActionException.class, () -> GameEngine.submit(inspected, RuleCommand.skip(SEER)));
+        assertEquals(1, inspected.getActions().size());
+    }
+
+    @Test
+    void testSubmit_WitchUsesOnePotionPerNight() {
+        GameState state = GameEngine.apply(newGame(), RuleCommand.vote(WOLF, VILLAGER)).getState();
+        state = GameEngine.apply(state, RuleCommand.skip(SEER)).getState();
+        GameState healed = GameEngine.submit(state, RuleCommand.heal(WITCH, null)).getState();
+
+        assertThrows(InvalidActionException.class, () ->
+            GameEngine.submit(healed, RuleCommand.poison(WITCH, VILLAGER_2)));
+        assertThrows(InvalidActionException.class, () -> GameEngine.submit(healed, RuleCommand.skip(WITCH)));
+        assertTrue(healed.player(WITCH).hasPoisonPotion());
+
+        GameState afterNight = GameEngine.advance(healed).getState();
+        assertEquals(GamePhase.DAY_DISCUSSION, afterNight.getPhase());
+        assertTrue(afterNight.player(VILLAGER).isAlive());
+        assertTrue(afterNight.player(VILLAGER_2).isAlive());
+    }
+
+    private static GameState newGame() {
+        return newGame(NightMode.SEQUENTIAL);
+    }
+
+    private static GameState newGame(NightMode nightMode) {
+        return GameState.starting(nightMode, List.of(
+            PlayerState.starting(WOLF, WOLF, RoleName.WEREWOLF, Faction.WOLVES),
+            PlayerState.starting(SEER, SEER, RoleName.SEER, Faction.VILLAGE),
+            PlayerState.starting(WITCH, WITCH, RoleName.WITCH, Faction.VILLAGE),
+            PlayerState.starting(HUNTER, HUNTER, RoleName.HUNTER, Faction.VILLAGE),
+            PlayerState.starting(VILLAGER, VILLAGER, RoleName.VILLAGER, Faction.VILLAGE),
+            PlayerState.starting(VILLAGER_2, VILLAGER_2, RoleName.VILLAGER, Faction.VILLAGE)));
+    }
+
+    private static GameState inPhase(GamePhase phase) {
+        return newGame().withPhase(phase);
+    }
+
+    private static List<RuleEventType> types(Transition transition) {
+        return transition.getEvents().stream().map(RuleEvent::getType).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRulesTest {
+
+    @Test
+    void testRoleComposition_OneWerewolfPerFourPlayers() {
+        List<RoleName> four = GameRules.roleComposition(4);
+        List<RoleName> twelve = GameRules.roleComposition(12);
+
+        assertEquals(List.of(RoleName.WEREWOLF, RoleName.SEER, RoleName.WITCH, RoleName.HUNTER), four);
+        assertEquals(12, twelve.size());
+        assertEquals(3, Collections.frequency(twelve, RoleName.WEREWOLF));
+        assertEquals(6, Collections.frequency(twelve, RoleName.VILLAGER));
+    }
+
+    @Test
+    void testShuffle_SameSeedSameOrder() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        List<Integer> second = new ArrayList<>(first);
+
+        GameRules.shuffle(first, new SplittableRandom(42));
+        GameRules.shuffle(second, new SplittableRandom(42));
+
+        assertEquals(first, second);
+        assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8), Set.copyOf(first));
+    }
+
+    @Test
+    void testMajorityTarget_StrictMaximumWins() {
+        assertEquals(2L, GameRules.majorityTarget(Arrays.asList(1L, 2L, 2L, null, 3L)));
+    }
+
+    @Test
+    void testMajorityTarget_NullOnTieOrWithoutVotes() {
+        assertNull(GameRules.majorityTarget(List.of(1L, 2L)));
+        assertNull(GameRules.majorityTarget(List.of()));
+        assertNull(GameRules.majorityTarget(Arrays.asList((Long) null)));
+    }
+
+    @Test
+    void testResolveNight_HealSavesOnlyTheWolfVictim() {
+        NightOutcome healed = GameRules.resolveNight(5L, 5L, null);
+        NightOutcome wrongHeal = GameRules.resolveNight(5L, 6L, null);
+
+        assertTrue(healed.isHealed());
+        assertNull(healed.getKilledByWolvesId());
+        assertFalse(wrongHeal.isHealed());
+        assertEquals(5L, wrongHeal.getKilledByWolvesId());
+    }
+
+    @Test
+    void testResolveNight_SkippedWitchTurnHasNoTarget() {
+        NightOutcome night = GameRules.resolveNight(5L, null, 7L);
+
+        assertFalse(night.isHealed());
+        assertEquals(5L, night.getKilledByWolvesId());
+        assertEquals(7L, night.getPoisonedPlayerId());
+        assertTrue(GameRules.resolveNight(null, null, null).isQuietNight());
+    }
+
+    @Test
+    void testWinner() {
+        assertEquals(Faction.VILLAGE, GameRules.winner(0, 3));
+        assertEquals(Faction.WOLVES, GameRules.winner(2, 2));
+        assertNull(GameRules.winner(1, 2));
+    }
+
+    @Test
+    void testPhaseCompletion() {
+        assertTrue(GameRules.werewolvesDone(0, 0));
+        assertFalse(GameRules.werewolvesDone(2, 1));
+        assertTrue(GameRules.seerDone(false, false));
+        assertFalse(GameRules.seerDone(true, false));
+        assertTrue(GameRules.witchDone(true, false, false));
+        assertFalse(GameRules.witchDone(true, false, true));
+        assertTrue(GameRules.votingDone(3, 3));
+        assertFalse(GameRules.votingDone(3, 2));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.ActionType;
+import com.ausganslage.ausgangslageBackend.enums.ChatChannel;
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.GamePhase;
+import com.ausganslage.ausgangslageBackend.enums.NightMode;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleBehaviorsTest {
+
+    @Test
+    void testOf_EveryRoleHasABehavior() {
+        for (RoleName role : RoleName.values()) {
+            assertEquals(role, RoleBehaviors.of(role).role());
+        }
+    }
+
+    @Test
+    void testNightOrder_WolvesThenSeerThenWitch() {
+        assertEquals(RoleName.WEREWOLF, RoleBehaviors.actingIn(GamePhase.NIGHT_WOLVES).role());
+        assertEquals(GamePhase.NIGHT_SEER, RoleBehaviors.nextNightPhase(GamePhase.NIGHT_WOLVES, NightMode.SEQUENTIAL));
+        assertEquals(GamePhase.NIGHT_WITCH, RoleBehaviors.nextNightPhase(GamePhase.NIGHT_SEER, NightMode.SEQUENTIAL));
+        assertNull(RoleBehaviors.nextNightPhase(GamePhase.NIGHT_WITCH, NightMode.SEQUENTIAL));
+        assertNull(RoleBehaviors.actingIn(GamePhase.DAY_VOTING));
+    }
+
+    @Test
+    void testConcurrentNightOrder_SeerTurnOpenAllNight() {
+        assertEquals(GamePhase.NIGHT_WITCH, RoleBehaviors.nextNightPhase(GamePhase.NIGHT_WOLVES, NightMode.CONCURRENT));
+        assertNull(RoleBehaviors.nextNightPhase(GamePhase.NIGHT_WITCH, NightMode.CONCURRENT));
+
+        PlayerState seer = PlayerState.starting(1L, 1L, RoleName.SEER, Faction.VILLAGE);
+        assertEquals(List.of(ActionType.SEER_INSPECT.name()),
+            RoleBehaviors.availableActions(GamePhase.NIGHT_WITCH, NightMode.CONCURRENT, seer));
+        assertTrue(RoleBehaviors.availableActions(GamePhase.NIGHT_WITCH, NightMode.SEQUENTIAL, seer).isEmpty());
+    }
+
+    @Test
+    void testOwnerOf_PowersOnly() {
+        assertEquals(RoleName.HUNTER, RoleBehaviors.ownerOf(ActionType.HUNTER_SHOOT).role());
+        assertEquals(RoleName.WITCH, RoleBehaviors.ownerOf(ActionType.WITCH_POISON).role());
+        assertNull(RoleBehaviors.ownerOf(ActionType.VOTE_LYNCH));
+        assertNull(RoleBehaviors.ownerOf(ActionType.VOTE_WOLF_KILL));
+    }
+
+    @Test
+    void testNightChannel_OnlyWolves() {
+        assertEquals(ChatChannel.NIGHT_WOLVES, RoleBehaviors.of(RoleName.WEREWOLF).nightChannel());
+        assertNull(RoleBehaviors.of(RoleName.SEER).nightChannel());
+        assertTrue(RoleBehaviors.of(RoleName.WEREWOLF).knowsRole(RoleName.WEREWOLF));
+        assertFalse(RoleBehaviors.of(RoleName.SEER).knowsRole(RoleName.WEREWOLF));
+    }
+
+    @Test
+    void testAvailableActions_DeadHunterCanStillShoot() {
+        PlayerState hunter = PlayerState.starting(1L, 1L, RoleName.HUNTER, Faction.VILLAGE).killed();
+
+        assertEquals(List.of(ActionType.HUNTER_SHOOT.name()),
+            RoleBehaviors.availableActions(GamePhase.DAY_VOTING, NightMode.SEQUENTIAL, hunter));
+        assertTrue(RoleBehaviors.availableActions(GamePhase.DAY_VOTING, NightMode.SEQUENTIAL, hunter.withoutHunterShot()).isEmpty());
+    }
+
+    @Test
+    void testAvailableActions_WitchOnlyGetsPotionsLeft() {
+        PlayerState witch = new PlayerState(1L, 1L, RoleName.WITCH, Faction.VILLAGE, true, false,
+            false, true, false);
+
+        assertEquals(List.of(ActionType.WITCH_POISON.name()),
+            RoleBehaviors.availableActions(GamePhase.NIGHT_WITCH, NightMode.SEQUENTIAL, witch));
+        assertTrue(RoleBehaviors.availableActions(GamePhase.NIGHT_WOLVES, NightMode.SEQUENTIAL, witch).isEmpty());
+        assertEquals(List.of(ActionType.VOTE_LYNCH.name()),
+            RoleBehaviors.availableActions(GamePhase.DAY_VOTING, NightMode.SEQUENTIAL, witch));
+    }
+}
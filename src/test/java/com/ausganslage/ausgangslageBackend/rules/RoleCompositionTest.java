@@ -0,0 +1,47 @@
+package com.ausganslage.ausgangslageBackend.rules;
+
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleCompositionTest {
+
+    @Test
+    void testClassic_OneWerewolfPerFourPlayers() {
+        assertEquals(List.of(RoleName.WEREWOLF, RoleName.SEER, RoleName.WITCH, RoleName.HUNTER),
+            RoleComposition.CLASSIC.plan(4));
+        assertEquals(3, Collections.frequency(RoleComposition.CLASSIC.plan(12), RoleName.WEREWOLF));
+        assertEquals(4, RoleComposition.CLASSIC.minPlayers());
+    }
+
+    @Test
+    void testCustom_FillsRemainingSeatsWithVillagers() {
+        RoleComposition composition = RoleComposition.custom(Map.of(RoleName.WEREWOLF, 2, RoleName.WITCH, 1));
+
+        assertEquals(List.of(RoleName.WEREWOLF, RoleName.WEREWOLF, RoleName.WITCH, RoleName.VILLAGER,
+            RoleName.VILLAGER, RoleName.VILLAGER), composition.plan(6));
+        assertEquals(5, composition.minPlayers());
+    }
+
+    @Test
+    void testFromKey_RoundTripsCustomAndPresets() {
+        RoleComposition custom = RoleComposition.custom(Map.of(RoleName.SEER, 1, RoleName.WEREWOLF, 2,
+            RoleName.HUNTER, 0));
+
+        assertEquals("WEREWOLF:2,SEER:1", custom.getKey());
+        assertEquals(custom, RoleComposition.fromKey(custom.getKey()));
+        assertSame(RoleComposition.BASIC, RoleComposition.fromKey("BASIC"));
+        assertSame(RoleComposition.CLASSIC, RoleComposition.fromKey(null));
+    }
+
+    @Test
+    void testPlan_IsUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () ->
+            RoleComposition.FULL_MOON.plan(9).add(RoleName.VILLAGER));
+    }
+}
@@ -0,0 +1,76 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.repository.GamePlayerRepository;
+import com.ausganslage.ausgangslageBackend.repository.projection.RoleAliveCount;
+import com.ausganslage.ausgangslageBackend.rules.AliveCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AliveCountAuditTest {
+
+    @Mock
+    private GamePlayerRepository gamePlayerRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AliveCountRegistry registry = new AliveCountRegistry(16);
+    private AliveCountAudit audit;
+
+    @BeforeEach
+    void setUp() {
+        audit = new AliveCountAudit(registry, gamePlayerRepository, transactionManager, 0);
+    }
+
+    @Test
+    void testVerify_MatchingCountsPass() {
+        registry.commit(game(1L), AliveCounts.NONE.plus(RoleName.WEREWOLF, Faction.WOLVES, 1)
+            .plus(RoleName.VILLAGER, Faction.VILLAGE, 3));
+        when(gamePlayerRepository.countAliveByRole(1L)).thenReturn(List.of(
+            new RoleAliveCount(RoleName.VILLAGER, Faction.VILLAGE, 3),
+            new RoleAliveCount(RoleName.WEREWOLF, Faction.WOLVES, 1)));
+
+        assertEquals(0, audit.verify());
+    }
+
+    @Test
+    void testVerify_ReportsOnlyADifferenceSeenTwice() {
+        Game game = game(1L);
+        registry.commit(game, AliveCounts.NONE.plus(RoleName.VILLAGER, Faction.VILLAGE, 4));
+        when(gamePlayerRepository.countAliveByRole(1L)).thenReturn(List.of(
+            new RoleAliveCount(RoleName.VILLAGER, Faction.VILLAGE, 3)));
+
+        assertEquals(0, audit.verify());
+        assertNotNull(registry.get(1L, game.getVersion()));
+        assertEquals(1, audit.verify());
+        assertNull(registry.get(1L, game.getVersion()));
+        assertEquals(0, audit.verify());
+    }
+
+    @Test
+    void testForget_StopsChecking() {
+        registry.commit(game(1L), AliveCounts.NONE);
+        registry.forget(1L);
+
+        assertEquals(0, audit.verify());
+        verifyNoInteractions(gamePlayerRepository);
+    }
+
+    private static Game game(Long id) {
+        Game game = new Game();
+        game.setId(id);
+        return game;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.enums.Faction;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import com.ausganslage.ausgangslageBackend.model.Game;
+import com.ausganslage.ausgangslageBackend.rules.AliveCounts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliveCountRegistryTest {
+
+    private static final AliveCounts FOUR = AliveCounts.NONE.plus(RoleName.VILLAGER, Faction.VILLAGE, 4);
+    private static final AliveCounts THREE = AliveCounts.NONE.plus(RoleName.VILLAGER, Faction.VILLAGE, 3);
+
+    private final AliveCountRegistry registry = new AliveCountRegistry(2);
+
+    @Test
+    void testGet_OnlyForTheCommittedVersion() {
+        registry.commit(game(1L, 5L), FOUR);
+
+        assertEquals(FOUR, registry.get(1L, 5L));
+        assertNull(registry.get(1L, 6L));
+        assertNull(registry.get(2L, 5L));
+    }
+
+    @Test
+    void testCommit_KeepsTheNewerVersion() {
+        registry.commit(game(1L, 6L), THREE);
+        registry.commit(game(1L, 5L), FOUR);
+
+        assertEquals(THREE, registry.get(1L, 6L));
+        assertNull(registry.get(1L, 5L));
+    }
+
+    @Test
+    void testFull_DropsTheGameUsedLeastRecently() {
+        registry.commit(game(1L, 0L), FOUR);
+        registry.commit(game(2L, 0L), FOUR);
+        registry.get(1L, 0L);
+        registry.commit(game(3L, 0L), THREE);
+
+        assertEquals(FOUR, registry.get(1L, 0L));
+        assertNull(registry.get(2L, 0L));
+        assertEquals(THREE, registry.get(3L, 0L));
+    }
+
+    private static Game game(Long id, Long version) {
+        Game game = new Game();
+        game.setId(id);
+        game.setVersion(version);
+        return game;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GamePhaseWorkerTest {
+
+    private final GamePhaseWorker worker = new GamePhaseWorker(true, 2);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.destroy();
+    }
+
+    @Test
+    void testSubmit_OneTaskPerGameAtATimeAndLatestWaitingRuns() throws InterruptedException {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        worker.submit(1L, () -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            ran.add("first");
+        });
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        worker.submit(1L, () -> ran.add("second"));
+        worker.submit(1L, () -> {
+            ran.add("third");
+            done.countDown();
+        });
+        releaseFirst.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "third"), ran);
+    }
+
+    @Test
+    void testSubmit_OtherGamesAreNotBlocked() throws InterruptedException {
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+
+        worker.submit(1L, () -> await(releaseFirst));
+        worker.submit(2L, otherRan::countDown);
+
+        assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+        releaseFirst.countDown();
+    }
+
+    @Test
+    void testSubmit_FailedTaskDoesNotStopTheGame() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        worker.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        worker.submit(1L, ran::countDown);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSubmit_RejectedAfterShutdownDoesNotLeaveTheGameScheduled() throws InterruptedException {
+        worker.destroy();
+
+        assertDoesNotThrow(() -> worker.submit(1L, () -> fail("should not run")));
+
+        assertFalse(worker.isScheduled(1L));
+    }
+
+    @Test
+    void testSubmit_SyncRunsInline() {
+        GamePhaseWorker sync = new GamePhaseWorker(false, 2);
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        sync.submit(1L, () -> ran.add("inline"));
+
+        assertFalse(sync.isAsync());
+        assertEquals(List.of("inline"), ran);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
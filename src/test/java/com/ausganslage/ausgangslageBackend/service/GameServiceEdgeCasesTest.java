@@ -3,14 +3,21 @@ package com.ausganslage.ausgangslageBackend.service;
 import com.ausganslage.ausgangslageBackend.dto.PowerActionRequest;
 import com.ausganslage.ausgangslageBackend.dto.VoteActionRequest;
 import com.ausganslage.ausgangslageBackend.enums.*;
+import com.ausganslage.ausgangslageBackend.event.GameEventBus;
+import com.ausganslage.ausgangslageBackend.failover.GameJournal;
+import com.ausganslage.ausgangslageBackend.metrics.GameMetrics;
 import com.ausganslage.ausgangslageBackend.model.*;
 import com.ausganslage.ausgangslageBackend.repository.*;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 import java.util.*;
@@ -38,6 +45,26 @@ class GameServiceEdgeCasesTest {
     private UserRepository userRepository;
     @Mock
     private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private GameMetrics gameMetrics;
+    @Mock
+    private ReadSnapshots readSnapshots;
+    @Mock
+    private GameEventBus gameEventBus;
+    @Mock
+    private GameJournal gameJournal;
+    @Spy
+    private RolePlanCache rolePlanCache = new RolePlanCache(16);
+    @Mock
+    private GamePhaseWorker phaseWorker;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private NightResultIndex nightResultIndex = new NightResultIndex(16);
+    @Spy
+    private AliveCountRegistry aliveCountRegistry = new AliveCountRegistry(16);
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private GameService gameService;
@@ -78,17 +105,14 @@ class GameServiceEdgeCasesTest {
 
         GamePlayer wolfVictim = createPlayer(2L, villagerRole.getId(), true);
         GamePlayer otherPlayer = createPlayer(3L, villagerRole.getId(), true);
+        GamePlayer werewolf = createPlayer(4L, werewolfRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(witch));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
+        GameAction wolfVote = createAction(4L, 2L, ActionType.VOTE_WOLF_KILL);
+        wolfVote.setPhase(GamePhase.NIGHT_WOLVES);
 
-        List<GameAction> wolfVotes = List.of(
-            createAction(1L, 2L, ActionType.VOTE_WOLF_KILL)
-        );
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-            1L, 1, GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL))
-            .thenReturn(wolfVotes);
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(witch, wolfVictim, otherPlayer, werewolf);
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenReturn(List.of(wolfVote));
 
         PowerActionRequest request = new PowerActionRequest();
         request.setActionType(ActionType.WITCH_HEAL);
@@ -112,9 +136,8 @@ class GameServiceEdgeCasesTest {
             createAction(3L, 1L, ActionType.VOTE_LYNCH)
         );
 
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-            1L, 1, GamePhase.DAY_VOTING, ActionType.VOTE_LYNCH))
-            .thenReturn(votes);
+        stubPlayers(player1, player2, player3);
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenReturn(votes);
 
         gameService.resolveDayVoting(game);
 
@@ -133,11 +156,8 @@ class GameServiceEdgeCasesTest {
 
         GamePlayer hunter2 = createPlayer(2L, hunterRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(hunter1));
-        when(roleTemplateRepository.findById(hunterRole.getId())).thenReturn(Optional.of(hunterRole));
-        when(gamePlayerRepository.findById(2L)).thenReturn(Optional.of(hunter2));
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(hunter2));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(hunter1, hunter2);
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
 
         PowerActionRequest request = new PowerActionRequest();
@@ -166,14 +186,8 @@ class GameServiceEdgeCasesTest {
             createAction(1L, 2L, ActionType.VOTE_WOLF_KILL)
         );
 
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-            1L, 1, GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL))
-            .thenReturn(wolfVotes);
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhase(
-            1L, 1, GamePhase.NIGHT_WITCH))
-            .thenReturn(Collections.emptyList());
-        when(gamePlayerRepository.findById(2L)).thenReturn(Optional.of(witch));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
+        stubPlayers(werewolf, witch, villager1, villager2);
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenReturn(wolfVotes);
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
 
         gameService.resolveNightActions(game);
@@ -184,16 +198,23 @@ class GameServiceEdgeCasesTest {
     }
 
     @Test
-    void testNoWolvesLeft_VillageWins() {
-        GamePlayer seer = createPlayer(1L, seerRole.getId(), true);
-        GamePlayer witch = createPlayer(2L, witchRole.getId(), true);
-        GamePlayer hunter = createPlayer(3L, hunterRole.getId(), true);
+    void testResolveNight_TimedFromLoadingTheGame() {
+        stubPlayers(createPlayer(1L, werewolfRole.getId(), true), createPlayer(2L, villagerRole.getId(), true),
+            createPlayer(3L, villagerRole.getId(), true), createPlayer(4L, villagerRole.getId(), true));
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return List.of(createAction(1L, 2L, ActionType.VOTE_WOLF_KILL));
+        });
+
+        gameService.resolveNightActions(game);
 
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(seer, witch, hunter));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
-        when(roleTemplateRepository.findById(hunterRole.getId())).thenReturn(Optional.of(hunterRole));
+        verify(gameMetrics).nightResolved(longThat(nanos -> nanos >= 20_000_000L));
+    }
+
+    @Test
+    void testNoWolvesLeft_VillageWins() {
+        stubPlayers(createPlayer(1L, seerRole.getId(), true), createPlayer(2L, witchRole.getId(), true),
+            createPlayer(3L, hunterRole.getId(), true));
 
         gameService.checkWinCondition(game);
 
@@ -204,13 +225,7 @@ class GameServiceEdgeCasesTest {
 
     @Test
     void testEqualWolvesAndVillagers_WolvesWin() {
-        GamePlayer werewolf = createPlayer(1L, werewolfRole.getId(), true);
-        GamePlayer seer = createPlayer(2L, seerRole.getId(), true);
-
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(werewolf, seer));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
+        stubPlayers(createPlayer(1L, werewolfRole.getId(), true), createPlayer(2L, seerRole.getId(), true));
 
         gameService.checkWinCondition(game);
 
@@ -220,14 +235,8 @@ class GameServiceEdgeCasesTest {
 
     @Test
     void testMoreWolvesThanVillagers_WolvesWin() {
-        GamePlayer werewolf1 = createPlayer(1L, werewolfRole.getId(), true);
-        GamePlayer werewolf2 = createPlayer(2L, werewolfRole.getId(), true);
-        GamePlayer seer = createPlayer(3L, seerRole.getId(), true);
-
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(werewolf1, werewolf2, seer));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
+        stubPlayers(createPlayer(1L, werewolfRole.getId(), true), createPlayer(2L, werewolfRole.getId(), true),
+            createPlayer(3L, seerRole.getId(), true));
 
         gameService.checkWinCondition(game);
 
@@ -244,16 +253,9 @@ class GameServiceEdgeCasesTest {
         GameAction oldVote = createAction(1L, 2L, ActionType.VOTE_WOLF_KILL);
         oldVote.setId(100L);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(werewolf));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(gamePlayerRepository.findById(3L)).thenReturn(Optional.of(victim2));
-        when(roleTemplateRepository.findById(villagerRole.getId())).thenReturn(Optional.of(villagerRole));
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActorPlayerId(
-            1L, 1, GamePhase.NIGHT_WOLVES, 1L))
-            .thenReturn(Optional.of(oldVote));
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(werewolf, victim1, victim2));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(werewolf, victim1, victim2);
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenReturn(List.of(oldVote));
 
         VoteActionRequest request = new VoteActionRequest();
         request.setTargetPlayerId(3L);
@@ -261,24 +263,37 @@ class GameServiceEdgeCasesTest {
         gameService.submitVote(1L, user, request);
 
         verify(gameActionRepository, times(1)).delete(oldVote);
-        verify(gameActionRepository, times(1)).save(any(GameAction.class));
+        verify(gameActionRepository, times(1)).upsertVote(1L, 1, GamePhase.NIGHT_WOLVES.name(), 1L, 3L,
+            ActionType.VOTE_WOLF_KILL.name(), 0L);
+    }
+
+    @Test
+    void testVoteRevoting_KeyedVoteIsOverwrittenInPlace() {
+        GamePlayer werewolf = createPlayer(1L, werewolfRole.getId(), true);
+        GamePlayer victim1 = createPlayer(2L, villagerRole.getId(), true);
+        GamePlayer victim2 = createPlayer(3L, villagerRole.getId(), true);
+
+        GameAction oldVote = createAction(1L, 2L, ActionType.VOTE_WOLF_KILL);
+        oldVote.setId(100L);
+        oldVote.setVoterPlayerId(1L);
+
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(werewolf, victim1, victim2);
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenReturn(List.of(oldVote));
+
+        gameService.submitVote(1L, user, new VoteActionRequest(3L));
+
+        verify(gameActionRepository, never()).delete(any(GameAction.class));
+        verify(gameActionRepository, times(1)).upsertVote(1L, 1, GamePhase.NIGHT_WOLVES.name(), 1L, 3L,
+            ActionType.VOTE_WOLF_KILL.name(), 0L);
     }
 
     @Test
     void testDeadSeer_PhaseAdvancesAutomatically() {
         game.setCurrentPhase(GamePhase.NIGHT_SEER);
 
-        GamePlayer deadSeer = createPlayer(1L, seerRole.getId(), false);
-        GamePlayer werewolf = createPlayer(2L, werewolfRole.getId(), true);
-        GamePlayer villager1 = createPlayer(3L, villagerRole.getId(), true);
-        GamePlayer villager2 = createPlayer(4L, villagerRole.getId(), true);
-
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(werewolf, villager1, villager2));
-        when(roleTemplateRepository.findById(werewolfRole.getId()))
-            .thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(villagerRole.getId()))
-            .thenReturn(Optional.of(villagerRole));
+        stubPlayers(createPlayer(1L, werewolfRole.getId(), true), createPlayer(2L, villagerRole.getId(), true),
+            createPlayer(3L, villagerRole.getId(), true));
 
         gameService.checkAndAdvancePhase(game);
 
@@ -289,20 +304,8 @@ class GameServiceEdgeCasesTest {
     void testDeadWitch_PhaseAdvancesAutomatically() {
         game.setCurrentPhase(GamePhase.NIGHT_WITCH);
 
-        GamePlayer deadWitch = createPlayer(1L, witchRole.getId(), false);
-        GamePlayer werewolf = createPlayer(2L, werewolfRole.getId(), true);
-        GamePlayer villager1 = createPlayer(3L, villagerRole.getId(), true);
-        GamePlayer villager2 = createPlayer(4L, villagerRole.getId(), true);
-
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(werewolf, villager1, villager2));
-        when(roleTemplateRepository.findById(werewolfRole.getId()))
-            .thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(villagerRole.getId()))
-            .thenReturn(Optional.of(villagerRole));
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhase(
-            anyLong(), anyInt(), any()))
-            .thenReturn(Collections.emptyList());
+        stubPlayers(createPlayer(1L, werewolfRole.getId(), true), createPlayer(2L, villagerRole.getId(), true),
+            createPlayer(3L, villagerRole.getId(), true));
 
         gameService.checkAndAdvancePhase(game);
 
@@ -315,21 +318,9 @@ class GameServiceEdgeCasesTest {
 
         GamePlayer witch = createPlayer(1L, witchRole.getId(), true);
         witch.setStateFlagsJson("{\"healPotion\":false,\"poisonPotion\":false}");
-        GamePlayer werewolf = createPlayer(2L, werewolfRole.getId(), true);
-        GamePlayer villager1 = createPlayer(3L, villagerRole.getId(), true);
-        GamePlayer villager2 = createPlayer(4L, villagerRole.getId(), true);
 
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true))
-            .thenReturn(List.of(witch, werewolf, villager1, villager2));
-        when(roleTemplateRepository.findById(witchRole.getId()))
-            .thenReturn(Optional.of(witchRole));
-        when(roleTemplateRepository.findById(werewolfRole.getId()))
-            .thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(villagerRole.getId()))
-            .thenReturn(Optional.of(villagerRole));
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhase(
-            1L, 1, GamePhase.NIGHT_WITCH))
-            .thenReturn(Collections.emptyList());
+        stubPlayers(witch, createPlayer(2L, werewolfRole.getId(), true), createPlayer(3L, villagerRole.getId(), true),
+            createPlayer(4L, villagerRole.getId(), true));
 
         gameService.checkAndAdvancePhase(game);
 
@@ -344,6 +335,12 @@ class GameServiceEdgeCasesTest {
         return role;
     }
 
+    private void stubPlayers(GamePlayer... players) {
+        when(roleTemplateRepository.findAll())
+            .thenReturn(List.of(werewolfRole, seerRole, witchRole, hunterRole, villagerRole));
+        when(gamePlayerRepository.findByGameId(1L)).thenReturn(List.of(players));
+    }
+
     private GamePlayer createPlayer(Long id, Long roleId, boolean isAlive) {
         GamePlayer player = new GamePlayer();
         player.setId(id);
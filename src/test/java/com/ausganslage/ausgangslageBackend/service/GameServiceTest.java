@@ -2,14 +2,25 @@ package com.ausganslage.ausgangslageBackend.service;
 
 import com.ausganslage.ausgangslageBackend.dto.*;
 import com.ausganslage.ausgangslageBackend.enums.*;
+import com.ausganslage.ausgangslageBackend.event.GameEventBus;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.failover.GameJournal;
+import com.ausganslage.ausgangslageBackend.metrics.GameMetrics;
 import com.ausganslage.ausgangslageBackend.model.*;
 import com.ausganslage.ausgangslageBackend.repository.*;
+import com.ausganslage.ausgangslageBackend.repository.projection.GamePlayerView;
+import com.ausganslage.ausgangslageBackend.rules.AliveCounts;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 import java.util.*;
@@ -37,6 +48,26 @@ class GameServiceTest {
     private UserRepository userRepository;
     @Mock
     private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private GameMetrics gameMetrics;
+    @Mock
+    private ReadSnapshots readSnapshots;
+    @Mock
+    private GameEventBus gameEventBus;
+    @Mock
+    private GameJournal gameJournal;
+    @Spy
+    private RolePlanCache rolePlanCache = new RolePlanCache(16);
+    @Mock
+    private GamePhaseWorker phaseWorker;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private NightResultIndex nightResultIndex = new NightResultIndex(16);
+    @Spy
+    private AliveCountRegistry aliveCountRegistry = new AliveCountRegistry(16);
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private GameService gameService;
@@ -102,16 +133,15 @@ class GameServiceTest {
     void testStartGame_Success() {
         when(lobbyRepository.findByLobbyCode("TEST123")).thenReturn(Optional.of(lobby));
         when(lobbyMemberRepository.findByLobbyId(1L)).thenReturn(lobbyMembers);
-        when(roleTemplateRepository.findByName(RoleName.WEREWOLF)).thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findByName(RoleName.SEER)).thenReturn(Optional.of(seerRole));
-        when(roleTemplateRepository.findByName(RoleName.WITCH)).thenReturn(Optional.of(witchRole));
-        when(roleTemplateRepository.findByName(RoleName.HUNTER)).thenReturn(Optional.of(hunterRole));
-        when(roleTemplateRepository.findByName(RoleName.VILLAGER)).thenReturn(Optional.of(villagerRole));
+        when(roleTemplateRepository.findAll())
+            .thenReturn(List.of(werewolfRole, seerRole, witchRole, hunterRole, villagerRole));
+        when(gamePlayerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         Game savedGame = new Game();
         savedGame.setId(1L);
         savedGame.setStatus(GameStatus.RUNNING);
         savedGame.setCurrentPhase(GamePhase.NIGHT_WOLVES);
+        savedGame.setSeed(42L);
         when(gameRepository.save(any(Game.class))).thenReturn(savedGame);
 
         Game result = gameService.startGame("TEST123", hostUser);
@@ -120,10 +150,83 @@ class GameServiceTest {
         assertEquals(GameStatus.RUNNING, result.getStatus());
         assertEquals(GamePhase.NIGHT_WOLVES, result.getCurrentPhase());
         assertEquals(1, result.getDayNumber());
-        verify(gamePlayerRepository, times(4)).save(any(GamePlayer.class));
+        verify(gamePlayerRepository, times(1)).saveAll(argThat(players ->
+            players instanceof Collection<?> collection && collection.size() == 4
+        ));
+        verify(gamePlayerRepository, never()).save(any(GamePlayer.class));
         verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
     }
 
+    @Test
+    void testStartGame_SameSeedGivesSameRoles() {
+        when(lobbyRepository.findByLobbyCode("TEST123")).thenReturn(Optional.of(lobby));
+        when(lobbyMemberRepository.findByLobbyId(1L))
+            .thenReturn(lobbyMembers, List.of(lobbyMembers.get(3), lobbyMembers.get(1), lobbyMembers.get(0), lobbyMembers.get(2)));
+        when(roleTemplateRepository.findAll())
+            .thenReturn(List.of(werewolfRole, seerRole, witchRole, hunterRole, villagerRole));
+        List<Map<Long, Long>> rolesByUser = new ArrayList<>();
+        when(gamePlayerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<GamePlayer> players = invocation.getArgument(0);
+            Map<Long, Long> roles = new HashMap<>();
+            players.forEach(p -> roles.put(p.getUserId(), p.getRoleId()));
+            rolesByUser.add(roles);
+            return players;
+        });
+
+        Game savedGame = new Game();
+        savedGame.setId(1L);
+        savedGame.setSeed(7L);
+        when(gameRepository.save(any(Game.class))).thenReturn(savedGame);
+
+        gameService.startGame("TEST123", hostUser);
+        lobby.setStatus(LobbyStatus.OPEN);
+        gameService.startGame("TEST123", hostUser);
+
+        assertEquals(2, rolesByUser.size());
+        assertEquals(rolesByUser.get(0), rolesByUser.get(1));
+    }
+
+    @Test
+    void testStartGame_DealsTheLobbyRoleComposition() {
+        lobby.setRoleComposition("WEREWOLF:1,SEER:1");
+        when(lobbyRepository.findByLobbyCode("TEST123")).thenReturn(Optional.of(lobby));
+        when(lobbyMemberRepository.findByLobbyId(1L)).thenReturn(lobbyMembers);
+        when(roleTemplateRepository.findAll())
+            .thenReturn(List.of(werewolfRole, seerRole, witchRole, hunterRole, villagerRole));
+        List<Long> roleIds = new ArrayList<>();
+        when(gamePlayerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<GamePlayer> players = invocation.getArgument(0);
+            players.forEach(p -> roleIds.add(p.getRoleId()));
+            return players;
+        });
+
+        Game savedGame = new Game();
+        savedGame.setId(1L);
+        savedGame.setSeed(42L);
+        when(gameRepository.save(any(Game.class))).thenReturn(savedGame);
+
+        gameService.startGame("TEST123", hostUser);
+
+        Collections.sort(roleIds);
+        assertEquals(List.of(werewolfRole.getId(), seerRole.getId(), villagerRole.getId(), villagerRole.getId()), roleIds);
+        AliveCounts alive = aliveCountRegistry.get(1L, savedGame.getVersion());
+        assertEquals(4, alive.alive());
+        assertEquals(1, alive.alive(Faction.WOLVES));
+        assertEquals(1, alive.alive(RoleName.SEER));
+    }
+
+    @Test
+    void testStartGame_TooFewPlayersForComposition_ThrowsException() {
+        lobby.setRoleComposition("WEREWOLF:2,SEER:1");
+        when(lobbyRepository.findByLobbyCode("TEST123")).thenReturn(Optional.of(lobby));
+        when(lobbyMemberRepository.findByLobbyId(1L)).thenReturn(lobbyMembers);
+
+        assertThrows(InvalidActionException.class, () ->
+            gameService.startGame("TEST123", hostUser)
+        );
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
     @Test
     void testStartGame_NotHost_ThrowsException() {
         User nonHost = new User();
@@ -164,21 +267,35 @@ class GameServiceTest {
         GamePlayer werewolf = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
         GamePlayer victim = createGamePlayer(2L, 2L, villagerRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(werewolf));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(gamePlayerRepository.findById(2L)).thenReturn(Optional.of(victim));
-        when(roleTemplateRepository.findById(villagerRole.getId())).thenReturn(Optional.of(villagerRole));
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActorPlayerId(anyLong(), anyInt(), any(), anyLong()))
-            .thenReturn(Optional.empty());
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(werewolf, victim));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(werewolf, victim);
 
         VoteActionRequest request = new VoteActionRequest();
         request.setTargetPlayerId(2L);
 
         gameService.submitVote(1L, hostUser, request);
 
-        verify(gameActionRepository, times(1)).save(any(GameAction.class));
+        verify(gameActionRepository, times(1)).upsertVote(1L, 1, GamePhase.NIGHT_WOLVES.name(), 1L, 2L,
+            ActionType.VOTE_WOLF_KILL.name(), 0L);
+        verify(gameActionRepository, never()).save(any(GameAction.class));
+    }
+
+    @Test
+    void testSubmitVote_Async_RecordsAndLeavesPhaseToWorker() {
+        Game game = createRunningGame();
+        GamePlayer werewolf = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
+        GamePlayer victim = createGamePlayer(2L, 2L, villagerRole.getId(), true);
+
+        when(phaseWorker.isAsync()).thenReturn(true);
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(werewolf, victim);
+
+        gameService.submitVote(1L, hostUser, new VoteActionRequest(2L));
+
+        verify(gameActionRepository).upsertVote(eq(1L), eq(1), anyString(), eq(1L), eq(2L), anyString(), any());
+        verify(gameRepository, never()).save(any(Game.class));
+        verify(phaseWorker).submit(eq(1L), any(Runnable.class));
+        assertEquals(GamePhase.NIGHT_WOLVES, game.getCurrentPhase());
     }
 
     @Test
@@ -187,10 +304,8 @@ class GameServiceTest {
         GamePlayer werewolf1 = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
         GamePlayer werewolf2 = createGamePlayer(2L, 2L, werewolfRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(werewolf1));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(gamePlayerRepository.findById(2L)).thenReturn(Optional.of(werewolf2));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(werewolf1, werewolf2);
 
         VoteActionRequest request = new VoteActionRequest();
         request.setTargetPlayerId(2L);
@@ -205,8 +320,8 @@ class GameServiceTest {
         Game game = createRunningGame();
         GamePlayer deadPlayer = createGamePlayer(1L, 1L, villagerRole.getId(), false);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(deadPlayer));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(deadPlayer);
 
         VoteActionRequest request = new VoteActionRequest();
         request.setTargetPlayerId(2L);
@@ -224,10 +339,8 @@ class GameServiceTest {
         GamePlayer seer = createGamePlayer(1L, 1L, seerRole.getId(), true);
         GamePlayer target = createGamePlayer(2L, 2L, werewolfRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(seer));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(seer, target));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(seer, target);
 
         PowerActionRequest request = new PowerActionRequest();
         request.setActionType(ActionType.SEER_INSPECT);
@@ -247,21 +360,19 @@ class GameServiceTest {
         witch.setStateFlagsJson("{\"healPotion\":true,\"poisonPotion\":true}");
 
         GamePlayer victim = createGamePlayer(2L, 2L, villagerRole.getId(), true);
+        GamePlayer werewolf = createGamePlayer(3L, 3L, werewolfRole.getId(), true);
 
         GameAction wolfVote = new GameAction();
         wolfVote.setGameId(1L);
         wolfVote.setDayNumber(1);
         wolfVote.setPhase(GamePhase.NIGHT_WOLVES);
+        wolfVote.setActorPlayerId(3L);
         wolfVote.setActionType(ActionType.VOTE_WOLF_KILL);
         wolfVote.setTargetPlayerId(2L);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(witch));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
-        when(gameActionRepository.findByGameIdAndDayNumberAndPhaseAndActionType(
-            1L, 1, GamePhase.NIGHT_WOLVES, ActionType.VOTE_WOLF_KILL))
-            .thenReturn(List.of(wolfVote));
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(witch));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(witch, victim, werewolf);
+        when(gameActionRepository.findByGameIdAndDayNumber(1L, 1)).thenReturn(List.of(wolfVote));
 
         PowerActionRequest request = new PowerActionRequest();
         request.setActionType(ActionType.WITCH_HEAL);
@@ -283,9 +394,8 @@ class GameServiceTest {
         GamePlayer witch = createGamePlayer(1L, 1L, witchRole.getId(), true);
         witch.setStateFlagsJson("{\"healPotion\":false,\"poisonPotion\":true}");
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(witch));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(witch);
 
         PowerActionRequest request = new PowerActionRequest();
         request.setActionType(ActionType.WITCH_HEAL);
@@ -306,12 +416,9 @@ class GameServiceTest {
 
         GamePlayer target = createGamePlayer(2L, 2L, villagerRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(hunter));
-        when(roleTemplateRepository.findById(hunterRole.getId())).thenReturn(Optional.of(hunterRole));
-        when(gamePlayerRepository.findById(2L)).thenReturn(Optional.of(target));
-        when(roleTemplateRepository.findById(villagerRole.getId())).thenReturn(Optional.of(villagerRole));
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(target));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(hunter, target, createGamePlayer(3L, 3L, werewolfRole.getId(), true),
+            createGamePlayer(4L, 4L, villagerRole.getId(), true), createGamePlayer(5L, 5L, villagerRole.getId(), true));
 
         PowerActionRequest request = new PowerActionRequest();
         request.setActionType(ActionType.HUNTER_SHOOT);
@@ -323,6 +430,8 @@ class GameServiceTest {
         verify(gamePlayerRepository, atLeastOnce()).save(argThat(p ->
             !p.getIsAlive() && p.getId().equals(2L)
         ));
+        verify(entityManager).lock(game, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        assertEquals(3, aliveCountRegistry.get(1L, game.getVersion()).alive());
     }
 
     @Test
@@ -332,10 +441,8 @@ class GameServiceTest {
 
         GamePlayer seer = createGamePlayer(1L, 1L, seerRole.getId(), true);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(seer));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(seer));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        stubPlayers(seer);
 
         gameService.skipAction(1L, hostUser);
 
@@ -347,12 +454,7 @@ class GameServiceTest {
     @Test
     void testCheckWinCondition_VillageWins() {
         Game game = createRunningGame();
-        GamePlayer seer = createGamePlayer(1L, 1L, seerRole.getId(), true);
-        GamePlayer witch = createGamePlayer(2L, 2L, witchRole.getId(), true);
-
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(seer, witch));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
+        stubPlayers(createGamePlayer(1L, 1L, seerRole.getId(), true), createGamePlayer(2L, 2L, witchRole.getId(), true));
 
         gameService.checkWinCondition(game);
 
@@ -365,12 +467,8 @@ class GameServiceTest {
     @Test
     void testCheckWinCondition_WolvesWin() {
         Game game = createRunningGame();
-        GamePlayer werewolf = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
-        GamePlayer villager = createGamePlayer(2L, 2L, villagerRole.getId(), true);
-
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(werewolf, villager));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(villagerRole.getId())).thenReturn(Optional.of(villagerRole));
+        stubPlayers(createGamePlayer(1L, 1L, werewolfRole.getId(), true),
+            createGamePlayer(2L, 2L, villagerRole.getId(), true));
 
         gameService.checkWinCondition(game);
 
@@ -380,16 +478,25 @@ class GameServiceTest {
     }
 
     @Test
-    void testCheckWinCondition_GameContinues() {
+    void testCheckWinCondition_ReadsTheCommittedAliveCounts() {
         Game game = createRunningGame();
-        GamePlayer werewolf = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
-        GamePlayer seer = createGamePlayer(2L, 2L, seerRole.getId(), true);
-        GamePlayer witch = createGamePlayer(3L, 3L, witchRole.getId(), true);
+        stubPlayers(createGamePlayer(1L, 1L, werewolfRole.getId(), true),
+            createGamePlayer(2L, 2L, seerRole.getId(), true),
+            createGamePlayer(3L, 3L, witchRole.getId(), true));
+        aliveCountRegistry.commit(game, AliveCounts.NONE.plus(RoleName.WEREWOLF, Faction.WOLVES, 1)
+            .plus(RoleName.SEER, Faction.VILLAGE, 1));
 
-        when(gamePlayerRepository.findByGameIdAndIsAlive(1L, true)).thenReturn(List.of(werewolf, seer, witch));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
-        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
+        gameService.checkWinCondition(game);
+
+        assertEquals(Faction.WOLVES, game.getWinnerFaction());
+    }
+
+    @Test
+    void testCheckWinCondition_GameContinues() {
+        Game game = createRunningGame();
+        stubPlayers(createGamePlayer(1L, 1L, werewolfRole.getId(), true),
+            createGamePlayer(2L, 2L, seerRole.getId(), true),
+            createGamePlayer(3L, 3L, witchRole.getId(), true));
 
         gameService.checkWinCondition(game);
 
@@ -402,7 +509,7 @@ class GameServiceTest {
         Game game = createRunningGame();
         game.setCurrentPhase(GamePhase.DAY_DISCUSSION);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
 
         gameService.transitionToVoting(1L);
 
@@ -416,7 +523,7 @@ class GameServiceTest {
         Game game = createRunningGame();
         game.setCurrentPhase(GamePhase.NIGHT_WOLVES);
 
-        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
 
         assertThrows(IllegalStateException.class, () ->
             gameService.transitionToVoting(1L)
@@ -426,16 +533,12 @@ class GameServiceTest {
     @Test
     void testGetGameState_ReturnsCorrectRoleVisibility() {
         Game game = createRunningGame();
-        GamePlayer werewolf1 = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
-        GamePlayer werewolf2 = createGamePlayer(2L, 2L, werewolfRole.getId(), true);
-        GamePlayer seer = createGamePlayer(3L, 3L, seerRole.getId(), true);
+        GamePlayerView werewolf1 = createPlayerView(1L, 1L, werewolfRole);
+        GamePlayerView werewolf2 = createPlayerView(2L, 2L, werewolfRole);
+        GamePlayerView seer = createPlayerView(3L, 3L, seerRole);
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
-        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(werewolf1));
-        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
-        when(gamePlayerRepository.findByGameId(1L)).thenReturn(List.of(werewolf1, werewolf2, seer));
-        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(hostUser));
+        when(gamePlayerRepository.findViewsByGameId(1L)).thenReturn(List.of(werewolf1, werewolf2, seer));
 
         GameStateDto state = gameService.getGameState(1L, hostUser);
 
@@ -474,6 +577,64 @@ class GameServiceTest {
         );
     }
 
+    @Test
+    void testGetWolfVictim_ServedFromIndexOnceWolvesAreDone() {
+        Game game = createRunningGame();
+        GamePlayer werewolf = createGamePlayer(1L, 1L, werewolfRole.getId(), true);
+        GamePlayer witch = createGamePlayer(2L, 2L, witchRole.getId(), true);
+        GamePlayer villager = createGamePlayer(3L, 3L, villagerRole.getId(), true);
+        User witchUser = new User();
+        witchUser.setId(2L);
+        witchUser.setUsername("Witch");
+
+        when(gameRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(game));
+        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
+        stubPlayers(werewolf, witch, villager);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(witchUser));
+        gameService.submitVote(1L, hostUser, new VoteActionRequest(2L));
+
+        game.setCurrentPhase(GamePhase.NIGHT_WITCH);
+        when(gamePlayerRepository.findByGameIdAndUserId(1L, 2L)).thenReturn(Optional.of(witch));
+        when(roleTemplateRepository.findById(witchRole.getId())).thenReturn(Optional.of(witchRole));
+
+        WolfVictimDto victim = gameService.getWolfVictim(1L, witchUser);
+
+        assertEquals(2L, victim.getPlayerId());
+        assertEquals("Witch", victim.getUsername());
+        verify(gameActionRepository, never()).findByGameIdAndDayNumberAndPhaseAndActionType(
+            anyLong(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testGetLastInspectionResult_LoadsOnceThenServesFromIndex() {
+        GamePlayer seer = createGamePlayer(1L, 1L, seerRole.getId(), true);
+        GamePlayer werewolf = createGamePlayer(2L, 2L, werewolfRole.getId(), true);
+        GameAction inspection = new GameAction();
+        inspection.setActorPlayerId(1L);
+        inspection.setTargetPlayerId(2L);
+        inspection.setActionType(ActionType.SEER_INSPECT);
+        inspection.setCreatedAt(Instant.now());
+        User wolfUser = new User();
+        wolfUser.setId(2L);
+        wolfUser.setUsername("Wolf");
+
+        when(gameRepository.existsById(1L)).thenReturn(true);
+        when(gamePlayerRepository.findByGameIdAndUserId(1L, 1L)).thenReturn(Optional.of(seer));
+        when(roleTemplateRepository.findById(seerRole.getId())).thenReturn(Optional.of(seerRole));
+        when(roleTemplateRepository.findById(werewolfRole.getId())).thenReturn(Optional.of(werewolfRole));
+        when(gameActionRepository.findByGameIdAndActorPlayerIdAndActionType(1L, 1L, ActionType.SEER_INSPECT))
+            .thenReturn(List.of(inspection));
+        when(gamePlayerRepository.findById(2L)).thenReturn(Optional.of(werewolf));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(wolfUser));
+
+        InspectionResultDto first = gameService.getLastInspectionResult(1L, hostUser);
+        InspectionResultDto second = gameService.getLastInspectionResult(1L, hostUser);
+
+        assertEquals(RoleName.WEREWOLF, first.getRole());
+        assertSame(first, second);
+        verify(gameActionRepository, times(1)).findByGameIdAndActorPlayerIdAndActionType(1L, 1L, ActionType.SEER_INSPECT);
+    }
+
     @Test
     void testSendChatMessage_DayPhase_Success() {
         Game game = createRunningGame();
@@ -500,6 +661,8 @@ class GameServiceTest {
         gameService.sendChatMessage(1L, hostUser, request);
 
         verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
+        verify(gameEventBus).publish(argThat(e ->
+            e.getType() == GameEventType.CHAT_MESSAGE && e.getChannel() == ChatChannel.DAY));
     }
 
     @Test
@@ -532,6 +695,17 @@ class GameServiceTest {
         return game;
     }
 
+    private void stubPlayers(GamePlayer... players) {
+        when(roleTemplateRepository.findAll())
+            .thenReturn(List.of(werewolfRole, seerRole, witchRole, hunterRole, villagerRole));
+        when(gamePlayerRepository.findByGameId(1L)).thenReturn(List.of(players));
+    }
+
+    private GamePlayerView createPlayerView(Long id, Long userId, RoleTemplate role) {
+        return new GamePlayerView(id, userId, "player" + userId, "default", id.intValue(), true, false, "{}",
+            role.getId(), role.getName(), role.getFaction());
+    }
+
     private GamePlayer createGamePlayer(Long id, Long userId, Long roleId, boolean isAlive) {
         GamePlayer player = new GamePlayer();
         player.setId(id);
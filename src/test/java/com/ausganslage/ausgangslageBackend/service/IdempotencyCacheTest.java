@@ -0,0 +1,183 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private static final List<Long> VOTE = List.of(1L, 7L);
+
+    private final IdempotencyCache cache = new IdempotencyCache(2, 16, 5000);
+
+    @Test
+    void testExecute_RetryReplaysTheStoredResponse() {
+        AtomicInteger runs = new AtomicInteger();
+
+        ResponseEntity<Void> first = cache.execute(1L, "vote", "abc", VOTE, () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+        ResponseEntity<Void> retry = cache.execute(1L, "vote", "abc", VOTE, () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.badRequest().build();
+        });
+
+        assertEquals(1, runs.get());
+        assertSame(first, retry);
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+    }
+
+    @Test
+    void testExecute_KeysAreScopedPerUserAndEndpoint() {
+        AtomicInteger runs = new AtomicInteger();
+
+        cache.execute(1L, "vote", "abc", VOTE, () -> counted(runs));
+        cache.execute(2L, "vote", "abc", VOTE, () -> counted(runs));
+        cache.execute(1L, "chat", "abc", VOTE, () -> counted(runs));
+        cache.execute(1L, "vote", null, VOTE, () -> counted(runs));
+        cache.execute(1L, "vote", null, VOTE, () -> counted(runs));
+
+        assertEquals(5, runs.get());
+    }
+
+    @Test
+    void testExecute_OnlyRecentKeysAreKept() {
+        AtomicInteger runs = new AtomicInteger();
+
+        cache.execute(1L, "vote", "a", VOTE, () -> counted(runs));
+        cache.execute(1L, "vote", "b", VOTE, () -> counted(runs));
+        cache.execute(1L, "vote", "c", VOTE, () -> counted(runs));
+        cache.execute(1L, "vote", "c", VOTE, () -> counted(runs));
+        cache.execute(1L, "vote", "a", VOTE, () -> counted(runs));
+
+        assertEquals(4, runs.get());
+    }
+
+    @Test
+    void testExecute_FailedRequestIsNotStored() {
+        assertThrows(IllegalStateException.class, () -> cache.execute(1L, "power", "abc", VOTE, () -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        ResponseEntity<Void> retry = cache.execute(1L, "power", "abc", VOTE, () -> ResponseEntity.ok().build());
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+    }
+
+    @Test
+    void testExecute_ConcurrentRetryWaitsForTheFirstRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<ResponseEntity<Void>> first = CompletableFuture.supplyAsync(() ->
+            cache.execute(1L, "power", "abc", VOTE, () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return ResponseEntity.ok().build();
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<Void>> retry = CompletableFuture.supplyAsync(() ->
+            cache.execute(1L, "power", "abc", VOTE, () -> counted(runs)));
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), retry.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testExecute_KeyReusedForADifferentRequestIsRejected() {
+        AtomicInteger runs = new AtomicInteger();
+
+        cache.execute(1L, "vote", "abc", VOTE, () -> counted(runs));
+        ResponseEntity<Void> reused = cache.execute(1L, "vote", "abc", List.of(2L, 8L), () -> counted(runs));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testExecute_KeyReusedForAnotherGameWithTheSameHashIsRejected() {
+        assertEquals(Objects.hash(1L, 32L), Objects.hash(2L, 1L));
+        AtomicInteger runs = new AtomicInteger();
+
+        cache.execute(1L, "vote", "abc", List.of(1L, 32L), () -> counted(runs));
+        ResponseEntity<Void> reused = cache.execute(1L, "vote", "abc", List.of(2L, 1L), () -> counted(runs));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testExecute_RetryWaitingTooLongIsAnsweredWithConflict() throws Exception {
+        IdempotencyCache impatient = new IdempotencyCache(2, 16, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<Void>> running = CompletableFuture.supplyAsync(() ->
+            impatient.execute(1L, "power", "abc", VOTE, () -> {
+                started.countDown();
+                await(release);
+                return ResponseEntity.ok().build();
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ResponseEntity<Void> retry = impatient.execute(1L, "power", "abc", VOTE, () -> ResponseEntity.ok().build());
+        release.countDown();
+
+        assertEquals(HttpStatus.CONFLICT, retry.getStatusCode());
+        assertEquals(HttpStatus.OK, running.get(5, TimeUnit.SECONDS).getStatusCode());
+    }
+
+    @Test
+    void testExecute_FullCacheDropsAnIdleUserButNeverOneWithARequestRunning() throws Exception {
+        IdempotencyCache small = new IdempotencyCache(2, 2, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<ResponseEntity<Void>> running = CompletableFuture.supplyAsync(() ->
+            small.execute(1L, "power", "abc", VOTE, () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return ResponseEntity.ok().build();
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        small.execute(2L, "vote", "abc", VOTE, () -> counted(runs));
+        small.execute(3L, "vote", "abc", VOTE, () -> counted(runs));
+
+        CompletableFuture<ResponseEntity<Void>> retry = CompletableFuture.supplyAsync(() ->
+            small.execute(1L, "power", "abc", VOTE, () -> counted(runs)));
+        release.countDown();
+        assertSame(running.get(5, TimeUnit.SECONDS), retry.get(5, TimeUnit.SECONDS));
+        assertEquals(3, runs.get());
+
+        small.execute(3L, "vote", "abc", VOTE, () -> counted(runs));
+        small.execute(2L, "vote", "abc", VOTE, () -> counted(runs));
+        assertEquals(4, runs.get());
+    }
+
+    private static ResponseEntity<Void> counted(AtomicInteger runs) {
+        runs.incrementAndGet();
+        return ResponseEntity.ok().build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
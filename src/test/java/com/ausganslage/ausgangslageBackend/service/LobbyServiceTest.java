@@ -2,13 +2,16 @@ package com.ausganslage.ausgangslageBackend.service;
 
 import com.ausganslage.ausgangslageBackend.dto.*;
 import com.ausganslage.ausgangslageBackend.enums.LobbyStatus;
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
 import com.ausganslage.ausgangslageBackend.model.*;
 import com.ausganslage.ausgangslageBackend.repository.*;
+import com.ausganslage.ausgangslageBackend.snapshot.ReadSnapshots;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
@@ -29,6 +32,10 @@ class LobbyServiceTest {
     private UserRepository userRepository;
     @Mock
     private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ReadSnapshots readSnapshots;
+    @Spy
+    private RolePlanCache rolePlanCache = new RolePlanCache(16);
 
     @InjectMocks
     private LobbyService lobbyService;
@@ -79,6 +86,28 @@ class LobbyServiceTest {
         verify(lobbyMemberRepository, times(1)).save(any(LobbyMember.class));
     }
 
+    @Test
+    void testCreateLobby_StoresTheCompiledRoleComposition() {
+        when(lobbyRepository.save(any(Lobby.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(lobbyMemberRepository.save(any(LobbyMember.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(lobbyRepository.findByLobbyCode(anyString())).thenReturn(Optional.empty(), Optional.of(lobby));
+
+        CreateLobbyRequest request = new CreateLobbyRequest(8, "{\"roles\": {\"SEER\": 1, \"WEREWOLF\": 2}}");
+        lobbyService.createLobby(request, user1);
+
+        verify(lobbyRepository).save(argThat(l -> "WEREWOLF:2,SEER:1".equals(l.getRoleComposition())));
+    }
+
+    @Test
+    void testCreateLobby_CompositionWithoutWerewolf_ThrowsException() {
+        CreateLobbyRequest request = new CreateLobbyRequest(8, "{\"roles\": {\"SEER\": 1}}");
+
+        assertThrows(InvalidActionException.class, () ->
+            lobbyService.createLobby(request, user1)
+        );
+        verify(lobbyRepository, never()).save(any(Lobby.class));
+    }
+
     @Test
     void testJoinLobby_Success() {
         when(lobbyRepository.findByLobbyCode("ABC123")).thenReturn(Optional.of(lobby));
@@ -0,0 +1,75 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.dto.InspectionResultDto;
+import com.ausganslage.ausgangslageBackend.dto.WolfVictimDto;
+import com.ausganslage.ausgangslageBackend.enums.RoleName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NightResultIndexTest {
+
+    private final NightResultIndex index = new NightResultIndex(16);
+
+    @Test
+    void testWolfVictim_RecordedPerDay() {
+        WolfVictimDto victim = new WolfVictimDto(2L, "Bob");
+        index.recordWolfVictim(1L, 1, victim);
+
+        assertSame(victim, index.wolfVictim(1L, 1, () -> fail("should not load")));
+        assertEquals(3L, index.wolfVictim(1L, 2, () -> new WolfVictimDto(3L, "Eve")).getPlayerId());
+    }
+
+    @Test
+    void testWolfVictim_RemembersThatThereWasNone() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(index.wolfVictim(1L, 1, () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(index.wolfVictim(1L, 1, () -> fail("should not load")));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLastInspection_LatestRecordedWinsAndForgetClears() {
+        index.recordInspection(1L, 5L, new InspectionResultDto(2L, "Bob", RoleName.VILLAGER));
+        index.recordInspection(1L, 5L, new InspectionResultDto(3L, "Eve", RoleName.WEREWOLF));
+
+        assertEquals(3L, index.lastInspection(1L, 5L, () -> fail("should not load")).getPlayerId());
+        assertNull(index.lastInspection(1L, 6L, () -> null));
+
+        index.forget(1L);
+        assertNull(index.lastInspection(1L, 5L, () -> null));
+    }
+
+    @Test
+    void testLastInspection_LoadsOutsideTheMapAndKeepsWhatWasRecordedMeanwhile() {
+        InspectionResultDto recorded = new InspectionResultDto(3L, "Eve", RoleName.WEREWOLF);
+
+        InspectionResultDto inspection = index.lastInspection(1L, 5L, () -> {
+            index.recordInspection(1L, 5L, recorded);
+            return new InspectionResultDto(2L, "Bob", RoleName.VILLAGER);
+        });
+
+        assertSame(recorded, inspection);
+        assertSame(recorded, index.lastInspection(1L, 5L, () -> fail("should not load")));
+    }
+
+    @Test
+    void testFull_DropsOnlyTheGameLookedAtLeastRecently() {
+        NightResultIndex small = new NightResultIndex(2);
+        small.recordWolfVictim(1L, 1, new WolfVictimDto(2L, "Bob"));
+        small.recordWolfVictim(2L, 1, new WolfVictimDto(3L, "Eve"));
+        small.wolfVictim(1L, 1, () -> fail("should not load"));
+
+        small.recordWolfVictim(3L, 1, new WolfVictimDto(4L, "Max"));
+
+        assertEquals(2L, small.wolfVictim(1L, 1, () -> fail("should not load")).getPlayerId());
+        assertEquals(4L, small.wolfVictim(3L, 1, () -> fail("should not load")).getPlayerId());
+        assertNull(small.wolfVictim(2L, 1, () -> null));
+    }
+}
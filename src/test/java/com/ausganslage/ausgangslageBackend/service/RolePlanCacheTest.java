@@ -0,0 +1,37 @@
+package com.ausganslage.ausgangslageBackend.service;
+
+import com.ausganslage.ausgangslageBackend.exception.InvalidActionException;
+import com.ausganslage.ausgangslageBackend.rules.RoleComposition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RolePlanCacheTest {
+
+    private final RolePlanCache rolePlanCache = new RolePlanCache(16);
+
+    @Test
+    void testCompile_PresetAndDefault() {
+        assertSame(RoleComposition.BASIC, rolePlanCache.compile("{\"composition\": \"BASIC\", \"timer\": 60}", 8));
+        assertSame(RoleComposition.CLASSIC, rolePlanCache.compile("{}", 8));
+        assertSame(RoleComposition.CLASSIC, rolePlanCache.compile(null, 8));
+    }
+
+    @Test
+    void testCompile_RejectsInvalidSettings() {
+        assertThrows(InvalidActionException.class, () -> rolePlanCache.compile("{not json", 8));
+        assertThrows(InvalidActionException.class, () -> rolePlanCache.compile("{\"composition\": \"NOPE\"}", 8));
+        assertThrows(InvalidActionException.class, () -> rolePlanCache.compile("{\"roles\": {\"MAYOR\": 1}}", 8));
+        assertThrows(InvalidActionException.class, () -> rolePlanCache.compile("{\"roles\": {\"WEREWOLF\": -1}}", 8));
+        assertThrows(InvalidActionException.class, () -> rolePlanCache.compile("{\"roles\": {\"WEREWOLF\": 4}}", 8));
+    }
+
+    @Test
+    void testPlan_CachedPerCompositionAndPlayerCount() {
+        RoleComposition composition = rolePlanCache.composition("WEREWOLF:2,SEER:1");
+
+        assertSame(rolePlanCache.plan(composition, 8), rolePlanCache.plan(composition, 8));
+        assertSame(composition, rolePlanCache.composition("WEREWOLF:2,SEER:1"));
+        assertNotEquals(rolePlanCache.plan(composition, 8), rolePlanCache.plan(composition, 9));
+    }
+}
@@ -0,0 +1,92 @@
+package com.ausganslage.ausgangslageBackend.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30_000;
+    private static final List<String> THREE_NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    void testOwnerOf_SpreadsKeysEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(THREE_NODES, 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long gameId = 0; gameId < KEYS; gameId++) {
+            counts.merge(ring.ownerOf(ShardKeys.game(gameId)), 1, Integer::sum);
+        }
+
+        assertEquals(THREE_NODES.size(), counts.size());
+        for (int count : counts.values()) {
+            assertTrue(Math.abs(count - KEYS / 3) < KEYS / 3 * 0.2, "Unbalanced ring: " + counts);
+        }
+    }
+
+    @Test
+    void testOwnerOf_IndependentOfNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(THREE_NODES, 64);
+        ConsistentHashRing reversed = new ConsistentHashRing(List.of(THREE_NODES.get(2), THREE_NODES.get(1), THREE_NODES.get(0)), 64);
+
+        for (long gameId = 0; gameId < 1000; gameId++) {
+            assertEquals(ring.ownerOf(ShardKeys.game(gameId)), reversed.ownerOf(ShardKeys.game(gameId)));
+        }
+    }
+
+    @Test
+    void testAddingNode_OnlyMovesKeysToTheNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(THREE_NODES, 128);
+        ConsistentHashRing after = new ConsistentHashRing(
+            List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080"), 128);
+
+        int moved = 0;
+        for (long gameId = 0; gameId < KEYS; gameId++) {
+            String oldOwner = before.ownerOf(ShardKeys.game(gameId));
+            String newOwner = after.ownerOf(ShardKeys.game(gameId));
+            if (!oldOwner.equals(newOwner)) {
+                assertEquals("http://d:8080", newOwner);
+                moved++;
+            }
+        }
+        assertTrue(moved > KEYS * 0.15 && moved < KEYS * 0.35, "Moved " + moved + " of " + KEYS);
+    }
+
+    @Test
+    void testRemovingNode_OnlyMovesKeysOfTheRemovedNode() {
+        ConsistentHashRing before = new ConsistentHashRing(THREE_NODES, 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("http://a:8080", "http://c:8080"), 128);
+
+        for (int i = 0; i < KEYS; i++) {
+            String key = ShardKeys.lobby("L" + i);
+            String oldOwner = before.ownerOf(key);
+            if (!oldOwner.equals("http://b:8080")) {
+                assertEquals(oldOwner, after.ownerOf(key));
+            }
+        }
+    }
+
+    @Test
+    void testOwnerOf_EmptyRing() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(), 128);
+
+        assertTrue(ring.isEmpty());
+        assertNull(ring.ownerOf(ShardKeys.game(1L)));
+    }
+
+    @Test
+    void testShardKeys_FromPath() {
+        assertEquals("game:42", ShardKeys.fromPath("/api/games/42/state"));
+        assertEquals("game:42", ShardKeys.fromPath("/api/games/42"));
+        assertEquals("lobby:ABC123", ShardKeys.fromPath("/api/games/start/ABC123"));
+        assertEquals("lobby:ABC123", ShardKeys.fromPath("/api/games/lobby/ABC123"));
+        assertEquals("lobby:ABC123", ShardKeys.fromPath("/api/lobbies/ABC123/join"));
+        assertNull(ShardKeys.fromPath("/api/games/42/events"));
+        assertNull(ShardKeys.fromPath("/api/lobbies"));
+        assertNull(ShardKeys.fromPath("/api/auth/login"));
+    }
+}
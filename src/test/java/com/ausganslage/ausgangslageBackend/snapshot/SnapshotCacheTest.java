@@ -0,0 +1,114 @@
+package com.ausganslage.ausgangslageBackend.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotCacheTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SnapshotCache<Long, String> cache = new SnapshotCache<>(executor, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGet_ConcurrentReadersShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "v" + loads.get();
+        });
+        CompletableFuture<String> second = cache.get(1L, () -> "v" + loads.incrementAndGet());
+        release.countDown();
+
+        assertSame(first, second);
+        assertEquals("v1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()).get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testInvalidate_ReloadsOnNextRead() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()).get(5, TimeUnit.SECONDS));
+        cache.invalidate(1L);
+
+        assertEquals("v2", cache.get(1L, () -> "v" + loads.incrementAndGet()).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testInvalidate_DiscardsLoadInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> stale = cache.get(1L, () -> {
+            await(release);
+            return "stale";
+        });
+        cache.invalidate(1L);
+        release.countDown();
+
+        assertEquals("stale", stale.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", cache.get(1L, () -> "fresh").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testGet_FailedLoadIsNotCached() throws Exception {
+        CompletableFuture<String> failed = cache.get(1L, () -> {
+            throw new IllegalStateException("database down");
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals("recovered", cache.get(1L, () -> "recovered").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testUpdate_ChangesLoadedSnapshotWithoutReload() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()).get(5, TimeUnit.SECONDS));
+
+        cache.update(1L, value -> value + "+chat");
+        cache.update(2L, value -> value + "+chat");
+
+        assertEquals("v1+chat", cache.get(1L, () -> "v" + loads.incrementAndGet()).get(5, TimeUnit.SECONDS));
+        assertEquals("v2", cache.get(2L, () -> "v" + loads.incrementAndGet()).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testUpdate_DiscardsLoadInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        cache.get(1L, () -> {
+            await(release);
+            return "stale";
+        });
+        cache.update(1L, value -> value + "+chat");
+        release.countDown();
+
+        assertEquals("fresh", cache.get(1L, () -> "fresh").get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}